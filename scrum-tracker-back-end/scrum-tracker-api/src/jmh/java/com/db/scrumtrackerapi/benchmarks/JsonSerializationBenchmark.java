@@ -0,0 +1,86 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.db.scrumtrackerapi.config.ViewSerializerModule;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the Jackson serialization of the views returned by the sprint and product endpoints, built beforehand
+ * from a {@link SyntheticGraph}, with the bean serializers of a plain mapper and with the hand-written ones of the
+ * {@link ViewSerializerModule}. Run with {@code -prof gc} to compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1"})
+    int products;
+
+    @Param({"10"})
+    int sprints;
+
+    @Param({"200"})
+    int items;
+
+    @Param({"10"})
+    int tasks;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ObjectMapper viewObjectMapper = new ObjectMapper().registerModule(new ViewSerializerModule());
+
+    private List<DetailedSprintView> detailedSprintViews;
+
+    private List<ProductView> productViews;
+
+    @Setup
+    public void setup() {
+        SyntheticGraph graph = SyntheticGraph.of(products, sprints, items, tasks);
+        detailedSprintViews = graph.getSprints().stream().map(Sprint::toDetailedView).toList();
+        productViews = graph.getProducts().stream().map(i -> new ViewAssembler().toView(i)).toList();
+    }
+
+    @Benchmark
+    public void detailedSprintViews() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), detailedSprintViews);
+    }
+
+    @Benchmark
+    public void productViews() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), productViews);
+    }
+
+    @Benchmark
+    public void detailedSprintViewsHandWritten() throws IOException {
+        viewObjectMapper.writeValue(OutputStream.nullOutputStream(), detailedSprintViews);
+    }
+
+    @Benchmark
+    public void productViewsHandWritten() throws IOException {
+        viewObjectMapper.writeValue(OutputStream.nullOutputStream(), productViews);
+    }
+}
@@ -0,0 +1,53 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.db.scrumtrackerapi.security.validators.PasswordConstraintValidator;
+
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Measures {@link PasswordConstraintValidator#isValid(String, ConstraintValidatorContext)} for an accepted and
+ * a rejected password.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordValidationBenchmark {
+
+    private final PasswordConstraintValidator validator = new PasswordConstraintValidator();
+
+    private final ConstraintValidatorContext context = stub(ConstraintValidatorContext.class);
+
+    /**
+     * Creates a context that accepts any violation: each call returns a stub of its interface return type.
+     */
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) ->
+            method.getReturnType().isInterface() ? stub(method.getReturnType()) : null));
+    }
+
+    @Benchmark
+    public boolean validPassword() {
+        return validator.isValid("l3tMe!nI23", context);
+    }
+
+    @Benchmark
+    public boolean invalidPassword() {
+        return validator.isValid("abcdefgh", context);
+    }
+}
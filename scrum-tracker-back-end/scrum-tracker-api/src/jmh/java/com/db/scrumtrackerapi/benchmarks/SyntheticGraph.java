@@ -0,0 +1,94 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.model.enums.Status;
+
+/**
+ * In-memory entity graph used by the benchmarks, sized products x sprints x items x tasks.
+ *
+ * <p> Each product has a product backlog of {@code items} backlog items and {@code sprints} sprints. Every sprint
+ * holds all the backlog items of its product and {@code tasks} tasks, each with an active responsible. Entities get
+ * distinct IDs, as if they had been loaded from the database.
+ */
+public final class SyntheticGraph {
+
+    private final List<Product> products = new ArrayList<>();
+
+    private long nextId = 1;
+
+    private SyntheticGraph(int products, int sprints, int items, int tasks) {
+        Customer responsible = new Customer("Joao", "Ninguem", "joao@email.com", "l3tMe!nI23", Role.DEV);
+        responsible.setId(nextId++);
+        for (int p = 0; p < products; p++) {
+            this.products.add(product(p, sprints, items, tasks, responsible));
+        }
+    }
+
+    /**
+     * Builds a graph.
+     *
+     * @param products The number of products.
+     * @param sprints  The number of sprints per product.
+     * @param items    The number of backlog items per product, each one in every sprint of its product.
+     * @param tasks    The number of tasks per sprint.
+     * @return The graph.
+     */
+    public static SyntheticGraph of(int products, int sprints, int items, int tasks) {
+        return new SyntheticGraph(products, sprints, items, tasks);
+    }
+
+    /**
+     * Gets the products of the graph.
+     *
+     * @return The products.
+     */
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    /**
+     * Gets the sprints of every product of the graph.
+     *
+     * @return The sprints.
+     */
+    public List<Sprint> getSprints() {
+        return products.stream().flatMap(i -> i.getSprints().stream()).toList();
+    }
+
+    private Product product(int index, int sprints, int items, int tasks, Customer responsible) {
+        Product product = new Product("Product " + index, "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>());
+        product.setId(nextId++);
+        ProductBacklog productBacklog = new ProductBacklog(new ArrayList<>(), product);
+        productBacklog.setId(nextId++);
+        product.setProductBacklog(productBacklog);
+
+        List<Sprint> sprintList = product.getSprints();
+        for (int i = 0; i < items; i++) {
+            ItemBacklog item = new ItemBacklog(Status.A_FAZER, Priority.MEDIA, "Item " + i, "Criteria", "Effort", sprintList, "History", productBacklog);
+            item.setId(nextId++);
+            productBacklog.getItensBacklog().add(item);
+        }
+        for (int s = 0; s < sprints; s++) {
+            Sprint sprint = new Sprint("Goals " + s, productBacklog.getItensBacklog(), new ArrayList<>(), product);
+            sprint.setId(nextId++);
+            for (int t = 0; t < tasks; t++) {
+                ItemBacklog item = items == 0 ? null : productBacklog.getItensBacklog().get(t % items);
+                TaskSprint task = new TaskSprint("Task " + t, item, "Description", "Comments", Status.A_FAZER, Priority.BAIXA, "Effort", responsible, sprint);
+                task.setId(nextId++);
+                sprint.getTasksSprints().add(task);
+            }
+            sprintList.add(sprint);
+        }
+        return product;
+    }
+}
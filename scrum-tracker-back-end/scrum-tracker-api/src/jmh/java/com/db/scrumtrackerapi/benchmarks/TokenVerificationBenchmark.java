@@ -0,0 +1,78 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.db.scrumtrackerapi.security.service.TokenService;
+
+/**
+ * Measures {@link TokenService}: token generation, and token verification with the former per-call verifier,
+ * a cold verification through the shared verifier (verified-token cache disabled) and a warm one served by the
+ * verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private static final String SECRET = ";1hdNdT}sDAB-Vai1n(QZj,'TeHlyETelXMa)GP)rIeB~]+(#h";
+
+    private final User user = new User("joao@email.com", "password", List.of(new SimpleGrantedAuthority("ADMIN")));
+
+    private TokenService uncachedTokenService;
+
+    private TokenService cachedTokenService;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        uncachedTokenService = new TokenService(0, Duration.ofMinutes(5));
+        cachedTokenService = new TokenService(10_000, Duration.ofMinutes(5));
+        token = cachedTokenService.generateToken(user);
+        cachedTokenService.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedTokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public DecodedJWT perCallVerifier() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer("Scrum Tracker")
+                .build()
+                .verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT cold() {
+        return uncachedTokenService.verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT warm() {
+        return cachedTokenService.verify(token);
+    }
+}
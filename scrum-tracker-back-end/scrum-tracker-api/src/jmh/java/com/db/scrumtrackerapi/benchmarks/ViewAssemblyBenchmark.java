@@ -0,0 +1,102 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.SprintView;
+import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+
+/**
+ * Measures view assembly over a {@link SyntheticGraph}: {@link Sprint#toDetailedView()} for every sprint, and the
+ * request-scoped {@link ViewAssembler} against the former recursive conversion, in which every entity converted
+ * its children on its own, for every product.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewAssemblyBenchmark {
+
+    @Param({"1"})
+    int products;
+
+    @Param({"10"})
+    int sprints;
+
+    @Param({"200"})
+    int items;
+
+    @Param({"10"})
+    int tasks;
+
+    private SyntheticGraph graph;
+
+    @Setup
+    public void setup() {
+        graph = SyntheticGraph.of(products, sprints, items, tasks);
+    }
+
+    @Benchmark
+    public List<DetailedSprintView> detailedSprintViews() {
+        return graph.getSprints().stream().map(Sprint::toDetailedView).toList();
+    }
+
+    @Benchmark
+    public List<ProductView> assembler() {
+        return graph.getProducts().stream().map(i -> new ViewAssembler().toView(i)).toList();
+    }
+
+    @Benchmark
+    public List<ProductView> recursive() {
+        return graph.getProducts().stream().map(ViewAssemblyBenchmark::recursiveView).toList();
+    }
+
+    private static ProductView recursiveView(Product product) {
+        ProductBacklog productBacklog = product.getProductBacklog();
+        ProductBacklogView productBacklogView = productBacklog != null && product.isActive()
+            ? new ProductBacklogView(productBacklog.getId(), productBacklog.getItensBacklog().stream().map(ViewAssemblyBenchmark::recursiveView).toList())
+            : null;
+        return new ProductView(product.getId(), product.getName(), product.getClient(), product.getObjectives(), product.getVision(),
+            product.getDefinitionOfDone(), product.getDefinitionOfReady(), productBacklogView,
+            product.getSprints().stream().map(ViewAssemblyBenchmark::recursiveView).toList());
+    }
+
+    private static ItemBacklogView recursiveView(ItemBacklog item) {
+        return new ItemBacklogView(item.getId(), item.getStatus().toString(), item.getPriority().toString(), item.getName(),
+            item.getCriteriaAcceptance(), item.getEffortEstimation(), item.getSprints().stream().map(ViewAssemblyBenchmark::recursiveView).toList(),
+            item.getUserHistory());
+    }
+
+    private static SprintView recursiveView(Sprint sprint) {
+        return new SprintView(sprint.getId(), sprint.getSprintGoals(), sprint.getTasksSprints().stream().map(ViewAssemblyBenchmark::recursiveView).toList());
+    }
+
+    private static TaskSprintView recursiveView(TaskSprint task) {
+        return new TaskSprintView(task.getId(), task.getName(), task.getDescription(), task.getComments(), task.getStatus().toString(),
+            task.getPriority().toString(), task.getEffortEstimation(), task.getResponsible().isActive() ? task.getResponsible().toView() : null);
+    }
+}
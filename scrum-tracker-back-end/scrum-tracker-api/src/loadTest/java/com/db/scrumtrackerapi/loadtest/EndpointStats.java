@@ -0,0 +1,78 @@
+package com.db.scrumtrackerapi.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and errors recorded for one endpoint, shared by every virtual user.
+ */
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * Creates the statistics of an endpoint.
+     *
+     * @param name The name of the endpoint, such as {@code GET /sprint/product/{id}}.
+     */
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a call.
+     *
+     * @param nanos      The latency of the call.
+     * @param successful Whether the call answered with a 2xx status.
+     */
+    public void record(long nanos, boolean successful) {
+        latencies.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (!successful) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Discards what was recorded so far, at the end of the warmup.
+     */
+    public void reset() {
+        latencies.reset();
+        errors.reset();
+    }
+
+    /**
+     * Gets the name of the endpoint.
+     *
+     * @return The name of the endpoint.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the recorded latencies, in microseconds.
+     *
+     * @return The latency histogram.
+     */
+    public Histogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Gets the number of calls that did not answer with a 2xx status.
+     *
+     * @return The number of errors.
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+}
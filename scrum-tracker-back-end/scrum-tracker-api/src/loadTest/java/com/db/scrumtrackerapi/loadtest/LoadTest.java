@@ -0,0 +1,97 @@
+package com.db.scrumtrackerapi.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.db.scrumtrackerapi.ScrumTrackerApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Boots the API on an in-memory H2 database, seeds a {@link ScrumDataset} and drives {@link VirtualUser}s through
+ * it, then writes a JSON and an HTML report. Exits with status 1 when an endpoint exceeds the p99 budget or
+ * answers with errors. Run with {@code gradle loadTest}.
+ */
+public class LoadTest {
+
+    static final String LOGIN = "POST /login";
+    static final String SPRINTS_OF_PRODUCT = "GET /sprint/product/{id}";
+    static final String TASKS_OF_SPRINT = "GET /task-sprint/sprint/{id}";
+    static final String MOVE_TASK = "PUT /task-sprint/{id}";
+
+    private static final String[] APPLICATION_ARGS = {
+        "--server.port=0",
+        "--spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.driverClassName=org.h2.Driver",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.show-sql=false",
+        "--logging.level.root=WARN",
+        "--logging.level.org.springframework.security=WARN",
+        "--logging.level.org.springframework.data=WARN",
+        "--logging.level.org.hibernate.SQL=WARN"
+    };
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = SpringApplication.run(ScrumTrackerApiApplication.class, APPLICATION_ARGS);
+        boolean passed;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ScrumDataset dataset = ScrumDataset.seed(context, settings);
+            LoadTestReport report = run(settings, dataset, URI.create("http://localhost:" + port));
+            Path html = report.write(context.getBean(ObjectMapper.class));
+            report.getViolations().forEach(System.err::println);
+            System.out.println((report.passed() ? "Load test passed" : "Load test failed") + ", report written to " + html.toAbsolutePath());
+            passed = report.passed();
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static LoadTestReport run(LoadTestSettings settings, ScrumDataset dataset, URI baseUri) throws Exception {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (String endpoint : List.of(LOGIN, SPRINTS_OF_PRODUCT, TASKS_OF_SPRINT, MOVE_TASK)) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long deadline = measureFrom + settings.duration().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        try {
+            List<Future<?>> users = new ArrayList<>();
+            for (String email : dataset.emails()) {
+                users.add(executor.submit(new VirtualUser(httpClient, objectMapper, baseUri, dataset, email, stats, deadline)));
+            }
+            Thread.sleep(Duration.ofNanos(Math.max(0, measureFrom - System.nanoTime())).toMillis());
+            stats.values().forEach(EndpointStats::reset);
+            long measuredFrom = System.nanoTime();
+            for (Future<?> user : users) {
+                user.get();
+            }
+            return new LoadTestReport(settings, stats.values(), Duration.ofNanos(System.nanoTime() - measuredFrom));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.db.scrumtrackerapi.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Result of a load test: throughput and latency percentiles per endpoint, checked against the p99 budget.
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final LoadTestSettings settings;
+
+    private final List<Map<String, Object>> endpoints = new ArrayList<>();
+
+    private final List<String> violations = new ArrayList<>();
+
+    /**
+     * Summarizes the statistics of a run.
+     *
+     * @param settings The settings of the run.
+     * @param stats    The statistics of each endpoint.
+     * @param elapsed  How long the measured part of the run lasted.
+     */
+    public LoadTestReport(LoadTestSettings settings, Iterable<EndpointStats> stats, Duration elapsed) {
+        this.settings = settings;
+        double seconds = elapsed.toNanos() / 1e9;
+        for (EndpointStats endpoint : stats) {
+            Histogram latencies = endpoint.getLatencies();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("endpoint", endpoint.getName());
+            summary.put("requests", latencies.getTotalCount());
+            summary.put("errors", endpoint.getErrors());
+            summary.put("throughputPerSecond", round(latencies.getTotalCount() / seconds));
+            for (double percentile : PERCENTILES) {
+                summary.put("p" + format(percentile) + "Millis", millis(latencies.getValueAtPercentile(percentile)));
+            }
+            summary.put("maxMillis", millis(latencies.getMaxValue()));
+            endpoints.add(summary);
+
+            double p99 = latencies.getValueAtPercentile(99) / 1000.0;
+            if (p99 > settings.p99BudgetMillis()) {
+                violations.add(endpoint.getName() + ": p99 " + p99 + " ms exceeds the budget of " + settings.p99BudgetMillis() + " ms");
+            }
+            if (endpoint.getErrors() > 0) {
+                violations.add(endpoint.getName() + ": " + endpoint.getErrors() + " requests failed");
+            }
+        }
+    }
+
+    /**
+     * Tells whether every endpoint stayed within the budget without errors.
+     *
+     * @return {@code true} if the run passed.
+     */
+    public boolean passed() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Gets the reasons the run failed.
+     *
+     * @return The violations, empty if the run passed.
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Writes {@code report.json} and {@code report.html} to the report directory.
+     *
+     * @param objectMapper The JSON mapper.
+     * @return The path of the HTML report.
+     * @throws IOException If a report cannot be written.
+     */
+    public Path write(ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(settings.reportDirectory());
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("passed", passed());
+        report.put("violations", violations);
+        report.put("endpoints", endpoints);
+        objectMapper.copy()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .writerWithDefaultPrettyPrinter()
+            .writeValue(settings.reportDirectory().resolve("report.json").toFile(), report);
+
+        Path html = settings.reportDirectory().resolve("report.html");
+        Files.writeString(html, html());
+        return html;
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder()
+            .append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>Scrum Tracker load test</title>\n")
+            .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}")
+            .append("th:first-child,td:first-child{text-align:left}.failed{color:#b00}.passed{color:#070}</style>\n</head>\n<body>\n")
+            .append("<h1>Scrum Tracker load test</h1>\n")
+            .append("<p>").append(settings.users()).append(" virtual users for ").append(settings.duration().toSeconds())
+            .append(" s after a ").append(settings.warmup().toSeconds()).append(" s warmup, p99 budget ")
+            .append(settings.p99BudgetMillis()).append(" ms.</p>\n")
+            .append("<p class=\"").append(passed() ? "passed\">Passed" : "failed\">Failed").append("</p>\n");
+        if (!violations.isEmpty()) {
+            html.append("<ul class=\"failed\">\n");
+            violations.forEach(i -> html.append("<li>").append(escape(i)).append("</li>\n"));
+            html.append("</ul>\n");
+        }
+        html.append("<table>\n<tr>");
+        endpoints.get(0).keySet().forEach(i -> html.append("<th>").append(i).append("</th>"));
+        html.append("</tr>\n");
+        for (Map<String, Object> endpoint : endpoints) {
+            html.append("<tr>");
+            endpoint.values().forEach(i -> html.append("<td>").append(escape(String.valueOf(i))).append("</td>"));
+            html.append("</tr>\n");
+        }
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile).replace(".", "_");
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.db.scrumtrackerapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of a load test run, read from {@code load-test.*} system properties.
+ *
+ * @param users              The number of concurrent virtual users.
+ * @param duration           How long the users are driven after the warmup.
+ * @param warmup             How long the users are driven before recording.
+ * @param p99BudgetMillis    The p99 latency, in milliseconds, no endpoint may exceed.
+ * @param products           The number of seeded products.
+ * @param sprintsPerProduct  The number of seeded sprints per product.
+ * @param itemsPerProduct    The number of seeded backlog items per product.
+ * @param tasksPerSprint     The number of seeded tasks per sprint.
+ * @param reportDirectory    The directory the reports are written to.
+ */
+public record LoadTestSettings(int users, Duration duration, Duration warmup, long p99BudgetMillis, int products,
+                               int sprintsPerProduct, int itemsPerProduct, int tasksPerSprint, Path reportDirectory) {
+
+    /**
+     * Reads the settings from the system properties, falling back to defaults.
+     *
+     * @return The settings.
+     */
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Integer.getInteger("load-test.users", 32),
+            Duration.ofSeconds(Long.getLong("load-test.duration-seconds", 30)),
+            Duration.ofSeconds(Long.getLong("load-test.warmup-seconds", 10)),
+            Long.getLong("load-test.p99-budget-millis", 250),
+            Integer.getInteger("load-test.products", 5),
+            Integer.getInteger("load-test.sprints-per-product", 6),
+            Integer.getInteger("load-test.items-per-product", 100),
+            Integer.getInteger("load-test.tasks-per-sprint", 30),
+            Path.of(System.getProperty("load-test.report-dir", "build/reports/load-test")));
+    }
+}
@@ -0,0 +1,126 @@
+package com.db.scrumtrackerapi.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.repositories.CustomerRepository;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+
+/**
+ * Dataset seeded before a load test: products with their backlog, sprints and tasks, and one customer per
+ * virtual user. Only the IDs the virtual users need are kept.
+ *
+ * @param password The password of every seeded customer.
+ * @param emails   The emails of the seeded customers.
+ * @param products The seeded products.
+ */
+public record ScrumDataset(String password, List<String> emails, List<SeededProduct> products) {
+
+    /**
+     * A seeded product.
+     *
+     * @param id      The ID of the product.
+     * @param sprints The sprints of the product.
+     */
+    public record SeededProduct(Long id, List<SeededSprint> sprints) {
+    }
+
+    /**
+     * A seeded sprint.
+     *
+     * @param id    The ID of the sprint.
+     * @param tasks The tasks of the sprint.
+     */
+    public record SeededSprint(Long id, List<SeededTask> tasks) {
+    }
+
+    /**
+     * A seeded task, with what a status move has to send back.
+     *
+     * @param id            The ID of the task.
+     * @param name          The name of the task.
+     * @param itemBacklogId The ID of the backlog item of the task.
+     * @param sprintId      The ID of the sprint of the task.
+     */
+    public record SeededTask(Long id, String name, Long itemBacklogId, Long sprintId) {
+    }
+
+    /**
+     * Seeds the dataset through the repositories of a running application.
+     *
+     * @param context  The application context.
+     * @param settings The settings giving the size of the dataset and the number of users.
+     * @return The seeded dataset.
+     */
+    public static ScrumDataset seed(ApplicationContext context, LoadTestSettings settings) {
+        String password = "l3tMe!nI23";
+        PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+        CustomerRepository customerRepository = context.getBean(CustomerRepository.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        ProductBacklogRepository productBacklogRepository = context.getBean(ProductBacklogRepository.class);
+        ItemBacklogRepository itemBacklogRepository = context.getBean(ItemBacklogRepository.class);
+        SprintRepository sprintRepository = context.getBean(SprintRepository.class);
+        TaskSprintRepository taskSprintRepository = context.getBean(TaskSprintRepository.class);
+
+        String encodedPassword = passwordEncoder.encode(password);
+        List<String> emails = new ArrayList<>();
+        List<Customer> customers = new ArrayList<>();
+        for (int u = 0; u < settings.users(); u++) {
+            String email = "user" + u + "@load.test";
+            emails.add(email);
+            customers.add(new Customer("User", String.valueOf(u), email, encodedPassword, Role.DEV));
+        }
+        customerRepository.saveAll(customers);
+
+        List<SeededProduct> products = new ArrayList<>();
+        for (int p = 0; p < settings.products(); p++) {
+            Product product = productRepository.save(new Product("Product " + p, "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>()));
+            ProductBacklog productBacklog = productBacklogRepository.save(new ProductBacklog(new ArrayList<>(), product));
+
+            List<ItemBacklog> items = new ArrayList<>();
+            for (int i = 0; i < settings.itemsPerProduct(); i++) {
+                items.add(new ItemBacklog(Status.A_FAZER, Priority.MEDIA, "Item " + i, "Criteria", "Effort", new ArrayList<>(), "History", productBacklog));
+            }
+            List<ItemBacklog> savedItems = new ArrayList<>();
+            itemBacklogRepository.saveAll(items).forEach(savedItems::add);
+
+            List<SeededSprint> sprints = new ArrayList<>();
+            int itemsPerSprint = Math.max(1, savedItems.size() / Math.max(1, settings.sprintsPerProduct()));
+            for (int s = 0; s < settings.sprintsPerProduct(); s++) {
+                int from = Math.min(savedItems.size(), s * itemsPerSprint);
+                List<ItemBacklog> sprintItems = new ArrayList<>(savedItems.subList(from, Math.min(savedItems.size(), from + itemsPerSprint)));
+                Sprint sprint = sprintRepository.save(new Sprint("Goals " + s, sprintItems, new ArrayList<>(), product));
+
+                List<TaskSprint> tasks = new ArrayList<>();
+                for (int t = 0; t < settings.tasksPerSprint(); t++) {
+                    ItemBacklog item = sprintItems.isEmpty() ? null : sprintItems.get(t % sprintItems.size());
+                    tasks.add(new TaskSprint("Task " + t, item, "Description", "Comments", Status.A_FAZER, Priority.BAIXA, "Effort", null, sprint));
+                }
+                List<SeededTask> seededTasks = new ArrayList<>();
+                for (TaskSprint task : taskSprintRepository.saveAll(tasks)) {
+                    Long itemBacklogId = task.getItemBacklog() == null ? null : task.getItemBacklog().getId();
+                    seededTasks.add(new SeededTask(task.getId(), task.getName(), itemBacklogId, sprint.getId()));
+                }
+                sprints.add(new SeededSprint(sprint.getId(), seededTasks));
+            }
+            products.add(new SeededProduct(product.getId(), sprints));
+        }
+        return new ScrumDataset(password, emails, products);
+    }
+}
@@ -0,0 +1,138 @@
+package com.db.scrumtrackerapi.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.db.scrumtrackerapi.loadtest.ScrumDataset.SeededProduct;
+import com.db.scrumtrackerapi.loadtest.ScrumDataset.SeededSprint;
+import com.db.scrumtrackerapi.loadtest.ScrumDataset.SeededTask;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A virtual user working a scrum board: it logs in, reads the sprints of a product and the tasks of a sprint,
+ * and moves a task to its next status, over and over until the deadline, logging in again every few rounds.
+ */
+public class VirtualUser implements Runnable {
+
+    /**
+     * Rounds played with a token before logging in again.
+     */
+    private static final int ROUNDS_PER_SESSION = 50;
+
+    private static final List<Status> STATUSES = List.of(Status.values());
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final URI baseUri;
+
+    private final ScrumDataset dataset;
+
+    private final String email;
+
+    private final Map<String, EndpointStats> stats;
+
+    private final long deadlineNanos;
+
+    private String token;
+
+    /**
+     * Creates a virtual user.
+     *
+     * @param httpClient    The HTTP client, shared by every user.
+     * @param objectMapper  The JSON mapper, shared by every user.
+     * @param baseUri       The base URI of the API.
+     * @param dataset       The seeded dataset.
+     * @param email         The email the user logs in with.
+     * @param stats         The statistics of each endpoint, by name.
+     * @param deadlineNanos The {@link System#nanoTime()} at which the user stops.
+     */
+    public VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, URI baseUri, ScrumDataset dataset, String email,
+                       Map<String, EndpointStats> stats, long deadlineNanos) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.email = email;
+        this.stats = stats;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Plays rounds until the deadline.
+     */
+    @Override
+    public void run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            for (int round = 0; System.nanoTime() < deadlineNanos; round++) {
+                if (round % ROUNDS_PER_SESSION == 0) {
+                    login();
+                }
+                SeededProduct product = dataset.products().get(random.nextInt(dataset.products().size()));
+                SeededSprint sprint = product.sprints().get(random.nextInt(product.sprints().size()));
+                send(LoadTest.SPRINTS_OF_PRODUCT, get("/sprint/product/" + product.id()));
+                send(LoadTest.TASKS_OF_SPRINT, get("/task-sprint/sprint/" + sprint.id()));
+                if (!sprint.tasks().isEmpty()) {
+                    SeededTask task = sprint.tasks().get(random.nextInt(sprint.tasks().size()));
+                    send(LoadTest.MOVE_TASK, moveTask(task, STATUSES.get(random.nextInt(STATUSES.size()))));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new IllegalStateException("Virtual user " + email + " failed.", e);
+        }
+    }
+
+    private void login() throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", dataset.password()));
+        HttpResponse<String> response = send(LoadTest.LOGIN, HttpRequest.newBuilder(baseUri.resolve("/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build());
+        if (response.statusCode() == 200) {
+            token = objectMapper.readTree(response.body()).get("token").asText();
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+    }
+
+    private HttpRequest moveTask(SeededTask task, Status status) throws IOException {
+        Map<String, Object> body = new HashMap<>();
+        body.put("name", task.name());
+        body.put("itemBacklog", task.itemBacklogId() == null ? null : Map.of("id", task.itemBacklogId()));
+        body.put("description", "Description");
+        body.put("comments", "Comments");
+        body.put("status", status.name());
+        body.put("priority", "BAIXA");
+        body.put("effortEstimation", "Effort");
+        body.put("sprint", Map.of("id", task.sprintId()));
+        return HttpRequest.newBuilder(baseUri.resolve("/task-sprint/" + task.id()))
+            .header("Authorization", "Bearer " + token)
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+            .build();
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        stats.get(endpoint).record(System.nanoTime() - start, response.statusCode() / 100 == 2);
+        return response;
+    }
+}
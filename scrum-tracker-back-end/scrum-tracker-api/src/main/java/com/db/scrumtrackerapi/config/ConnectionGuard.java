@@ -0,0 +1,115 @@
+package com.db.scrumtrackerapi.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source bounding the number of threads that hold or wait for a connection of the pool.
+ *
+ * <p> With virtual threads every request gets a thread, so a burst of requests turns into a burst of threads all
+ * queueing on the pool. The guard lets as many threads through as the pool has connections, parks the others in a
+ * fair queue, and fails a thread with {@link SQLTransientConnectionException} once it waited longer than the
+ * configured time, so an overloaded database sheds requests early instead of stalling every one of them.
+ */
+public class ConnectionGuard extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final Duration wait;
+
+    /**
+     * Creates the guard.
+     *
+     * @param target  The pooled data source.
+     * @param permits The number of connections handed out at once, usually the size of the pool.
+     * @param wait    The longest time a thread waits for a connection.
+     */
+    public ConnectionGuard(DataSource target, int permits, Duration wait) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.wait = wait;
+    }
+
+    /**
+     * Gets the number of threads waiting for a connection.
+     *
+     * @return The number of waiting threads, an estimate.
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return release(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return release(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("No database connection became available within " + wait.toMillis() + " ms.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection.", e);
+        }
+    }
+
+    /**
+     * Wraps a connection so its permit is released once, when it is closed.
+     */
+    private Connection release(Connection connection) {
+        AtomicBoolean open = new AtomicBoolean(true);
+        return (Connection) Proxy.newProxyInstance(ConnectionGuard.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    if (open.compareAndSet(true, false)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.db.scrumtrackerapi.model.view.CustomerView;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.SprintView;
+import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Configuration class applying the {@link FieldSelection} of a request to the views it responds with.
+ *
+ * <p> The views of the entities are given the selection filter by a mix-in of the application object mapper only, so
+ * mappers created elsewhere serialize them whole. That mapper serializes every property unless a response is given
+ * the filters of its selection, and controller methods are handed the selection of their request as an argument.
+ */
+@Configuration
+public class FieldSelectionConfig implements WebMvcConfigurer {
+
+    /**
+     * ID of the Jackson filter applying a selection.
+     */
+    public static final String FILTER_ID = "fieldSelection";
+
+    /**
+     * The views the selection applies to, the properties holding them being the associations.
+     */
+    public static final Set<Class<?>> VIEWS = Set.of(ProductView.class, ProductBacklogView.class, ItemBacklogView.class,
+        SprintView.class, DetailedSprintView.class, TaskSprintView.class, CustomerView.class);
+
+    @JsonFilter(FILTER_ID)
+    private interface FieldSelectionMixIn {
+    }
+
+    /**
+     * Gets the Jackson filters applying a selection to the serialized views.
+     *
+     * @param selection The selection of the outermost views.
+     * @return The filter provider of the selection, {@code null} for the whole view.
+     */
+    public static FilterProvider filters(FieldSelection selection) {
+        if (selection.isAll()) {
+            return null;
+        }
+        return new SimpleFilterProvider().addFilter(FILTER_ID, new FieldSelectionFilter(selection));
+    }
+
+    /**
+     * Gives the views the selection filter, serializing every property by default.
+     *
+     * @return The customizer of the application object mapper.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionCustomizer() {
+        return builder -> {
+            VIEWS.forEach(i -> builder.mixIn(i, FieldSelectionMixIn.class));
+            builder.filters(new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+        };
+    }
+
+    /**
+     * Resolves the {@link FieldSelection} arguments of the controller methods.
+     *
+     * @param resolvers The resolvers to add to.
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new HandlerMethodArgumentResolver() {
+            @Override
+            public boolean supportsParameter(MethodParameter parameter) {
+                return FieldSelection.class.equals(parameter.getParameterType());
+            }
+
+            @Override
+            public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                          NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+                return FieldSelection.of(webRequest.getNativeRequest(HttpServletRequest.class));
+            }
+        });
+    }
+}
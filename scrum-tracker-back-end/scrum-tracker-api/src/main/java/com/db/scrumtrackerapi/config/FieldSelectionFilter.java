@@ -0,0 +1,66 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import com.db.scrumtrackerapi.util.FieldSelection;
+
+/**
+ * Jackson filter serializing the properties of a view included by a {@link FieldSelection}.
+ *
+ * <p> The selection of a view depends on where it is nested, which the filter reads from the output context of the
+ * generator: the names of the properties holding the enclosing views, from the outermost one. Lists and wrappers
+ * such as pages are not views, so they are skipped.
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    private final FieldSelection selection;
+
+    /**
+     * Creates the filter of a selection.
+     *
+     * @param selection The selection of the outermost views.
+     */
+    public FieldSelectionFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider, PropertyWriter writer) throws Exception {
+        if (selectionOf(generator.getOutputContext()).includes(writer.getName(), isView(writer.getType()))) {
+            writer.serializeAsField(pojo, generator, provider);
+        } else if (!generator.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, generator, provider);
+        }
+    }
+
+    private FieldSelection selectionOf(JsonStreamContext context) {
+        Deque<String> path = new ArrayDeque<>();
+        for (JsonStreamContext parent = context.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent.inObject() && parent.getCurrentValue() != null && isView(parent.getCurrentValue().getClass())) {
+                path.push(parent.getCurrentName());
+            }
+        }
+        FieldSelection current = selection;
+        for (String association : path) {
+            current = current.child(association);
+        }
+        return current;
+    }
+
+    private static boolean isView(JavaType type) {
+        JavaType viewType = type.isContainerType() ? type.getContentType() : type;
+        return viewType != null && isView(viewType.getRawClass());
+    }
+
+    private static boolean isView(Class<?> type) {
+        return FieldSelectionConfig.VIEWS.contains(type);
+    }
+}
@@ -0,0 +1,49 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the ID sequences past the rows created while IDs were identity columns.
+ *
+ * <p> Each entity draws its IDs from a {@code <table>_seq} sequence with a pool of {@value #ALLOCATION_SIZE}.
+ * Schemas created before the switch already hold rows, so on PostgreSQL every sequence is advanced to at least
+ * one pool beyond the largest existing ID. Databases created from scratch, such as the H2 used in tests, are left alone.
+ */
+@Component
+public class IdSequences {
+
+    /**
+     * Number of IDs each call to a sequence reserves, matching the default allocation size of JPA.
+     */
+    private static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * Tables whose IDs come from a sequence.
+     */
+    private static final List<String> TABLES = List.of(
+        "products", "product_backlogs", "itens_backlog", "sprints", "tasks_sprint", "customers");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * Advances the sequences lagging behind their tables.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignSequences() {
+        boolean postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        if (!postgres) {
+            return;
+        }
+        TABLES.forEach(table -> jdbcTemplate.execute("SELECT setval('" + table + "_seq', GREATEST((SELECT last_value FROM " + table
+            + "_seq), (SELECT COALESCE(MAX(id), 0) FROM " + table + ") + " + ALLOCATION_SIZE + "))"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the last modification time of the rows written before the column existed, once the schema has been
+ * updated, so they take part in change synchronization from their creation time.
+ */
+@Component
+public class LastModifiedBackfill {
+
+    /**
+     * Tables whose changes are synchronized.
+     */
+    private static final List<String> TABLES = List.of("sprints", "itens_backlog", "tasks_sprint");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * Fills the missing last modification times.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        TABLES.forEach(table -> jdbcTemplate.update(
+            "UPDATE " + table + " SET last_modified = COALESCE(timestamp, CURRENT_TIMESTAMP) WHERE last_modified IS NULL"));
+    }
+}
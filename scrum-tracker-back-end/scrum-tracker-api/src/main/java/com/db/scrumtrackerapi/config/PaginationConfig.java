@@ -0,0 +1,39 @@
+package com.db.scrumtrackerapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Page size settings of the paginated listings.
+ *
+ * <p> The default and maximum sizes are read from {@code scrum-tracker.pagination.default-size} and
+ * {@code scrum-tracker.pagination.max-size}.
+ */
+@Component
+public class PaginationConfig {
+
+    /**
+     * Number of rows fetched at a time by the streamed listings, which also bounds the entities they hold at once.
+     */
+    public static final String STREAM_FETCH_SIZE = "256";
+
+    @Value("${scrum-tracker.pagination.default-size:50}")
+    private int defaultSize;
+
+    @Value("${scrum-tracker.pagination.max-size:500}")
+    private int maxSize;
+
+    /**
+     * Resolves the page requested by a client. Only the size is used: the position comes from the cursor,
+     * so the page number is always zero and no count query is issued for slices.
+     *
+     * @param size The size requested by the client, may be {@code null}.
+     * @return The page request, its size clamped between 1 and the maximum size.
+     */
+    public Pageable pageOf(Integer size) {
+        int resolved = size == null ? defaultSize : size;
+        return PageRequest.ofSize(Math.max(1, Math.min(resolved, maxSize)));
+    }
+}
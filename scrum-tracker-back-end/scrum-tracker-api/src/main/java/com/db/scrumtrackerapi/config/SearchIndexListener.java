@@ -0,0 +1,59 @@
+package com.db.scrumtrackerapi.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.db.scrumtrackerapi.model.BaseEntity;
+import com.db.scrumtrackerapi.model.Searchable;
+import com.db.scrumtrackerapi.services.ISearchService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener keeping the search index current with the writes of searchable entities. Active entities are
+ * indexed as they are inserted or updated, deactivated and deleted ones are removed from the index.
+ *
+ * <p> The listener is created by Hibernate through the Spring bean container. The search service is looked up
+ * lazily, so entities can be written by contexts without one, such as the repository tests.
+ */
+public class SearchIndexListener {
+
+    /**
+     * Autowired provider of the ISearchService the writes are passed to.
+     */
+    @Autowired
+    private ObjectProvider<ISearchService> searchService;
+
+    /**
+     * Indexes an inserted or updated entity, or removes it from the index once deactivated.
+     *
+     * @param entity The written entity.
+     */
+    @PostPersist
+    @PostUpdate
+    void written(Object entity) {
+        if (entity instanceof Searchable searchable && entity instanceof BaseEntity baseEntity) {
+            searchService.ifAvailable(service -> {
+                if (Boolean.TRUE.equals(baseEntity.isActive())) {
+                    service.index(searchable.toSearchDocument());
+                } else {
+                    service.remove(searchable.toSearchDocument().getSubject(), baseEntity.getId());
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes a deleted entity from the index.
+     *
+     * @param entity The deleted entity.
+     */
+    @PostRemove
+    void removed(Object entity) {
+        if (entity instanceof Searchable searchable && entity instanceof BaseEntity baseEntity) {
+            searchService.ifAvailable(service -> service.remove(searchable.toSearchDocument().getSubject(), baseEntity.getId()));
+        }
+    }
+}
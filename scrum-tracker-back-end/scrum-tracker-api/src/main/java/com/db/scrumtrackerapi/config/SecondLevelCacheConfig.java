@@ -0,0 +1,66 @@
+package com.db.scrumtrackerapi.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+/**
+ * Configuration class providing the store of the Hibernate second-level cache.
+ *
+ * <p> The regions, with their time to live and size, are declared in the Ehcache file read from
+ * {@code scrum-tracker.cache.config}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Creates the cache manager holding the second-level cache regions. Each application context gets its own
+     * manager, so contexts running side by side, as in tests, never share cached rows of different databases.
+     *
+     * @param config The Ehcache configuration file.
+     * @return The cache manager, closed with the application context.
+     * @throws IOException If the configuration file cannot be read.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${scrum-tracker.cache.config:classpath:ehcache.xml}") Resource config) throws IOException {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("urn:uuid:" + UUID.randomUUID()), new XmlConfiguration(config.getURL()));
+    }
+
+    /**
+     * Enables the entity, collection and query caches and hands them the cache manager, instead of letting
+     * Hibernate create a manager shared by the whole JVM. A region missing from the configuration file fails
+     * the startup rather than being created unbounded.
+     *
+     * <p> The cache is disabled in the application properties, so contexts without this configuration, such as
+     * the JPA test slices, run without one rather than on the shared manager, which the first of them to close
+     * would close for all the others.
+     *
+     * @param secondLevelCacheManager The cache manager holding the regions.
+     * @return The customizer of the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.db.scrumtrackerapi.config;
+
+import javax.cache.CacheManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Publishes the hits, misses, puts and evictions of every second-level cache region as {@code cache.*} meters
+ * tagged with the region name.
+ *
+ * <p> Hibernate's own {@code hibernate.second.level.cache.*} and {@code hibernate.query.cache.*} meters are
+ * registered by Spring Boot from the session factory statistics.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    @Autowired
+    CacheManager secondLevelCacheManager;
+
+    /**
+     * Binds the meters of each region to the registry.
+     *
+     * @param registry The registry to bind to.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : secondLevelCacheManager.getCacheNames()) {
+            JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(region));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.cglib.core.SpringNamingPolicy;
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.NoOp;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import com.db.scrumtrackerapi.services.ICustomerService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration class timing every service with a {@link ServiceTimer}.
+ *
+ * <p> The p50, p95 and p99 of the {@value ServiceTimer#METER} timers, and their histograms, are enabled through the
+ * {@code management.metrics.distribution.*} properties.
+ */
+@Configuration
+public class ServiceMetricsConfig {
+
+    private static final String SERVICES_PACKAGE = ICustomerService.class.getPackageName();
+
+    /**
+     * Replaces the class of each bean implementing an interface of the services package with a subclass whose
+     * methods from that interface are timed, before any bean is created. The container creates, injects and
+     * initializes the subclass as it would the service itself, so there is a single instance and no proxy in front
+     * of it: fields injected into the bean afterwards, such as mocks in tests, are the ones its code uses.
+     *
+     * @return The bean factory post processor instrumenting the services.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor serviceTimers() {
+        return beanFactory -> {
+            ServiceTimer timer = new ServiceTimer(beanFactory.getBeanProvider(MeterRegistry.class));
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String className = definition.getBeanClassName();
+                if (definition instanceof AbstractBeanDefinition beanDefinition && definition.getFactoryMethodName() == null
+                        && className != null && className.startsWith(SERVICES_PACKAGE)) {
+                    Class<?> serviceClass = ClassUtils.resolveClassName(className, beanFactory.getBeanClassLoader());
+                    serviceInterface(serviceClass).ifPresent(i -> beanDefinition.setBeanClass(instrument(serviceClass, i, timer)));
+                }
+            }
+        };
+    }
+
+    private static Class<?> instrument(Class<?> serviceClass, Class<?> serviceInterface, ServiceTimer timer) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(serviceClass);
+        enhancer.setClassLoader(serviceClass.getClassLoader());
+        enhancer.setNamingPolicy(SpringNamingPolicy.INSTANCE);
+        enhancer.setUseFactory(false);
+        enhancer.setUseCache(false);
+        enhancer.setCallbackTypes(new Class<?>[] {MethodInterceptor.class, NoOp.class});
+        enhancer.setCallbackFilter(method -> ClassUtils.hasMethod(serviceInterface, method.getName(), method.getParameterTypes()) ? 0 : 1);
+        Class<?> instrumented = enhancer.createClass();
+        Enhancer.registerStaticCallbacks(instrumented, new Callback[] {timer, NoOp.INSTANCE});
+        return instrumented;
+    }
+
+    private static Optional<Class<?>> serviceInterface(Class<?> serviceClass) {
+        return Arrays.stream(ClassUtils.getAllInterfacesForClass(serviceClass))
+            .filter(i -> i.getPackageName().equals(SERVICES_PACKAGE))
+            .findFirst();
+    }
+}
@@ -0,0 +1,100 @@
+package com.db.scrumtrackerapi.config;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.ClassUtils;
+
+import com.db.scrumtrackerapi.model.BaseEntity;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times the service calls it intercepts as {@value #METER} meters, tagged with the service class, the method, the
+ * exception thrown and the size of the result.
+ *
+ * <p> The size tag buckets the number of entities returned, {@code 0}, {@code 1}, {@code 2-10}, {@code 11-100},
+ * {@code 101-1000} or {@code >1000}, so a slow call can be told apart from a call returning a large listing. Results
+ * that are not entities, such as import progress, are tagged {@code none}.
+ */
+public class ServiceTimer implements MethodInterceptor {
+
+    public static final String METER = "service.calls";
+
+    private static final String NONE = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Creates the timer of the services.
+     *
+     * @param meterRegistry The registry the timers are registered to, resolved on the first call.
+     */
+    public ServiceTimer(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Object target, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+        String exception = NONE;
+        String size = NONE;
+        long start = System.nanoTime();
+        try {
+            Object result = methodProxy.invokeSuper(target, args);
+            size = size(method, result);
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            Timer.builder(METER)
+                .description("Calls to the service interfaces")
+                .tag("class", ClassUtils.getUserClass(target).getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .tag("size", size)
+                .register(meterRegistry.getObject())
+                .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String size(Method method, Object result) {
+        if (result instanceof Collection<?> collection) {
+            return bucket(collection.size());
+        }
+        if (result instanceof Slice<?> slice) {
+            return bucket(slice.getNumberOfElements());
+        }
+        if (result instanceof Optional<?> optional) {
+            return bucket(optional.isPresent() ? 1 : 0);
+        }
+        if (BaseEntity.class.isAssignableFrom(method.getReturnType())) {
+            return bucket(result != null ? 1 : 0);
+        }
+        return NONE;
+    }
+
+    private static String bucket(long size) {
+        if (size <= 1) {
+            return String.valueOf(size);
+        }
+        if (size <= 10) {
+            return "2-10";
+        }
+        if (size <= 100) {
+            return "11-100";
+        }
+        if (size <= 1000) {
+            return "101-1000";
+        }
+        return ">1000";
+    }
+}
@@ -0,0 +1,61 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.function.Supplier;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.model.BaseEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Gives explicit access to deactivated rows.
+ *
+ * <p> The {@value BaseEntity#ACTIVE_FILTER} filter is enabled on every entity manager by {@link SoftDeleteFilterConfig},
+ * so inactive entities never leave the database. Admin queries that need to see them must opt in through
+ * {@link #includingInactive(Supplier)}.
+ */
+@Component
+public class SoftDeleteFilter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates the filter helper with a read-only transaction template, so the queries run on the
+     * same entity manager whose filter is disabled.
+     *
+     * @param transactionManager The transaction manager of the application.
+     */
+    @Autowired
+    public SoftDeleteFilter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Runs the given query with the soft-delete filter disabled.
+     *
+     * @param <T>   The type of the query result.
+     * @param query The query to run, including deactivated rows.
+     * @return The result of the query.
+     */
+    public <T> T includingInactive(Supplier<T> query) {
+        return transactionTemplate.execute(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.disableFilter(BaseEntity.ACTIVE_FILTER);
+            try {
+                return query.get();
+            } finally {
+                session.enableFilter(BaseEntity.ACTIVE_FILTER);
+            }
+        });
+    }
+}
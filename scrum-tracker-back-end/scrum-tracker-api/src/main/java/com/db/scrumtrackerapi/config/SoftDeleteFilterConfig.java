@@ -0,0 +1,36 @@
+package com.db.scrumtrackerapi.config;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.db.scrumtrackerapi.model.BaseEntity;
+
+/**
+ * Configuration class enabling the soft-delete filter on every entity manager.
+ */
+@Configuration
+public class SoftDeleteFilterConfig {
+
+    /**
+     * Registers an initializer on the entity manager factory that enables the {@value BaseEntity#ACTIVE_FILTER}
+     * filter, both for transactional entity managers and for the ones opened per request.
+     *
+     * @return The bean post processor configuring the entity manager factory.
+     */
+    @Bean
+    public static BeanPostProcessor softDeleteFilterInitializer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactoryBean) {
+                    entityManagerFactoryBean.setEntityManagerInitializer(entityManager ->
+                        entityManager.unwrap(Session.class).enableFilter(BaseEntity.ACTIVE_FILTER));
+                }
+                return bean;
+            }
+        };
+    }
+}
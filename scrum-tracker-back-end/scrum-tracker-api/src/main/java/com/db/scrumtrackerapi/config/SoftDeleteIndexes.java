@@ -0,0 +1,50 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes backing the soft-delete filter once the schema has been updated.
+ *
+ * <p> On PostgreSQL the indexes are partial, covering only active rows. Other databases, such as the H2
+ * used in tests, get a composite index on the lookup column and {@code active} instead.
+ */
+@Component
+public class SoftDeleteIndexes {
+
+    /**
+     * Lookup column of each table, the one every filtered query restricts on.
+     */
+    private static final Map<String, String> LOOKUP_COLUMNS = Map.of(
+        "products", "id",
+        "product_backlogs", "product_id",
+        "itens_backlog", "product_backlog_id",
+        "sprints", "product",
+        "tasks_sprint", "sprint_id",
+        "customers", "email");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the missing soft-delete indexes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        boolean partial = "PostgreSQL".equals(jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        LOOKUP_COLUMNS.forEach((table, column) -> {
+            if (partial) {
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_active ON " + table + " (" + column + ") WHERE active = true");
+            } else {
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_active ON " + table + " (" + column + ", active)");
+            }
+        });
+    }
+}
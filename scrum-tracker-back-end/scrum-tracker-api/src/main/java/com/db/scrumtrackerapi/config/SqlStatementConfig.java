@@ -0,0 +1,63 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class recording the SQL statements executed by each HTTP request.
+ */
+@Configuration
+public class SqlStatementConfig {
+
+    /**
+     * Wraps the data source with the {@link SqlStatementInspector}.
+     *
+     * @return The bean post processor wrapping the data source.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementInspectingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return SqlStatementInspector.inspect(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Creates the filter recording each request.
+     *
+     * @param headers   Whether to write the {@code X-SQL-Count} and {@code X-SQL-Time} response headers.
+     * @param listeners The listeners notified of each request.
+     * @return The filter.
+     */
+    @Bean
+    public SqlStatementFilter sqlStatementFilter(@Value("${scrum-tracker.sql-statements.headers:false}") boolean headers,
+                                                 List<SqlStatementListener> listeners) {
+        return new SqlStatementFilter(headers, listeners);
+    }
+
+    /**
+     * Registers the filter ahead of the security filters, so the statements loading the principal are counted.
+     *
+     * @param sqlStatementFilter The filter.
+     * @return The filter registration.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilterRegistration(SqlStatementFilter sqlStatementFilter) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(sqlStatementFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
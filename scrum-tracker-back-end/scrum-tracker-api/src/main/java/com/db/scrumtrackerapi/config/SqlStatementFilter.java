@@ -0,0 +1,155 @@
+package com.db.scrumtrackerapi.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the SQL statements executed by each HTTP request, from the security filters to the rendering of the body,
+ * and hands them to the {@link SqlStatementListener}s.
+ *
+ * <p> When headers are enabled the statement count and the JDBC time, in milliseconds, are also written to the
+ * {@value #COUNT_HEADER} and {@value #TIME_HEADER} response headers. The body is then buffered until the request
+ * completes, since lazy loads during serialization still add statements, so headers are meant for development.
+ *
+ * <p> Streamed responses, such as server-sent events and streamed lists, are never buffered: they are written through
+ * as soon as Spring MVC marks them as streaming, and get no headers, their statements being counted by the listeners
+ * only.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+
+    public static final String TIME_HEADER = "X-SQL-Time";
+
+    private static final String NO_HANDLER = "none";
+
+    /**
+     * The request attribute set by {@link ShallowEtagHeaderFilter#disableContentCaching}, which Spring MVC sets for
+     * streamed return values.
+     */
+    private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
+
+    private final boolean headers;
+
+    private final List<SqlStatementListener> listeners;
+
+    /**
+     * Creates the filter.
+     *
+     * @param headers   Whether to write the statistics to the response headers.
+     * @param listeners The listeners notified of each request.
+     */
+    public SqlStatementFilter(boolean headers, List<SqlStatementListener> listeners) {
+        this.headers = headers;
+        this.listeners = new CopyOnWriteArrayList<>(listeners);
+    }
+
+    /**
+     * Registers a listener, in addition to the ones given at creation.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(SqlStatementListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener.
+     */
+    public void removeListener(SqlStatementListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = headers ? new StreamingAwareResponseWrapper(request, response) : null;
+        SqlStatistics statistics = SqlStatementInspector.start();
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStatementInspector.stop(statistics);
+            if (buffered != null) {
+                if (!isStreaming(request)) {
+                    buffered.setHeader(COUNT_HEADER, String.valueOf(statistics.getStatements()));
+                    buffered.setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.3f", statistics.getTime().toNanos() / 1e6));
+                }
+                buffered.copyBodyToResponse();
+            }
+            String handler = handler(request);
+            for (SqlStatementListener listener : listeners) {
+                listener.requestCompleted(handler, statistics);
+            }
+        }
+    }
+
+    private static boolean isStreaming(HttpServletRequest request) {
+        return request.getAttribute(STREAMING_ATTRIBUTE) != null || request.isAsyncStarted();
+    }
+
+    private static String handler(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return NO_HANDLER;
+    }
+
+    /**
+     * Buffers the body of a response until it is copied, unless the response turns out to be streamed, in which
+     * case what was buffered is copied and the rest written through.
+     */
+    private static class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        StreamingAwareResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (isStreaming(request)) {
+                copyBodyToResponse(false);
+                return getResponse().getOutputStream();
+            }
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (isStreaming(request)) {
+                copyBodyToResponse(false);
+                return getResponse().getWriter();
+            }
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming(request)) {
+                copyBodyToResponse(false);
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
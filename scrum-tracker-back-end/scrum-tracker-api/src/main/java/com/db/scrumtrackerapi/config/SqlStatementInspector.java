@@ -0,0 +1,229 @@
+package com.db.scrumtrackerapi.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the SQL statements, the rows and the JDBC time of the current thread.
+ *
+ * <p> The data source is wrapped by {@link #inspect(DataSource)} so every statement it executes, whether issued by
+ * Hibernate or by plain JDBC, is recorded in the recordings opened on the calling thread with {@link #start()}.
+ * Recordings nest: a statement counts in every recording open on the thread. Statements executed without an open
+ * recording are passed through untouched. Tasks handed to another thread carry the recordings of the thread that
+ * submitted them once decorated with {@link #propagate(Runnable)}.
+ */
+public final class SqlStatementInspector {
+
+    private static final ThreadLocal<Deque<SqlStatistics>> RECORDINGS = new ThreadLocal<>();
+
+    private SqlStatementInspector() {
+    }
+
+    /**
+     * Opens a recording on the current thread.
+     *
+     * @return The statistics filled until {@link #stop(SqlStatistics)} is called.
+     */
+    public static SqlStatistics start() {
+        Deque<SqlStatistics> recordings = RECORDINGS.get();
+        if (recordings == null) {
+            recordings = new ArrayDeque<>();
+            RECORDINGS.set(recordings);
+        }
+        SqlStatistics statistics = new SqlStatistics();
+        recordings.push(statistics);
+        return statistics;
+    }
+
+    /**
+     * Closes a recording opened on the current thread, along with the recordings opened after it and left open.
+     *
+     * @param statistics The statistics returned by {@link #start()}.
+     */
+    public static void stop(SqlStatistics statistics) {
+        Deque<SqlStatistics> recordings = RECORDINGS.get();
+        if (recordings == null) {
+            return;
+        }
+        if (recordings.contains(statistics)) {
+            while (recordings.pop() != statistics) {
+                // discards the recordings left open inside this one
+            }
+        }
+        if (recordings.isEmpty()) {
+            RECORDINGS.remove();
+        }
+    }
+
+    /**
+     * Decorates a task so the statements it executes are recorded in the recordings open on the current thread,
+     * wherever it runs. Meant as the {@code TaskDecorator} of an executor.
+     *
+     * @param task The task.
+     * @return The decorated task, or the given one if no recording is open.
+     */
+    public static Runnable propagate(Runnable task) {
+        Deque<SqlStatistics> recordings = RECORDINGS.get();
+        if (recordings == null) {
+            return task;
+        }
+        List<SqlStatistics> captured = List.copyOf(recordings);
+        return () -> {
+            Deque<SqlStatistics> previous = RECORDINGS.get();
+            RECORDINGS.set(new ArrayDeque<>(captured));
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    RECORDINGS.remove();
+                } else {
+                    RECORDINGS.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps a data source so the statements executed on its connections are recorded.
+     *
+     * @param dataSource The data source to inspect.
+     * @return The inspecting data source, or the given one if it is already inspected.
+     */
+    public static DataSource inspect(DataSource dataSource) {
+        if (dataSource instanceof InspectingDataSource) {
+            return dataSource;
+        }
+        return new InspectingDataSource(dataSource);
+    }
+
+    private static boolean recording() {
+        return RECORDINGS.get() != null;
+    }
+
+    private static void recordStatement(String sql, long nanos) {
+        for (SqlStatistics statistics : RECORDINGS.get()) {
+            statistics.statement(sql, nanos);
+        }
+    }
+
+    private static void recordRows(long rows) {
+        for (SqlStatistics statistics : RECORDINGS.get()) {
+            statistics.rows(rows);
+        }
+    }
+
+    /**
+     * Creates a proxy of a JDBC interface. The proxy is only equal to itself, so it can key the maps Hibernate
+     * tracks its JDBC resources with.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlStatementInspector.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) ->
+            switch (method.getName()) {
+                case "equals" -> args.length == 1 ? proxy == args[0] : handler.invoke(proxy, method, args);
+                case "hashCode" -> args == null ? System.identityHashCode(proxy) : handler.invoke(proxy, method, args);
+                default -> handler.invoke(proxy, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Data source handing out inspected connections. Being a {@link DelegatingDataSource}, it is still unwrapped
+     * to the pool by the data source metrics.
+     */
+    private static final class InspectingDataSource extends DelegatingDataSource {
+
+        InspectingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return inspect(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return inspect(super.getConnection(username, password));
+        }
+
+        private static Connection inspect(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                return switch (method.getName()) {
+                    case "createStatement" -> inspect(Statement.class, (Statement) result, null);
+                    case "prepareStatement" -> inspect(PreparedStatement.class, (Statement) result, (String) args[0]);
+                    case "prepareCall" -> inspect(CallableStatement.class, (Statement) result, (String) args[0]);
+                    default -> result;
+                };
+            });
+        }
+
+        private static <T extends Statement> T inspect(Class<T> type, Statement statement, String preparedSql) {
+            return proxy(type, (proxy, method, args) -> {
+                String name = method.getName();
+                if (!name.startsWith("execute") && !name.equals("getResultSet")) {
+                    return invoke(statement, method, args);
+                }
+                if (!recording()) {
+                    return invoke(statement, method, args);
+                }
+                if (name.equals("getResultSet")) {
+                    return inspect((ResultSet) invoke(statement, method, args));
+                }
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                long start = System.nanoTime();
+                Object result = invoke(statement, method, args);
+                recordStatement(sql, System.nanoTime() - start);
+                if (result instanceof ResultSet resultSet) {
+                    return inspect(resultSet);
+                }
+                if (result instanceof Integer updated && updated > 0) {
+                    recordRows(updated);
+                } else if (result instanceof Long updated && updated > 0) {
+                    recordRows(updated);
+                } else if (result instanceof int[] batch) {
+                    for (int updated : batch) {
+                        recordRows(Math.max(0, updated));
+                    }
+                }
+                return result;
+            });
+        }
+
+        private static ResultSet inspect(ResultSet resultSet) {
+            if (resultSet == null) {
+                return null;
+            }
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                Object result = invoke(resultSet, method, args);
+                if (method.getName().equals("next") && Boolean.TRUE.equals(result) && recording()) {
+                    recordRows(1);
+                }
+                return result;
+            });
+        }
+    }
+}
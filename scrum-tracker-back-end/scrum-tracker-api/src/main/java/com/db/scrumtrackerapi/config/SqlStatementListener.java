@@ -0,0 +1,18 @@
+package com.db.scrumtrackerapi.config;
+
+/**
+ * Notified by the {@link SqlStatementFilter} of the SQL statements executed by each HTTP request.
+ *
+ * <p> Listeners run on the request thread once the response is complete, so they must be quick.
+ */
+@FunctionalInterface
+public interface SqlStatementListener {
+
+    /**
+     * Handles the statistics of a completed request.
+     *
+     * @param handler    The handler method of the request, as {@code Controller.method}, or {@code none}.
+     * @param statistics The statements, rows and JDBC time of the request.
+     */
+    void requestCompleted(String handler, SqlStatistics statistics);
+}
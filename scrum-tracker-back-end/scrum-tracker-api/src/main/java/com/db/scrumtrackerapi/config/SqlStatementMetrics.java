@@ -0,0 +1,71 @@
+package com.db.scrumtrackerapi.config;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes the SQL statements, rows and JDBC time of each request as {@code sql.statements}, {@code sql.rows}
+ * and {@code sql.time} meters tagged with the handler method.
+ *
+ * <p> A statement executed more than {@code scrum-tracker.sql-statements.repeated-threshold} times by a single
+ * request is logged as a likely N+1 and counted in {@code sql.repeated.statements}.
+ */
+@Component
+public class SqlStatementMetrics implements SqlStatementListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatementMetrics.class);
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${scrum-tracker.sql-statements.repeated-threshold:10}")
+    int repeatedThreshold;
+
+    /**
+     * Records the statistics of a request and warns about its repeated statements.
+     *
+     * @param handler    The handler method of the request.
+     * @param statistics The statements, rows and JDBC time of the request.
+     */
+    @Override
+    public void requestCompleted(String handler, SqlStatistics statistics) {
+        DistributionSummary.builder("sql.statements")
+            .description("SQL statements executed per request")
+            .baseUnit("statements")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(statistics.getStatements());
+        DistributionSummary.builder("sql.rows")
+            .description("Rows read or affected per request")
+            .baseUnit("rows")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(statistics.getRows());
+        Timer.builder("sql.time")
+            .description("Time spent executing SQL statements per request")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(statistics.getTime());
+
+        for (Map.Entry<String, Integer> execution : statistics.getExecutions().entrySet()) {
+            if (execution.getValue() > repeatedThreshold) {
+                LOGGER.warn("Possible N+1 in {}: statement executed {} times: {}", handler, execution.getValue(), execution.getKey());
+                Counter.builder("sql.repeated.statements")
+                    .description("Statements executed more often than the threshold within a request")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.db.scrumtrackerapi.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL statements, rows and JDBC time recorded by the {@link SqlStatementInspector} while a recording is open.
+ *
+ * <p> A recording is filled by the thread that opened it and by the tasks it was propagated to, possibly at once.
+ */
+public class SqlStatistics {
+
+    private final LongAdder statements = new LongAdder();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder nanos = new LongAdder();
+
+    private final Map<String, Integer> executions = new ConcurrentHashMap<>();
+
+    /**
+     * Records an executed statement.
+     *
+     * @param sql   The SQL of the statement, {@code null} when unknown.
+     * @param nanos The time spent in the JDBC driver executing it.
+     */
+    void statement(String sql, long nanos) {
+        this.statements.increment();
+        this.nanos.add(nanos);
+        if (sql != null) {
+            executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Records rows read from a result set or affected by an update.
+     *
+     * @param rows The number of rows.
+     */
+    void rows(long rows) {
+        this.rows.add(rows);
+    }
+
+    /**
+     * Gets the number of statements executed.
+     *
+     * @return The number of statements.
+     */
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    /**
+     * Gets the number of rows read or affected.
+     *
+     * @return The number of rows.
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Gets the time spent in the JDBC driver executing statements.
+     *
+     * @return The JDBC time.
+     */
+    public Duration getTime() {
+        return Duration.ofNanos(nanos.sum());
+    }
+
+    /**
+     * Gets how many times each SQL statement was executed, which tells N+1 patterns apart: the same select
+     * executed once per row of a previous one.
+     *
+     * @return The number of executions by SQL.
+     */
+    public Map<String, Integer> getExecutions() {
+        return executions;
+    }
+}
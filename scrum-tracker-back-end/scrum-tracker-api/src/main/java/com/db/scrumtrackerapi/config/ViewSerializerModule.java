@@ -0,0 +1,125 @@
+package com.db.scrumtrackerapi.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.db.scrumtrackerapi.model.view.CustomerView;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.SprintView;
+import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.util.CustomerViewSerializer;
+import com.db.scrumtrackerapi.util.DetailedSprintViewSerializer;
+import com.db.scrumtrackerapi.util.ItemBacklogViewSerializer;
+import com.db.scrumtrackerapi.util.ProductBacklogViewSerializer;
+import com.db.scrumtrackerapi.util.ProductViewSerializer;
+import com.db.scrumtrackerapi.util.SprintViewSerializer;
+import com.db.scrumtrackerapi.util.TaskSprintViewSerializer;
+import com.db.scrumtrackerapi.util.ViewSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+
+/**
+ * Jackson module serializing the views of the entities with their {@link ViewSerializer}s.
+ *
+ * <p> The module is a bean, so Spring Boot registers it with the application object mapper. A response serialized
+ * with the filter of a {@link com.db.scrumtrackerapi.util.FieldSelection} is still written by the bean serializers,
+ * which apply the filter, so each view serializer keeps the bean serializer it replaces to fall back on.
+ */
+@Component
+public class ViewSerializerModule extends SimpleModule {
+
+    private static final Map<Class<?>, ViewSerializer<?>> SERIALIZERS = Map.of(
+        ProductView.class, ProductViewSerializer.INSTANCE,
+        ProductBacklogView.class, ProductBacklogViewSerializer.INSTANCE,
+        ItemBacklogView.class, ItemBacklogViewSerializer.INSTANCE,
+        SprintView.class, SprintViewSerializer.INSTANCE,
+        DetailedSprintView.class, DetailedSprintViewSerializer.INSTANCE,
+        TaskSprintView.class, TaskSprintViewSerializer.INSTANCE,
+        CustomerView.class, CustomerViewSerializer.INSTANCE);
+
+    /**
+     * Creates the module.
+     */
+    public ViewSerializerModule() {
+        super(ViewSerializerModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                ViewSerializer<?> viewSerializer = SERIALIZERS.get(beanDesc.getBeanClass());
+                if (viewSerializer == null) {
+                    return serializer;
+                }
+                return new SelectableSerializer((ViewSerializer<Object>) viewSerializer, (JsonSerializer<Object>) serializer);
+            }
+        });
+    }
+
+    /**
+     * Writes a view with its view serializer, or with the bean serializer when a selection filters the output.
+     */
+    private static class SelectableSerializer extends JsonSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+
+        private final ViewSerializer<Object> viewSerializer;
+
+        private final JsonSerializer<Object> beanSerializer;
+
+        SelectableSerializer(ViewSerializer<Object> viewSerializer, JsonSerializer<Object> beanSerializer) {
+            this.viewSerializer = viewSerializer;
+            this.beanSerializer = beanSerializer;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (isSelecting(provider)) {
+                beanSerializer.serialize(value, gen, provider);
+            } else {
+                viewSerializer.write(value, gen);
+            }
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return viewSerializer.handledType();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (beanSerializer instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            if (beanSerializer instanceof ContextualSerializer contextual) {
+                JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+                if (contextualized != beanSerializer) {
+                    return new SelectableSerializer(viewSerializer, (JsonSerializer<Object>) contextualized);
+                }
+            }
+            return this;
+        }
+
+        private static boolean isSelecting(SerializerProvider provider) {
+            FilterProvider filters = provider.getFilterProvider();
+            return filters != null && filters.findPropertyFilter(FieldSelectionConfig.FILTER_ID, null) instanceof FieldSelectionFilter;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.db.scrumtrackerapi.config;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuration class running request handling and asynchronous tasks on virtual threads, enabled with
+ * {@code scrum-tracker.virtual-threads.enabled=true}.
+ *
+ * <p> Blocking JPA calls then park a virtual thread instead of holding one of Tomcat's platform threads, so the
+ * number of requests in flight is no longer bounded by the size of the thread pool. The database stays bounded by its
+ * pool, which the {@link ConnectionGuard} protects from the resulting bursts of threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "scrum-tracker.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Runs the requests accepted by Tomcat on a new virtual thread each.
+     *
+     * @return The customizer of the Tomcat protocol handler.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tomcat-virtual-", 0).factory()));
+    }
+
+    /**
+     * Runs asynchronous tasks, including asynchronous request processing, on a new virtual thread each. Replaces the
+     * thread pool Spring Boot would otherwise create.
+     *
+     * @return The task executor.
+     */
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor" })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-virtual-", 0).factory()));
+    }
+
+    /**
+     * Wraps the pooled data source with a {@link ConnectionGuard}.
+     *
+     * @param permits The number of connections handed out at once, {@code 0} to use the size of the pool.
+     * @param wait    The longest time a thread waits for a connection.
+     * @return The bean post processor wrapping the data source.
+     */
+    @Bean
+    public static ConnectionGuardPostProcessor connectionGuard(@Value("${scrum-tracker.virtual-threads.connection-permits:0}") int permits,
+                                                               @Value("${scrum-tracker.virtual-threads.connection-wait:5s}") Duration wait) {
+        return new ConnectionGuardPostProcessor(permits, wait);
+    }
+
+    /**
+     * Wraps the pool ahead of the other data source wrappers, so the guard sits right on top of it.
+     */
+    static class ConnectionGuardPostProcessor implements BeanPostProcessor, Ordered {
+
+        /**
+         * The size Hikari gives a pool whose size is not configured, which it only resolves once the pool starts.
+         */
+        private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+        private final int permits;
+
+        private final Duration wait;
+
+        ConnectionGuardPostProcessor(int permits, Duration wait) {
+            this.permits = permits;
+            this.wait = wait;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                int poolSize = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                return new ConnectionGuard(pool, permits > 0 ? permits : poolSize, wait);
+            }
+            return bean;
+        }
+    }
+}
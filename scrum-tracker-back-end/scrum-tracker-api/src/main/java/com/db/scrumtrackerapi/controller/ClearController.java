@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import com.db.scrumtrackerapi.repositories.CustomerRepository;
+import com.db.scrumtrackerapi.security.service.PrincipalCache;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 
@@ -19,6 +20,9 @@ public class ClearController {
     @Autowired
     CustomerRepository customerRepository;
 
+    @Autowired
+    PrincipalCache principalCache;
+
     /**
      * Deletes all customer-related data.
      */
@@ -32,6 +36,7 @@ public class ClearController {
      */
     @RequestMapping(value = "/customer/delete/{id}", method = RequestMethod.DELETE)
     public void clearCustomer(@PathVariable Long id) {
+        customerRepository.findById(id).ifPresent(customer -> principalCache.invalidate(customer.getEmail()));
         customerRepository.deleteById(id);
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import com.db.scrumtrackerapi.config.SoftDeleteFilter;
 import com.db.scrumtrackerapi.model.Customer;
 import com.db.scrumtrackerapi.model.view.CustomerView;
 import com.db.scrumtrackerapi.services.impl.CustomerService;
@@ -34,10 +35,17 @@ public class CustomerController {
     @Autowired
     CustomerService customerService;
 
+    /**
+     * Gives this admin-only controller access to deactivated customers.
+     */
+    @Autowired
+    SoftDeleteFilter softDeleteFilter;
+
     /**
      * Retrieves a customer by their email address.
      *
      * <p> This method handles HTTP GET requests for the specified endpoint ("/customer").
+     * Deactivated customers are included, since the endpoint is restricted to admins.
      *
      * @param email The email address of the customer to retrieve, it is provided as a 
      * query parameter in the request.
@@ -47,7 +55,7 @@ public class CustomerController {
      */
     @RequestMapping(value="/customer", method=RequestMethod.GET)
     public ResponseEntity<CustomerView> getCustomerByEmail(@RequestParam("email") String email) {
-        Optional<Customer> customer = customerService.findByEmail(email);
+        Optional<Customer> customer = softDeleteFilter.includingInactive(() -> customerService.findByEmail(email));
         if (customer.isPresent()) {
             CustomerView customerView = customer.get().toView();
             return new ResponseEntity<>(customerView, HttpStatus.OK);
@@ -1,17 +1,40 @@
 package com.db.scrumtrackerapi.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.db.scrumtrackerapi.config.FieldSelectionConfig;
+import com.db.scrumtrackerapi.config.PaginationConfig;
+import com.db.scrumtrackerapi.model.ItemBacklog;
 import com.db.scrumtrackerapi.model.dto.ItemBacklogDTO;
 import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.PageView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
+import com.db.scrumtrackerapi.services.impl.ItemBacklogImportService;
 import com.db.scrumtrackerapi.services.impl.ItemBacklogService;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.db.scrumtrackerapi.util.JsonArrayStream;
+import com.db.scrumtrackerapi.util.PageCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Controller class handling HTTP requests related to Item Backlog entities.
@@ -20,19 +43,46 @@ import java.util.List;
 @RequestMapping(value = "/item-backlog")
 @CrossOrigin("http://localhost:5173/")
 public class ItemBacklogController {
+
+    /**
+     * Nesting depth below which the views of this controller are replaced by references.
+     */
+    private static final int VIEW_DEPTH = 3;
     
     @Autowired
     ItemBacklogService itemBacklogService;
 
+    @Autowired
+    ItemBacklogImportService itemBacklogImportService;
+
+    @Autowired
+    PaginationConfig paginationConfig;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    AggregateVersionService aggregateVersionService;
+
     /**
-     * Retrieves an Item Backlog entity by its unique identifier.
+     * Retrieves an Item Backlog entity by its unique identifier, tagged with the versions of the item and of its
+     * product. A request whose If-None-Match holds the current tag is answered with 304 Not Modified, without loading
+     * the item.
      *
      * @param id The unique identifier of the Item Backlog.
+     * @param request The request, holding its conditional headers.
+     * @param selection The fields and associations requested by the client.
      * @return ResponseEntity containing the ItemBacklogView representing the found entity.
      */
     @RequestMapping(value="/{id}", method=RequestMethod.GET)
-    ResponseEntity<ItemBacklogView> getById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(itemBacklogService.findById(id).toView());
+    ResponseEntity<ItemBacklogView> getById(@PathVariable Long id, WebRequest request, FieldSelection selection) {
+        Optional<String> eTag = aggregateVersionService.findItemBacklogETag(id);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(new ViewAssembler(VIEW_DEPTH, selection).toView(itemBacklogService.findById(id, selection)));
     }
 
     /**
@@ -43,7 +93,7 @@ public class ItemBacklogController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.DELETE)
     ResponseEntity<ItemBacklogView> deactivateById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(itemBacklogService.deactivateById(id).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(itemBacklogService.deactivateById(id)));
     }
 
     /**
@@ -54,7 +104,41 @@ public class ItemBacklogController {
      */
     @RequestMapping(value="/", method=RequestMethod.POST)
     ResponseEntity<ItemBacklogView> save(@RequestBody ItemBacklogDTO itemBacklogDTO) {
-        return ResponseEntity.ok().body(itemBacklogService.save(itemBacklogDTO.toItemBacklog()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(itemBacklogService.save(itemBacklogDTO.toItemBacklog())));
+    }
+
+    /**
+     * Saves a list of new Item Backlog entities in a single transaction.
+     *
+     * @param itemBacklogDTOs The data transfer objects representing the new Item Backlog entities.
+     * @return ResponseEntity containing the ItemBacklogViews representing the saved entities, in request order.
+     */
+    @RequestMapping(value="/batch", method=RequestMethod.POST)
+    ResponseEntity<List<ItemBacklogView>> saveAll(@RequestBody List<ItemBacklogDTO> itemBacklogDTOs) {
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH);
+        return ResponseEntity.ok().body(itemBacklogService.saveAll(itemBacklogDTOs.stream().map(i -> i.toItemBacklog()).toList()).stream().map(views::toView).toList());
+    }
+
+    /**
+     * Imports Item Backlog entities from an NDJSON request body, one ItemBacklogDTO per line.
+     * The response streams one ImportProgressView per committed chunk, also as NDJSON.
+     *
+     * @param request The request whose body is read as a stream.
+     * @return ResponseEntity streaming the progress of the import.
+     * @throws IOException If the request body cannot be opened.
+     */
+    @RequestMapping(value="/import", method=RequestMethod.POST, consumes=MediaType.APPLICATION_NDJSON_VALUE, produces=MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> importItems(HttpServletRequest request) throws IOException {
+        InputStream input = request.getInputStream();
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(output -> itemBacklogImportService.importItems(input, progress -> {
+            try {
+                output.write(objectMapper.writeValueAsBytes(progress));
+                output.write('\n');
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
     }
 
     /**
@@ -66,28 +150,68 @@ public class ItemBacklogController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.PUT)
     ResponseEntity<ItemBacklogView> update(@PathVariable Long id, @RequestBody ItemBacklogDTO itemBacklogDTO) {
-        return ResponseEntity.ok().body(itemBacklogService.update(id, itemBacklogDTO.toItemBacklog()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(itemBacklogService.update(id, itemBacklogDTO.toItemBacklog())));
     }
 
     /**
      * Retrieves a list of Item Backlog entities associated with a specific Product Backlog.
      *
+     * The list is streamed as the entities are read, in ID order.
+     *
      * @param id The unique identifier of the Product Backlog.
-     * @return ResponseEntity containing a list of ItemBacklogView representing the found entities.
+     * @param selection The fields and associations requested by the client.
+     * @return ResponseEntity streaming a list of ItemBacklogView representing the found entities.
      */
     @RequestMapping(value="/product-backlog/{id}", method=RequestMethod.GET)
-    ResponseEntity<List<ItemBacklogView>> getByProductBacklogId(@PathVariable Long id) {
-        return ResponseEntity.ok().body(itemBacklogService.findByProductBacklogId(id).stream().map(i -> i.toView()).toList());
+    ResponseEntity<StreamingResponseBody> getByProductBacklogId(@PathVariable Long id, FieldSelection selection) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStream.<ItemBacklogView>of(objectMapper, FieldSelectionConfig.filters(selection),
+            views -> itemBacklogService.streamByProductBacklogId(id, VIEW_DEPTH, selection, views)));
     }
 
     /**
      * Retrieves a list of Item Backlog entities associated with a specific Sprint.
      *
      * @param id The unique identifier of the Sprint.
+     * @param selection The fields and associations requested by the client.
      * @return ResponseEntity containing a list of ItemBacklogView representing the found entities.
      */
     @RequestMapping(value="/sprint/{id}", method=RequestMethod.GET)
-    ResponseEntity<List<ItemBacklogView>> getBySprintId(@PathVariable Long id) {
-        return ResponseEntity.ok().body(itemBacklogService.findBySprintId(id).stream().map(i -> i.toView()).toList());
+    ResponseEntity<List<ItemBacklogView>> getBySprintId(@PathVariable Long id, FieldSelection selection) {
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(itemBacklogService.findBySprintId(id, selection).stream().map(views::toView).toList());
+    }
+
+    /**
+     * Retrieves a page of Item Backlog entities associated with a specific Product Backlog.
+     *
+     * @param id The unique identifier of the Product Backlog.
+     * @param cursor The continuation token returned by the previous page, absent for the first page.
+     * @param size The maximum number of entities in the page.
+     * @param order The ordering of the listing, {@code id} or {@code priority}; only needed on the first page.
+     * @param selection The fields and associations requested by the client.
+     * @return ResponseEntity containing the page of ItemBacklogView representing the found entities.
+     */
+    @RequestMapping(value="/product-backlog/{id}/page", method=RequestMethod.GET)
+    ResponseEntity<PageView<ItemBacklogView>> getPageByProductBacklogId(@PathVariable Long id, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @RequestParam(required = false) String order, FieldSelection selection) {
+        PageCursor pageCursor = PageCursor.resolve(cursor, order);
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(PageView.of(itemBacklogService.findByProductBacklogId(id, pageCursor, paginationConfig.pageOf(size)), views::toView, i -> PageCursor.after(pageCursor.getOrder(), i.getPriority(), i.getId())));
+    }
+
+    /**
+     * Retrieves a page of Item Backlog entities associated with a specific Sprint.
+     *
+     * @param id The unique identifier of the Sprint.
+     * @param cursor The continuation token returned by the previous page, absent for the first page.
+     * @param size The maximum number of entities in the page.
+     * @param order The ordering of the listing, {@code id} or {@code priority}; only needed on the first page.
+     * @param selection The fields and associations requested by the client.
+     * @return ResponseEntity containing the page of ItemBacklogView representing the found entities.
+     */
+    @RequestMapping(value="/sprint/{id}/page", method=RequestMethod.GET)
+    ResponseEntity<PageView<ItemBacklogView>> getPageBySprintId(@PathVariable Long id, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @RequestParam(required = false) String order, FieldSelection selection) {
+        PageCursor pageCursor = PageCursor.resolve(cursor, order);
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(PageView.of(itemBacklogService.findBySprintId(id, pageCursor, paginationConfig.pageOf(size)), views::toView, i -> PageCursor.after(pageCursor.getOrder(), i.getPriority(), i.getId())));
     }
 }
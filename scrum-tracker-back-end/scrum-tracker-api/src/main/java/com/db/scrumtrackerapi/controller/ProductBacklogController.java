@@ -1,5 +1,7 @@
 package com.db.scrumtrackerapi.controller;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -8,10 +10,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.db.scrumtrackerapi.model.dto.ProductBacklogDTO;
 import com.db.scrumtrackerapi.model.view.ProductBacklogView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
 import com.db.scrumtrackerapi.services.impl.ProductBacklogService;
+import com.db.scrumtrackerapi.util.FieldSelection;
 
 /**
  * Controller class handling HTTP requests related to product backlogs.
@@ -20,30 +26,58 @@ import com.db.scrumtrackerapi.services.impl.ProductBacklogService;
 @RequestMapping(value="/product-backlog")
 @CrossOrigin("http://localhost:5173/")
 public class ProductBacklogController {
+
+    /**
+     * Nesting depth below which the views of this controller are replaced by references.
+     */
+    private static final int VIEW_DEPTH = 4;
     
     @Autowired
     ProductBacklogService productBacklogService;
 
+    @Autowired
+    AggregateVersionService aggregateVersionService;
+
     /**
-     * Retrieves a product backlog by its unique identifier.
+     * Retrieves a product backlog by its unique identifier, tagged with the versions of the backlog and of its
+     * product. A request whose If-None-Match holds the current tag is answered with 304 Not Modified, without loading
+     * the backlog.
      *
      * @param id The unique identifier of the product backlog.
+     * @param request The request, holding its conditional headers.
+     * @param selection The fields and associations requested by the client.
      * @return The ResponseEntity containing the product backlog if found, or an empty response if not.
      */
     @RequestMapping(value="/{id}", method=RequestMethod.GET)
-    ResponseEntity<ProductBacklogView> getById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(productBacklogService.findById(id).toView());
+    ResponseEntity<ProductBacklogView> getById(@PathVariable Long id, WebRequest request, FieldSelection selection) {
+        Optional<String> eTag = aggregateVersionService.findProductBacklogETag(id);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(new ViewAssembler(VIEW_DEPTH, selection).toView(productBacklogService.findById(id)));
     }
 
     /**
-     * Retrieves a product backlog by the unique identifier of the associated product.
+     * Retrieves a product backlog by the unique identifier of the associated product, tagged with the version of the
+     * product. A request whose If-None-Match holds the current tag is answered with 304 Not Modified, without loading
+     * the backlog.
      *
      * @param id The unique identifier of the associated product.
+     * @param request The request, holding its conditional headers.
+     * @param selection The fields and associations requested by the client.
      * @return The ResponseEntity containing the product backlog if found, or an empty response if not.
      */
     @RequestMapping(value="/product/{id}", method=RequestMethod.GET)
-    ResponseEntity<ProductBacklogView> getByProductId(@PathVariable Long id) {
-        return ResponseEntity.ok().body(productBacklogService.findByProductId(id).toView());
+    ResponseEntity<ProductBacklogView> getByProductId(@PathVariable Long id, WebRequest request, FieldSelection selection) {
+        Optional<String> eTag = aggregateVersionService.findProductETag(id);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(new ViewAssembler(VIEW_DEPTH, selection).toView(productBacklogService.findByProductId(id)));
     }
 
     /**
@@ -54,7 +88,7 @@ public class ProductBacklogController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.DELETE)
     ResponseEntity<ProductBacklogView> deactivateById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(productBacklogService.desactivateById(id).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(productBacklogService.desactivateById(id)));
     }
 
     /**
@@ -65,7 +99,7 @@ public class ProductBacklogController {
      */
     @RequestMapping(value="/", method=RequestMethod.POST)
     ResponseEntity<ProductBacklogView> save(@RequestBody ProductBacklogDTO productBacklogDTO) {
-        return ResponseEntity.ok().body(productBacklogService.save(productBacklogDTO.toProductBacklog()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(productBacklogService.save(productBacklogDTO.toProductBacklog())));
     }
 
     /**
@@ -77,6 +111,6 @@ public class ProductBacklogController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.PUT)
     ResponseEntity<ProductBacklogView> update(@PathVariable Long id, @RequestBody ProductBacklogDTO productBacklogDTO) {
-        return ResponseEntity.ok().body(productBacklogService.update(id, productBacklogDTO.toProductBacklog()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(productBacklogService.update(id, productBacklogDTO.toProductBacklog())));
     }
 }
@@ -1,5 +1,7 @@
 package com.db.scrumtrackerapi.controller;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -7,11 +9,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.db.scrumtrackerapi.model.Product;
 import com.db.scrumtrackerapi.model.dto.ProductDTO;
+import com.db.scrumtrackerapi.model.view.ChangesView;
 import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.VelocityView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
+import com.db.scrumtrackerapi.services.impl.ChangeService;
 import com.db.scrumtrackerapi.services.impl.ProductService;
+import com.db.scrumtrackerapi.services.impl.SprintBurndownService;
+import com.db.scrumtrackerapi.util.ChangeCursor;
+import com.db.scrumtrackerapi.util.FieldSelection;
 
 
 /**
@@ -22,6 +35,11 @@ import com.db.scrumtrackerapi.services.impl.ProductService;
 @CrossOrigin("http://localhost:5173/")
 public class ProductController {
 
+    /**
+     * Nesting depth below which the views of this controller are replaced by references.
+     */
+    private static final int VIEW_DEPTH = 5;
+
     /**
      * Autowired ProductService for handling product-related business logic.
      */
@@ -29,14 +47,69 @@ public class ProductController {
     ProductService productService;
 
     /**
-     * Retrieves a product by its unique identifier.
+     * Autowired SprintBurndownService for reading the effort counters of the sprints of a product.
+     */
+    @Autowired
+    SprintBurndownService sprintBurndownService;
+
+    /**
+     * Autowired AggregateVersionService for deriving the ETags of the views of a product.
+     */
+    @Autowired
+    AggregateVersionService aggregateVersionService;
+
+    /**
+     * Autowired ChangeService for reading the changes of a product since a cursor.
+     */
+    @Autowired
+    ChangeService changeService;
+
+    /**
+     * Retrieves a product by its unique identifier, tagged with the version of the product. A request whose
+     * If-None-Match holds the current tag is answered with 304 Not Modified, without loading the product.
      *
      * @param id The unique identifier of the product.
+     * @param request The request, holding its conditional headers.
+     * @param selection The fields and associations requested by the client.
      * @return A ResponseEntity containing the view representation of the product and an HTTP status code.
      */
     @RequestMapping(value = "/{id}", method = RequestMethod.GET)
-    ResponseEntity<ProductView> getById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(productService.findById(id).toView());
+    ResponseEntity<ProductView> getById(@PathVariable Long id, WebRequest request, FieldSelection selection) {
+        Optional<String> eTag = aggregateVersionService.findProductETag(id);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(new ViewAssembler(VIEW_DEPTH, selection).toView(productService.findById(id)));
+    }
+
+    /**
+     * Retrieves the velocity of a product: the effort committed to and done in each of its sprints.
+     *
+     * @param id The unique identifier of the product.
+     * @return A ResponseEntity containing the velocity of the product and an HTTP status code.
+     */
+    @RequestMapping(value = "/{id}/velocity", method = RequestMethod.GET)
+    ResponseEntity<VelocityView> getVelocityById(@PathVariable Long id) {
+        return ResponseEntity.ok().body(sprintBurndownService.findVelocityByProductId(id));
+    }
+
+    /**
+     * Retrieves the sprints, item backlogs and tasks of a product created, updated or deactivated since a cursor,
+     * in compact form, along with the cursor of the next synchronization.
+     *
+     * <p> Rows written within {@code scrum-tracker.changes.overlap} before the read are returned again by the next
+     * synchronization. A write whose transaction commits later than that after it was flushed, clock skew between
+     * nodes and the database included, is not returned.
+     *
+     * @param id The unique identifier of the product.
+     * @param since The cursor returned by the last synchronization, absent for the first one.
+     * @return A ResponseEntity containing the changes of the product and an HTTP status code.
+     */
+    @RequestMapping(value = "/{id}/changes", method = RequestMethod.GET)
+    ResponseEntity<ChangesView> getChangesById(@PathVariable Long id, @RequestParam(required = false) String since) {
+        return ResponseEntity.ok().body(changeService.findByProductId(id, ChangeCursor.resolve(since)));
     }
 
     /**
@@ -47,17 +120,27 @@ public class ProductController {
      */
     @RequestMapping(value = "/{id}", method = RequestMethod.DELETE)
     ResponseEntity<ProductView> deactivateById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(productService.findById(id).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(productService.findById(id)));
     }
 
     /**
-     * Retrieves the last product.
+     * Retrieves the last product, tagged with the version of the product. A request whose If-None-Match holds the
+     * current tag is answered with 304 Not Modified once the last product is found, without assembling its view.
      *
+     * @param request The request, holding its conditional headers.
+     * @param selection The fields and associations requested by the client.
      * @return A ResponseEntity containing the view representation of the last product and an HTTP status code.
      */
     @RequestMapping(value = "/", method = RequestMethod.GET)
-    ResponseEntity<ProductView> getLast() {
-        return ResponseEntity.ok().body(productService.getLast().toView());
+    ResponseEntity<ProductView> getLast(WebRequest request, FieldSelection selection) {
+        Product product = productService.getLast();
+        Optional<String> eTag = aggregateVersionService.findProductETag(product.getId());
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(new ViewAssembler(VIEW_DEPTH, selection).toView(product));
     }
 
     /**
@@ -68,7 +151,7 @@ public class ProductController {
      */
     @RequestMapping(value = "/", method = RequestMethod.POST)
     ResponseEntity<ProductView> save(@RequestBody ProductDTO productDTO) {
-        return ResponseEntity.ok().body(productService.save(productDTO.toProduct()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(productService.save(productDTO.toProduct())));
     }
 
     /**
@@ -80,6 +163,6 @@ public class ProductController {
      */
     @RequestMapping(value = "/{id}", method = RequestMethod.PUT)
     ResponseEntity<ProductView> update(@PathVariable Long id, @RequestBody ProductDTO productDTO) {
-        return ResponseEntity.ok().body(productService.update(id, productDTO.toProduct()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(productService.update(id, productDTO.toProduct())));
     }
 }
@@ -0,0 +1,44 @@
+package com.db.scrumtrackerapi.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.db.scrumtrackerapi.model.view.SearchResultView;
+import com.db.scrumtrackerapi.services.impl.SearchService;
+
+/**
+ * Controller for searching backlog items and tasks by their texts.
+ */
+@RestController
+@RequestMapping(value = "/search")
+@CrossOrigin("http://localhost:5173/")
+public class SearchController {
+
+    /**
+     * Autowired SearchService for answering searches from the in-memory index.
+     */
+    @Autowired
+    SearchService searchService;
+
+    /**
+     * Searches the active backlog items and tasks. Every word of the query must be found in the name, user history
+     * or criteria for acceptance of an item, or in the name, description or comments of a task. A word ending with
+     * {@code *} matches the words starting with it, and words between double quotes must follow each other.
+     * Accents and case are ignored.
+     *
+     * @param q The query.
+     * @param limit The maximum number of results; absent for the default.
+     * @return ResponseEntity containing the list of SearchResultViews, the best first.
+     */
+    @RequestMapping(method=RequestMethod.GET)
+    ResponseEntity<List<SearchResultView>> search(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok().body(searchService.search(q, limit));
+    }
+}
@@ -1,19 +1,42 @@
 package com.db.scrumtrackerapi.controller;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.db.scrumtrackerapi.config.FieldSelectionConfig;
+import com.db.scrumtrackerapi.config.PaginationConfig;
+import com.db.scrumtrackerapi.model.view.BurndownView;
 import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.PageView;
+import com.db.scrumtrackerapi.model.view.SprintBoardView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
 import com.db.scrumtrackerapi.model.dto.SprintDTO;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.enums.PageOrder;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
+import com.db.scrumtrackerapi.services.impl.SprintBurndownService;
+import com.db.scrumtrackerapi.services.impl.SprintEventService;
 import com.db.scrumtrackerapi.services.impl.SprintService;
+import com.db.scrumtrackerapi.services.impl.SprintViewService;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.db.scrumtrackerapi.util.JsonArrayStream;
+import com.db.scrumtrackerapi.util.PageCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Controller for handling Sprint-related operations.
@@ -22,29 +45,127 @@ import com.db.scrumtrackerapi.services.impl.SprintService;
 @RequestMapping(value = "/sprint")
 @CrossOrigin("http://localhost:5173/")
 public class SprintController {
+
+    /**
+     * Nesting depth below which the views of this controller are replaced by references.
+     */
+    private static final int VIEW_DEPTH = 4;
     
     @Autowired
     SprintService sprintService;
 
+    @Autowired
+    SprintViewService sprintViewService;
+
+    @Autowired
+    SprintBurndownService sprintBurndownService;
+
+    @Autowired
+    SprintEventService sprintEventService;
+
+    @Autowired
+    AggregateVersionService aggregateVersionService;
+
+    @Autowired
+    PaginationConfig paginationConfig;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     /**
-     * Retrieves a detailed view of a alls Sprints
+     * Retrieves a detailed view of a alls Sprints, assembled concurrently.
+     * The list is streamed as the Sprints are assembled, in ID order.
      *
-     * @return List of ResponseEntity containing the DetailedSprintView of all Sprints with.
+     * @param id The ID of the Product.
+     * @param selection The fields and associations requested by the client.
+     * @return ResponseEntity streaming the DetailedSprintView of all Sprints of the Product.
      */
     @RequestMapping(value="/product/{id}", method=RequestMethod.GET)
-    ResponseEntity<List<DetailedSprintView>> getAll(@PathVariable Long id) {
-        return ResponseEntity.ok().body(sprintService.findByProductId(id).stream().map(i -> i.toDetailedView()).toList());
+    ResponseEntity<StreamingResponseBody> getAll(@PathVariable Long id, FieldSelection selection) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStream.<DetailedSprintView>of(objectMapper, FieldSelectionConfig.filters(selection),
+            views -> sprintViewService.streamDetailedByProductId(id, VIEW_DEPTH, selection, views)));
+    }
+
+    /**
+     * Retrieves a page of detailed views of the Sprints of a Product, in ID order.
+     *
+     * @param id The ID of the Product.
+     * @param cursor The continuation token returned by the previous page, absent for the first page.
+     * @param size The maximum number of Sprints in the page.
+     * @param selection The fields and associations requested by the client.
+     * @return ResponseEntity containing the page of DetailedSprintViews.
+     */
+    @RequestMapping(value="/product/{id}/page", method=RequestMethod.GET)
+    ResponseEntity<PageView<DetailedSprintView>> getPageByProductId(@PathVariable Long id, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, FieldSelection selection) {
+        PageCursor pageCursor = PageCursor.resolve(cursor, PageOrder.ID.name());
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(PageView.of(sprintService.findByProductId(id, pageCursor, paginationConfig.pageOf(size)), views::toDetailedView, i -> PageCursor.after(PageOrder.ID, null, i.getId())));
     }
 
     /**
-     * Retrieves a detailed view of a Sprint by its ID.
+     * Retrieves a detailed view of a Sprint by its ID, assembled concurrently and tagged with the versions of the
+     * Sprint and its Product. A request whose If-None-Match holds the current tag is answered with 304 Not Modified,
+     * without assembling the view.
      *
      * @param id The ID of the Sprint to retrieve.
+     * @param request The request, holding its conditional headers.
+     * @param selection The fields and associations requested by the client.
      * @return ResponseEntity containing the DetailedSprintView of the specified Sprint.
      */
     @RequestMapping(value="/{id}", method=RequestMethod.GET)
-    ResponseEntity<DetailedSprintView> getById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(sprintService.findById(id).toDetailedView());
+    ResponseEntity<DetailedSprintView> getById(@PathVariable Long id, WebRequest request, FieldSelection selection) {
+        Optional<String> eTag = aggregateVersionService.findSprintETag(id);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(sprintViewService.findDetailedById(id, VIEW_DEPTH, selection));
+    }
+
+    /**
+     * Retrieves the board of a Sprint: its tasks grouped by status, sorted by priority and counted per column.
+     *
+     * Tagged like the detailed view of the Sprint.
+     *
+     * @param id The ID of the Sprint.
+     * @param request The request, holding its conditional headers.
+     * @return ResponseEntity containing the SprintBoardView of the specified Sprint.
+     */
+    @RequestMapping(value="/{id}/board", method=RequestMethod.GET)
+    ResponseEntity<SprintBoardView> getBoardById(@PathVariable Long id, WebRequest request) {
+        Optional<String> eTag = aggregateVersionService.findSprintETag(id);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(sprintService.findBoardById(id));
+    }
+
+    /**
+     * Opens a Server-Sent Events stream of the changes of the tasks and backlog items of a Sprint, replacing the
+     * polling of its board. A client reconnecting with the ID of the last event it received is sent the events it
+     * missed, or a RESET event when it must reload the board.
+     *
+     * @param id The ID of the Sprint.
+     * @param lastEventId The ID of the last event received on a previous stream, absent for a new stream.
+     * @return The stream of SprintEventViews of the specified Sprint.
+     */
+    @RequestMapping(value="/{id}/events", method=RequestMethod.GET, produces=MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter getEventsById(@PathVariable Long id, @RequestHeader(value="Last-Event-ID", required=false) Long lastEventId) {
+        return sprintEventService.subscribe(id, lastEventId);
+    }
+
+    /**
+     * Retrieves the burndown of a Sprint: its total and remaining effort on each day.
+     *
+     * @param id The ID of the Sprint.
+     * @return ResponseEntity containing the BurndownView of the specified Sprint.
+     */
+    @RequestMapping(value="/{id}/burndown", method=RequestMethod.GET)
+    ResponseEntity<BurndownView> getBurndownById(@PathVariable Long id) {
+        return ResponseEntity.ok().body(sprintBurndownService.findBurndownBySprintId(id));
     }
 
     /**
@@ -55,7 +176,7 @@ public class SprintController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.DELETE)
     ResponseEntity<DetailedSprintView> deactivateById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(sprintService.deactivateById(id).toDetailedView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toDetailedView(sprintService.deactivateById(id)));
     }
 
     /**
@@ -66,7 +187,7 @@ public class SprintController {
      */
     @RequestMapping(value="/", method=RequestMethod.POST)
     ResponseEntity<DetailedSprintView> save(@RequestBody SprintDTO sprintDTO) {
-        return ResponseEntity.ok().body(sprintService.save(sprintDTO.toSprint()).toDetailedView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toDetailedView(sprintService.save(sprintDTO.toSprint())));
     }
 
     /**
@@ -78,18 +199,35 @@ public class SprintController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.PUT)
     ResponseEntity<DetailedSprintView> update(@PathVariable Long id, @RequestBody SprintDTO sprintDTO) {
-        return ResponseEntity.ok().body(sprintService.update(id, sprintDTO.toSprint()).toDetailedView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toDetailedView(sprintService.update(id, sprintDTO.toSprint())));
     }
 
     /**
      * Retrieves a list of detailed views of Sprints associated with a specific Item Backlog ID.
      *
      * @param id The ID of the Item Backlog to retrieve associated Sprints.
+     * @param selection The fields and associations requested by the client.
      * @return ResponseEntity containing a list of DetailedSprintViews.
      */
     @RequestMapping(value="/item-backlog/{id}", method=RequestMethod.GET)
-    ResponseEntity<List<DetailedSprintView>> getByItemBacklogId(@PathVariable Long id) {
-        return ResponseEntity.ok().body(sprintService.findByItemBacklogId(id).stream().map(i -> i.toDetailedView()).toList());
+    ResponseEntity<List<DetailedSprintView>> getByItemBacklogId(@PathVariable Long id, FieldSelection selection) {
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(sprintService.findByItemBacklogId(id).stream().map(views::toDetailedView).toList());
     }
-}
 
+    /**
+     * Retrieves a page of detailed views of the Sprints associated with a specific Item Backlog ID, in ID order.
+     *
+     * @param id The ID of the Item Backlog.
+     * @param cursor The continuation token returned by the previous page, absent for the first page.
+     * @param size The maximum number of Sprints in the page.
+     * @param selection The fields and associations requested by the client.
+     * @return ResponseEntity containing the page of DetailedSprintViews.
+     */
+    @RequestMapping(value="/item-backlog/{id}/page", method=RequestMethod.GET)
+    ResponseEntity<PageView<DetailedSprintView>> getPageByItemBacklogId(@PathVariable Long id, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, FieldSelection selection) {
+        PageCursor pageCursor = PageCursor.resolve(cursor, PageOrder.ID.name());
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(PageView.of(sprintService.findByItemBacklogId(id, pageCursor, paginationConfig.pageOf(size)), views::toDetailedView, i -> PageCursor.after(PageOrder.ID, null, i.getId())));
+    }
+}
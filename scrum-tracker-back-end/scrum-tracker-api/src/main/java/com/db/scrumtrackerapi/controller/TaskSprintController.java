@@ -1,6 +1,7 @@
 package com.db.scrumtrackerapi.controller;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -9,10 +10,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import com.db.scrumtrackerapi.config.PaginationConfig;
+import com.db.scrumtrackerapi.model.TaskSprint;
 import com.db.scrumtrackerapi.model.dto.TaskSprintDTO;
+import com.db.scrumtrackerapi.model.view.PageView;
 import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
 import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.db.scrumtrackerapi.util.PageCursor;
 
 /**
  * Controller class that handles HTTP requests related to tasks within a sprint.
@@ -21,19 +31,40 @@ import com.db.scrumtrackerapi.services.impl.TaskSprintService;
 @RequestMapping(value = "/task-sprint")
 @CrossOrigin("http://localhost:5173/")
 public class TaskSprintController {
+
+    /**
+     * Nesting depth below which the views of this controller are replaced by references.
+     */
+    private static final int VIEW_DEPTH = 1;
     
     @Autowired
     TaskSprintService taskSprintService;
 
+    @Autowired
+    PaginationConfig paginationConfig;
+
+    @Autowired
+    AggregateVersionService aggregateVersionService;
+
     /**
-     * Retrieves a task within a sprint by its unique identifier.
+     * Retrieves a task within a sprint by its unique identifier, tagged with the versions of the task and of its
+     * responsible. A request whose If-None-Match holds the current tag is answered with 304 Not Modified, without
+     * loading the task.
      *
      * @param id The unique identifier of the task.
+     * @param request The request, holding its conditional headers.
+     * @param selection The fields and associations requested by the client.
      * @return A ResponseEntity containing the TaskSprintView if found, or an empty body with a status code.
      */
     @RequestMapping(value="/{id}", method=RequestMethod.GET)
-    ResponseEntity<TaskSprintView> getById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(taskSprintService.findById(id).toView());
+    ResponseEntity<TaskSprintView> getById(@PathVariable Long id, WebRequest request, FieldSelection selection) {
+        Optional<String> eTag = aggregateVersionService.findTaskSprintETag(id);
+        if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        eTag.ifPresent(response::eTag);
+        return response.body(new ViewAssembler(VIEW_DEPTH, selection).toView(taskSprintService.findById(id, selection)));
     }
 
     /**
@@ -44,7 +75,7 @@ public class TaskSprintController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.DELETE)
     ResponseEntity<TaskSprintView> deactivateById(@PathVariable Long id) {
-        return ResponseEntity.ok().body(taskSprintService.deactivateById(id).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(taskSprintService.deactivateById(id)));
     }
 
     /**
@@ -55,7 +86,19 @@ public class TaskSprintController {
      */
     @RequestMapping(value="/", method=RequestMethod.POST)
     ResponseEntity<TaskSprintView> save(@RequestBody TaskSprintDTO taskSprintDTO) {
-        return ResponseEntity.ok().body(taskSprintService.save(taskSprintDTO.toTaskSprint()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(taskSprintService.save(taskSprintDTO.toTaskSprint())));
+    }
+
+    /**
+     * Saves a list of new tasks within a sprint in a single transaction.
+     *
+     * @param taskSprintDTOs The data necessary to create the new tasks.
+     * @return A ResponseEntity containing the created TaskSprintViews, in request order.
+     */
+    @RequestMapping(value="/batch", method=RequestMethod.POST)
+    ResponseEntity<List<TaskSprintView>> saveAll(@RequestBody List<TaskSprintDTO> taskSprintDTOs) {
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH);
+        return ResponseEntity.ok().body(taskSprintService.saveAll(taskSprintDTOs.stream().map(i -> i.toTaskSprint()).toList()).stream().map(views::toView).toList());
     }
 
     /**
@@ -67,17 +110,36 @@ public class TaskSprintController {
      */
     @RequestMapping(value="/{id}", method=RequestMethod.PUT)
     ResponseEntity<TaskSprintView> update(@PathVariable Long id, @RequestBody TaskSprintDTO taskSprintDTO) {
-        return ResponseEntity.ok().body(taskSprintService.update(id, taskSprintDTO.toTaskSprint()).toView());
+        return ResponseEntity.ok().body(new ViewAssembler(VIEW_DEPTH).toView(taskSprintService.update(id, taskSprintDTO.toTaskSprint())));
     }
 
     /**
      * Retrieves a list of tasks within a sprint by the unique identifier of the sprint.
      *
      * @param id The unique identifier of the sprint.
+     * @param selection The fields and associations requested by the client.
      * @return A ResponseEntity containing a list of TaskSprintView if found, or an empty body with a status code.
      */
     @RequestMapping(value="/sprint/{id}", method=RequestMethod.GET)
-    ResponseEntity<List<TaskSprintView>> getBySprintId(@PathVariable Long id) {
-        return ResponseEntity.ok().body(taskSprintService.findBySprintId(id).stream().map(i -> i.toView()).toList());
+    ResponseEntity<List<TaskSprintView>> getBySprintId(@PathVariable Long id, FieldSelection selection) {
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(taskSprintService.findBySprintId(id, selection).stream().map(views::toView).toList());
+    }
+
+    /**
+     * Retrieves a page of tasks within a sprint by the unique identifier of the sprint.
+     *
+     * @param id     The unique identifier of the sprint.
+     * @param cursor The continuation token returned by the previous page, absent for the first page.
+     * @param size   The maximum number of tasks in the page.
+     * @param order  The ordering of the listing, {@code id} or {@code priority}; only needed on the first page.
+     * @param selection The fields and associations requested by the client.
+     * @return A ResponseEntity containing the page of TaskSprintView.
+     */
+    @RequestMapping(value="/sprint/{id}/page", method=RequestMethod.GET)
+    ResponseEntity<PageView<TaskSprintView>> getPageBySprintId(@PathVariable Long id, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @RequestParam(required = false) String order, FieldSelection selection) {
+        PageCursor pageCursor = PageCursor.resolve(cursor, order);
+        ViewAssembler views = new ViewAssembler(VIEW_DEPTH, selection);
+        return ResponseEntity.ok().body(PageView.of(taskSprintService.findBySprintId(id, pageCursor, paginationConfig.pageOf(size)), views::toView, i -> PageCursor.after(pageCursor.getOrder(), i.getPriority(), i.getId())));
     }
 }
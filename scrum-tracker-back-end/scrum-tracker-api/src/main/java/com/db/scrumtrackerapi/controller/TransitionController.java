@@ -0,0 +1,60 @@
+package com.db.scrumtrackerapi.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.db.scrumtrackerapi.model.Transition;
+import com.db.scrumtrackerapi.model.view.TransitionView;
+import com.db.scrumtrackerapi.services.impl.TransitionService;
+
+/**
+ * Controller for reading the transitions of tasks and backlog items.
+ */
+@RestController
+@RequestMapping(value = "/transition")
+@CrossOrigin("http://localhost:5173/")
+public class TransitionController {
+
+    @Autowired
+    TransitionService transitionService;
+
+    /**
+     * Retrieves the transitions of the tasks of a Sprint in a time range, in time order.
+     *
+     * @param id The ID of the Sprint.
+     * @param from The start of the range, inclusive, as an ISO date-time; absent for no start.
+     * @param to The end of the range, exclusive, as an ISO date-time; absent for no end.
+     * @return ResponseEntity containing the list of TransitionViews.
+     */
+    @RequestMapping(value="/sprint/{id}", method=RequestMethod.GET)
+    ResponseEntity<List<TransitionView>> getBySprintId(@PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok().body(transitionService.findBySprintId(id, from, to).stream().map(Transition::toView).toList());
+    }
+
+    /**
+     * Retrieves the transitions of the tasks and backlog items of a Product in a time range, in time order.
+     *
+     * @param id The ID of the Product.
+     * @param from The start of the range, inclusive, as an ISO date-time; absent for no start.
+     * @param to The end of the range, exclusive, as an ISO date-time; absent for no end.
+     * @return ResponseEntity containing the list of TransitionViews.
+     */
+    @RequestMapping(value="/product/{id}", method=RequestMethod.GET)
+    ResponseEntity<List<TransitionView>> getByProductId(@PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok().body(transitionService.findByProductId(id, from, to).stream().map(Transition::toView).toList());
+    }
+}
@@ -14,6 +14,7 @@ import com.db.scrumtrackerapi.exceptions.BadEmailException;
 import com.db.scrumtrackerapi.model.Customer;
 import com.db.scrumtrackerapi.model.dto.CustomerDTO;
 import com.db.scrumtrackerapi.model.view.CustomerView;
+import com.db.scrumtrackerapi.security.service.PrincipalCache;
 import com.db.scrumtrackerapi.security.service.TokenService;
 import com.db.scrumtrackerapi.services.impl.CustomerService;
 
@@ -40,6 +41,9 @@ public class UpdateCustomerController {
     @Autowired
     TokenService tokenService;
 
+    @Autowired
+    PrincipalCache principalCache;
+
     /**
      * Handles HTTP POST requests for customer registration.
      *
@@ -56,6 +60,7 @@ public class UpdateCustomerController {
         if (subject.equals(customerDTO.getEmail())) {
             Customer customer = customerDTO.toCustomer(passwordEncoder);
             Customer savedCustomer = customerService.save(customer);
+            principalCache.invalidate(subject);
             return ResponseEntity
                     .status(HttpStatus.CREATED)
                     .body(savedCustomer.toView());
@@ -1,8 +1,12 @@
 package com.db.scrumtrackerapi.controller.advice;
 
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +17,8 @@ import com.db.scrumtrackerapi.exceptions.BadEmailException;
 import com.db.scrumtrackerapi.exceptions.BadPasswordException;
 import com.db.scrumtrackerapi.exceptions.EntityAlreadyExistsException;
 import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.exceptions.InvalidCursorException;
+import com.db.scrumtrackerapi.exceptions.ViewAssemblyTimeoutException;
 import com.db.scrumtrackerapi.model.view.ErrorMessageView;
 
 import jakarta.validation.ValidationException;
@@ -48,6 +54,19 @@ public class ExceptionControllerAdvice {
         ErrorMessageView response = new ErrorMessageView("Falha na validação da requisição.", HttpStatus.BAD_REQUEST.value(), ex.getMessage());
         return ResponseEntity.badRequest().body(response);
     }
+    /**
+     * Handles invalid pagination cursor exceptions.
+     *
+     * @param ex The exception to handle.
+     * @return ResponseEntity containing an error message and HTTP status code.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorMessageView> handleInvalidCursorException(InvalidCursorException ex) {
+        ErrorMessageView response = new ErrorMessageView("Cursor de paginação inválido.", HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
     /**
      * Handles token expiration exceptions.
      *
@@ -100,6 +119,19 @@ public class ExceptionControllerAdvice {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * Handles exceptions raised when an entity was changed by another request since it was read.
+     *
+     * @param ex The exception to handle.
+     * @return ResponseEntity containing an error message and HTTP status code.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorMessageView> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        ErrorMessageView response = new ErrorMessageView("A entidade foi alterada por outra requisição, tente novamente.", HttpStatus.CONFLICT.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * Handles bad password exceptions.
      *
@@ -126,6 +158,32 @@ public class ExceptionControllerAdvice {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * Handles exceptions raised when no database connection is available in time.
+     *
+     * @param ex The exception to handle.
+     * @return ResponseEntity containing an error message and HTTP status code.
+     */
+    @ExceptionHandler({ DataAccessResourceFailureException.class, CannotCreateTransactionException.class })
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorMessageView> handleUnavailableDatabase(Exception ex) {
+        ErrorMessageView response = new ErrorMessageView("O banco de dados está sobrecarregado, tente novamente.", HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    /**
+     * Handles exceptions raised when a view cannot be assembled in time.
+     *
+     * @param ex The exception to handle.
+     * @return ResponseEntity containing an error message and HTTP status code.
+     */
+    @ExceptionHandler({ ViewAssemblyTimeoutException.class, TaskRejectedException.class })
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorMessageView> handleOverloadedServer(Exception ex) {
+        ErrorMessageView response = new ErrorMessageView("O servidor está sobrecarregado, tente novamente.", HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     /**
      * Handles generic exceptions.
      *
@@ -0,0 +1,46 @@
+package com.db.scrumtrackerapi.controller.advice;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.db.scrumtrackerapi.config.FieldSelectionConfig;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+
+/**
+ * Serializes the views answering a GET request with the {@code fields} and {@code expand} query parameters as
+ * selected by them. Only the responses of the controller methods taking the {@link FieldSelection} of their request
+ * are filtered, so error responses, including the one rejecting a malformed selection, are written whole.
+ */
+@ControllerAdvice
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    /**
+     * Gives the body the filters of the selection of the request, if it has one.
+     *
+     * @param bodyContainer The body to serialize.
+     * @param contentType   The content type of the response.
+     * @param returnType    The return type of the controller method.
+     * @param request       The request.
+     * @param response      The response.
+     */
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType, MethodParameter returnType,
+                                           ServerHttpRequest request, ServerHttpResponse response) {
+        if (!HttpMethod.GET.equals(request.getMethod()) || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection selection = FieldSelection.resolved(servletRequest.getServletRequest());
+        FilterProvider filters = selection == null ? null : FieldSelectionConfig.filters(selection);
+        if (filters != null) {
+            bodyContainer.setFilters(filters);
+        }
+    }
+}
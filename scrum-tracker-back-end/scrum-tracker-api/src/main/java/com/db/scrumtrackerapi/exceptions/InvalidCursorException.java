@@ -0,0 +1,7 @@
+package com.db.scrumtrackerapi.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.db.scrumtrackerapi.exceptions;
+
+public class ViewAssemblyTimeoutException extends RuntimeException {
+    public ViewAssemblyTimeoutException(String message) {
+        super(message);
+    }
+}
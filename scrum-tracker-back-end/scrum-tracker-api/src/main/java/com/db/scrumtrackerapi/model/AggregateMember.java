@@ -0,0 +1,17 @@
+package com.db.scrumtrackerapi.model;
+
+import java.util.List;
+
+/**
+ * An entity shown in the views of other entities, the roots of its aggregates. Writing the entity increments the
+ * versions of its roots, which the ETags of their views are derived from.
+ */
+public interface AggregateMember {
+
+    /**
+     * Lists the roots whose views show this entity.
+     *
+     * @return The roots of the entity, nearest first, without the ones it is not attached to.
+     */
+    List<BaseEntity> aggregateRoots();
+}
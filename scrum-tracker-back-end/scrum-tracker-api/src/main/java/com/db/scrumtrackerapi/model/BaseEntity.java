@@ -2,25 +2,47 @@ package com.db.scrumtrackerapi.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.UpdateTimestamp;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 
 /**
  * A base class for entities providing a common field for unique identification (ID).
  * 
  * This is not an entity on its own but will be mapped to the entities that inherit from it.
+ *
+ * <p> Inactive rows are hidden by the {@value #ACTIVE_FILTER} filter, which is enabled on every session
+ * and must be applied to each subclass and to each collection of a subclass.
+ *
+ * <p> Each row carries a version, incremented by every update of the row. The writes of an {@link AggregateMember}
+ * also increment the versions of its aggregate roots, so the version of a root changes whenever its view does.
+ * Collections mapped by the other side are excluded from optimistic locking, since their owners already do that.
+ *
+ * <p> Each row also carries the time of its last write, set by every insert and update, from which clients
+ * synchronize the changes made since their last read.
  */
 @MappedSuperclass
+@FilterDef(name = BaseEntity.ACTIVE_FILTER, defaultCondition = "active = true")
 public class BaseEntity {
+
+    /**
+     * Name of the Hibernate filter restricting queries and collections to active rows.
+     */
+    public static final String ACTIVE_FILTER = "activeFilter";
     
     /**
-     * The unique identifier for the entity.
+     * The unique identifier for the entity. Each entity draws from its own pooled sequence, so IDs are assigned
+     * without a round-trip per insert and inserts can be sent to the database in JDBC batches.
      */
     @Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     /**
@@ -36,6 +58,21 @@ public class BaseEntity {
     @Column(name = "timestamp")
     private LocalDateTime timestamp;
 
+    /**
+     * The version of the row, checked and incremented by each update. Existing rows start from {@code 0}.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * The time of the last insert or update of the row, including deactivation.
+     */
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    private LocalDateTime lastModified;
+
     /**
      * Gets the unique identifier of the entity.
      *
@@ -99,5 +136,23 @@ public class BaseEntity {
         this.timestamp = LocalDateTime.now();
     }
 
+    /**
+     * Retrieves the version of the entity.
+     *
+     * @return the version of the entity.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Retrieves the time of the last insert or update of the entity.
+     *
+     * @return the time of the last write.
+     */
+    public LocalDateTime getLastModified() {
+        return this.lastModified;
+    }
+
     
 }
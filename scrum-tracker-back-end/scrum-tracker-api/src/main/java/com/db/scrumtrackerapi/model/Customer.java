@@ -11,6 +11,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import com.db.scrumtrackerapi.model.enums.Role;
 import com.db.scrumtrackerapi.model.view.CustomerView;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -22,6 +27,9 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "customers")
+@Filter(name = BaseEntity.ACTIVE_FILTER)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
 public class Customer extends BaseEntity {
     /**
      * The name of the customer.
@@ -109,7 +117,12 @@ public class Customer extends BaseEntity {
      * @return The updated customer backlog.
      */
     public Customer update(Customer customer) {
-        return new Customer(customer.getName(), customer.getLastName(), customer.getEmail(), customer.getPassword(), customer.getRole());
+        this.name = customer.getName();
+        this.lastName = customer.getLastName();
+        this.email = customer.getEmail();
+        this.password = customer.getPassword();
+        this.role = customer.getRole();
+        return this;
     }
 
     /**
@@ -1,19 +1,36 @@
 package com.db.scrumtrackerapi.model;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.SprintEventType;
 import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.enums.TransitionSubject;
 import com.db.scrumtrackerapi.model.view.ItemBacklogView;
-import com.db.scrumtrackerapi.model.view.SprintView;
+import com.db.scrumtrackerapi.model.view.SprintEventView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.config.SearchIndexListener;
+import com.db.scrumtrackerapi.util.EffortParser;
+import com.db.scrumtrackerapi.util.SearchDocument;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.OptimisticLock;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 
 /**
@@ -22,8 +39,16 @@ import jakarta.persistence.Table;
  * effort estimation, associated sprint, and a description.
  */
 @Entity
-@Table(name = "itens_backlog")
-public class ItemBacklog extends BaseEntity {
+@Table(name = "itens_backlog", indexes = @Index(name = "itens_backlog_changes_idx", columnList = "product_backlog_id, last_modified"))
+@Filter(name = BaseEntity.ACTIVE_FILTER)
+@EntityListeners(SearchIndexListener.class)
+@NamedEntityGraph(name = ItemBacklog.VIEW_GRAPH, attributeNodes = @NamedAttributeNode("sprints"))
+public class ItemBacklog extends BaseEntity implements AggregateMember, Searchable {
+
+    /**
+     * Fetch plan used to render an {@link ItemBacklogView}: the sprints are joined, their tasks are loaded by subselect.
+     */
+    public static final String VIEW_GRAPH = "ItemBacklog.view";
 
     /**
      * The status of the backlog item.
@@ -55,10 +80,19 @@ public class ItemBacklog extends BaseEntity {
     @Column(name = "effort_estimation", nullable = false)
     private String effortEstimation;
 
+    /**
+     * The effort estimation for the backlog item read as a number, {@code null} when it holds none.
+     */
+    @Column(name = "effort_points")
+    private Double effortPoints;
+
     /**
      * List of sprints associated with the backlog item.
      */
     @ManyToMany(mappedBy = "itensBacklog")
+    @OptimisticLock(excluded = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @Filter(name = BaseEntity.ACTIVE_FILTER)
     private List<Sprint> sprints;
 
     /**
@@ -70,7 +104,7 @@ public class ItemBacklog extends BaseEntity {
     /**
      * The product backlog associated with the backlog item.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_backlog_id")
     ProductBacklog productBacklog;
 
@@ -86,6 +120,7 @@ public class ItemBacklog extends BaseEntity {
         this.name = itemBacklog.getName();
         this.criteriaAcceptance = itemBacklog.getCriteriaAcceptance();
         this.effortEstimation = itemBacklog.getEffortEstimation();
+        this.effortPoints = EffortParser.parse(this.effortEstimation);
         this.sprints = itemBacklog.getSprints();
         this.userHistory = itemBacklog.getUserHistory();
         return this;
@@ -97,13 +132,46 @@ public class ItemBacklog extends BaseEntity {
      * @return A product view object representing the current product.
      */
     public ItemBacklogView toView() {
-        List<SprintView> sprintViews;
+        return new ViewAssembler().toView(this);
+    }
+
+    /**
+     * Lists the roots whose views show this backlog item.
+     *
+     * @return The product backlog of the item and its roots, then the sprints of the item.
+     */
+    @Override
+    public List<BaseEntity> aggregateRoots() {
+        List<BaseEntity> roots = new ArrayList<>();
+        if (productBacklog != null) {
+            roots.add(productBacklog);
+            roots.addAll(productBacklog.aggregateRoots());
+        }
         if (sprints != null) {
-            sprintViews = sprints.stream().filter(i -> i.isActive()).map(i -> i.toView()).toList();
-        } else {
-            sprintViews = null;
+            roots.addAll(sprints);
         }
-        return new ItemBacklogView(getId(), status.toString(), priority.toString(), name, criteriaAcceptance, effortEstimation, sprintViews, userHistory);
+        return roots;
+    }
+
+    /**
+     * Converts the backlog item to the document held by the search index, its user history and criteria for acceptance indexed after its name.
+     *
+     * @return A SearchDocument of the backlog item.
+     */
+    @Override
+    public SearchDocument toSearchDocument() {
+        return new SearchDocument(TransitionSubject.ITEM_BACKLOG.name(), getId(), name, status, priority,
+            productBacklog == null ? null : productBacklog.getId(), userHistory, criteriaAcceptance);
+    }
+
+    /**
+     * Converts the item backlog to the event pushed to the subscribers of its sprints.
+     *
+     * @param type The kind of the change.
+     * @return A SprintEventView carrying the fields shown on the board.
+     */
+    public SprintEventView toEventView(SprintEventType type) {
+        return new SprintEventView(type.name(), TransitionSubject.ITEM_BACKLOG.name(), getId(), name, status, priority, null);
     }
 
     /**
@@ -130,6 +198,7 @@ public class ItemBacklog extends BaseEntity {
         this.name = name;
         this.criteriaAcceptance = criteriaAcceptance;
         this.effortEstimation = effortEstimation;
+        this.effortPoints = EffortParser.parse(effortEstimation);
         this.sprints = sprint;
         this.userHistory = userHistory;
         this.productBacklog = productBacklog;
@@ -225,6 +294,17 @@ public class ItemBacklog extends BaseEntity {
      */
     public void setEffortEstimation(String effortEstimation) {
         this.effortEstimation = effortEstimation;
+        this.effortPoints = EffortParser.parse(effortEstimation);
+    }
+
+    /**
+     * Gets the effort estimation for the backlog item read as a number. Rows written before the number was stored are
+     * parsed on read.
+     *
+     * @return The effort, {@code null} when the estimation holds no number.
+     */
+    public Double getEffortPoints() {
+        return this.effortPoints != null ? this.effortPoints : EffortParser.parse(this.effortEstimation);
     }
 
     /**
@@ -5,10 +5,17 @@ import java.util.Objects;
 
 import java.util.List;
 
-import com.db.scrumtrackerapi.model.view.ProductBacklogView;
 import com.db.scrumtrackerapi.model.view.ProductView;
-import com.db.scrumtrackerapi.model.view.SprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.OptimisticLock;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToMany;
@@ -20,6 +27,9 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "products")
+@Filter(name = BaseEntity.ACTIVE_FILTER)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 public class Product extends BaseEntity {
 
     /**
@@ -65,6 +75,9 @@ public class Product extends BaseEntity {
     private ProductBacklog productBacklog;
 
     @OneToMany(mappedBy = "product")
+    @OptimisticLock(excluded = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @Filter(name = BaseEntity.ACTIVE_FILTER)
     private List<Sprint> sprints;
 
     
@@ -94,24 +107,12 @@ public class Product extends BaseEntity {
     /**
      * Converts the current product object into a product view object. This method creates a new product view object
      * with the same ID, name, client, objectives, vision, definition of done, definition of ready, and product backlog
-     * as the current product object.
+     * as the current product object, assembled by a {@link ViewAssembler} without depth limit.
      *
      * @return A product view object representing the current product.
      */
     public ProductView toView() {
-        ProductBacklogView productBacklogView;
-        if (productBacklog != null && isActive()) {
-            productBacklogView = productBacklog.toView();
-        } else {
-            productBacklogView = null;
-        }
-        List<SprintView> sprintViews;
-        if (sprints != null) {
-            sprintViews = sprints.stream().filter(i -> i.isActive()).map(i -> i.toView()).toList();
-        } else {
-            sprintViews = null;
-        }
-        return new ProductView(getId(), name, client, objectives, vision, definitionOfDone, definitionOfReady, productBacklogView, sprintViews);
+        return new ViewAssembler().toView(this);
     }
 
     /**
@@ -4,10 +4,19 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-import com.db.scrumtrackerapi.model.view.ItemBacklogView;
 import com.db.scrumtrackerapi.model.view.ProductBacklogView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.OptimisticLock;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
@@ -20,18 +29,24 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "product_backlogs")
-public class ProductBacklog extends BaseEntity {
+@Filter(name = BaseEntity.ACTIVE_FILTER)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product_backlogs")
+public class ProductBacklog extends BaseEntity implements AggregateMember {
     
     /**
      * The list of backlog items associated with this product.
      */
     @OneToMany(mappedBy = "productBacklog")
+    @OptimisticLock(excluded = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @Filter(name = BaseEntity.ACTIVE_FILTER)
     private List<ItemBacklog> itensBacklog;
 
     /**
      * The product associated with this product backlog.
      */
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private Product product;
 
@@ -61,13 +76,17 @@ public class ProductBacklog extends BaseEntity {
      * @return A ProductBacklogView representation of the current ProductBacklog instance.
      */
     public ProductBacklogView toView() {
-        List<ItemBacklogView> itemBacklogViews;
-        if (itensBacklog != null) {
-            itemBacklogViews = itensBacklog.stream().filter(i -> i.isActive()).map(i -> i.toView()).toList();
-        } else {
-            itemBacklogViews = null;
-        }
-        return new ProductBacklogView(getId(), itemBacklogViews);
+        return new ViewAssembler().toView(this);
+    }
+
+    /**
+     * Lists the roots whose views show this backlog.
+     *
+     * @return The product of the backlog, if any.
+     */
+    @Override
+    public List<BaseEntity> aggregateRoots() {
+        return product == null ? List.of() : List.of(product);
     }
 
     /**
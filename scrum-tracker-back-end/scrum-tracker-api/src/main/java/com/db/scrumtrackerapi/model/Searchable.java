@@ -0,0 +1,17 @@
+package com.db.scrumtrackerapi.model;
+
+import com.db.scrumtrackerapi.util.SearchDocument;
+
+/**
+ * An entity found by the full-text search. Its document is indexed whenever the entity is written, and removed
+ * from the index once it is deactivated or deleted.
+ */
+public interface Searchable {
+
+    /**
+     * Converts the entity to the document held by the search index.
+     *
+     * @return The document of the entity.
+     */
+    SearchDocument toSearchDocument();
+}
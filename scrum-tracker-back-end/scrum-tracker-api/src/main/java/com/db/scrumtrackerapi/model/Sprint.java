@@ -4,16 +4,27 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import com.db.scrumtrackerapi.model.view.DetailedSprintView;
-import com.db.scrumtrackerapi.model.view.ItemBacklogView;
-import com.db.scrumtrackerapi.model.view.ProductView;
 import com.db.scrumtrackerapi.model.view.SprintView;
-import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.OptimisticLock;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
@@ -22,8 +33,25 @@ import jakarta.persistence.Table;
  * A sprint has sprint goals, a list of backlog items, and a list of tasks associated with it.
  */
 @Entity
-@Table(name = "sprints")
-public class Sprint extends BaseEntity {
+@Table(name = "sprints", indexes = @Index(name = "sprints_changes_idx", columnList = "product, last_modified"))
+@Filter(name = BaseEntity.ACTIVE_FILTER)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sprints")
+@NamedEntityGraph(
+    name = Sprint.DETAILED_VIEW_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("product"),
+        @NamedAttributeNode(value = "tasksSprints", subgraph = "tasksSprints")
+    },
+    subgraphs = @NamedSubgraph(name = "tasksSprints", attributeNodes = @NamedAttributeNode("responsible"))
+)
+public class Sprint extends BaseEntity implements AggregateMember {
+
+    /**
+     * Fetch plan used to render a {@link DetailedSprintView}: the product and the tasks with their
+     * responsibles are joined, the remaining collections are loaded by subselect.
+     */
+    public static final String DETAILED_VIEW_GRAPH = "Sprint.detailedView";
 
     /**
      * The goals of the sprint.
@@ -35,6 +63,8 @@ public class Sprint extends BaseEntity {
      * The backlog items associated with the sprint.
      */
     @ManyToMany
+    @Fetch(FetchMode.SUBSELECT)
+    @Filter(name = BaseEntity.ACTIVE_FILTER)
     @JoinTable(
         name = "sprint_item_backlog",
         joinColumns = @JoinColumn(name = "sprint_id"),
@@ -42,7 +72,7 @@ public class Sprint extends BaseEntity {
     )
     private List<ItemBacklog> itensBacklog;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product")
     private Product product;
 
@@ -50,6 +80,9 @@ public class Sprint extends BaseEntity {
      * The tasks associated with the sprint.
      */
     @OneToMany(mappedBy = "sprint")
+    @OptimisticLock(excluded = true)
+    @Fetch(FetchMode.SUBSELECT)
+    @Filter(name = BaseEntity.ACTIVE_FILTER)
     private List<TaskSprint> tasksSprints;
 
     /**
@@ -58,13 +91,17 @@ public class Sprint extends BaseEntity {
      * @return SprintView representing the overview of the Sprint.
      */
     public SprintView toView() {
-        List<TaskSprintView> taskSprintViews;
-        if (tasksSprints != null) {
-            taskSprintViews = tasksSprints.stream().filter(i -> i.isActive()).map(i -> i.toView()).toList();
-        } else {
-            taskSprintViews = null;
-        }
-        return new SprintView(getId(), sprintGoals, taskSprintViews);
+        return new ViewAssembler().toView(this);
+    }
+
+    /**
+     * Lists the roots whose views show this sprint.
+     *
+     * @return The product of the sprint, if any.
+     */
+    @Override
+    public List<BaseEntity> aggregateRoots() {
+        return product == null ? List.of() : List.of(product);
     }
     
     /**
@@ -73,28 +110,7 @@ public class Sprint extends BaseEntity {
      * @return DetailedSprintView representing the detailed view of the Sprint.
      */
     public DetailedSprintView toDetailedView() {
-        List<TaskSprintView> taskSprintViews;
-        if (tasksSprints != null) {
-            taskSprintViews = tasksSprints.stream().filter(i -> i.isActive()).map(i -> i.toView()).toList();
-        } else {
-            taskSprintViews = null;
-        }
-        
-        List<ItemBacklogView> itemBacklogViews;
-        if (itensBacklog != null) {
-            itemBacklogViews = itensBacklog.stream().filter(i -> i.isActive()).map(i -> i.toView()).toList();
-        } else {
-            itemBacklogViews = null;
-        }
-        
-        ProductView productView;
-        if (product != null) {
-            productView = product.toView();
-        } else {
-            productView = null;
-        }
-
-        return new DetailedSprintView(getId(), sprintGoals, taskSprintViews, itemBacklogViews, productView);
+        return new ViewAssembler().toDetailedView(this);
     }
 
 
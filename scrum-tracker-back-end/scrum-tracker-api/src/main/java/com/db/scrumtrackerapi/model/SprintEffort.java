@@ -0,0 +1,96 @@
+package com.db.scrumtrackerapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Running effort counters of a Sprint, kept up to date on each write to its tasks so burndown and velocity
+ * never rescan the tasks.
+ *
+ * <p> Only active tasks count. The total effort is the effort of every task of the sprint, the remaining effort
+ * the effort of its tasks not yet {@link com.db.scrumtrackerapi.model.enums.Status#CONCLUIDO}.
+ */
+@Entity
+@Table(name = "sprint_efforts")
+public class SprintEffort {
+
+    /**
+     * The ID of the Sprint the counters belong to.
+     */
+    @Id
+    @Column(name = "sprint_id")
+    private Long sprintId;
+
+    /**
+     * The effort of every task of the Sprint.
+     */
+    @Column(name = "total_effort", nullable = false)
+    private double totalEffort;
+
+    /**
+     * The effort of the tasks of the Sprint not yet done.
+     */
+    @Column(name = "remaining_effort", nullable = false)
+    private double remainingEffort;
+
+    /**
+     * Default constructor. Creates an instance of SprintEffort.
+     */
+    protected SprintEffort() {
+    }
+
+    /**
+     * Creates the counters of a Sprint.
+     *
+     * @param sprintId        The ID of the Sprint.
+     * @param totalEffort     The effort of every task of the Sprint.
+     * @param remainingEffort The effort of the tasks of the Sprint not yet done.
+     */
+    public SprintEffort(Long sprintId, double totalEffort, double remainingEffort) {
+        this.sprintId = sprintId;
+        this.totalEffort = totalEffort;
+        this.remainingEffort = remainingEffort;
+    }
+
+    /**
+     * Adds the change of a task to the counters.
+     *
+     * @param totalDelta     The change of the total effort.
+     * @param remainingDelta The change of the remaining effort.
+     * @return The updated counters.
+     */
+    public SprintEffort add(double totalDelta, double remainingDelta) {
+        this.totalEffort += totalDelta;
+        this.remainingEffort += remainingDelta;
+        return this;
+    }
+
+    /**
+     * Gets the ID of the Sprint the counters belong to.
+     *
+     * @return The ID of the Sprint.
+     */
+    public Long getSprintId() {
+        return this.sprintId;
+    }
+
+    /**
+     * Gets the effort of every task of the Sprint.
+     *
+     * @return The total effort.
+     */
+    public double getTotalEffort() {
+        return this.totalEffort;
+    }
+
+    /**
+     * Gets the effort of the tasks of the Sprint not yet done.
+     *
+     * @return The remaining effort.
+     */
+    public double getRemainingEffort() {
+        return this.remainingEffort;
+    }
+}
@@ -0,0 +1,125 @@
+package com.db.scrumtrackerapi.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * The effort counters of a Sprint at the end of a day, one row per Sprint per day on which its tasks changed.
+ * A day without a row kept the counters of the previous one.
+ */
+@Entity
+@Table(name = "sprint_snapshots", uniqueConstraints = @UniqueConstraint(columnNames = { "sprint_id", "snapshot_day" }))
+public class SprintSnapshot {
+
+    /**
+     * The unique identifier of the snapshot.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    /**
+     * The ID of the Sprint.
+     */
+    @Column(name = "sprint_id", nullable = false)
+    private Long sprintId;
+
+    /**
+     * The day of the snapshot.
+     */
+    @Column(name = "snapshot_day", nullable = false)
+    private LocalDate day;
+
+    /**
+     * The effort of every task of the Sprint on that day.
+     */
+    @Column(name = "total_effort", nullable = false)
+    private double totalEffort;
+
+    /**
+     * The effort of the tasks of the Sprint not yet done on that day.
+     */
+    @Column(name = "remaining_effort", nullable = false)
+    private double remainingEffort;
+
+    /**
+     * Default constructor. Creates an instance of SprintSnapshot.
+     */
+    protected SprintSnapshot() {
+    }
+
+    /**
+     * Creates the snapshot of a Sprint for a day.
+     *
+     * @param sprintId The ID of the Sprint.
+     * @param day      The day of the snapshot.
+     */
+    public SprintSnapshot(Long sprintId, LocalDate day) {
+        this.sprintId = sprintId;
+        this.day = day;
+    }
+
+    /**
+     * Copies the current counters of the Sprint into the snapshot.
+     *
+     * @param sprintEffort The counters of the Sprint.
+     * @return The updated snapshot.
+     */
+    public SprintSnapshot update(SprintEffort sprintEffort) {
+        this.totalEffort = sprintEffort.getTotalEffort();
+        this.remainingEffort = sprintEffort.getRemainingEffort();
+        return this;
+    }
+
+    /**
+     * Gets the unique identifier of the snapshot.
+     *
+     * @return The ID of the snapshot.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the ID of the Sprint.
+     *
+     * @return The ID of the Sprint.
+     */
+    public Long getSprintId() {
+        return this.sprintId;
+    }
+
+    /**
+     * Gets the day of the snapshot.
+     *
+     * @return The day of the snapshot.
+     */
+    public LocalDate getDay() {
+        return this.day;
+    }
+
+    /**
+     * Gets the effort of every task of the Sprint on that day.
+     *
+     * @return The total effort.
+     */
+    public double getTotalEffort() {
+        return this.totalEffort;
+    }
+
+    /**
+     * Gets the effort of the tasks of the Sprint not yet done on that day.
+     *
+     * @return The remaining effort.
+     */
+    public double getRemainingEffort() {
+        return this.remainingEffort;
+    }
+}
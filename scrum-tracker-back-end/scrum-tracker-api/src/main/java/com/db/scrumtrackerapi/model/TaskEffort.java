@@ -0,0 +1,32 @@
+package com.db.scrumtrackerapi.model;
+
+import com.db.scrumtrackerapi.model.enums.Status;
+
+/**
+ * The contribution of a task to the effort counters of its Sprint, captured before and after each write so the
+ * counters can be moved by the difference.
+ *
+ * @param sprintId  The ID of the Sprint of the task, {@code null} when it has none.
+ * @param effort    The effort of the task, {@code 0} when it is inactive or its estimation holds no number.
+ * @param remaining The effort of the task not yet done, {@code 0} once it is {@link Status#CONCLUIDO}.
+ */
+public record TaskEffort(Long sprintId, double effort, double remaining) {
+
+    /**
+     * The contribution of a task that does not exist.
+     */
+    public static final TaskEffort NONE = new TaskEffort(null, 0, 0);
+
+    /**
+     * Captures the current contribution of a task.
+     *
+     * @param taskSprint The task.
+     * @return The contribution of the task.
+     */
+    public static TaskEffort of(TaskSprint taskSprint) {
+        Long sprintId = taskSprint.getSprint() == null ? null : taskSprint.getSprint().getId();
+        Double points = taskSprint.getEffortPoints();
+        double effort = Boolean.TRUE.equals(taskSprint.isActive()) && points != null ? points : 0;
+        return new TaskEffort(sprintId, effort, taskSprint.getStatus() == Status.CONCLUIDO ? 0 : effort);
+    }
+}
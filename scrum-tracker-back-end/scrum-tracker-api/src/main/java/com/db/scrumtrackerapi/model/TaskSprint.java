@@ -1,14 +1,28 @@
 package com.db.scrumtrackerapi.model;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.SprintEventType;
 import com.db.scrumtrackerapi.model.enums.Status;
-import com.db.scrumtrackerapi.model.view.CustomerView;
+import com.db.scrumtrackerapi.model.enums.TransitionSubject;
 import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.model.view.SprintEventView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.config.SearchIndexListener;
+import com.db.scrumtrackerapi.util.EffortParser;
+import com.db.scrumtrackerapi.util.SearchDocument;
+import org.hibernate.annotations.Filter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 
@@ -18,8 +32,16 @@ import jakarta.persistence.Table;
  * effort estimation, responsible person, associated item backlog, and the sprint to which it belongs.
  */
 @Entity
-@Table(name = "tasks_sprint")
-public class TaskSprint extends BaseEntity {
+@Table(name = "tasks_sprint", indexes = @Index(name = "tasks_sprint_changes_idx", columnList = "sprint_id, last_modified"))
+@Filter(name = BaseEntity.ACTIVE_FILTER)
+@EntityListeners(SearchIndexListener.class)
+@NamedEntityGraph(name = TaskSprint.VIEW_GRAPH, attributeNodes = @NamedAttributeNode("responsible"))
+public class TaskSprint extends BaseEntity implements AggregateMember, Searchable {
+
+    /**
+     * Fetch plan used to render a {@link TaskSprintView}: only the responsible customer is joined.
+     */
+    public static final String VIEW_GRAPH = "TaskSprint.view";
 
     /**
      * The name of the task.
@@ -30,7 +52,7 @@ public class TaskSprint extends BaseEntity {
     /**
      * The item backlog associated with the task.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_backlog_id")
     private ItemBacklog itemBacklog;
 
@@ -64,6 +86,12 @@ public class TaskSprint extends BaseEntity {
     @Column(name = "effort_estimation")
     private String effortEstimation;
 
+    /**
+     * The effort estimation for the task read as a number, {@code null} when it holds none.
+     */
+    @Column(name = "effort_points")
+    private Double effortPoints;
+
     /**
      * The person responsible for the task.
      */
@@ -74,7 +102,7 @@ public class TaskSprint extends BaseEntity {
     /**
      * The sprint to which the task belongs.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sprint_id")
     private Sprint sprint;
 
@@ -92,6 +120,7 @@ public class TaskSprint extends BaseEntity {
         this.status = taskSprint.getStatus();
         this.priority = taskSprint.getPriority();
         this.effortEstimation = taskSprint.getEffortEstimation();
+        this.effortPoints = EffortParser.parse(this.effortEstimation);
         this.responsible = taskSprint.getResponsible();
         this.sprint = taskSprint.getSprint();
         return this;
@@ -104,13 +133,44 @@ public class TaskSprint extends BaseEntity {
      * @return A TaskSprintView object representing the view of the task with its relevant attributes.
      */
     public TaskSprintView toView(){
-        CustomerView responsibleView;
-        if (responsible != null && responsible.isActive()) {
-            responsibleView = responsible.toView();
-        } else {
-            responsibleView = null;
+        return new ViewAssembler().toView(this);
+    }
+
+    /**
+     * Lists the roots whose views show this task.
+     *
+     * @return The sprint of the task and the roots of the sprint.
+     */
+    @Override
+    public List<BaseEntity> aggregateRoots() {
+        List<BaseEntity> roots = new ArrayList<>();
+        if (sprint != null) {
+            roots.add(sprint);
+            roots.addAll(sprint.aggregateRoots());
         }
-        return new TaskSprintView(getId(), name, description, comments, status.toString(), priority.toString(), effortEstimation, responsibleView);
+        return roots;
+    }
+
+    /**
+     * Converts the task to the document held by the search index, its description and comments indexed after its name.
+     *
+     * @return A SearchDocument of the task.
+     */
+    @Override
+    public SearchDocument toSearchDocument() {
+        return new SearchDocument(TransitionSubject.TASK_SPRINT.name(), getId(), name, status, priority,
+            sprint == null ? null : sprint.getId(), description, comments);
+    }
+
+    /**
+     * Converts the task to the event pushed to the subscribers of its sprint.
+     *
+     * @param type The kind of the change.
+     * @return A SprintEventView carrying the fields shown on the board.
+     */
+    public SprintEventView toEventView(SprintEventType type) {
+        return new SprintEventView(type.name(), TransitionSubject.TASK_SPRINT.name(), getId(), name, status, priority,
+            responsible == null ? null : responsible.getId());
     }
 
 
@@ -141,6 +201,7 @@ public class TaskSprint extends BaseEntity {
         this.status = status;
         this.priority = priority;
         this.effortEstimation = effortEstimation;
+        this.effortPoints = EffortParser.parse(effortEstimation);
         this.responsible = responsible;
         this.sprint = sprint;
         super.setActive(true);
@@ -271,6 +332,17 @@ public class TaskSprint extends BaseEntity {
      */
     public void setEffortEstimation(String effortEstimation) {
         this.effortEstimation = effortEstimation;
+        this.effortPoints = EffortParser.parse(effortEstimation);
+    }
+
+    /**
+     * Gets the effort estimation for the task read as a number. Rows written before the number was stored are
+     * parsed on read.
+     *
+     * @return The effort, {@code null} when the estimation holds no number.
+     */
+    public Double getEffortPoints() {
+        return this.effortPoints != null ? this.effortPoints : EffortParser.parse(this.effortEstimation);
     }
 
     /**
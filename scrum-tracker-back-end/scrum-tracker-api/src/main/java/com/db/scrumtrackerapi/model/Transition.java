@@ -0,0 +1,246 @@
+package com.db.scrumtrackerapi.model;
+
+import java.time.LocalDateTime;
+
+import com.db.scrumtrackerapi.model.enums.TransitionField;
+import com.db.scrumtrackerapi.model.enums.TransitionSubject;
+import com.db.scrumtrackerapi.model.view.TransitionView;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Represents a change of the status, priority or responsible of a task or backlog item.
+ *
+ * <p> Transitions are append-only: they are inserted once and never updated. They are located by sprint for tasks
+ * and by product for both tasks and backlog items, each with an index ordered by time.
+ */
+@Entity
+@Table(name = "transitions", indexes = {
+    @Index(name = "transitions_sprint_idx", columnList = "sprint_id, timestamp"),
+    @Index(name = "transitions_product_idx", columnList = "product_id, timestamp")
+})
+public class Transition {
+
+    /**
+     * The unique identifier of the transition.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    /**
+     * The kind of the entity that changed.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject", nullable = false, updatable = false)
+    private TransitionSubject subject;
+
+    /**
+     * The ID of the entity that changed.
+     */
+    @Column(name = "entity_id", nullable = false, updatable = false)
+    private Long entityId;
+
+    /**
+     * The field that changed.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "field", nullable = false, updatable = false)
+    private TransitionField field;
+
+    /**
+     * The value of the field before the change.
+     */
+    @Column(name = "from_value", updatable = false)
+    private String fromValue;
+
+    /**
+     * The value of the field after the change.
+     */
+    @Column(name = "to_value", updatable = false)
+    private String toValue;
+
+    /**
+     * The email of the customer who made the change, {@code null} when anonymous.
+     */
+    @Column(name = "actor", updatable = false)
+    private String actor;
+
+    /**
+     * The instant of the change.
+     */
+    @Column(name = "timestamp", nullable = false, updatable = false)
+    private LocalDateTime timestamp;
+
+    /**
+     * The ID of the sprint of a task, {@code null} for backlog items.
+     */
+    @Column(name = "sprint_id", updatable = false)
+    private Long sprintId;
+
+    /**
+     * The ID of the product of the entity, resolved when the transition is written.
+     */
+    @Column(name = "product_id", updatable = false)
+    private Long productId;
+
+    /**
+     * The ID of the product backlog of a backlog item, from which its product is resolved.
+     */
+    @Transient
+    private Long productBacklogId;
+
+    /**
+     * Default constructor. Creates an instance of Transition.
+     */
+    protected Transition() {
+    }
+
+    /**
+     * Creates the transition of a field of an entity.
+     *
+     * @param state     The state of the entity after the change.
+     * @param field     The field that changed.
+     * @param fromValue The value of the field before the change.
+     * @param toValue   The value of the field after the change.
+     * @param actor     The email of the customer who made the change, {@code null} when anonymous.
+     * @param timestamp The instant of the change.
+     */
+    public Transition(TransitionState state, TransitionField field, String fromValue, String toValue, String actor, LocalDateTime timestamp) {
+        this.subject = state.subject();
+        this.entityId = state.entityId();
+        this.sprintId = state.sprintId();
+        this.productBacklogId = state.productBacklogId();
+        this.field = field;
+        this.fromValue = fromValue;
+        this.toValue = toValue;
+        this.actor = actor;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Converts the Transition to its view representation.
+     *
+     * @return A TransitionView representing the transition.
+     */
+    public TransitionView toView() {
+        return new TransitionView(subject.toString(), entityId, field.toString(), fromValue, toValue, actor, timestamp);
+    }
+
+    /**
+     * Gets the unique identifier of the transition.
+     *
+     * @return The ID of the transition.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the kind of the entity that changed.
+     *
+     * @return The kind of the entity.
+     */
+    public TransitionSubject getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * Gets the ID of the entity that changed.
+     *
+     * @return The ID of the entity.
+     */
+    public Long getEntityId() {
+        return this.entityId;
+    }
+
+    /**
+     * Gets the field that changed.
+     *
+     * @return The field.
+     */
+    public TransitionField getField() {
+        return this.field;
+    }
+
+    /**
+     * Gets the value of the field before the change.
+     *
+     * @return The previous value.
+     */
+    public String getFromValue() {
+        return this.fromValue;
+    }
+
+    /**
+     * Gets the value of the field after the change.
+     *
+     * @return The new value.
+     */
+    public String getToValue() {
+        return this.toValue;
+    }
+
+    /**
+     * Gets the email of the customer who made the change.
+     *
+     * @return The actor, {@code null} when anonymous.
+     */
+    public String getActor() {
+        return this.actor;
+    }
+
+    /**
+     * Gets the instant of the change.
+     *
+     * @return The timestamp.
+     */
+    public LocalDateTime getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Gets the ID of the sprint of a task.
+     *
+     * @return The ID of the sprint, {@code null} for backlog items.
+     */
+    public Long getSprintId() {
+        return this.sprintId;
+    }
+
+    /**
+     * Gets the ID of the product of the entity.
+     *
+     * @return The ID of the product, {@code null} until the transition is written.
+     */
+    public Long getProductId() {
+        return this.productId;
+    }
+
+    /**
+     * Sets the ID of the product of the entity.
+     *
+     * @param productId The ID of the product.
+     */
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * Gets the ID of the product backlog of a backlog item.
+     *
+     * @return The ID of the product backlog, {@code null} for tasks and once the transition is read back.
+     */
+    public Long getProductBacklogId() {
+        return this.productBacklogId;
+    }
+}
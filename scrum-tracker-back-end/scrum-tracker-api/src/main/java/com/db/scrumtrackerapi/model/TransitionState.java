@@ -0,0 +1,77 @@
+package com.db.scrumtrackerapi.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.enums.TransitionField;
+import com.db.scrumtrackerapi.model.enums.TransitionSubject;
+
+/**
+ * The tracked fields of a task or backlog item, captured before and after each write so their changes can be
+ * recorded as {@link Transition}s.
+ *
+ * @param subject          The kind of the entity.
+ * @param entityId         The ID of the entity.
+ * @param sprintId         The ID of the sprint of a task, {@code null} for backlog items.
+ * @param productBacklogId The ID of the product backlog of a backlog item, {@code null} for tasks.
+ * @param status           The status of the entity.
+ * @param priority         The priority of the entity.
+ * @param responsible      The ID of the customer responsible for a task, {@code null} when there is none.
+ */
+public record TransitionState(TransitionSubject subject, Long entityId, Long sprintId, Long productBacklogId, Status status, Priority priority, Long responsible) {
+
+    /**
+     * Captures the tracked fields of a task.
+     *
+     * @param taskSprint The task.
+     * @return The tracked fields of the task.
+     */
+    public static TransitionState of(TaskSprint taskSprint) {
+        return new TransitionState(TransitionSubject.TASK_SPRINT, taskSprint.getId(),
+            taskSprint.getSprint() == null ? null : taskSprint.getSprint().getId(), null,
+            taskSprint.getStatus(), taskSprint.getPriority(),
+            taskSprint.getResponsible() == null ? null : taskSprint.getResponsible().getId());
+    }
+
+    /**
+     * Captures the tracked fields of a backlog item.
+     *
+     * @param itemBacklog The backlog item.
+     * @return The tracked fields of the backlog item.
+     */
+    public static TransitionState of(ItemBacklog itemBacklog) {
+        return new TransitionState(TransitionSubject.ITEM_BACKLOG, itemBacklog.getId(), null,
+            itemBacklog.getProductBacklog() == null ? null : itemBacklog.getProductBacklog().getId(),
+            itemBacklog.getStatus(), itemBacklog.getPriority(), null);
+    }
+
+    /**
+     * Lists the transitions from this state to a later state of the same entity. The transitions are placed in
+     * the sprint of the later state.
+     *
+     * @param after     The later state.
+     * @param actor     The email of the customer making the change, {@code null} when anonymous.
+     * @param timestamp The instant of the change.
+     * @return One transition per changed field, none when the entity is not saved yet.
+     */
+    public List<Transition> transitionsTo(TransitionState after, String actor, LocalDateTime timestamp) {
+        List<Transition> transitions = new ArrayList<>();
+        if (after.entityId() == null) {
+            return transitions;
+        }
+        if (!Objects.equals(status, after.status())) {
+            transitions.add(new Transition(after, TransitionField.STATUS, Objects.toString(status, null), Objects.toString(after.status(), null), actor, timestamp));
+        }
+        if (!Objects.equals(priority, after.priority())) {
+            transitions.add(new Transition(after, TransitionField.PRIORITY, Objects.toString(priority, null), Objects.toString(after.priority(), null), actor, timestamp));
+        }
+        if (!Objects.equals(responsible, after.responsible())) {
+            transitions.add(new Transition(after, TransitionField.RESPONSIBLE, Objects.toString(responsible, null), Objects.toString(after.responsible(), null), actor, timestamp));
+        }
+        return transitions;
+    }
+}
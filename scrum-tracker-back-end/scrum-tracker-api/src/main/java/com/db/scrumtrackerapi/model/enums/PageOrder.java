@@ -0,0 +1,16 @@
+package com.db.scrumtrackerapi.model.enums;
+
+/**
+ * Enumeration representing the orderings available to paginated listings.
+ */
+public enum PageOrder {
+    /**
+     * Ascending ID order.
+     */
+    ID,
+
+    /**
+     * Descending priority order, ties broken by ascending ID.
+     */
+    PRIORITY
+}
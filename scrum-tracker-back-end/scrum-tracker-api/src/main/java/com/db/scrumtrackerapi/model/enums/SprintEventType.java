@@ -0,0 +1,21 @@
+package com.db.scrumtrackerapi.model.enums;
+
+/**
+ * Enumeration representing the kinds of changes pushed to the subscribers of a sprint.
+ */
+public enum SprintEventType {
+    /**
+     * A task or backlog item of the sprint was created or changed.
+     */
+    CHANGED,
+
+    /**
+     * A task or backlog item left the sprint or was deactivated.
+     */
+    REMOVED,
+
+    /**
+     * The changes since the last event seen by the subscriber are no longer known, so it must reload the board.
+     */
+    RESET
+}
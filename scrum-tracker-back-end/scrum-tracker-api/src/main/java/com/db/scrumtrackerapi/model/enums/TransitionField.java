@@ -0,0 +1,21 @@
+package com.db.scrumtrackerapi.model.enums;
+
+/**
+ * Enumeration representing the fields whose changes are recorded as transitions.
+ */
+public enum TransitionField {
+    /**
+     * The status of a task or backlog item.
+     */
+    STATUS,
+
+    /**
+     * The priority of a task or backlog item.
+     */
+    PRIORITY,
+
+    /**
+     * The person responsible for a task.
+     */
+    RESPONSIBLE
+}
@@ -0,0 +1,16 @@
+package com.db.scrumtrackerapi.model.enums;
+
+/**
+ * Enumeration representing the kinds of entities whose transitions are recorded.
+ */
+public enum TransitionSubject {
+    /**
+     * A task of a sprint.
+     */
+    TASK_SPRINT,
+
+    /**
+     * An item of a product backlog.
+     */
+    ITEM_BACKLOG
+}
@@ -0,0 +1,142 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.db.scrumtrackerapi.model.enums.Status;
+
+/**
+ * Represents a column of a sprint board: the tasks in one {@link Status}, in descending priority order,
+ * along with their count.
+ */
+public class BoardColumnView {
+
+    /**
+     * The status of the tasks in the column.
+     */
+    private String status;
+
+    /**
+     * The number of tasks in the column.
+     */
+    private long count;
+
+    /**
+     * The tasks in the column, in descending priority order.
+     */
+    private List<BoardTaskView> tasks;
+
+    /**
+     * Default constructor for BoardColumnView.
+     */
+    protected BoardColumnView() {
+    }
+
+    /**
+     * Creates an empty column, as selected by the board count query.
+     *
+     * @param status The status of the tasks in the column.
+     * @param count  The number of tasks in the column.
+     */
+    public BoardColumnView(Status status, long count) {
+        this.status = status.toString();
+        this.count = count;
+        this.tasks = new ArrayList<>();
+    }
+
+    /**
+     * Retrieves the status of the tasks in the column.
+     *
+     * @return The status of the column.
+     */
+    public String getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Sets the status of the tasks in the column.
+     *
+     * @param status The status to set.
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Retrieves the number of tasks in the column.
+     *
+     * @return The number of tasks.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Sets the number of tasks in the column.
+     *
+     * @param count The number of tasks to set.
+     */
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    /**
+     * Retrieves the tasks in the column, in descending priority order.
+     *
+     * @return The tasks in the column.
+     */
+    public List<BoardTaskView> getTasks() {
+        return this.tasks;
+    }
+
+    /**
+     * Sets the tasks in the column.
+     *
+     * @param tasks The tasks to set.
+     */
+    public void setTasks(List<BoardTaskView> tasks) {
+        this.tasks = tasks;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof BoardColumnView)) {
+            return false;
+        }
+        BoardColumnView boardColumnView = (BoardColumnView) o;
+        return Objects.equals(status, boardColumnView.status) && count == boardColumnView.count && Objects.equals(tasks, boardColumnView.tasks);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, count, tasks);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " status='" + getStatus() + "'" +
+            ", count='" + getCount() + "'" +
+            ", tasks='" + getTasks() + "'" +
+            "}";
+    }
+}
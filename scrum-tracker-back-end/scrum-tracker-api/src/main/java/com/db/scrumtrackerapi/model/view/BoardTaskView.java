@@ -0,0 +1,247 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.Objects;
+
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+
+/**
+ * Represents a task on a sprint board: only the columns a board card shows, read by a projection query,
+ * without nested item backlog, sprint or customer views.
+ */
+public class BoardTaskView {
+
+    /**
+     * The unique identifier of the task.
+     */
+    private Long id;
+
+    /**
+     * The name of the task.
+     */
+    private String name;
+
+    /**
+     * The status of the task, that is the column it is in.
+     */
+    private String status;
+
+    /**
+     * The priority of the task.
+     */
+    private String priority;
+
+    /**
+     * The effort estimation for the task.
+     */
+    private String effortEstimation;
+
+    /**
+     * The unique identifier of the item backlog associated with the task.
+     */
+    private Long itemBacklogId;
+
+    /**
+     * The full name of the person responsible for the task.
+     */
+    private String responsible;
+
+    /**
+     * Default constructor for BoardTaskView.
+     */
+    protected BoardTaskView() {
+    }
+
+    /**
+     * Creates a BoardTaskView from the columns selected by the board query.
+     *
+     * @param id                  The unique identifier of the task.
+     * @param name                The name of the task.
+     * @param status              The status of the task.
+     * @param priority            The priority of the task.
+     * @param effortEstimation    The effort estimation for the task.
+     * @param itemBacklogId       The unique identifier of the associated item backlog, may be {@code null}.
+     * @param responsibleName     The name of the responsible person, may be {@code null}.
+     * @param responsibleLastName The last name of the responsible person, may be {@code null}.
+     */
+    public BoardTaskView(Long id, String name, Status status, Priority priority, String effortEstimation, Long itemBacklogId, String responsibleName, String responsibleLastName) {
+        this.id = id;
+        this.name = name;
+        this.status = status.toString();
+        this.priority = priority.toString();
+        this.effortEstimation = effortEstimation;
+        this.itemBacklogId = itemBacklogId;
+        this.responsible = responsibleName == null ? null : responsibleName + " " + responsibleLastName;
+    }
+
+    /**
+     * Retrieves the unique identifier of the task.
+     *
+     * @return The unique identifier of the task.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the unique identifier of the task.
+     *
+     * @param id The unique identifier to set.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the name of the task.
+     *
+     * @return The name of the task.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Sets the name of the task.
+     *
+     * @param name The name to set.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the status of the task.
+     *
+     * @return The status of the task.
+     */
+    public String getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Sets the status of the task.
+     *
+     * @param status The status to set.
+     */
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Retrieves the priority of the task.
+     *
+     * @return The priority of the task.
+     */
+    public String getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Sets the priority of the task.
+     *
+     * @param priority The priority to set.
+     */
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the effort estimation for the task.
+     *
+     * @return The effort estimation for the task.
+     */
+    public String getEffortEstimation() {
+        return this.effortEstimation;
+    }
+
+    /**
+     * Sets the effort estimation for the task.
+     *
+     * @param effortEstimation The effort estimation to set.
+     */
+    public void setEffortEstimation(String effortEstimation) {
+        this.effortEstimation = effortEstimation;
+    }
+
+    /**
+     * Retrieves the unique identifier of the item backlog associated with the task.
+     *
+     * @return The unique identifier of the item backlog.
+     */
+    public Long getItemBacklogId() {
+        return this.itemBacklogId;
+    }
+
+    /**
+     * Sets the unique identifier of the item backlog associated with the task.
+     *
+     * @param itemBacklogId The unique identifier to set.
+     */
+    public void setItemBacklogId(Long itemBacklogId) {
+        this.itemBacklogId = itemBacklogId;
+    }
+
+    /**
+     * Retrieves the full name of the person responsible for the task.
+     *
+     * @return The full name of the responsible person.
+     */
+    public String getResponsible() {
+        return this.responsible;
+    }
+
+    /**
+     * Sets the full name of the person responsible for the task.
+     *
+     * @param responsible The full name to set.
+     */
+    public void setResponsible(String responsible) {
+        this.responsible = responsible;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof BoardTaskView)) {
+            return false;
+        }
+        BoardTaskView boardTaskView = (BoardTaskView) o;
+        return Objects.equals(id, boardTaskView.id) && Objects.equals(name, boardTaskView.name) && Objects.equals(status, boardTaskView.status) && Objects.equals(priority, boardTaskView.priority) && Objects.equals(effortEstimation, boardTaskView.effortEstimation) && Objects.equals(itemBacklogId, boardTaskView.itemBacklogId) && Objects.equals(responsible, boardTaskView.responsible);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, status, priority, effortEstimation, itemBacklogId, responsible);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " id='" + getId() + "'" +
+            ", name='" + getName() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", priority='" + getPriority() + "'" +
+            ", effortEstimation='" + getEffortEstimation() + "'" +
+            ", itemBacklogId='" + getItemBacklogId() + "'" +
+            ", responsible='" + getResponsible() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,139 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Represents a day of a Sprint burndown: the effort of the Sprint and the effort left at the end of the day.
+ */
+public class BurndownPointView {
+
+    /**
+     * The day.
+     */
+    private LocalDate day;
+
+    /**
+     * The effort of every task of the Sprint.
+     */
+    private double totalEffort;
+
+    /**
+     * The effort of the tasks of the Sprint not yet done.
+     */
+    private double remainingEffort;
+
+    /**
+     * Default constructor for BurndownPointView.
+     */
+    protected BurndownPointView() {
+    }
+
+    /**
+     * Constructor to initialize BurndownPointView with specific values.
+     *
+     * @param day             The day.
+     * @param totalEffort     The effort of every task of the Sprint.
+     * @param remainingEffort The effort of the tasks of the Sprint not yet done.
+     */
+    public BurndownPointView(LocalDate day, double totalEffort, double remainingEffort) {
+        this.day = day;
+        this.totalEffort = totalEffort;
+        this.remainingEffort = remainingEffort;
+    }
+
+    /**
+     * Retrieves the day.
+     *
+     * @return The day.
+     */
+    public LocalDate getDay() {
+        return this.day;
+    }
+
+    /**
+     * Sets the day.
+     *
+     * @param day The day.
+     */
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    /**
+     * Retrieves the effort of every task of the Sprint.
+     *
+     * @return The total effort.
+     */
+    public double getTotalEffort() {
+        return this.totalEffort;
+    }
+
+    /**
+     * Sets the effort of every task of the Sprint.
+     *
+     * @param totalEffort The total effort.
+     */
+    public void setTotalEffort(double totalEffort) {
+        this.totalEffort = totalEffort;
+    }
+
+    /**
+     * Retrieves the effort of the tasks of the Sprint not yet done.
+     *
+     * @return The remaining effort.
+     */
+    public double getRemainingEffort() {
+        return this.remainingEffort;
+    }
+
+    /**
+     * Sets the effort of the tasks of the Sprint not yet done.
+     *
+     * @param remainingEffort The remaining effort.
+     */
+    public void setRemainingEffort(double remainingEffort) {
+        this.remainingEffort = remainingEffort;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof BurndownPointView)) {
+            return false;
+        }
+        BurndownPointView burndownPointView = (BurndownPointView) o;
+        return Objects.equals(day, burndownPointView.day) && Double.compare(totalEffort, burndownPointView.totalEffort) == 0 && Double.compare(remainingEffort, burndownPointView.remainingEffort) == 0;
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, totalEffort, remainingEffort);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " day='" + getDay() + "'" +
+            ", totalEffort='" + getTotalEffort() + "'" +
+            ", remainingEffort='" + getRemainingEffort() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,113 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the burndown of a Sprint: one point per day, from the first day its tasks changed until today.
+ */
+public class BurndownView {
+
+    /**
+     * The unique identifier of the Sprint.
+     */
+    private Long sprintId;
+
+    /**
+     * The points of the burndown, one per day, in day order.
+     */
+    private List<BurndownPointView> points;
+
+    /**
+     * Default constructor for BurndownView.
+     */
+    protected BurndownView() {
+    }
+
+    /**
+     * Constructor to initialize BurndownView with specific values.
+     *
+     * @param sprintId The unique identifier of the Sprint.
+     * @param points   The points of the burndown, one per day, in day order.
+     */
+    public BurndownView(Long sprintId, List<BurndownPointView> points) {
+        this.sprintId = sprintId;
+        this.points = points;
+    }
+
+    /**
+     * Retrieves the unique identifier of the Sprint.
+     *
+     * @return The unique identifier of the Sprint.
+     */
+    public Long getSprintId() {
+        return this.sprintId;
+    }
+
+    /**
+     * Sets the unique identifier of the Sprint.
+     *
+     * @param sprintId The unique identifier of the Sprint.
+     */
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    /**
+     * Retrieves the points of the burndown, in day order.
+     *
+     * @return The points of the burndown.
+     */
+    public List<BurndownPointView> getPoints() {
+        return this.points;
+    }
+
+    /**
+     * Sets the points of the burndown, in day order.
+     *
+     * @param points The points of the burndown.
+     */
+    public void setPoints(List<BurndownPointView> points) {
+        this.points = points;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof BurndownView)) {
+            return false;
+        }
+        BurndownView burndownView = (BurndownView) o;
+        return Objects.equals(sprintId, burndownView.sprintId) && Objects.equals(points, burndownView.points);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(sprintId, points);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " sprintId='" + getSprintId() + "'" +
+            ", points='" + getPoints() + "'" +
+            "}";
+    }
+}
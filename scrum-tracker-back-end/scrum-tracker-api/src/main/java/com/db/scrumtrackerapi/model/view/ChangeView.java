@@ -0,0 +1,302 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.Objects;
+
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents a created, updated or deactivated sprint, item backlog or task, in the compact form sent by a change
+ * synchronization. Absent properties are left out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeView {
+
+    /**
+     * The kind of the change, CREATED, UPDATED or DEACTIVATED.
+     */
+    private String change;
+
+    /**
+     * The unique identifier of the entity.
+     */
+    private Long id;
+
+    /**
+     * The name of the entity, the goals of a sprint.
+     */
+    private String name;
+
+    /**
+     * The status of an item backlog or task, absent for a sprint.
+     */
+    private Status status;
+
+    /**
+     * The priority of an item backlog or task, absent for a sprint.
+     */
+    private Priority priority;
+
+    /**
+     * The unique identifier of the sprint of a task, absent otherwise.
+     */
+    private Long sprintId;
+
+    /**
+     * The unique identifier of the item backlog of a task, absent otherwise.
+     */
+    private Long itemBacklogId;
+
+    /**
+     * The unique identifier of the customer responsible for a task, absent when there is none.
+     */
+    private Long responsibleId;
+
+    /**
+     * Default constructor for ChangeView.
+     */
+    protected ChangeView() {
+    }
+
+    /**
+     * Constructor to initialize ChangeView with the columns selected by the change queries.
+     *
+     * @param change        The kind of the change, CREATED, UPDATED or DEACTIVATED.
+     * @param id            The unique identifier of the entity.
+     * @param name          The name of the entity, the goals of a sprint.
+     * @param status        The status of an item backlog or task, absent for a sprint.
+     * @param priority      The priority of an item backlog or task, absent for a sprint.
+     * @param sprintId      The unique identifier of the sprint of a task, absent otherwise.
+     * @param itemBacklogId The unique identifier of the item backlog of a task, absent otherwise.
+     * @param responsibleId The unique identifier of the customer responsible for a task, absent when there is none.
+     */
+    public ChangeView(String change, Long id, String name, Status status, Priority priority, Long sprintId, Long itemBacklogId, Long responsibleId) {
+        this.change = change;
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.priority = priority;
+        this.sprintId = sprintId;
+        this.itemBacklogId = itemBacklogId;
+        this.responsibleId = responsibleId;
+    }
+
+    /**
+     * Constructor to initialize ChangeView for a sprint, which has no status, priority, or parent.
+     *
+     * @param change The kind of the change, CREATED, UPDATED or DEACTIVATED.
+     * @param id     The unique identifier of the sprint.
+     * @param name   The goals of the sprint.
+     */
+    public ChangeView(String change, Long id, String name) {
+        this.change = change;
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Constructor to initialize ChangeView for an item backlog, which has no parent of its own in a change.
+     *
+     * @param change   The kind of the change, CREATED, UPDATED or DEACTIVATED.
+     * @param id       The unique identifier of the item backlog.
+     * @param name     The name of the item backlog.
+     * @param status   The status of the item backlog.
+     * @param priority The priority of the item backlog.
+     */
+    public ChangeView(String change, Long id, String name, Status status, Priority priority) {
+        this(change, id, name);
+        this.status = status;
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the kind of the change.
+     *
+     * @return The kind of the change.
+     */
+    public String getChange() {
+        return this.change;
+    }
+
+    /**
+     * Sets the kind of the change.
+     *
+     * @param change The kind of the change.
+     */
+    public void setChange(String change) {
+        this.change = change;
+    }
+
+    /**
+     * Retrieves the unique identifier of the entity.
+     *
+     * @return The unique identifier of the entity.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the unique identifier of the entity.
+     *
+     * @param id The unique identifier of the entity.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the name of the entity.
+     *
+     * @return The name of the entity.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Sets the name of the entity.
+     *
+     * @param name The name of the entity.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the status of the entity.
+     *
+     * @return The status of the entity.
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Sets the status of the entity.
+     *
+     * @param status The status of the entity.
+     */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * Retrieves the priority of the entity.
+     *
+     * @return The priority of the entity.
+     */
+    public Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Sets the priority of the entity.
+     *
+     * @param priority The priority of the entity.
+     */
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the unique identifier of the sprint of the task.
+     *
+     * @return The unique identifier of the sprint of the task.
+     */
+    public Long getSprintId() {
+        return this.sprintId;
+    }
+
+    /**
+     * Sets the unique identifier of the sprint of the task.
+     *
+     * @param sprintId The unique identifier of the sprint of the task.
+     */
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    /**
+     * Retrieves the unique identifier of the item backlog of the task.
+     *
+     * @return The unique identifier of the item backlog of the task.
+     */
+    public Long getItemBacklogId() {
+        return this.itemBacklogId;
+    }
+
+    /**
+     * Sets the unique identifier of the item backlog of the task.
+     *
+     * @param itemBacklogId The unique identifier of the item backlog of the task.
+     */
+    public void setItemBacklogId(Long itemBacklogId) {
+        this.itemBacklogId = itemBacklogId;
+    }
+
+    /**
+     * Retrieves the unique identifier of the customer responsible for the task.
+     *
+     * @return The unique identifier of the customer responsible for the task.
+     */
+    public Long getResponsibleId() {
+        return this.responsibleId;
+    }
+
+    /**
+     * Sets the unique identifier of the customer responsible for the task.
+     *
+     * @param responsibleId The unique identifier of the customer responsible for the task.
+     */
+    public void setResponsibleId(Long responsibleId) {
+        this.responsibleId = responsibleId;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof ChangeView)) {
+            return false;
+        }
+        ChangeView changeView = (ChangeView) o;
+        return Objects.equals(change, changeView.change) && Objects.equals(id, changeView.id) && Objects.equals(name, changeView.name) && Objects.equals(status, changeView.status) && Objects.equals(priority, changeView.priority) && Objects.equals(sprintId, changeView.sprintId) && Objects.equals(itemBacklogId, changeView.itemBacklogId) && Objects.equals(responsibleId, changeView.responsibleId);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(change, id, name, status, priority, sprintId, itemBacklogId, responsibleId);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " change='" + getChange() + "'" +
+            ", id='" + getId() + "'" +
+            ", name='" + getName() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", priority='" + getPriority() + "'" +
+            ", sprintId='" + getSprintId() + "'" +
+            ", itemBacklogId='" + getItemBacklogId() + "'" +
+            ", responsibleId='" + getResponsibleId() + "'" +
+            "}";
+    }
+}
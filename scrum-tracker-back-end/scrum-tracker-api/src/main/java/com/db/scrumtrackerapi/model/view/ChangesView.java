@@ -0,0 +1,165 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the changes of a product since a cursor, with the cursor of the next synchronization.
+ */
+public class ChangesView {
+
+    /**
+     * The cursor from which the next synchronization reads.
+     */
+    private String cursor;
+
+    /**
+     * The changed sprints of the product.
+     */
+    private List<ChangeView> sprints;
+
+    /**
+     * The changed item backlogs of the product.
+     */
+    private List<ChangeView> itensBacklog;
+
+    /**
+     * The changed tasks of the sprints of the product.
+     */
+    private List<ChangeView> tasksSprints;
+
+    /**
+     * Default constructor for ChangesView.
+     */
+    protected ChangesView() {
+    }
+
+    /**
+     * Constructor to initialize ChangesView with specific values.
+     *
+     * @param cursor       The cursor from which the next synchronization reads.
+     * @param sprints      The changed sprints of the product.
+     * @param itensBacklog The changed item backlogs of the product.
+     * @param tasksSprints The changed tasks of the sprints of the product.
+     */
+    public ChangesView(String cursor, List<ChangeView> sprints, List<ChangeView> itensBacklog, List<ChangeView> tasksSprints) {
+        this.cursor = cursor;
+        this.sprints = sprints;
+        this.itensBacklog = itensBacklog;
+        this.tasksSprints = tasksSprints;
+    }
+
+    /**
+     * Retrieves the cursor of the next synchronization.
+     *
+     * @return The cursor of the next synchronization.
+     */
+    public String getCursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Sets the cursor of the next synchronization.
+     *
+     * @param cursor The cursor of the next synchronization.
+     */
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Retrieves the changed sprints.
+     *
+     * @return The changed sprints.
+     */
+    public List<ChangeView> getSprints() {
+        return this.sprints;
+    }
+
+    /**
+     * Sets the changed sprints.
+     *
+     * @param sprints The changed sprints.
+     */
+    public void setSprints(List<ChangeView> sprints) {
+        this.sprints = sprints;
+    }
+
+    /**
+     * Retrieves the changed item backlogs.
+     *
+     * @return The changed item backlogs.
+     */
+    public List<ChangeView> getItensBacklog() {
+        return this.itensBacklog;
+    }
+
+    /**
+     * Sets the changed item backlogs.
+     *
+     * @param itensBacklog The changed item backlogs.
+     */
+    public void setItensBacklog(List<ChangeView> itensBacklog) {
+        this.itensBacklog = itensBacklog;
+    }
+
+    /**
+     * Retrieves the changed tasks.
+     *
+     * @return The changed tasks.
+     */
+    public List<ChangeView> getTasksSprints() {
+        return this.tasksSprints;
+    }
+
+    /**
+     * Sets the changed tasks.
+     *
+     * @param tasksSprints The changed tasks.
+     */
+    public void setTasksSprints(List<ChangeView> tasksSprints) {
+        this.tasksSprints = tasksSprints;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof ChangesView)) {
+            return false;
+        }
+        ChangesView changesView = (ChangesView) o;
+        return Objects.equals(cursor, changesView.cursor) && Objects.equals(sprints, changesView.sprints) && Objects.equals(itensBacklog, changesView.itensBacklog) && Objects.equals(tasksSprints, changesView.tasksSprints);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(cursor, sprints, itensBacklog, tasksSprints);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " cursor='" + getCursor() + "'" +
+            ", sprints='" + getSprints() + "'" +
+            ", itensBacklog='" + getItensBacklog() + "'" +
+            ", tasksSprints='" + getTasksSprints() + "'" +
+            "}";
+    }
+}
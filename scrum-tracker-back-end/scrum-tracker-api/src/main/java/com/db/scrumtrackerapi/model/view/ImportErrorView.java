@@ -0,0 +1,112 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.Objects;
+
+/**
+ * Represents a record of an import that could not be persisted.
+ */
+public class ImportErrorView {
+
+    /**
+     * The line of the record in the imported file, starting at 1.
+     */
+    private long line;
+
+    /**
+     * The reason the record was rejected.
+     */
+    private String message;
+
+    /**
+     * Default constructor for ImportErrorView.
+     */
+    protected ImportErrorView() {
+    }
+
+    /**
+     * Constructor to initialize ImportErrorView with specific values.
+     *
+     * @param line    The line of the record in the imported file.
+     * @param message The reason the record was rejected.
+     */
+    public ImportErrorView(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    /**
+     * Retrieves the line of the record in the imported file.
+     *
+     * @return The line of the record, starting at 1.
+     */
+    public long getLine() {
+        return this.line;
+    }
+
+    /**
+     * Sets the line of the record in the imported file.
+     *
+     * @param line The line of the record.
+     */
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    /**
+     * Retrieves the reason the record was rejected.
+     *
+     * @return The reason the record was rejected.
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Sets the reason the record was rejected.
+     *
+     * @param message The reason the record was rejected.
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof ImportErrorView)) {
+            return false;
+        }
+        ImportErrorView importErrorView = (ImportErrorView) o;
+        return line == importErrorView.line && Objects.equals(message, importErrorView.message);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(line, message);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " line='" + getLine() + "'" +
+            ", message='" + getMessage() + "'" +
+            "}";
+    }
+}
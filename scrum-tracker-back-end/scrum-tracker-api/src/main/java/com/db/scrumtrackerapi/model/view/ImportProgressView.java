@@ -0,0 +1,219 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the progress of an import after one of its chunks has been committed.
+ */
+public class ImportProgressView {
+
+    /**
+     * The number of the chunk, starting at 1.
+     */
+    private int chunk;
+
+    /**
+     * The last line of the imported file read so far.
+     */
+    private long lastLine;
+
+    /**
+     * The number of records of this chunk that were persisted.
+     */
+    private int imported;
+
+    /**
+     * The records of this chunk that were rejected.
+     */
+    private List<ImportErrorView> errors;
+
+    /**
+     * The number of records persisted since the import started.
+     */
+    private long totalImported;
+
+    /**
+     * The number of records rejected since the import started.
+     */
+    private long totalFailed;
+
+    /**
+     * Default constructor for ImportProgressView.
+     */
+    protected ImportProgressView() {
+    }
+
+    /**
+     * Constructor to initialize ImportProgressView with specific values.
+     *
+     * @param chunk         The number of the chunk.
+     * @param lastLine      The last line of the imported file read so far.
+     * @param imported      The number of records of this chunk that were persisted.
+     * @param errors        The records of this chunk that were rejected.
+     * @param totalImported The number of records persisted since the import started.
+     * @param totalFailed   The number of records rejected since the import started.
+     */
+    public ImportProgressView(int chunk, long lastLine, int imported, List<ImportErrorView> errors, long totalImported, long totalFailed) {
+        this.chunk = chunk;
+        this.lastLine = lastLine;
+        this.imported = imported;
+        this.errors = errors;
+        this.totalImported = totalImported;
+        this.totalFailed = totalFailed;
+    }
+
+    /**
+     * Retrieves the number of the chunk.
+     *
+     * @return The number of the chunk, starting at 1.
+     */
+    public int getChunk() {
+        return this.chunk;
+    }
+
+    /**
+     * Sets the number of the chunk.
+     *
+     * @param chunk The number of the chunk.
+     */
+    public void setChunk(int chunk) {
+        this.chunk = chunk;
+    }
+
+    /**
+     * Retrieves the last line of the imported file read so far.
+     *
+     * @return The last line read.
+     */
+    public long getLastLine() {
+        return this.lastLine;
+    }
+
+    /**
+     * Sets the last line of the imported file read so far.
+     *
+     * @param lastLine The last line read.
+     */
+    public void setLastLine(long lastLine) {
+        this.lastLine = lastLine;
+    }
+
+    /**
+     * Retrieves the number of records of this chunk that were persisted.
+     *
+     * @return The number of persisted records.
+     */
+    public int getImported() {
+        return this.imported;
+    }
+
+    /**
+     * Sets the number of records of this chunk that were persisted.
+     *
+     * @param imported The number of persisted records.
+     */
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    /**
+     * Retrieves the records of this chunk that were rejected.
+     *
+     * @return The rejected records.
+     */
+    public List<ImportErrorView> getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Sets the records of this chunk that were rejected.
+     *
+     * @param errors The rejected records.
+     */
+    public void setErrors(List<ImportErrorView> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Retrieves the number of records persisted since the import started.
+     *
+     * @return The number of persisted records.
+     */
+    public long getTotalImported() {
+        return this.totalImported;
+    }
+
+    /**
+     * Sets the number of records persisted since the import started.
+     *
+     * @param totalImported The number of persisted records.
+     */
+    public void setTotalImported(long totalImported) {
+        this.totalImported = totalImported;
+    }
+
+    /**
+     * Retrieves the number of records rejected since the import started.
+     *
+     * @return The number of rejected records.
+     */
+    public long getTotalFailed() {
+        return this.totalFailed;
+    }
+
+    /**
+     * Sets the number of records rejected since the import started.
+     *
+     * @param totalFailed The number of rejected records.
+     */
+    public void setTotalFailed(long totalFailed) {
+        this.totalFailed = totalFailed;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof ImportProgressView)) {
+            return false;
+        }
+        ImportProgressView importProgressView = (ImportProgressView) o;
+        return chunk == importProgressView.chunk && lastLine == importProgressView.lastLine && imported == importProgressView.imported
+            && Objects.equals(errors, importProgressView.errors) && totalImported == importProgressView.totalImported
+            && totalFailed == importProgressView.totalFailed;
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(chunk, lastLine, imported, errors, totalImported, totalFailed);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " chunk='" + getChunk() + "'" +
+            ", lastLine='" + getLastLine() + "'" +
+            ", imported='" + getImported() + "'" +
+            ", errors='" + getErrors() + "'" +
+            ", totalImported='" + getTotalImported() + "'" +
+            ", totalFailed='" + getTotalFailed() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,139 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+import com.db.scrumtrackerapi.util.PageCursor;
+
+/**
+ * Represents a page of a keyset paginated listing.
+ *
+ * @param <T> The type of the views in the page.
+ */
+public class PageView<T> {
+
+    /**
+     * The views of the page, in listing order.
+     */
+    private List<T> items;
+
+    /**
+     * The continuation token of the following page, or {@code null} when this is the last page.
+     */
+    private String next;
+
+    /**
+     * Default constructor for PageView.
+     */
+    protected PageView() {
+    }
+
+    /**
+     * Constructor to initialize PageView with specific values.
+     *
+     * @param items The views of the page.
+     * @param next  The continuation token of the following page, or {@code null}.
+     */
+    public PageView(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    /**
+     * Builds a page view from a slice of entities.
+     *
+     * @param <E>    The type of the entities.
+     * @param <T>    The type of the views.
+     * @param slice  The slice of entities.
+     * @param view   The function that converts an entity into its view.
+     * @param cursor The function that creates the cursor pointing after an entity.
+     * @return The page view, carrying a continuation token when the slice has a following page.
+     */
+    public static <E, T> PageView<T> of(Slice<E> slice, Function<E, T> view, Function<E, PageCursor> cursor) {
+        List<E> content = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            next = cursor.apply(content.get(content.size() - 1)).encode();
+        }
+        return new PageView<>(content.stream().map(view).toList(), next);
+    }
+
+    /**
+     * Retrieves the views of the page.
+     *
+     * @return The views of the page.
+     */
+    public List<T> getItems() {
+        return this.items;
+    }
+
+    /**
+     * Sets the views of the page.
+     *
+     * @param items The views of the page.
+     */
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    /**
+     * Retrieves the continuation token of the following page.
+     *
+     * @return The continuation token, or {@code null} when this is the last page.
+     */
+    public String getNext() {
+        return this.next;
+    }
+
+    /**
+     * Sets the continuation token of the following page.
+     *
+     * @param next The continuation token.
+     */
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof PageView)) {
+            return false;
+        }
+        PageView<?> pageView = (PageView<?>) o;
+        return Objects.equals(items, pageView.items) && Objects.equals(next, pageView.next);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, next);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " items='" + getItems() + "'" +
+            ", next='" + getNext() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,245 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.Objects;
+
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+
+/**
+ * Represents a backlog item or task matching a search, with the fields shown in a result list and its score.
+ */
+public class SearchResultView {
+
+    /**
+     * The kind of the entity, ITEM_BACKLOG or TASK_SPRINT.
+     */
+    private String subject;
+
+    /**
+     * The unique identifier of the entity.
+     */
+    private Long id;
+
+    /**
+     * The name of the entity.
+     */
+    private String name;
+
+    /**
+     * The status of the entity.
+     */
+    private Status status;
+
+    /**
+     * The priority of the entity.
+     */
+    private Priority priority;
+
+    /**
+     * The unique identifier of the product backlog of an item, or of the sprint of a task.
+     */
+    private Long parentId;
+
+    /**
+     * The relevance of the entity to the search, higher first.
+     */
+    private int score;
+
+    /**
+     * Default constructor for SearchResultView.
+     */
+    protected SearchResultView() {
+    }
+
+    /**
+     * Constructor to initialize SearchResultView with specific values.
+     *
+     * @param subject  The kind of the entity, ITEM_BACKLOG or TASK_SPRINT.
+     * @param id       The unique identifier of the entity.
+     * @param name     The name of the entity.
+     * @param status   The status of the entity.
+     * @param priority The priority of the entity.
+     * @param parentId The unique identifier of the product backlog of an item, or of the sprint of a task.
+     * @param score    The relevance of the entity to the search, higher first.
+     */
+    public SearchResultView(String subject, Long id, String name, Status status, Priority priority, Long parentId, int score) {
+        this.subject = subject;
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.priority = priority;
+        this.parentId = parentId;
+        this.score = score;
+    }
+
+    /**
+     * Retrieves the kind of the entity.
+     *
+     * @return The kind of the entity.
+     */
+    public String getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * Sets the kind of the entity.
+     *
+     * @param subject The kind of the entity.
+     */
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    /**
+     * Retrieves the unique identifier of the entity.
+     *
+     * @return The unique identifier of the entity.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the unique identifier of the entity.
+     *
+     * @param id The unique identifier of the entity.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the name of the entity.
+     *
+     * @return The name of the entity.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Sets the name of the entity.
+     *
+     * @param name The name of the entity.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the status of the entity.
+     *
+     * @return The status of the entity.
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Sets the status of the entity.
+     *
+     * @param status The status of the entity.
+     */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * Retrieves the priority of the entity.
+     *
+     * @return The priority of the entity.
+     */
+    public Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Sets the priority of the entity.
+     *
+     * @param priority The priority of the entity.
+     */
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the unique identifier of the parent of the entity.
+     *
+     * @return The unique identifier of the parent of the entity.
+     */
+    public Long getParentId() {
+        return this.parentId;
+    }
+
+    /**
+     * Sets the unique identifier of the parent of the entity.
+     *
+     * @param parentId The unique identifier of the parent of the entity.
+     */
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    /**
+     * Retrieves the relevance of the entity to the search.
+     *
+     * @return The relevance of the entity to the search.
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Sets the relevance of the entity to the search.
+     *
+     * @param score The relevance of the entity to the search.
+     */
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof SearchResultView)) {
+            return false;
+        }
+        SearchResultView searchResultView = (SearchResultView) o;
+        return Objects.equals(subject, searchResultView.subject) && Objects.equals(id, searchResultView.id) && Objects.equals(name, searchResultView.name) && Objects.equals(status, searchResultView.status) && Objects.equals(priority, searchResultView.priority) && Objects.equals(parentId, searchResultView.parentId) && score == searchResultView.score;
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(subject, id, name, status, priority, parentId, score);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " subject='" + getSubject() + "'" +
+            ", id='" + getId() + "'" +
+            ", name='" + getName() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", priority='" + getPriority() + "'" +
+            ", parentId='" + getParentId() + "'" +
+            ", score='" + getScore() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,139 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the board of a Sprint: its goals and one column per task status, in workflow order.
+ */
+public class SprintBoardView {
+
+    /**
+     * The unique identifier of the Sprint.
+     */
+    private Long id;
+
+    /**
+     * The goals of the Sprint.
+     */
+    private String sprintGoals;
+
+    /**
+     * The columns of the board, one per task status, in workflow order.
+     */
+    private List<BoardColumnView> columns;
+
+    /**
+     * Default constructor for SprintBoardView.
+     */
+    protected SprintBoardView() {
+    }
+
+    /**
+     * Constructor to initialize SprintBoardView with specific values.
+     *
+     * @param id          The unique identifier of the Sprint.
+     * @param sprintGoals The goals of the Sprint.
+     * @param columns     The columns of the board.
+     */
+    public SprintBoardView(Long id, String sprintGoals, List<BoardColumnView> columns) {
+        this.id = id;
+        this.sprintGoals = sprintGoals;
+        this.columns = columns;
+    }
+
+    /**
+     * Retrieves the unique identifier of the Sprint.
+     *
+     * @return The unique identifier of the Sprint.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the unique identifier of the Sprint.
+     *
+     * @param id The unique identifier of the Sprint.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the goals of the Sprint.
+     *
+     * @return The goals of the Sprint.
+     */
+    public String getSprintGoals() {
+        return this.sprintGoals;
+    }
+
+    /**
+     * Sets the goals of the Sprint.
+     *
+     * @param sprintGoals The goals of the Sprint.
+     */
+    public void setSprintGoals(String sprintGoals) {
+        this.sprintGoals = sprintGoals;
+    }
+
+    /**
+     * Retrieves the columns of the board, in workflow order.
+     *
+     * @return The columns of the board.
+     */
+    public List<BoardColumnView> getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * Sets the columns of the board.
+     *
+     * @param columns The columns of the board.
+     */
+    public void setColumns(List<BoardColumnView> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof SprintBoardView)) {
+            return false;
+        }
+        SprintBoardView sprintBoardView = (SprintBoardView) o;
+        return Objects.equals(id, sprintBoardView.id) && Objects.equals(sprintGoals, sprintBoardView.sprintGoals) && Objects.equals(columns, sprintBoardView.columns);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, sprintGoals, columns);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " id='" + getId() + "'" +
+            ", sprintGoals='" + getSprintGoals() + "'" +
+            ", columns='" + getColumns() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,245 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.Objects;
+
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+
+/**
+ * Represents a change of a task or backlog item of a sprint, pushed to the subscribers of the sprint.
+ */
+public class SprintEventView {
+
+    /**
+     * The kind of the change, CHANGED, REMOVED or RESET.
+     */
+    private String type;
+
+    /**
+     * The kind of the entity that changed, TASK_SPRINT or ITEM_BACKLOG, absent on RESET.
+     */
+    private String subject;
+
+    /**
+     * The ID of the entity that changed, absent on RESET.
+     */
+    private Long entityId;
+
+    /**
+     * The name of the entity after the change.
+     */
+    private String name;
+
+    /**
+     * The status of the entity after the change.
+     */
+    private Status status;
+
+    /**
+     * The priority of the entity after the change.
+     */
+    private Priority priority;
+
+    /**
+     * The ID of the customer responsible for a task after the change, absent when there is none.
+     */
+    private Long responsibleId;
+
+    /**
+     * Default constructor for SprintEventView.
+     */
+    protected SprintEventView() {
+    }
+
+    /**
+     * Constructor to initialize SprintEventView with specific values.
+     *
+     * @param type          The kind of the change, CHANGED, REMOVED or RESET.
+     * @param subject       The kind of the entity that changed, TASK_SPRINT or ITEM_BACKLOG, absent on RESET.
+     * @param entityId      The ID of the entity that changed, absent on RESET.
+     * @param name          The name of the entity after the change.
+     * @param status        The status of the entity after the change.
+     * @param priority      The priority of the entity after the change.
+     * @param responsibleId The ID of the customer responsible for a task after the change, absent when there is none.
+     */
+    public SprintEventView(String type, String subject, Long entityId, String name, Status status, Priority priority, Long responsibleId) {
+        this.type = type;
+        this.subject = subject;
+        this.entityId = entityId;
+        this.name = name;
+        this.status = status;
+        this.priority = priority;
+        this.responsibleId = responsibleId;
+    }
+
+    /**
+     * Retrieves the kind of the change.
+     *
+     * @return The kind of the change.
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /**
+     * Sets the kind of the change.
+     *
+     * @param type The kind of the change.
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Retrieves the kind of the entity that changed.
+     *
+     * @return The kind of the entity that changed.
+     */
+    public String getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * Sets the kind of the entity that changed.
+     *
+     * @param subject The kind of the entity that changed.
+     */
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    /**
+     * Retrieves the ID of the entity that changed.
+     *
+     * @return The ID of the entity that changed.
+     */
+    public Long getEntityId() {
+        return this.entityId;
+    }
+
+    /**
+     * Sets the ID of the entity that changed.
+     *
+     * @param entityId The ID of the entity that changed.
+     */
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * Retrieves the name of the entity after the change.
+     *
+     * @return The name of the entity after the change.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Sets the name of the entity after the change.
+     *
+     * @param name The name of the entity after the change.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves the status of the entity after the change.
+     *
+     * @return The status of the entity after the change.
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Sets the status of the entity after the change.
+     *
+     * @param status The status of the entity after the change.
+     */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * Retrieves the priority of the entity after the change.
+     *
+     * @return The priority of the entity after the change.
+     */
+    public Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Sets the priority of the entity after the change.
+     *
+     * @param priority The priority of the entity after the change.
+     */
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the ID of the customer responsible for the task.
+     *
+     * @return The ID of the customer responsible for the task.
+     */
+    public Long getResponsibleId() {
+        return this.responsibleId;
+    }
+
+    /**
+     * Sets the ID of the customer responsible for the task.
+     *
+     * @param responsibleId The ID of the customer responsible for the task.
+     */
+    public void setResponsibleId(Long responsibleId) {
+        this.responsibleId = responsibleId;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof SprintEventView)) {
+            return false;
+        }
+        SprintEventView sprintEventView = (SprintEventView) o;
+        return Objects.equals(type, sprintEventView.type) && Objects.equals(subject, sprintEventView.subject) && Objects.equals(entityId, sprintEventView.entityId) && Objects.equals(name, sprintEventView.name) && Objects.equals(status, sprintEventView.status) && Objects.equals(priority, sprintEventView.priority) && Objects.equals(responsibleId, sprintEventView.responsibleId);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, subject, entityId, name, status, priority, responsibleId);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " type='" + getType() + "'" +
+            ", subject='" + getSubject() + "'" +
+            ", entityId='" + getEntityId() + "'" +
+            ", name='" + getName() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", priority='" + getPriority() + "'" +
+            ", responsibleId='" + getResponsibleId() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,164 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.Objects;
+
+/**
+ * Represents the velocity of a Sprint: the effort committed to and the effort done.
+ */
+public class SprintVelocityView {
+
+    /**
+     * The unique identifier of the Sprint.
+     */
+    private Long sprintId;
+
+    /**
+     * The goals of the Sprint.
+     */
+    private String sprintGoals;
+
+    /**
+     * The effort of every task of the Sprint.
+     */
+    private double committedEffort;
+
+    /**
+     * The effort of the tasks of the Sprint done.
+     */
+    private double completedEffort;
+
+    /**
+     * Default constructor for SprintVelocityView.
+     */
+    protected SprintVelocityView() {
+    }
+
+    /**
+     * Constructor to initialize SprintVelocityView with specific values.
+     *
+     * @param sprintId        The unique identifier of the Sprint.
+     * @param sprintGoals     The goals of the Sprint.
+     * @param committedEffort The effort of every task of the Sprint.
+     * @param completedEffort The effort of the tasks of the Sprint done.
+     */
+    public SprintVelocityView(Long sprintId, String sprintGoals, double committedEffort, double completedEffort) {
+        this.sprintId = sprintId;
+        this.sprintGoals = sprintGoals;
+        this.committedEffort = committedEffort;
+        this.completedEffort = completedEffort;
+    }
+
+    /**
+     * Retrieves the unique identifier of the Sprint.
+     *
+     * @return The unique identifier of the Sprint.
+     */
+    public Long getSprintId() {
+        return this.sprintId;
+    }
+
+    /**
+     * Sets the unique identifier of the Sprint.
+     *
+     * @param sprintId The unique identifier of the Sprint.
+     */
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    /**
+     * Retrieves the goals of the Sprint.
+     *
+     * @return The goals of the Sprint.
+     */
+    public String getSprintGoals() {
+        return this.sprintGoals;
+    }
+
+    /**
+     * Sets the goals of the Sprint.
+     *
+     * @param sprintGoals The goals of the Sprint.
+     */
+    public void setSprintGoals(String sprintGoals) {
+        this.sprintGoals = sprintGoals;
+    }
+
+    /**
+     * Retrieves the effort of every task of the Sprint.
+     *
+     * @return The committed effort.
+     */
+    public double getCommittedEffort() {
+        return this.committedEffort;
+    }
+
+    /**
+     * Sets the effort of every task of the Sprint.
+     *
+     * @param committedEffort The committed effort.
+     */
+    public void setCommittedEffort(double committedEffort) {
+        this.committedEffort = committedEffort;
+    }
+
+    /**
+     * Retrieves the effort of the tasks of the Sprint done.
+     *
+     * @return The completed effort.
+     */
+    public double getCompletedEffort() {
+        return this.completedEffort;
+    }
+
+    /**
+     * Sets the effort of the tasks of the Sprint done.
+     *
+     * @param completedEffort The completed effort.
+     */
+    public void setCompletedEffort(double completedEffort) {
+        this.completedEffort = completedEffort;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof SprintVelocityView)) {
+            return false;
+        }
+        SprintVelocityView sprintVelocityView = (SprintVelocityView) o;
+        return Objects.equals(sprintId, sprintVelocityView.sprintId) && Objects.equals(sprintGoals, sprintVelocityView.sprintGoals) && Double.compare(committedEffort, sprintVelocityView.committedEffort) == 0 && Double.compare(completedEffort, sprintVelocityView.completedEffort) == 0;
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(sprintId, sprintGoals, committedEffort, completedEffort);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " sprintId='" + getSprintId() + "'" +
+            ", sprintGoals='" + getSprintGoals() + "'" +
+            ", committedEffort='" + getCommittedEffort() + "'" +
+            ", completedEffort='" + getCompletedEffort() + "'" +
+            "}";
+    }
+}
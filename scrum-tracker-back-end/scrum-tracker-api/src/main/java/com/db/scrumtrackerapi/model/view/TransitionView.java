@@ -0,0 +1,243 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Represents a change of the status, priority or responsible of a task or backlog item.
+ */
+public class TransitionView {
+
+    /**
+     * The kind of the entity that changed, TASK_SPRINT or ITEM_BACKLOG.
+     */
+    private String subject;
+
+    /**
+     * The ID of the entity that changed.
+     */
+    private Long entityId;
+
+    /**
+     * The field that changed, STATUS, PRIORITY or RESPONSIBLE.
+     */
+    private String field;
+
+    /**
+     * The value of the field before the change.
+     */
+    private String from;
+
+    /**
+     * The value of the field after the change.
+     */
+    private String to;
+
+    /**
+     * The email of the customer who made the change, absent when anonymous.
+     */
+    private String actor;
+
+    /**
+     * The instant of the change.
+     */
+    private LocalDateTime timestamp;
+
+    /**
+     * Default constructor for TransitionView.
+     */
+    protected TransitionView() {
+    }
+
+    /**
+     * Constructor to initialize TransitionView with specific values.
+     *
+     * @param subject   The kind of the entity that changed, TASK_SPRINT or ITEM_BACKLOG.
+     * @param entityId  The ID of the entity that changed.
+     * @param field     The field that changed, STATUS, PRIORITY or RESPONSIBLE.
+     * @param from      The value of the field before the change.
+     * @param to        The value of the field after the change.
+     * @param actor     The email of the customer who made the change, absent when anonymous.
+     * @param timestamp The instant of the change.
+     */
+    public TransitionView(String subject, Long entityId, String field, String from, String to, String actor, LocalDateTime timestamp) {
+        this.subject = subject;
+        this.entityId = entityId;
+        this.field = field;
+        this.from = from;
+        this.to = to;
+        this.actor = actor;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Retrieves the kind of the entity that changed.
+     *
+     * @return The kind of the entity.
+     */
+    public String getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * Sets the kind of the entity that changed.
+     *
+     * @param subject The kind of the entity.
+     */
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    /**
+     * Retrieves the ID of the entity that changed.
+     *
+     * @return The ID of the entity.
+     */
+    public Long getEntityId() {
+        return this.entityId;
+    }
+
+    /**
+     * Sets the ID of the entity that changed.
+     *
+     * @param entityId The ID of the entity.
+     */
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * Retrieves the field that changed.
+     *
+     * @return The field.
+     */
+    public String getField() {
+        return this.field;
+    }
+
+    /**
+     * Sets the field that changed.
+     *
+     * @param field The field.
+     */
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    /**
+     * Retrieves the value of the field before the change.
+     *
+     * @return The previous value.
+     */
+    public String getFrom() {
+        return this.from;
+    }
+
+    /**
+     * Sets the value of the field before the change.
+     *
+     * @param from The previous value.
+     */
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    /**
+     * Retrieves the value of the field after the change.
+     *
+     * @return The new value.
+     */
+    public String getTo() {
+        return this.to;
+    }
+
+    /**
+     * Sets the value of the field after the change.
+     *
+     * @param to The new value.
+     */
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    /**
+     * Retrieves the email of the customer who made the change.
+     *
+     * @return The actor.
+     */
+    public String getActor() {
+        return this.actor;
+    }
+
+    /**
+     * Sets the email of the customer who made the change.
+     *
+     * @param actor The actor.
+     */
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    /**
+     * Retrieves the instant of the change.
+     *
+     * @return The timestamp.
+     */
+    public LocalDateTime getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Sets the instant of the change.
+     *
+     * @param timestamp The timestamp.
+     */
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof TransitionView)) {
+            return false;
+        }
+        TransitionView transitionView = (TransitionView) o;
+        return Objects.equals(subject, transitionView.subject) && Objects.equals(entityId, transitionView.entityId) && Objects.equals(field, transitionView.field) && Objects.equals(from, transitionView.from) && Objects.equals(to, transitionView.to) && Objects.equals(actor, transitionView.actor) && Objects.equals(timestamp, transitionView.timestamp);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(subject, entityId, field, from, to, actor, timestamp);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " subject='" + getSubject() + "'" +
+            ", entityId='" + getEntityId() + "'" +
+            ", field='" + getField() + "'" +
+            ", from='" + getFrom() + "'" +
+            ", to='" + getTo() + "'" +
+            ", actor='" + getActor() + "'" +
+            ", timestamp='" + getTimestamp() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,139 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the velocity of a Product: the effort committed to and done in each of its Sprints, and their mean.
+ */
+public class VelocityView {
+
+    /**
+     * The unique identifier of the Product.
+     */
+    private Long productId;
+
+    /**
+     * The mean effort done per Sprint.
+     */
+    private double averageVelocity;
+
+    /**
+     * The velocity of each Sprint of the Product, in ID order.
+     */
+    private List<SprintVelocityView> sprints;
+
+    /**
+     * Default constructor for VelocityView.
+     */
+    protected VelocityView() {
+    }
+
+    /**
+     * Constructor to initialize VelocityView with specific values.
+     *
+     * @param productId       The unique identifier of the Product.
+     * @param averageVelocity The mean effort done per Sprint.
+     * @param sprints         The velocity of each Sprint of the Product, in ID order.
+     */
+    public VelocityView(Long productId, double averageVelocity, List<SprintVelocityView> sprints) {
+        this.productId = productId;
+        this.averageVelocity = averageVelocity;
+        this.sprints = sprints;
+    }
+
+    /**
+     * Retrieves the unique identifier of the Product.
+     *
+     * @return The unique identifier of the Product.
+     */
+    public Long getProductId() {
+        return this.productId;
+    }
+
+    /**
+     * Sets the unique identifier of the Product.
+     *
+     * @param productId The unique identifier of the Product.
+     */
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    /**
+     * Retrieves the mean effort done per Sprint.
+     *
+     * @return The average velocity.
+     */
+    public double getAverageVelocity() {
+        return this.averageVelocity;
+    }
+
+    /**
+     * Sets the mean effort done per Sprint.
+     *
+     * @param averageVelocity The average velocity.
+     */
+    public void setAverageVelocity(double averageVelocity) {
+        this.averageVelocity = averageVelocity;
+    }
+
+    /**
+     * Retrieves the velocity of each Sprint of the Product, in ID order.
+     *
+     * @return The velocity of each Sprint.
+     */
+    public List<SprintVelocityView> getSprints() {
+        return this.sprints;
+    }
+
+    /**
+     * Sets the velocity of each Sprint of the Product, in ID order.
+     *
+     * @param sprints The velocity of each Sprint.
+     */
+    public void setSprints(List<SprintVelocityView> sprints) {
+        this.sprints = sprints;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return {@code true} if this object is the same as the obj argument, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof VelocityView)) {
+            return false;
+        }
+        VelocityView velocityView = (VelocityView) o;
+        return Objects.equals(productId, velocityView.productId) && Double.compare(averageVelocity, velocityView.averageVelocity) == 0 && Objects.equals(sprints, velocityView.sprints);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, averageVelocity, sprints);
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "{" +
+            " productId='" + getProductId() + "'" +
+            ", averageVelocity='" + getAverageVelocity() + "'" +
+            ", sprints='" + getSprints() + "'" +
+            "}";
+    }
+}
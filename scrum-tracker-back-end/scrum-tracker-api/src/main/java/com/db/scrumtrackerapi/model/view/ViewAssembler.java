@@ -0,0 +1,285 @@
+package com.db.scrumtrackerapi.model.view;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.proxy.HibernateProxy;
+
+import com.db.scrumtrackerapi.model.BaseEntity;
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.util.FieldSelection;
+
+/**
+ * Assembles the views of a response.
+ *
+ * <p> An assembler is meant to live for a single request. It keeps an identity map of the views it has built, so an
+ * entity reached several times, such as a sprint shared by many backlog items, is converted once and its view reused.
+ * An entity reached again while its own view is still being assembled (a product reached from one of its sprints),
+ * or reached below the maximum depth, is replaced by a reference view holding only its ID.
+ *
+ * <p> Depth counts nesting levels below the view requested by the caller, which is at depth 0. A view is only reused
+ * at the depth it was built at, as an entity reached higher up is assembled further down before being truncated.
+ * Without a maximum depth, views are reused at any depth.
+ *
+ * <p> Associations left out by the {@link FieldSelection} of the assembler are not read from the entities, so lazy
+ * ones are not loaded, and are left {@code null} in the views.
+ */
+public class ViewAssembler {
+
+    /**
+     * Depth that never truncates a view; cycles are still cut by references.
+     */
+    public static final int UNLIMITED_DEPTH = Integer.MAX_VALUE;
+
+    /**
+     * Identifies a view of an entity, or an entity being assembled.
+     *
+     * @param type      The class of the view or of the entity.
+     * @param id        The ID of the entity.
+     * @param selection The selection the view was built with, {@code null} for an entity.
+     * @param remaining The nesting levels left below the view before truncation, {@code 0} for an entity.
+     */
+    private record Key(Class<?> type, Long id, FieldSelection selection, int remaining) {
+    }
+
+    private final int maxDepth;
+
+    private final Map<Key, Object> views = new HashMap<>();
+
+    private final Set<Key> assembling = new HashSet<>();
+
+    private int depth = 0;
+
+    private FieldSelection selection;
+
+    /**
+     * Creates an assembler that does not truncate views.
+     */
+    public ViewAssembler() {
+        this(UNLIMITED_DEPTH);
+    }
+
+    /**
+     * Creates an assembler that replaces entities nested deeper than the given depth with references.
+     *
+     * @param maxDepth The deepest nesting level assembled in full.
+     */
+    public ViewAssembler(int maxDepth) {
+        this(maxDepth, FieldSelection.ALL);
+    }
+
+    /**
+     * Creates an assembler that replaces entities nested deeper than the given depth with references, and only
+     * assembles the associations included by a selection.
+     *
+     * @param maxDepth  The deepest nesting level assembled in full.
+     * @param selection The selection of the views requested by the caller.
+     */
+    public ViewAssembler(int maxDepth, FieldSelection selection) {
+        this.maxDepth = maxDepth;
+        this.selection = selection;
+    }
+
+    /**
+     * Creates an assembler for a part of the view of an entity, so the part can be assembled apart, possibly on another
+     * thread, and joined into that view afterwards. The part starts one level below the entity, and a reference to the
+     * entity inside the part is cut as it would be within the whole view. Views are not shared with this assembler.
+     *
+     * @param parent The entity whose view the part belongs to.
+     * @return The assembler of the part.
+     */
+    public ViewAssembler below(BaseEntity parent) {
+        ViewAssembler assembler = new ViewAssembler(maxDepth, selection);
+        assembler.depth = depth + 1;
+        if (parent.getId() != null) {
+            assembler.assembling.add(new Key(entityClass(parent), parent.getId(), null, 0));
+        }
+        return assembler;
+    }
+
+    /**
+     * Creates an assembler for an association of the view of an entity, as {@link #below(BaseEntity)} does, with the
+     * selection of the association.
+     *
+     * @param parent      The entity whose view the association belongs to.
+     * @param association The name of the association in the view.
+     * @return The assembler of the association.
+     */
+    public ViewAssembler below(BaseEntity parent, String association) {
+        ViewAssembler assembler = below(parent);
+        assembler.selection = selection.child(association);
+        return assembler;
+    }
+
+    /**
+     * Gets the selection of the views assembled at the current level.
+     *
+     * @return The current selection.
+     */
+    public FieldSelection getSelection() {
+        return selection;
+    }
+
+    /**
+     * Assembles the view of a product, with its product backlog and sprints.
+     *
+     * @param product The product, may be {@code null}.
+     * @return The product view, {@code null} for a {@code null} product.
+     */
+    public ProductView toView(Product product) {
+        return assemble(ProductView.class, product, i -> new ProductView(i.getId(), null, null, null, null, null, null, null, null), i -> {
+            ProductBacklogView productBacklogView = i.isActive() ? nested("productBacklogView", () -> toView(i.getProductBacklog())) : null;
+            return new ProductView(i.getId(), i.getName(), i.getClient(), i.getObjectives(), i.getVision(), i.getDefinitionOfDone(),
+                i.getDefinitionOfReady(), productBacklogView, nested("sprintViews", () -> toViews(i.getSprints(), this::toView)));
+        });
+    }
+
+    /**
+     * Assembles the view of a product backlog, with its items.
+     *
+     * @param productBacklog The product backlog, may be {@code null}.
+     * @return The product backlog view, {@code null} for a {@code null} product backlog.
+     */
+    public ProductBacklogView toView(ProductBacklog productBacklog) {
+        return assemble(ProductBacklogView.class, productBacklog, i -> new ProductBacklogView(i.getId(), null),
+            i -> new ProductBacklogView(i.getId(), nested("itensBacklog", () -> toViews(i.getItensBacklog(), this::toView))));
+    }
+
+    /**
+     * Assembles the view of a backlog item, with its sprints.
+     *
+     * @param itemBacklog The backlog item, may be {@code null}.
+     * @return The backlog item view, {@code null} for a {@code null} backlog item.
+     */
+    public ItemBacklogView toView(ItemBacklog itemBacklog) {
+        return assemble(ItemBacklogView.class, itemBacklog, i -> new ItemBacklogView(i.getId(), null, null, null, null, null, null, null),
+            i -> new ItemBacklogView(i.getId(), i.getStatus().toString(), i.getPriority().toString(), i.getName(), i.getCriteriaAcceptance(),
+                i.getEffortEstimation(), nested("sprintViews", () -> toViews(i.getSprints(), this::toView)), i.getUserHistory()));
+    }
+
+    /**
+     * Assembles the overview of a sprint, with its tasks.
+     *
+     * @param sprint The sprint, may be {@code null}.
+     * @return The sprint view, {@code null} for a {@code null} sprint.
+     */
+    public SprintView toView(Sprint sprint) {
+        return assemble(SprintView.class, sprint, i -> new SprintView(i.getId(), null, null),
+            i -> new SprintView(i.getId(), i.getSprintGoals(), nested("tasksSprints", () -> toViews(i.getTasksSprints(), this::toView))));
+    }
+
+    /**
+     * Assembles the detailed view of a sprint, with its tasks, backlog items and product.
+     *
+     * @param sprint The sprint, may be {@code null}.
+     * @return The detailed sprint view, {@code null} for a {@code null} sprint.
+     */
+    public DetailedSprintView toDetailedView(Sprint sprint) {
+        return assemble(DetailedSprintView.class, sprint, i -> new DetailedSprintView(i.getId(), null, null, null, null),
+            i -> new DetailedSprintView(i.getId(), i.getSprintGoals(), nested("tasksSprints", () -> toViews(i.getTasksSprints(), this::toView)),
+                nested("itemBacklogViews", () -> toViews(i.getItensBacklog(), this::toView)), nested("productView", () -> toView(i.getProduct()))));
+    }
+
+    /**
+     * Assembles the view of a task, with its responsible when active.
+     *
+     * @param taskSprint The task, may be {@code null}.
+     * @return The task view, {@code null} for a {@code null} task.
+     */
+    public TaskSprintView toView(TaskSprint taskSprint) {
+        return assemble(TaskSprintView.class, taskSprint, i -> new TaskSprintView(i.getId(), null, null, null, null, null, null, null), i -> {
+            CustomerView responsibleView = nested("responsible", () -> {
+                Customer responsible = i.getResponsible();
+                return responsible != null && responsible.isActive() ? toView(responsible) : null;
+            });
+            return new TaskSprintView(i.getId(), i.getName(), i.getDescription(), i.getComments(), i.getStatus().toString(),
+                i.getPriority().toString(), i.getEffortEstimation(), responsibleView);
+        });
+    }
+
+    /**
+     * Assembles the view of a customer. Customer views carry no ID, so their references hold the email.
+     *
+     * @param customer The customer, may be {@code null}.
+     * @return The customer view, {@code null} for a {@code null} customer.
+     */
+    public CustomerView toView(Customer customer) {
+        return assemble(CustomerView.class, customer, i -> new CustomerView(null, null, i.getEmail(), null), Customer::toView);
+    }
+
+    /**
+     * Returns the class of an entity without initializing it when it is a proxy.
+     */
+    private static Class<?> entityClass(BaseEntity entity) {
+        if (entity instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getPersistentClass();
+        }
+        return entity.getClass();
+    }
+
+    /**
+     * Assembles an association of the current view with its own selection, or skips it when it is not included.
+     */
+    private <T> T nested(String association, Supplier<T> view) {
+        if (!selection.expands(association)) {
+            return null;
+        }
+        FieldSelection parent = selection;
+        selection = selection.child(association);
+        try {
+            return view.get();
+        } finally {
+            selection = parent;
+        }
+    }
+
+    private <E, V> List<V> toViews(List<E> entities, Function<E, V> view) {
+        if (entities == null) {
+            return null;
+        }
+        return entities.stream().map(view).toList();
+    }
+
+    /**
+     * Returns the view of an entity memoized at the same remaining depth, builds it one level deeper, or falls back to its reference
+     * when it is already being assembled or lies below the maximum depth.
+     */
+    private <E extends BaseEntity, V> V assemble(Class<V> type, E entity, Function<E, V> reference, Function<E, V> build) {
+        if (entity == null) {
+            return null;
+        }
+        Key entityKey = new Key(entityClass(entity), entity.getId(), null, 0);
+        Key viewKey = new Key(type, entity.getId(), selection, maxDepth == UNLIMITED_DEPTH ? UNLIMITED_DEPTH : maxDepth - depth);
+        boolean identified = entity.getId() != null;
+        if (depth > maxDepth || (identified && assembling.contains(entityKey))) {
+            return reference.apply(entity);
+        }
+        if (identified && views.containsKey(viewKey)) {
+            return type.cast(views.get(viewKey));
+        }
+        if (identified) {
+            assembling.add(entityKey);
+        }
+        depth++;
+        try {
+            V view = build.apply(entity);
+            if (identified) {
+                views.put(viewKey, view);
+            }
+            return view;
+        } finally {
+            depth--;
+            assembling.remove(entityKey);
+        }
+    }
+}
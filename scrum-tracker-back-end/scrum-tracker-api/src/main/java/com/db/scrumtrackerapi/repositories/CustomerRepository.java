@@ -1,9 +1,12 @@
 package com.db.scrumtrackerapi.repositories;
 
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import com.db.scrumtrackerapi.model.Customer;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for managing {@link Customer} entities.
@@ -13,11 +16,12 @@ import com.db.scrumtrackerapi.model.Customer;
 public interface CustomerRepository extends CrudRepository<Customer, Long> {
     
     /**
-     * Retrieves a list of customers by their email.
+     * Retrieves a list of customers by their email. The result is kept in the query cache.
      *
      * @param email The email of the customer.
      * @return A list of customers with the specified email.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Customer> findByEmail(String email);
 
 }
@@ -1,12 +1,21 @@
 package com.db.scrumtrackerapi.repositories;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.view.ChangeView;
+import com.db.scrumtrackerapi.util.SearchDocument;
  
 /**
  * Repository interface for {@link ItemBacklog} entities.
@@ -20,15 +29,156 @@ public interface ItemBacklogRepository extends CrudRepository<ItemBacklog, Long>
      * @param id The ID of the associated product backlog.
      * @return The list of item backlogs associated with the given product backlog ID.
      */
+    @EntityGraph(ItemBacklog.VIEW_GRAPH)
     @Query("SELECT i FROM ItemBacklog i  WHERE i.productBacklog.id = :productBacklogId")
     List<ItemBacklog> findByProductBacklogId(@Param("productBacklogId") Long id);
 
+    /**
+     * Retrieves a slice of the IDs of the item backlogs of a product backlog, in ID order, starting after the given
+     * item backlog ID.
+     *
+     * @param id       The ID of the associated product backlog.
+     * @param afterId  The ID of the last item backlog already returned, {@code 0} for the first slice.
+     * @param pageable The size of the slice.
+     * @return The slice of the IDs of the item backlogs associated with the given product backlog.
+     */
+    @Query("SELECT i.id FROM ItemBacklog i WHERE i.productBacklog.id = :productBacklogId AND i.id > :afterId ORDER BY i.id")
+    Slice<Long> findIdsByProductBacklogIdAfter(@Param("productBacklogId") Long id, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the item backlogs with the given IDs in ID order, using the fetch plan of the item backlog view.
+     *
+     * @param ids The IDs of the item backlogs.
+     * @return The list of item backlogs with their sprints.
+     */
+    @EntityGraph(ItemBacklog.VIEW_GRAPH)
+    @Query("SELECT i FROM ItemBacklog i WHERE i.id IN :ids ORDER BY i.id")
+    List<ItemBacklog> findViewByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the item backlogs with the given IDs in ID order, without fetching their sprints.
+     *
+     * @param ids The IDs of the item backlogs.
+     * @return The list of item backlogs.
+     */
+    @Query("SELECT i FROM ItemBacklog i WHERE i.id IN :ids ORDER BY i.id")
+    List<ItemBacklog> findShallowByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Retrieves a list of item backlogs by sprint ID.
      *
      * @param id The ID of the associated sprint.
      * @return The list of item backlogs associated with the given sprint ID.
      */
+    @EntityGraph(ItemBacklog.VIEW_GRAPH)
+    @Query("SELECT i FROM ItemBacklog i JOIN i.sprints s WHERE s.id = :sprintId")
+    List<ItemBacklog> findBySprintId(@Param("sprintId") Long id);
+
+    /**
+     * Retrieves a list of item backlogs by sprint ID, without fetching their sprints, for views leaving them out.
+     *
+     * @param id The ID of the associated sprint.
+     * @return The list of item backlogs associated with the given sprint ID.
+     */
     @Query("SELECT i FROM ItemBacklog i JOIN i.sprints s WHERE s.id = :sprintId")
-    List<ItemBacklog> findBySprintId(@Param("sprintId") Long id);    
-}
\ No newline at end of file
+    List<ItemBacklog> findShallowBySprintId(@Param("sprintId") Long id);
+
+    /**
+     * Retrieves an item backlog by ID using the fetch plan of the item backlog view.
+     *
+     * @param id The ID of the item backlog.
+     * @return The item backlog with the given ID, if any.
+     */
+    @EntityGraph(ItemBacklog.VIEW_GRAPH)
+    @Query("SELECT i FROM ItemBacklog i WHERE i.id = :id")
+    Optional<ItemBacklog> findViewById(@Param("id") Long id);
+
+    /**
+     * Retrieves a slice of item backlogs by product backlog ID, in ID order, starting after the given item ID.
+     *
+     * @param id       The ID of the associated product backlog.
+     * @param afterId  The ID of the last item already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of item backlogs associated with the given product backlog.
+     */
+    @Query("SELECT i FROM ItemBacklog i WHERE i.productBacklog.id = :productBacklogId AND i.id > :afterId ORDER BY i.id")
+    Slice<ItemBacklog> findByProductBacklogIdAfter(@Param("productBacklogId") Long id, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves a slice of item backlogs by product backlog ID, in descending priority order, starting after the given item.
+     *
+     * @param id       The ID of the associated product backlog.
+     * @param priority The priority of the last item already returned, the highest priority for the first page.
+     * @param afterId  The ID of the last item already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of item backlogs associated with the given product backlog.
+     */
+    @Query("SELECT i FROM ItemBacklog i WHERE i.productBacklog.id = :productBacklogId AND (i.priority < :priority OR (i.priority = :priority AND i.id > :afterId)) ORDER BY i.priority DESC, i.id")
+    Slice<ItemBacklog> findByProductBacklogIdAfterPriority(@Param("productBacklogId") Long id, @Param("priority") Priority priority, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves a slice of item backlogs by sprint ID, in ID order, starting after the given item ID.
+     *
+     * @param id       The ID of the associated sprint.
+     * @param afterId  The ID of the last item already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of item backlogs associated with the given sprint.
+     */
+    @Query("SELECT i FROM ItemBacklog i JOIN i.sprints s WHERE s.id = :sprintId AND i.id > :afterId ORDER BY i.id")
+    Slice<ItemBacklog> findBySprintIdAfter(@Param("sprintId") Long id, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves a slice of item backlogs by sprint ID, in descending priority order, starting after the given item.
+     *
+     * @param id       The ID of the associated sprint.
+     * @param priority The priority of the last item already returned, the highest priority for the first page.
+     * @param afterId  The ID of the last item already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of item backlogs associated with the given sprint.
+     */
+    @Query("SELECT i FROM ItemBacklog i JOIN i.sprints s WHERE s.id = :sprintId AND (i.priority < :priority OR (i.priority = :priority AND i.id > :afterId)) ORDER BY i.priority DESC, i.id")
+    Slice<ItemBacklog> findBySprintIdAfterPriority(@Param("sprintId") Long id, @Param("priority") Priority priority, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the item backlogs of a product written after the given time, in the compact form of a change
+     * synchronization. Deactivated items are only returned while the soft-delete filter is disabled.
+     *
+     * @param id    The ID of the product.
+     * @param since The last modification time up to which the changes have been seen.
+     * @return The changed item backlogs of the product, in ID order.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.model.view.ChangeView(CASE WHEN i.active = false THEN 'DEACTIVATED' WHEN i.timestamp > :since THEN 'CREATED' ELSE 'UPDATED' END, i.id, i.name, i.status, i.priority) "
+        + "FROM ItemBacklog i WHERE i.productBacklog.product.id = :product AND i.lastModified > :since ORDER BY i.id")
+    List<ChangeView> findChangesByProductId(@Param("product") Long id, @Param("since") LocalDateTime since);
+
+    /**
+     * Retrieves the greatest ID of the item backlogs.
+     *
+     * @return The greatest ID, {@code null} when there are none.
+     */
+    @Query("SELECT MAX(i.id) FROM ItemBacklog i")
+    Long findMaxId();
+
+    /**
+     * Retrieves a slice of the search documents of the active item backlogs in an ID range, in ID order.
+     *
+     * @param afterId  The ID the range starts after.
+     * @param toId     The ID the range ends at, inclusive.
+     * @param pageable The size of the slice.
+     * @return The slice of search documents.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.util.SearchDocument('ITEM_BACKLOG', i.id, i.name, i.status, i.priority, i.productBacklog.id, i.userHistory, i.criteriaAcceptance) "
+        + "FROM ItemBacklog i WHERE i.active = true AND i.id > :afterId AND i.id <= :toId ORDER BY i.id")
+    Slice<SearchDocument> findSearchDocuments(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
+    /**
+     * Retrieves the versions of an active item backlog and of the product of its backlog, the root every write shown
+     * by the view of the item increments, its sprints and their tasks included.
+     *
+     * @param id The ID of the item backlog.
+     * @return The versions of the item and its product, {@code 0} for an item without product, if the item is found
+     *         and active.
+     */
+    @Query("SELECT CONCAT(i.version, '.', COALESCE(p.version, 0)) FROM ItemBacklog i LEFT JOIN i.productBacklog b LEFT JOIN b.product p WHERE i.id = :id")
+    Optional<String> findVersionsById(@Param("id") Long id);
+}
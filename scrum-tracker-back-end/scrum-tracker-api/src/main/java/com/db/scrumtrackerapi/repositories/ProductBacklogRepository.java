@@ -1,12 +1,18 @@
 package com.db.scrumtrackerapi.repositories;
 
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.db.scrumtrackerapi.model.ProductBacklog;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for {@link ProductBacklog} entities.
  */
@@ -14,12 +20,22 @@ import com.db.scrumtrackerapi.model.ProductBacklog;
 public interface ProductBacklogRepository extends CrudRepository<ProductBacklog, Long> {
 
     /**
-     * Retrieves the product backlog by product ID.
+     * Retrieves the product backlog of an active product by product ID. The result is kept in the query cache.
      *
      * @param productId The ID of the associated product.
      * @return The product backlog associated with the given product ID.
      */
-    @Query("SELECT p FROM ProductBacklog p WHERE p.product.id = :productId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p FROM ProductBacklog p WHERE p.product.id = :productId AND p.product.active = true")
     ProductBacklog findByProductId(@Param("productId") Long id);
 
+    /**
+     * Retrieves the versions of an active product backlog and of its product, the root of the backlog and its items.
+     *
+     * @param id The ID of the product backlog.
+     * @return The versions of the backlog and its product, {@code 0} for a backlog without product, if the backlog is
+     *         found and active.
+     */
+    @Query("SELECT CONCAT(b.version, '.', COALESCE(p.version, 0)) FROM ProductBacklog b LEFT JOIN b.product p WHERE b.id = :id")
+    Optional<String> findVersionsById(@Param("id") Long id);
 }
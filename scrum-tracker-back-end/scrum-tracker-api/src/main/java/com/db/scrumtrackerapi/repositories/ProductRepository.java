@@ -1,11 +1,19 @@
 package com.db.scrumtrackerapi.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.db.scrumtrackerapi.model.Product;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for {@link Product} entities.
  */
@@ -13,11 +21,30 @@ import com.db.scrumtrackerapi.model.Product;
 public interface ProductRepository extends CrudRepository<Product, Long> {
 
     /**
-     * Retrieves the product with the highest ID.
+     * Retrieves the product with the highest ID. The result is kept in the query cache.
      *
      * @return The product with the highest ID.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query(value = "SELECT p FROM Product p WHERE p.id = (SELECT MAX(p2.id) FROM Product p2 WHERE p2.active = true)")
     Product getLast();
 
+    /**
+     * Retrieves the version of an active product, which changes whenever the product or anything shown in its
+     * view is written.
+     *
+     * @param id The ID of the product.
+     * @return The version of the product, if it is found and active.
+     */
+    @Query("SELECT p.version FROM Product p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads the current time of the database, the one clock shared by every node reading changes.
+     *
+     * @return The current local time of the database.
+     */
+    @Query("SELECT LOCAL DATETIME")
+    LocalDateTime findDatabaseTime();
+
 }
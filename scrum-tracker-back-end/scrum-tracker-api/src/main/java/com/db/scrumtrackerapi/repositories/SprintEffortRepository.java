@@ -0,0 +1,25 @@
+package com.db.scrumtrackerapi.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.db.scrumtrackerapi.model.SprintEffort;
+
+/**
+ * Repository interface for {@link SprintEffort} entities, keyed by sprint ID.
+ */
+@Repository
+public interface SprintEffortRepository extends CrudRepository<SprintEffort, Long> {
+
+    /**
+     * Retrieves the IDs of the active sprints without effort counters, the sprints written before the counters
+     * existed, in ID order.
+     *
+     * @return The IDs of the sprints without effort counters.
+     */
+    @Query("SELECT s.id FROM Sprint s WHERE NOT EXISTS (SELECT e FROM SprintEffort e WHERE e.sprintId = s.id) ORDER BY s.id")
+    List<Long> findUnseededSprintIds();
+}
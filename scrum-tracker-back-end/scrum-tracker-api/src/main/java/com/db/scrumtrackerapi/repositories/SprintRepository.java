@@ -1,13 +1,22 @@
 package com.db.scrumtrackerapi.repositories;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.view.ChangeView;
+
+import jakarta.persistence.LockModeType;
 
 /**
  * Repository interface for {@link Sprint} entities.
@@ -21,6 +30,7 @@ public interface SprintRepository extends CrudRepository<Sprint, Long> {
      * @param id The ID of the associated item backlog.
      * @return The list of sprints associated with the given item backlog ID.
      */
+    @EntityGraph(Sprint.DETAILED_VIEW_GRAPH)
     @Query("SELECT s FROM Sprint s  JOIN s.itensBacklog i WHERE i.id = :itensBacklogId")
     List<Sprint> findByItensBacklogId(@Param("itensBacklogId") Long id);
 
@@ -30,7 +40,105 @@ public interface SprintRepository extends CrudRepository<Sprint, Long> {
      * @param id The ID of the associated product.
      * @return The list of sprints associated with the given product.
      */
+    @EntityGraph(Sprint.DETAILED_VIEW_GRAPH)
     @Query("SELECT s FROM Sprint s WHERE s.product.id = :productId")
     List<Sprint> findByProductId(@Param("productId") Long id);
 
-}
\ No newline at end of file
+    /**
+     * Retrieves the sprints of a product in ID order, without fetching their associations.
+     *
+     * @param id The ID of the associated product.
+     * @return The list of sprints associated with the given product.
+     */
+    @Query("SELECT s FROM Sprint s WHERE s.product.id = :productId ORDER BY s.id")
+    List<Sprint> findShallowByProductId(@Param("productId") Long id);
+
+    /**
+     * Retrieves a slice of sprints by product ID, in ID order, starting after the given sprint ID, without fetching
+     * their associations.
+     *
+     * @param id       The ID of the associated product.
+     * @param afterId  The ID of the last sprint already returned, {@code 0} for the first slice.
+     * @param pageable The size of the slice.
+     * @return The slice of sprints associated with the given product.
+     */
+    @Query("SELECT s FROM Sprint s WHERE s.product.id = :productId AND s.id > :afterId ORDER BY s.id")
+    Slice<Sprint> findShallowByProductIdAfter(@Param("productId") Long id, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves a sprint by ID using the fetch plan of the detailed sprint view.
+     *
+     * @param id The ID of the sprint.
+     * @return The sprint with the given ID, if any.
+     */
+    @EntityGraph(Sprint.DETAILED_VIEW_GRAPH)
+    @Query("SELECT s FROM Sprint s WHERE s.id = :id")
+    Optional<Sprint> findDetailedById(@Param("id") Long id);
+
+    /**
+     * Retrieves a sprint by ID and locks its row until the end of the transaction, serializing the writers
+     * of its effort counters.
+     *
+     * @param id The ID of the sprint.
+     * @return The sprint with the given ID, if any.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Sprint s WHERE s.id = :id")
+    Optional<Sprint> lockById(@Param("id") Long id);
+
+    /**
+     * Retrieves the versions of an active sprint and of its product, joined as {@code sprint.product}, the views
+     * of a sprint showing its product.
+     *
+     * @param id The ID of the sprint.
+     * @return The versions of the sprint and its product, {@code 0} for a sprint without product, if the sprint is
+     *         found and active.
+     */
+    @Query("SELECT CONCAT(s.version, '.', COALESCE(p.version, 0)) FROM Sprint s LEFT JOIN s.product p WHERE s.id = :id")
+    Optional<String> findVersionsById(@Param("id") Long id);
+
+    /**
+     * Retrieves a slice of sprints by product ID, in ID order, starting after the given sprint ID.
+     *
+     * @param id       The ID of the associated product.
+     * @param afterId  The ID of the last sprint already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of sprints associated with the given product.
+     */
+    @EntityGraph(attributePaths = "product")
+    @Query("SELECT s FROM Sprint s WHERE s.product.id = :productId AND s.id > :afterId ORDER BY s.id")
+    Slice<Sprint> findByProductIdAfter(@Param("productId") Long id, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves a slice of sprints by item backlog ID, in ID order, starting after the given sprint ID.
+     *
+     * @param id       The ID of the associated item backlog.
+     * @param afterId  The ID of the last sprint already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of sprints associated with the given item backlog.
+     */
+    @EntityGraph(attributePaths = "product")
+    @Query("SELECT s FROM Sprint s JOIN s.itensBacklog i WHERE i.id = :itensBacklogId AND s.id > :afterId ORDER BY s.id")
+    Slice<Sprint> findByItensBacklogIdAfter(@Param("itensBacklogId") Long id, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the sprints of a product written after the given time, in the compact form of a change
+     * synchronization. Deactivated sprints are only returned while the soft-delete filter is disabled.
+     *
+     * @param id    The ID of the product.
+     * @param since The last modification time up to which the changes have been seen.
+     * @return The changed sprints of the product, in ID order.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.model.view.ChangeView(CASE WHEN s.active = false THEN 'DEACTIVATED' WHEN s.timestamp > :since THEN 'CREATED' ELSE 'UPDATED' END, s.id, s.sprintGoals) "
+        + "FROM Sprint s WHERE s.product.id = :product AND s.lastModified > :since ORDER BY s.id")
+    List<ChangeView> findChangesByProductId(@Param("product") Long id, @Param("since") LocalDateTime since);
+
+    /**
+     * Retrieves the sprints holding tasks of a customer, the sprints whose views show the customer.
+     *
+     * @param id The ID of the customer.
+     * @return The sprints with a task the customer is responsible for.
+     */
+    @Query("SELECT DISTINCT t.sprint FROM TaskSprint t WHERE t.responsible.id = :id")
+    List<Sprint> findByResponsibleId(@Param("id") Long id);
+}
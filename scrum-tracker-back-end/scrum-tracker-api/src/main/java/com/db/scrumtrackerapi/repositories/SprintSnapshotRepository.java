@@ -0,0 +1,38 @@
+package com.db.scrumtrackerapi.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.db.scrumtrackerapi.model.SprintSnapshot;
+
+/**
+ * Repository interface for {@link SprintSnapshot} entities.
+ */
+@Repository
+public interface SprintSnapshotRepository extends CrudRepository<SprintSnapshot, Long> {
+
+    /**
+     * Retrieves the snapshot of a sprint for a day.
+     *
+     * @param sprintId The ID of the sprint.
+     * @param day      The day of the snapshot.
+     * @return The snapshot of the sprint for the day, if any.
+     */
+    @Query("SELECT s FROM SprintSnapshot s WHERE s.sprintId = :sprint AND s.day = :day")
+    Optional<SprintSnapshot> findBySprintIdAndDay(@Param("sprint") Long sprintId, @Param("day") LocalDate day);
+
+    /**
+     * Retrieves the snapshots of a sprint in day order.
+     *
+     * @param sprintId The ID of the sprint.
+     * @return The snapshots of the sprint.
+     */
+    @Query("SELECT s FROM SprintSnapshot s WHERE s.sprintId = :sprint ORDER BY s.day")
+    List<SprintSnapshot> findBySprintId(@Param("sprint") Long sprintId);
+}
@@ -1,13 +1,24 @@
 package com.db.scrumtrackerapi.repositories;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.db.scrumtrackerapi.model.SprintEffort;
 import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.view.BoardColumnView;
+import com.db.scrumtrackerapi.model.view.BoardTaskView;
+import com.db.scrumtrackerapi.model.view.ChangeView;
+import com.db.scrumtrackerapi.util.SearchDocument;
 
 /**
  * Repository interface for {@link TaskSprint} entities.
@@ -21,6 +32,134 @@ public interface TaskSprintRepository extends CrudRepository<TaskSprint, Long> {
      * @param id The ID of the associated sprint.
      * @return The list of task sprints associated with the given sprint ID.
      */
+    @EntityGraph(TaskSprint.VIEW_GRAPH)
     @Query("SELECT t FROM TaskSprint t JOIN t.sprint s WHERE s.id = :sprint")
     List<TaskSprint> findBySprintId(@Param("sprint") Long id);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves a list of task sprints by sprint ID, without fetching their responsibles, for views leaving them out.
+     *
+     * @param id The ID of the associated sprint.
+     * @return The list of task sprints associated with the given sprint ID.
+     */
+    @Query("SELECT t FROM TaskSprint t WHERE t.sprint.id = :sprint")
+    List<TaskSprint> findShallowBySprintId(@Param("sprint") Long id);
+
+    /**
+     * Retrieves a task sprint by ID using the fetch plan of the task sprint view.
+     *
+     * @param id The ID of the task sprint.
+     * @return The task sprint with the given ID, if any.
+     */
+    @EntityGraph(TaskSprint.VIEW_GRAPH)
+    @Query("SELECT t FROM TaskSprint t WHERE t.id = :id")
+    Optional<TaskSprint> findViewById(@Param("id") Long id);
+
+    /**
+     * Retrieves a slice of task sprints by sprint ID, in ID order, starting after the given task ID.
+     *
+     * @param id       The ID of the associated sprint.
+     * @param afterId  The ID of the last task already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of task sprints associated with the given sprint.
+     */
+    @EntityGraph(TaskSprint.VIEW_GRAPH)
+    @Query("SELECT t FROM TaskSprint t WHERE t.sprint.id = :sprint AND t.id > :afterId ORDER BY t.id")
+    Slice<TaskSprint> findBySprintIdAfter(@Param("sprint") Long id, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves a slice of task sprints by sprint ID, in descending priority order, starting after the given task.
+     *
+     * @param id       The ID of the associated sprint.
+     * @param priority The priority of the last task already returned, the highest priority for the first page.
+     * @param afterId  The ID of the last task already returned, {@code 0} for the first page.
+     * @param pageable The size of the slice.
+     * @return The slice of task sprints associated with the given sprint.
+     */
+    @EntityGraph(TaskSprint.VIEW_GRAPH)
+    @Query("SELECT t FROM TaskSprint t WHERE t.sprint.id = :sprint AND (t.priority < :priority OR (t.priority = :priority AND t.id > :afterId)) ORDER BY t.priority DESC, t.id")
+    Slice<TaskSprint> findBySprintIdAfterPriority(@Param("sprint") Long id, @Param("priority") Priority priority, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the board cards of the tasks of a sprint, in descending priority order. Only the columns shown on a
+     * card are selected, the responsible customer being the only joined entity.
+     *
+     * @param id The ID of the associated sprint.
+     * @return The board cards of the tasks of the sprint.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.model.view.BoardTaskView(t.id, t.name, t.status, t.priority, t.effortEstimation, t.itemBacklog.id, r.name, r.lastName) "
+        + "FROM TaskSprint t LEFT JOIN t.responsible r WHERE t.sprint.id = :sprint ORDER BY t.priority DESC, t.id")
+    List<BoardTaskView> findBoardTasksBySprintId(@Param("sprint") Long id);
+
+    /**
+     * Sums the effort counters of a sprint from the numeric effort of its active tasks, the effort of the tasks
+     * {@link com.db.scrumtrackerapi.model.enums.Status#CONCLUIDO} counting as done.
+     *
+     * @param id The ID of the associated sprint.
+     * @return The effort counters of the sprint, empty when it has no active task.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.model.SprintEffort(t.sprint.id, COALESCE(SUM(t.effortPoints), 0.0), "
+        + "COALESCE(SUM(CASE WHEN t.status = com.db.scrumtrackerapi.model.enums.Status.CONCLUIDO THEN 0.0 ELSE t.effortPoints END), 0.0)) "
+        + "FROM TaskSprint t WHERE t.sprint.id = :sprint AND t.active = true GROUP BY t.sprint.id")
+    Optional<SprintEffort> sumEffortBySprintId(@Param("sprint") Long id);
+
+    /**
+     * Retrieves the tasks of a sprint written before their effort was stored as a number.
+     *
+     * @param id The ID of the associated sprint.
+     * @return The tasks of the sprint with an effort estimation but no numeric effort.
+     */
+    @Query("SELECT t FROM TaskSprint t WHERE t.sprint.id = :sprint AND t.effortPoints IS NULL AND t.effortEstimation IS NOT NULL")
+    List<TaskSprint> findUnscoredBySprintId(@Param("sprint") Long id);
+
+    /**
+     * Counts the tasks of a sprint in each status. Statuses without tasks are absent.
+     *
+     * @param id The ID of the associated sprint.
+     * @return One empty board column per status, holding its task count.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.model.view.BoardColumnView(t.status, COUNT(t)) FROM TaskSprint t WHERE t.sprint.id = :sprint GROUP BY t.status")
+    List<BoardColumnView> countBySprintIdGroupByStatus(@Param("sprint") Long id);
+
+    /**
+     * Retrieves the tasks of the sprints of a product written after the given time, in the compact form of a change
+     * synchronization. Deactivated tasks are only returned while the soft-delete filter is disabled.
+     *
+     * @param id    The ID of the product.
+     * @param since The last modification time up to which the changes have been seen.
+     * @return The changed tasks of the product, in ID order.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.model.view.ChangeView(CASE WHEN t.active = false THEN 'DEACTIVATED' WHEN t.timestamp > :since THEN 'CREATED' ELSE 'UPDATED' END, t.id, t.name, t.status, t.priority, t.sprint.id, t.itemBacklog.id, t.responsible.id) "
+        + "FROM TaskSprint t WHERE t.sprint.product.id = :product AND t.lastModified > :since ORDER BY t.id")
+    List<ChangeView> findChangesByProductId(@Param("product") Long id, @Param("since") LocalDateTime since);
+
+    /**
+     * Retrieves the greatest ID of the tasks.
+     *
+     * @return The greatest ID, {@code null} when there are none.
+     */
+    @Query("SELECT MAX(t.id) FROM TaskSprint t")
+    Long findMaxId();
+
+    /**
+     * Retrieves a slice of the search documents of the active tasks in an ID range, in ID order.
+     *
+     * @param afterId  The ID the range starts after.
+     * @param toId     The ID the range ends at, inclusive.
+     * @param pageable The size of the slice.
+     * @return The slice of search documents.
+     */
+    @Query("SELECT new com.db.scrumtrackerapi.util.SearchDocument('TASK_SPRINT', t.id, t.name, t.status, t.priority, t.sprint.id, t.description, t.comments) "
+        + "FROM TaskSprint t WHERE t.active = true AND t.id > :afterId AND t.id <= :toId ORDER BY t.id")
+    Slice<SearchDocument> findSearchDocuments(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
+    /**
+     * Retrieves the versions of an active task and of its responsible, the one entity the view of a task shows.
+     *
+     * @param id The ID of the task.
+     * @return The versions of the task and its responsible, {@code 0} for a task without responsible, if the task is
+     *         found and active.
+     */
+    @Query("SELECT CONCAT(t.version, '.', COALESCE(r.version, 0)) FROM TaskSprint t LEFT JOIN t.responsible r WHERE t.id = :id")
+    Optional<String> findVersionsById(@Param("id") Long id);
+}
@@ -0,0 +1,40 @@
+package com.db.scrumtrackerapi.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.db.scrumtrackerapi.model.Transition;
+
+/**
+ * Repository interface for {@link Transition} entities.
+ */
+@Repository
+public interface TransitionRepository extends CrudRepository<Transition, Long> {
+
+    /**
+     * Retrieves the transitions of the tasks of a sprint in a time range, in time order.
+     *
+     * @param id   The ID of the sprint.
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, exclusive.
+     * @return The transitions of the tasks of the sprint.
+     */
+    @Query("SELECT t FROM Transition t WHERE t.sprintId = :sprint AND t.timestamp >= :from AND t.timestamp < :to ORDER BY t.timestamp, t.id")
+    List<Transition> findBySprintId(@Param("sprint") Long id, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Retrieves the transitions of the tasks and backlog items of a product in a time range, in time order.
+     *
+     * @param id   The ID of the product.
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, exclusive.
+     * @return The transitions of the tasks and backlog items of the product.
+     */
+    @Query("SELECT t FROM Transition t WHERE t.productId = :product AND t.timestamp >= :from AND t.timestamp < :to ORDER BY t.timestamp, t.id")
+    List<Transition> findByProductId(@Param("product") Long id, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -8,7 +8,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.web.filter.OncePerRequestFilter;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.db.scrumtrackerapi.security.service.CustomerUserDetailsService;
+import com.db.scrumtrackerapi.security.service.PrincipalCache;
 import com.db.scrumtrackerapi.security.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,8 +29,12 @@ public class FilterToken extends OncePerRequestFilter {
     @Autowired
     CustomerUserDetailsService customerUserDetailsService;
 
+    @Autowired
+    PrincipalCache principalCache;
+
     /**
-     * Method to perform the filter logic for authentication tokens.
+     * Method to perform the filter logic for authentication tokens. The principal of the token subject is taken
+     * from the {@link PrincipalCache}, so the customer is only read from the database on a cache miss.
      *
      * @param request     The HTTP servlet request.
      * @param response    The HTTP servlet response.
@@ -46,8 +52,9 @@ public class FilterToken extends OncePerRequestFilter {
         
         if(authorizationHeader != null) {
             token = authorizationHeader.replace("Bearer ", "");
-            String subject = tokenService.getSubject(token);
-            UserDetails userDetails = customerUserDetailsService.loadUserByUsername(subject);
+            DecodedJWT decodedToken = tokenService.verify(token);
+            UserDetails userDetails = principalCache.get(decodedToken.getSubject(), decodedToken.getExpiresAtAsInstant(),
+                customerUserDetailsService::loadUserByUsername);
             UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         
@@ -41,10 +41,14 @@ public class SecurityFilters {
                                 .requestMatchers(new AntPathRequestMatcher("/update", "POST")).hasRole("ADMIN")
                                 .requestMatchers(new AntPathRequestMatcher("/customer", "GET")).hasRole("ADMIN")
                                 .requestMatchers(new AntPathRequestMatcher("/customer", "DELETE")).hasRole("ADMIN")
+                                .requestMatchers(new AntPathRequestMatcher("/actuator/metrics/**", "GET")).hasRole("ADMIN")
+                                .requestMatchers(new AntPathRequestMatcher("/actuator/prometheus", "GET")).hasRole("ADMIN")
 
                                 .requestMatchers(new AntPathRequestMatcher("/item-backlog", "POST")).hasAnyRole("ADMIN", "SM", "PO")
                                 .requestMatchers(new AntPathRequestMatcher("/item-backlog", "PUT")).hasAnyRole("ADMIN", "SM", "PO")
                                 .requestMatchers(new AntPathRequestMatcher("/item-backlog", "DELETE")).hasAnyRole("ADMIN", "SM", "PO")
+                                .requestMatchers(new AntPathRequestMatcher("/item-backlog/import", "POST")).hasAnyRole("ADMIN", "SM", "PO")
+                                .requestMatchers(new AntPathRequestMatcher("/item-backlog/batch", "POST")).hasAnyRole("ADMIN", "SM", "PO")
                                 
                                 .requestMatchers(new AntPathRequestMatcher("/product-backlog", "POST")).hasAnyRole("ADMIN", "SM", "PO")
                                 .requestMatchers(new AntPathRequestMatcher("/product-backlog", "PUT")).hasAnyRole("ADMIN", "SM", "PO")
@@ -61,6 +65,7 @@ public class SecurityFilters {
                                 .requestMatchers(new AntPathRequestMatcher("/task-sprint", "POST")).authenticated()
                                 .requestMatchers(new AntPathRequestMatcher("/task-sprint", "PUT")).authenticated()
                                 .requestMatchers(new AntPathRequestMatcher("/task-sprint", "DELETE")).authenticated()
+                                .requestMatchers(new AntPathRequestMatcher("/task-sprint/batch", "POST")).authenticated()
 
                                 .anyRequest().permitAll()
                                 .and().addFilterBefore(filterToken, UsernamePasswordAuthenticationFilter.class)
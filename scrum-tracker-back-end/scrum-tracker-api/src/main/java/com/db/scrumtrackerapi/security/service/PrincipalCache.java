@@ -0,0 +1,94 @@
+package com.db.scrumtrackerapi.security.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Bounded cache of the principals resolved from authentication tokens, keyed by token subject.
+ *
+ * <p> An entry lives for {@code scrum-tracker.principal-cache.ttl} at most, and never beyond the expiry of the
+ * token that loaded it. Writes to a customer must call {@link #invalidate(String)} so the next request reloads it.
+ */
+@Service
+public class PrincipalCache {
+
+    /**
+     * A cached principal along with the instant it stops being valid.
+     *
+     * @param userDetails The principal.
+     * @param expiresAt   The instant the entry expires.
+     */
+    private record Entry(UserDetails userDetails, Instant expiresAt) {
+    }
+
+    private final Duration ttl;
+
+    private final Cache<String, Entry> entries;
+
+    /**
+     * Creates the cache.
+     *
+     * @param maxSize The maximum number of principals kept.
+     * @param ttl     The maximum time a principal is kept.
+     */
+    public PrincipalCache(@Value("${scrum-tracker.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${scrum-tracker.principal-cache.ttl:5m}") Duration ttl) {
+        this.ttl = ttl;
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String subject, Entry entry, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), entry.expiresAt()).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(String subject, Entry entry, long currentTime, long currentDuration) {
+                    return expireAfterCreate(subject, entry, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String subject, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Returns the cached principal of a subject, loading it when absent or expired.
+     *
+     * @param subject     The subject of the token.
+     * @param tokenExpiry The expiry of the token, may be {@code null} when the token has none.
+     * @param loader      Loads the principal of the subject; its exceptions are propagated and nothing is cached.
+     * @return The principal.
+     */
+    public UserDetails get(String subject, Instant tokenExpiry, Function<String, UserDetails> loader) {
+        Entry entry = entries.get(subject, key -> {
+            Instant expiresAt = Instant.now().plus(ttl);
+            if (tokenExpiry != null && tokenExpiry.isBefore(expiresAt)) {
+                expiresAt = tokenExpiry;
+            }
+            return new Entry(loader.apply(key), expiresAt);
+        });
+        return entry.userDetails();
+    }
+
+    /**
+     * Discards the cached principal of a subject.
+     *
+     * @param subject The subject, that is the customer email.
+     */
+    public void invalidate(String subject) {
+        entries.invalidate(subject);
+    }
+}
@@ -1,15 +1,31 @@
 package com.db.scrumtrackerapi.security.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Base64;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 /**
  * Service class for handling JWT tokens.
+ *
+ * <p> The signing algorithm and the verifier are built once and shared, both being thread-safe. Verified tokens
+ * are kept in a bounded cache keyed by their SHA-256 digest until they expire, so a token replayed by a client
+ * skips the signature check.
  */
 @Service
 public class TokenService {
@@ -17,6 +33,46 @@ public class TokenService {
     private final String secret = ";1hdNdT}sDAB-Vai1n(QZj,'TeHlyETelXMa)GP)rIeB~]+(#h";
     private final String issuer = "Scrum Tracker";
 
+    private final Algorithm algorithm = Algorithm.HMAC256(secret);
+
+    private final JWTVerifier verifier = JWT.require(algorithm)
+            .withIssuer(issuer)
+            .build();
+
+    private final Duration ttl;
+
+    private final Cache<String, DecodedJWT> verifiedTokens;
+
+    /**
+     * Creates the service.
+     *
+     * @param maxSize The maximum number of verified tokens kept, {@code 0} disables the cache.
+     * @param ttl     The maximum time a verified token is kept, whatever its expiry.
+     */
+    public TokenService(@Value("${scrum-tracker.token-cache.max-size:10000}") long maxSize,
+                        @Value("${scrum-tracker.token-cache.ttl:5m}") Duration ttl) {
+        this.ttl = ttl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, DecodedJWT>() {
+                    @Override
+                    public long expireAfterCreate(String digest, DecodedJWT token, long currentTime) {
+                        return timeToLive(token).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, DecodedJWT token, long currentTime, long currentDuration) {
+                        return timeToLive(token).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, DecodedJWT token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     /**
      * Generates a JWT token based on user details.
      *
@@ -28,7 +84,7 @@ public class TokenService {
                 .withIssuer(issuer)
                 .withSubject(userDetails.getUsername())
                 .withExpiresAt(LocalDateTime.now().plusHours(1L).toInstant(ZoneOffset.of("-03:00")))
-                .sign(Algorithm.HMAC256(secret));
+                .sign(algorithm);
     }
 
     /**
@@ -38,10 +94,41 @@ public class TokenService {
      * @return The subject (username) extracted from the token.
      */
     public String getSubject(String token) {
-        return JWT.require(Algorithm.HMAC256(secret))
-                .withIssuer(issuer)
-                .build()
-                .verify(token)
-                .getSubject();
+        return verify(token).getSubject();
+    }
+
+    /**
+     * Verifies the signature, issuer and expiry of a JWT token, or returns it from the verified tokens
+     * when it was already verified and has not expired since.
+     *
+     * @param token The JWT token.
+     * @return The decoded token.
+     */
+    public DecodedJWT verify(String token) {
+        return verifiedTokens.get(digest(token), key -> verifier.verify(token));
+    }
+
+    /**
+     * Returns how long a verified token may be kept: until it expires, and no longer than the configured time to live.
+     */
+    private Duration timeToLive(DecodedJWT token) {
+        Instant expiresAt = token.getExpiresAtAsInstant();
+        if (expiresAt == null) {
+            return ttl;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(ttl) < 0 ? remaining : ttl;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
     }
 }
@@ -0,0 +1,21 @@
+package com.db.scrumtrackerapi.services;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.db.scrumtrackerapi.model.BaseEntity;
+
+public interface IAggregateVersionService {
+
+    void increment(Collection<? extends BaseEntity> roots);
+
+    Optional<String> findProductETag(Long id);
+
+    Optional<String> findSprintETag(Long id);
+
+    Optional<String> findProductBacklogETag(Long id);
+
+    Optional<String> findItemBacklogETag(Long id);
+
+    Optional<String> findTaskSprintETag(Long id);
+}
@@ -0,0 +1,9 @@
+package com.db.scrumtrackerapi.services;
+
+import com.db.scrumtrackerapi.model.view.ChangesView;
+import com.db.scrumtrackerapi.util.ChangeCursor;
+
+public interface IChangeService {
+
+    ChangesView findByProductId(Long productId, ChangeCursor cursor);
+}
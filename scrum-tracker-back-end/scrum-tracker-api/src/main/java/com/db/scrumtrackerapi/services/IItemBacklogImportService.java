@@ -0,0 +1,12 @@
+package com.db.scrumtrackerapi.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import com.db.scrumtrackerapi.model.view.ImportProgressView;
+
+public interface IItemBacklogImportService {
+
+    ImportProgressView importItems(InputStream input, Consumer<ImportProgressView> progress) throws IOException;
+}
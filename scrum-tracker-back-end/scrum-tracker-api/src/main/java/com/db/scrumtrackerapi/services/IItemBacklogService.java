@@ -1,20 +1,41 @@
 package com.db.scrumtrackerapi.services;
 
 import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.db.scrumtrackerapi.util.PageCursor;
 
 public interface IItemBacklogService {
     
     List<ItemBacklog> findByProductBacklogId(Long id);
 
+    void streamByProductBacklogId(Long id, int maxDepth, Consumer<ItemBacklogView> consumer);
+
+    void streamByProductBacklogId(Long id, int maxDepth, FieldSelection selection, Consumer<ItemBacklogView> consumer);
+
     List<ItemBacklog> findBySprintId(Long id);
 
+    List<ItemBacklog> findBySprintId(Long id, FieldSelection selection);
+
+    Slice<ItemBacklog> findByProductBacklogId(Long id, PageCursor cursor, Pageable pageable);
+
+    Slice<ItemBacklog> findBySprintId(Long id, PageCursor cursor, Pageable pageable);
+
     ItemBacklog save(ItemBacklog itemBacklog);
 
+    List<ItemBacklog> saveAll(List<ItemBacklog> itensBacklog);
+
     ItemBacklog update(Long id, ItemBacklog itemBacklog);
 
     ItemBacklog findById(Long id);
 
+    ItemBacklog findById(Long id, FieldSelection selection);
+
     ItemBacklog deactivateById(Long id);
 }
@@ -0,0 +1,17 @@
+package com.db.scrumtrackerapi.services;
+
+import java.util.List;
+
+import com.db.scrumtrackerapi.model.view.SearchResultView;
+import com.db.scrumtrackerapi.util.SearchDocument;
+
+public interface ISearchService {
+
+    void index(SearchDocument document);
+
+    void remove(String subject, Long id);
+
+    List<SearchResultView> search(String query, Integer limit);
+
+    void rebuild();
+}
@@ -0,0 +1,20 @@
+package com.db.scrumtrackerapi.services;
+
+import java.util.List;
+
+import com.db.scrumtrackerapi.model.TaskEffort;
+import com.db.scrumtrackerapi.model.view.BurndownView;
+import com.db.scrumtrackerapi.model.view.VelocityView;
+
+public interface ISprintBurndownService {
+
+    void record(List<TaskEffort> before, List<TaskEffort> after);
+
+    void seed(Long sprintId);
+
+    void seedAll();
+
+    BurndownView findBurndownBySprintId(Long id);
+
+    VelocityView findVelocityByProductId(Long productId);
+}
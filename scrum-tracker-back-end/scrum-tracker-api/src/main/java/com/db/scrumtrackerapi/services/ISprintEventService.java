@@ -0,0 +1,14 @@
+package com.db.scrumtrackerapi.services;
+
+import java.util.Collection;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.db.scrumtrackerapi.model.view.SprintEventView;
+
+public interface ISprintEventService {
+
+    void publish(Collection<Long> sprintIds, SprintEventView event);
+
+    SseEmitter subscribe(Long sprintId, Long lastEventId);
+}
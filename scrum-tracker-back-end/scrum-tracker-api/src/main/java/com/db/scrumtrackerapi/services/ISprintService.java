@@ -2,19 +2,30 @@ package com.db.scrumtrackerapi.services;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.view.SprintBoardView;
+import com.db.scrumtrackerapi.util.PageCursor;
 
 public interface ISprintService {
     
     List<Sprint> findByItemBacklogId(Long id);
 
+    Slice<Sprint> findByItemBacklogId(Long id, PageCursor cursor, Pageable pageable);
+
     Sprint save(Sprint sprint);
 
     Sprint update(Long id, Sprint sprint);
 
     Sprint findById(Long id);
 
+    SprintBoardView findBoardById(Long id);
+
     Sprint deactivateById(Long id);
 
     List<Sprint> findByProductId(Long productId);
+
+    Slice<Sprint> findByProductId(Long productId, PageCursor cursor, Pageable pageable);
 }
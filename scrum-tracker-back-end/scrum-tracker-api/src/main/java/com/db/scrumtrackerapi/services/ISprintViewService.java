@@ -0,0 +1,20 @@
+package com.db.scrumtrackerapi.services;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.util.FieldSelection;
+
+public interface ISprintViewService {
+
+    DetailedSprintView findDetailedById(Long id, int maxDepth);
+
+    DetailedSprintView findDetailedById(Long id, int maxDepth, FieldSelection selection);
+
+    List<DetailedSprintView> findDetailedByProductId(Long productId, int maxDepth);
+
+    void streamDetailedByProductId(Long productId, int maxDepth, Consumer<DetailedSprintView> consumer);
+
+    void streamDetailedByProductId(Long productId, int maxDepth, FieldSelection selection, Consumer<DetailedSprintView> consumer);
+}
@@ -2,17 +2,30 @@ package com.db.scrumtrackerapi.services;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.db.scrumtrackerapi.util.PageCursor;
 
 public interface ITaskSprintService {
 
     TaskSprint save(TaskSprint taskSprint);
 
+    List<TaskSprint> saveAll(List<TaskSprint> tasksSprints);
+
     TaskSprint update(Long id, TaskSprint taskSprint);
 
     List<TaskSprint> findBySprintId(Long SprintId);
 
+    List<TaskSprint> findBySprintId(Long sprintId, FieldSelection selection);
+
+    Slice<TaskSprint> findBySprintId(Long sprintId, PageCursor cursor, Pageable pageable);
+
     TaskSprint findById(Long id);
 
+    TaskSprint findById(Long id, FieldSelection selection);
+
     TaskSprint deactivateById(Long id);
 }
\ No newline at end of file
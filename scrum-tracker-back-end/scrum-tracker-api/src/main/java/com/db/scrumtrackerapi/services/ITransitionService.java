@@ -0,0 +1,16 @@
+package com.db.scrumtrackerapi.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.db.scrumtrackerapi.model.Transition;
+import com.db.scrumtrackerapi.model.TransitionState;
+
+public interface ITransitionService {
+
+    void record(TransitionState before, TransitionState after);
+
+    List<Transition> findBySprintId(Long id, LocalDateTime from, LocalDateTime to);
+
+    List<Transition> findByProductId(Long id, LocalDateTime from, LocalDateTime to);
+}
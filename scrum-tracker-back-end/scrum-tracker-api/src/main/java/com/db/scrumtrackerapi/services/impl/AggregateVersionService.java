@@ -0,0 +1,161 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.db.scrumtrackerapi.model.AggregateMember;
+import com.db.scrumtrackerapi.model.BaseEntity;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.IAggregateVersionService;
+import com.db.scrumtrackerapi.util.AfterCommit;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Service class keeping the versions of aggregate roots in step with their members and deriving ETags from them.
+ *
+ * <p> A write of an {@link AggregateMember} increments the versions of its roots in the same transaction, so the
+ * ETag of a view is the version of its root, read by a single primary key lookup without loading the graph.
+ */
+@Service
+public class AggregateVersionService implements IAggregateVersionService {
+
+    /**
+     * The order roots are locked in: products last, the other roots by type then ID, so writers sharing roots
+     * lock them in the same order.
+     */
+    private static final Comparator<Root> LOCK_ORDER = Comparator.comparing((Root i) -> i.type() == Product.class)
+        .thenComparing(i -> i.type().getName())
+        .thenComparing(Root::id);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProductBacklogRepository productBacklogRepository;
+
+    @Autowired
+    private ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    private TaskSprintRepository taskSprintRepository;
+
+    private record Root(Class<?> type, Long id) {
+    }
+
+    /**
+     * Increments the versions of aggregate roots, each once, locking their rows until the end of the current
+     * transaction. Pending changes are flushed first, then each root is reread under a row lock, so its version is
+     * current, and only then incremented. The increment is applied to the root alone: locking it while loading it
+     * would also increment the entities fetched along with it.
+     *
+     * <p> The increment bypasses the second level cache, so the cached copies of the roots are evicted now and
+     * again once the transaction completes, when no other transaction can cache the previous version anymore.
+     *
+     * @param roots The roots, as listed by {@link AggregateMember#aggregateRoots()}.
+     */
+    @Override
+    public void increment(Collection<? extends BaseEntity> roots) {
+        List<Root> lockedRoots = roots.stream().filter(Objects::nonNull).filter(i -> i.getId() != null)
+            .map(i -> {
+                LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer(i);
+                return new Root(lazyInitializer == null ? i.getClass() : lazyInitializer.getPersistentClass(), i.getId());
+            })
+            .distinct()
+            .sorted(LOCK_ORDER)
+            .toList();
+        if (lockedRoots.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        for (Root root : lockedRoots) {
+            Object entity = entityManager.getReference(root.type(), root.id());
+            entityManager.refresh(entity, LockModeType.PESSIMISTIC_WRITE);
+            entityManager.lock(entity, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        }
+        evict(lockedRoots);
+        AfterCommit.runAfterCompletion(() -> evict(lockedRoots));
+    }
+
+    private void evict(List<Root> roots) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        roots.forEach(i -> cache.evict(i.type(), i.id()));
+    }
+
+    /**
+     * Derives the ETag of the views of an active product from its version.
+     *
+     * @param id The ID of the product.
+     * @return The ETag, if the product is found and active.
+     */
+    @Override
+    public Optional<String> findProductETag(Long id) {
+        return productRepository.findVersionById(id).map(version -> "product-" + id + "." + version);
+    }
+
+    /**
+     * Derives the ETag of the views of an active sprint from its version and the version of its product.
+     *
+     * @param id The ID of the sprint.
+     * @return The ETag, if the sprint is found and active.
+     */
+    @Override
+    public Optional<String> findSprintETag(Long id) {
+        return sprintRepository.findVersionsById(id).map(versions -> "sprint-" + id + "." + versions);
+    }
+
+    /**
+     * Derives the ETag of the views of an active product backlog from its version and the version of its product.
+     *
+     * @param id The ID of the product backlog.
+     * @return The ETag, if the product backlog is found and active.
+     */
+    @Override
+    public Optional<String> findProductBacklogETag(Long id) {
+        return productBacklogRepository.findVersionsById(id).map(versions -> "product-backlog-" + id + "." + versions);
+    }
+
+    /**
+     * Derives the ETag of the views of an active item backlog from its version and the version of its product.
+     *
+     * @param id The ID of the item backlog.
+     * @return The ETag, if the item backlog is found and active.
+     */
+    @Override
+    public Optional<String> findItemBacklogETag(Long id) {
+        return itemBacklogRepository.findVersionsById(id).map(versions -> "item-backlog-" + id + "." + versions);
+    }
+
+    /**
+     * Derives the ETag of the views of an active task from its version and the version of its responsible.
+     *
+     * @param id The ID of the task.
+     * @return The ETag, if the task is found and active.
+     */
+    @Override
+    public Optional<String> findTaskSprintETag(Long id) {
+        return taskSprintRepository.findVersionsById(id).map(versions -> "task-sprint-" + id + "." + versions);
+    }
+}
@@ -0,0 +1,81 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.db.scrumtrackerapi.config.SoftDeleteFilter;
+import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.view.ChangeView;
+import com.db.scrumtrackerapi.model.view.ChangesView;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.IChangeService;
+import com.db.scrumtrackerapi.util.ChangeCursor;
+
+/**
+ * Service class reading the changes of a product since a cursor, so a reconnecting client downloads the sprints,
+ * item backlogs and tasks written since its last read instead of the whole product.
+ *
+ * <p> Rows are selected by their last modification time, which is set when a write is flushed rather than when it
+ * commits. The next cursor therefore lags the time of the read by an overlap window, so a write committed shortly
+ * after a read is still returned by the next one. Rows written inside the window are returned again, each change
+ * carrying the whole compact state of its entity, so applying it twice is harmless.
+ *
+ * <p> The time of the read is taken from the database rather than from this node, so the readers agree on it. A
+ * write is still missed when its transaction commits more than the overlap after it was flushed, less the skew
+ * between the clock of the node that wrote it and the clock of the database. The overlap must cover both.
+ */
+@Service
+public class ChangeService implements IChangeService {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    private TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Value("${scrum-tracker.changes.overlap:5s}")
+    private Duration overlap;
+
+    /**
+     * Retrieves the sprints, item backlogs and tasks of an active product written after a cursor, including the
+     * deactivated ones, with the cursor of the next synchronization.
+     *
+     * @param productId The ID of the product.
+     * @param cursor    The cursor of the last synchronization, {@link ChangeCursor#first()} for the first one.
+     * @return The changes of the product since the cursor.
+     * @throws EntityNotFoundException If the product is not found or is not active.
+     */
+    @Override
+    public ChangesView findByProductId(Long productId, ChangeCursor cursor) {
+        if (productRepository.findVersionById(productId).isEmpty()) {
+            throw new EntityNotFoundException("Product with ID " + productId + " not found or is not active");
+        }
+        LocalDateTime readAt = productRepository.findDatabaseTime();
+        LocalDateTime since = cursor.getSince();
+        return softDeleteFilter.includingInactive(() -> {
+            List<ChangeView> sprints = sprintRepository.findChangesByProductId(productId, since);
+            List<ChangeView> itensBacklog = itemBacklogRepository.findChangesByProductId(productId, since);
+            List<ChangeView> tasksSprints = taskSprintRepository.findChangesByProductId(productId, since);
+            LocalDateTime next = readAt.minus(overlap);
+            String nextCursor = ChangeCursor.since(next.isAfter(since) ? next : since).encode();
+            return new ChangesView(nextCursor, sprints, itensBacklog, tasksSprints);
+        });
+    }
+}
@@ -2,18 +2,33 @@ package com.db.scrumtrackerapi.services.impl;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.BaseEntity;
 import com.db.scrumtrackerapi.model.Customer;
 import com.db.scrumtrackerapi.repositories.CustomerRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.security.service.PrincipalCache;
 import com.db.scrumtrackerapi.security.service.TokenService;
+import com.db.scrumtrackerapi.services.IAggregateVersionService;
 import com.db.scrumtrackerapi.services.ICustomerService;
+import com.db.scrumtrackerapi.util.AfterCommit;
 
 /**
  * Service class for managing customer-related operations.
  *
  * <p>This service provides methods to find customers by email and to save customer entities.
+ *
+ * <p>A changed customer is evicted from the {@link PrincipalCache} both at once and after the transaction commits, so
+ * a request authenticating between the change and the commit cannot cache the principal as it was before the change.
+ *
+ * <p>A customer is shown as the responsible of tasks, so its writes run in a transaction that also increments the
+ * versions of the sprints of those tasks and of their products.
  */
 @Service
 public class CustomerService implements ICustomerService {
@@ -24,6 +39,18 @@ public class CustomerService implements ICustomerService {
     @Autowired
     TokenService tokenService;
 
+    @Autowired
+    PrincipalCache principalCache;
+
+    @Autowired
+    SprintRepository sprintRepository;
+
+    @Autowired
+    IAggregateVersionService aggregateVersionService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     /**
      * Finds a customer by their email address.
      *
@@ -60,12 +87,16 @@ public class CustomerService implements ICustomerService {
      */
     @Override
     public void deactivateByEmail(String email) {
-        List<Customer> customer = customerRepository.findByEmail(email);
-        if (!customer.isEmpty() && customer.get(0).isActive()) {
-            customer.get(0).setActive(false);
-        } else {
-            throw new EntityNotFoundException("Customer with email " + email + " was not found.");
-        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Customer> customer = customerRepository.findByEmail(email);
+            if (!customer.isEmpty() && customer.get(0).isActive()) {
+                customer.get(0).setActive(false);
+                aggregateVersionService.increment(aggregateRoots(customerRepository.save(customer.get(0))));
+                invalidate(email);
+            } else {
+                throw new EntityNotFoundException("Customer with email " + email + " was not found.");
+            }
+        });
     }
 
     /**
@@ -80,13 +111,28 @@ public class CustomerService implements ICustomerService {
      */
     @Override
     public Customer update(Customer customer) {
-        Optional<Customer> savedCustomer = findByEmail(customer.getEmail());
-        if (savedCustomer.isPresent() && savedCustomer.get().isActive()) {
-            Customer newCustomer = savedCustomer.get().update(customer);
-            return customerRepository.save(newCustomer);
-        }
-        else{
-            throw new EntityNotFoundException("Customer with email " + customer.getEmail() + " was not found.");        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<Customer> savedCustomer = findByEmail(customer.getEmail());
+            if (savedCustomer.isPresent() && savedCustomer.get().isActive()) {
+                Customer newCustomer = savedCustomer.get().update(customer);
+                Customer updated = customerRepository.save(newCustomer);
+                aggregateVersionService.increment(aggregateRoots(updated));
+                invalidate(customer.getEmail());
+                return updated;
+            }
+            else{
+                throw new EntityNotFoundException("Customer with email " + customer.getEmail() + " was not found.");        }
+        });
+    }
+
+    private List<BaseEntity> aggregateRoots(Customer customer) {
+        return sprintRepository.findByResponsibleId(customer.getId()).stream()
+            .flatMap(i -> Stream.concat(Stream.of(i), i.aggregateRoots().stream()))
+            .toList();
+    }
+
+    private void invalidate(String email) {
+        principalCache.invalidate(email);
+        AfterCommit.run(() -> principalCache.invalidate(email));
     }
-    
 }
@@ -0,0 +1,191 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.dto.ItemBacklogDTO;
+import com.db.scrumtrackerapi.model.view.ImportErrorView;
+import com.db.scrumtrackerapi.model.view.ImportProgressView;
+import com.db.scrumtrackerapi.services.IAggregateVersionService;
+import com.db.scrumtrackerapi.services.IItemBacklogImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service class importing {@link ItemBacklog} entities from an NDJSON stream.
+ *
+ * <p> Records are read one line at a time and persisted in chunks of {@code scrum-tracker.import.chunk-size}, each chunk
+ * in its own transaction, flushed as JDBC batches and then cleared from the persistence context. Only the current chunk
+ * is ever held in memory. A record that cannot be parsed, validated or persisted is reported with its line and does not
+ * abort the import.
+ */
+@Service
+public class ItemBacklogImportService implements IItemBacklogImportService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private IAggregateVersionService aggregateVersionService;
+
+    @Value("${scrum-tracker.import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * A parsed record waiting for its chunk to be persisted.
+     *
+     * @param line The line of the record in the imported file.
+     * @param dto  The parsed record.
+     */
+    private record Row(long line, ItemBacklogDTO dto) {
+    }
+
+    /**
+     * Imports the {@link ItemBacklog} records of an NDJSON stream, one JSON object per line. Blank lines are skipped.
+     *
+     * @param input    The NDJSON stream.
+     * @param progress Receives the progress of the import after each chunk is committed.
+     * @return The progress after the last chunk, holding the totals of the import.
+     * @throws IOException If the stream cannot be read.
+     */
+    @Override
+    public ImportProgressView importItems(InputStream input, Consumer<ImportProgressView> progress) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(ItemBacklogDTO.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        List<Row> rows = new ArrayList<>(chunkSize);
+        List<ImportErrorView> errors = new ArrayList<>();
+        ImportProgressView last = new ImportProgressView(0, 0, 0, List.of(), 0, 0);
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ItemBacklogDTO dto = reader.readValue(line);
+                String violations = validate(dto);
+                if (violations == null) {
+                    rows.add(new Row(lineNumber, dto));
+                } else {
+                    errors.add(new ImportErrorView(lineNumber, violations));
+                }
+            } catch (JsonProcessingException e) {
+                errors.add(new ImportErrorView(lineNumber, e.getOriginalMessage()));
+            }
+            if (rows.size() + errors.size() >= chunkSize) {
+                last = commit(transactionTemplate, rows, errors, lineNumber, last);
+                progress.accept(last);
+                rows = new ArrayList<>(chunkSize);
+                errors = new ArrayList<>();
+            }
+        }
+        if (!rows.isEmpty() || !errors.isEmpty()) {
+            last = commit(transactionTemplate, rows, errors, lineNumber, last);
+            progress.accept(last);
+        }
+        return last;
+    }
+
+    /**
+     * Persists a chunk in a single transaction. When the chunk fails, its rows are retried one transaction each,
+     * so only the offending rows are rejected.
+     */
+    private ImportProgressView commit(TransactionTemplate transactionTemplate, List<Row> rows, List<ImportErrorView> errors, long lineNumber, ImportProgressView previous) {
+        int imported;
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(rows));
+            imported = rows.size();
+        } catch (RuntimeException chunkFailure) {
+            imported = 0;
+            for (Row row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(row)));
+                    imported++;
+                } catch (RuntimeException rowFailure) {
+                    errors.add(new ImportErrorView(row.line(), NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage()));
+                }
+            }
+            errors.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+        }
+        return new ImportProgressView(previous.getChunk() + 1, lineNumber, imported, errors,
+            previous.getTotalImported() + imported, previous.getTotalFailed() + errors.size());
+    }
+
+    /**
+     * Persists the rows, increments the versions of their product backlogs and products once per chunk, flushes
+     * them as JDBC batches and detaches them.
+     */
+    private void persist(List<Row> rows) {
+        List<ItemBacklog> itensBacklog = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            ItemBacklog itemBacklog = toItemBacklog(row.dto());
+            entityManager.persist(itemBacklog);
+            itensBacklog.add(itemBacklog);
+        }
+        aggregateVersionService.increment(itensBacklog.stream().flatMap(i -> i.aggregateRoots().stream()).toList());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Converts a record into a new entity whose product backlog is a reference by ID, so no row is read to link it.
+     * Sprints are left out: the association is owned by {@link Sprint}, so it is never written from the item side.
+     */
+    private ItemBacklog toItemBacklog(ItemBacklogDTO dto) {
+        ItemBacklog itemBacklog = dto.toItemBacklog();
+        itemBacklog.setSprints(new ArrayList<>());
+        if (dto.getProductBacklog() != null) {
+            itemBacklog.setProductBacklog(entityManager.getReference(ProductBacklog.class, dto.getProductBacklog().getId()));
+        }
+        return itemBacklog;
+    }
+
+    /**
+     * Validates a record against the constraints of {@link ItemBacklogDTO}.
+     *
+     * @return The violations, or {@code null} if the record is valid.
+     */
+    private String validate(ItemBacklogDTO dto) {
+        Set<ConstraintViolation<ItemBacklogDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(i -> i.getPropertyPath() + ": " + i.getMessage()).sorted().collect(Collectors.joining(", "));
+    }
+}
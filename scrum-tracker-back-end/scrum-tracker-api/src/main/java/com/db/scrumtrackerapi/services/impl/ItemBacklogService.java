@@ -1,24 +1,66 @@
 package com.db.scrumtrackerapi.services.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.db.scrumtrackerapi.config.PaginationConfig;
 import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.BaseEntity;
 import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TransitionState;
+import com.db.scrumtrackerapi.model.enums.PageOrder;
+import com.db.scrumtrackerapi.model.enums.SprintEventType;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
 import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.services.IAggregateVersionService;
 import com.db.scrumtrackerapi.services.IItemBacklogService;
+import com.db.scrumtrackerapi.services.ISprintEventService;
+import com.db.scrumtrackerapi.services.ITransitionService;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.db.scrumtrackerapi.util.PageCursor;
 
 /**
  * Service class for managing {@link ItemBacklog} entities.
  * Implements the {@link IItemBacklogService} interface.
+ *
+ * <p> Writes run in a transaction that also increments the versions of the product backlog, the product and the
+ * sprints of the items. Once committed, updates and deactivations are pushed to the subscribers of the sprints of
+ * the item. The sprints are read before the update, as the item is not the owner of the association.
  */
 @Service
 public class ItemBacklogService implements IItemBacklogService {
 
+    /**
+     * The association of the item view fetched by the view fetch plan.
+     */
+    private static final String SPRINTS = "sprintViews";
+
     @Autowired
     ItemBacklogRepository itemBacklogRepository;
 
+    @Autowired
+    ITransitionService transitionService;
+
+    @Autowired
+    ISprintEventService sprintEventService;
+
+    @Autowired
+    IAggregateVersionService aggregateVersionService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     /**
      * Retrieves a list of {@link ItemBacklog} entities based on the provided product backlog ID.
      *
@@ -27,7 +69,59 @@ public class ItemBacklogService implements IItemBacklogService {
      */
     @Override
     public List<ItemBacklog> findByProductBacklogId(Long id) {
-        return itemBacklogRepository.findByProductBacklogId(id).stream().filter(i -> i.isActive()).toList();
+        return itemBacklogRepository.findByProductBacklogId(id);
+    }
+
+    /**
+     * Streams the views of the {@link ItemBacklog} entities of a product backlog, in ID order, to a consumer.
+     *
+     * <p> The IDs of the items are read in slices of {@value PaginationConfig#STREAM_FETCH_SIZE}, and each slice is
+     * loaded with the sprints of its items by a single query and assembled with a new {@link ViewAssembler}, in its own
+     * short read-only transaction. The views of a slice are handed to the consumer once that transaction is over, so no
+     * connection is held while they are written to a slow client, and the entities and views held at once are bounded
+     * by the fetch size rather than by the number of items, and the statements by the number of slices.
+     *
+     * @param id       The ID of the product backlog.
+     * @param maxDepth The deepest nesting level assembled in full.
+     * @param consumer The consumer of the views, called once per item.
+     */
+    @Override
+    public void streamByProductBacklogId(Long id, int maxDepth, Consumer<ItemBacklogView> consumer) {
+        streamByProductBacklogId(id, maxDepth, FieldSelection.ALL, consumer);
+    }
+
+    /**
+     * Streams the views of the {@link ItemBacklog} entities of a product backlog, in ID order, to a consumer, as by
+     * {@link #streamByProductBacklogId(Long, int, Consumer)}, only assembling the associations of a selection.
+     *
+     * @param id        The ID of the product backlog.
+     * @param maxDepth  The deepest nesting level assembled in full.
+     * @param selection The selection of the views.
+     * @param consumer  The consumer of the views, called once per item.
+     */
+    @Override
+    public void streamByProductBacklogId(Long id, int maxDepth, FieldSelection selection, Consumer<ItemBacklogView> consumer) {
+        Pageable slice = PageRequest.of(0, Integer.parseInt(PaginationConfig.STREAM_FETCH_SIZE));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        List<ItemBacklogView> views = new ArrayList<>(slice.getPageSize());
+        Long afterId = 0L;
+        Slice<Long> ids;
+        do {
+            Long lastId = afterId;
+            ids = transactionTemplate.execute(status -> {
+                Slice<Long> fetched = itemBacklogRepository.findIdsByProductBacklogIdAfter(id, lastId, slice);
+                if (fetched.hasContent()) {
+                    views.addAll(assembleFetch(fetched.getContent(), maxDepth, selection));
+                }
+                return fetched;
+            });
+            views.forEach(consumer);
+            views.clear();
+            if (ids.hasContent()) {
+                afterId = ids.getContent().get(ids.getNumberOfElements() - 1);
+            }
+        } while (ids.hasNext());
     }
 
     /**
@@ -38,7 +132,55 @@ public class ItemBacklogService implements IItemBacklogService {
      */
     @Override
     public List<ItemBacklog> findBySprintId(Long id) {
-        return itemBacklogRepository.findBySprintId(id).stream().filter(i -> i.isActive()).toList();
+        return itemBacklogRepository.findBySprintId(id);
+    }
+
+    /**
+     * Retrieves a list of {@link ItemBacklog} entities based on the provided sprint ID, fetching their sprints only
+     * when their views include them.
+     *
+     * @param id        The ID of the sprint.
+     * @param selection The selection of the views of the items.
+     * @return A list of {@link ItemBacklog} entities.
+     */
+    @Override
+    public List<ItemBacklog> findBySprintId(Long id, FieldSelection selection) {
+        if (selection.expands(SPRINTS)) {
+            return itemBacklogRepository.findBySprintId(id);
+        }
+        return itemBacklogRepository.findShallowBySprintId(id);
+    }
+
+    /**
+     * Retrieves a slice of {@link ItemBacklog} entities based on the provided product backlog ID.
+     *
+     * @param id       The ID of the product backlog.
+     * @param cursor   The ordering of the listing and the position after which the slice starts.
+     * @param pageable The size of the slice.
+     * @return A slice of {@link ItemBacklog} entities.
+     */
+    @Override
+    public Slice<ItemBacklog> findByProductBacklogId(Long id, PageCursor cursor, Pageable pageable) {
+        if (cursor.getOrder() == PageOrder.PRIORITY) {
+            return itemBacklogRepository.findByProductBacklogIdAfterPriority(id, cursor.getPriority(), cursor.getId(), pageable);
+        }
+        return itemBacklogRepository.findByProductBacklogIdAfter(id, cursor.getId(), pageable);
+    }
+
+    /**
+     * Retrieves a slice of {@link ItemBacklog} entities based on the provided sprint ID.
+     *
+     * @param id       The ID of the sprint.
+     * @param cursor   The ordering of the listing and the position after which the slice starts.
+     * @param pageable The size of the slice.
+     * @return A slice of {@link ItemBacklog} entities.
+     */
+    @Override
+    public Slice<ItemBacklog> findBySprintId(Long id, PageCursor cursor, Pageable pageable) {
+        if (cursor.getOrder() == PageOrder.PRIORITY) {
+            return itemBacklogRepository.findBySprintIdAfterPriority(id, cursor.getPriority(), cursor.getId(), pageable);
+        }
+        return itemBacklogRepository.findBySprintIdAfter(id, cursor.getId(), pageable);
     }
 
     /**
@@ -49,7 +191,26 @@ public class ItemBacklogService implements IItemBacklogService {
      */
     @Override
     public ItemBacklog save(ItemBacklog itemBacklog) {
-        return itemBacklogRepository.save(itemBacklog);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            ItemBacklog savedItemBacklog = itemBacklogRepository.save(itemBacklog);
+            aggregateVersionService.increment(savedItemBacklog.aggregateRoots());
+            return savedItemBacklog;
+        });
+    }
+
+    /**
+     * Saves a list of new {@link ItemBacklog} entities in a single transaction, so their inserts are sent in JDBC batches.
+     *
+     * @param itensBacklog The {@link ItemBacklog} entities to be saved.
+     * @return The saved {@link ItemBacklog} entities, in the same order.
+     */
+    @Override
+    public List<ItemBacklog> saveAll(List<ItemBacklog> itensBacklog) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<ItemBacklog> savedItensBacklog = StreamSupport.stream(itemBacklogRepository.saveAll(itensBacklog).spliterator(), false).toList();
+            aggregateVersionService.increment(savedItensBacklog.stream().flatMap(i -> i.aggregateRoots().stream()).toList());
+            return savedItensBacklog;
+        });
     }
 
     /**
@@ -62,13 +223,22 @@ public class ItemBacklogService implements IItemBacklogService {
      */
     @Override
     public ItemBacklog update(Long id, ItemBacklog itemBacklog) {
-        Optional<ItemBacklog> savedItemBacklog = itemBacklogRepository.findById(id);
-        if (savedItemBacklog.isPresent() && savedItemBacklog.get().isActive()) {
-            ItemBacklog newItemBacklog = savedItemBacklog.get().update(itemBacklog);
-            return itemBacklogRepository.save(newItemBacklog);
-        } else {
-            throw new EntityNotFoundException("ItemBacklog with id " + itemBacklog.getId() + " was not found.");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<ItemBacklog> savedItemBacklog = itemBacklogRepository.findById(id);
+            if (savedItemBacklog.isPresent() && savedItemBacklog.get().isActive()) {
+                TransitionState previousState = TransitionState.of(savedItemBacklog.get());
+                List<Long> sprintIds = sprintIdsOf(savedItemBacklog.get());
+                List<BaseEntity> roots = new ArrayList<>(savedItemBacklog.get().aggregateRoots());
+                ItemBacklog newItemBacklog = itemBacklogRepository.save(savedItemBacklog.get().update(itemBacklog));
+                roots.addAll(newItemBacklog.aggregateRoots());
+                aggregateVersionService.increment(roots);
+                transitionService.record(previousState, TransitionState.of(newItemBacklog));
+                sprintEventService.publish(sprintIds, newItemBacklog.toEventView(SprintEventType.CHANGED));
+                return newItemBacklog;
+            } else {
+                throw new EntityNotFoundException("ItemBacklog with id " + itemBacklog.getId() + " was not found.");
+            }
+        });
     }
 
     /**
@@ -80,7 +250,21 @@ public class ItemBacklogService implements IItemBacklogService {
      */
     @Override
     public ItemBacklog findById(Long id) {
-        Optional<ItemBacklog> itemBacklog = itemBacklogRepository.findById(id);
+        return findById(id, FieldSelection.ALL);
+    }
+
+    /**
+     * Retrieves a {@link ItemBacklog} entity based on the provided ID, fetching its sprints only when its view
+     * includes them.
+     *
+     * @param id        The ID of the {@link ItemBacklog} entity to be retrieved.
+     * @param selection The selection of the view of the item.
+     * @return The {@link ItemBacklog} entity.
+     * @throws EntityNotFoundException If the {@link ItemBacklog} with the given ID is not found.
+     */
+    @Override
+    public ItemBacklog findById(Long id, FieldSelection selection) {
+        Optional<ItemBacklog> itemBacklog = selection.expands(SPRINTS) ? itemBacklogRepository.findViewById(id) : itemBacklogRepository.findById(id);
         if (itemBacklog.isPresent() && itemBacklog.get().isActive()) {
             return itemBacklog.get();
         } else {
@@ -97,12 +281,29 @@ public class ItemBacklogService implements IItemBacklogService {
      */
     @Override
     public ItemBacklog deactivateById(Long id) {
-        Optional<ItemBacklog> itemBacklog = itemBacklogRepository.findById(id);
-        if (itemBacklog.isPresent() && itemBacklog.get().isActive()) {
-            itemBacklog.get().setActive(false);
-            return itemBacklogRepository.save(itemBacklog.get());
-        } else {
-            throw new EntityNotFoundException("ItemBacklog with id " + id + " was not found.");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<ItemBacklog> itemBacklog = itemBacklogRepository.findById(id);
+            if (itemBacklog.isPresent() && itemBacklog.get().isActive()) {
+                itemBacklog.get().setActive(false);
+                ItemBacklog savedItemBacklog = itemBacklogRepository.save(itemBacklog.get());
+                aggregateVersionService.increment(savedItemBacklog.aggregateRoots());
+                sprintEventService.publish(sprintIdsOf(itemBacklog.get()), savedItemBacklog.toEventView(SprintEventType.REMOVED));
+                return savedItemBacklog;
+            } else {
+                throw new EntityNotFoundException("ItemBacklog with id " + id + " was not found.");
+            }
+        });
+    }
+
+    private List<ItemBacklogView> assembleFetch(List<Long> ids, int maxDepth, FieldSelection selection) {
+        List<ItemBacklog> itensBacklog = selection.expands(SPRINTS)
+            ? itemBacklogRepository.findViewByIdIn(ids)
+            : itemBacklogRepository.findShallowByIdIn(ids);
+        ViewAssembler views = new ViewAssembler(maxDepth, selection);
+        return itensBacklog.stream().map(views::toView).toList();
+    }
+
+    private static List<Long> sprintIdsOf(ItemBacklog itemBacklog) {
+        return itemBacklog.getSprints() == null ? List.of() : itemBacklog.getSprints().stream().map(Sprint::getId).toList();
     }
 }
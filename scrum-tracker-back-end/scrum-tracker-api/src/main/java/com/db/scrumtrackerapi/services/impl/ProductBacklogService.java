@@ -1,18 +1,26 @@
 package com.db.scrumtrackerapi.services.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.BaseEntity;
 import com.db.scrumtrackerapi.model.ProductBacklog;
 import com.db.scrumtrackerapi.repositories.ProductBacklogRepository;
+import com.db.scrumtrackerapi.services.IAggregateVersionService;
 import com.db.scrumtrackerapi.services.IProductBacklogService;
 
 /**
  * Service class for managing {@link ProductBacklog} entities.
  * Implements the {@link IProductBacklogService} interface.
+ *
+ * <p> Writes run in a transaction that also increments the version of the product of the backlog.
  */
 @Service
 public class ProductBacklogService implements IProductBacklogService {
@@ -20,6 +28,12 @@ public class ProductBacklogService implements IProductBacklogService {
     @Autowired
     ProductBacklogRepository productBacklogRepository;
 
+    @Autowired
+    IAggregateVersionService aggregateVersionService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     /**
      * Saves a new or existing {@link ProductBacklog} entity.
      *
@@ -28,7 +42,11 @@ public class ProductBacklogService implements IProductBacklogService {
      */
     @Override
     public ProductBacklog save(ProductBacklog productBacklog) {
-        return productBacklogRepository.save(productBacklog);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            ProductBacklog savedProductBacklog = productBacklogRepository.save(productBacklog);
+            aggregateVersionService.increment(savedProductBacklog.aggregateRoots());
+            return savedProductBacklog;
+        });
     }
 
     /**
@@ -40,7 +58,7 @@ public class ProductBacklogService implements IProductBacklogService {
     @Override
     public ProductBacklog findByProductId(Long productId) {
         ProductBacklog productBacklog = productBacklogRepository.findByProductId(productId);
-        if (productBacklog.isActive()) {
+        if (productBacklog != null && productBacklog.isActive()) {
             return productBacklog;
         } else {
             throw new EntityNotFoundException("ProductBacklog with Product id " + productId + " was not found or is not active.");
@@ -75,13 +93,17 @@ public class ProductBacklogService implements IProductBacklogService {
      */
     @Override
     public ProductBacklog desactivateById(Long id) {
-        Optional<ProductBacklog> productBacklog = productBacklogRepository.findById(id);
-        if (productBacklog.isPresent() && productBacklog.get().isActive()) {
-            productBacklog.get().setActive(false);
-            return productBacklogRepository.save(productBacklog.get());
-        } else {
-            throw new EntityNotFoundException("ProductBacklog with id " + id + " was not found or is not active.");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<ProductBacklog> productBacklog = productBacklogRepository.findById(id);
+            if (productBacklog.isPresent() && productBacklog.get().isActive()) {
+                productBacklog.get().setActive(false);
+                ProductBacklog savedProductBacklog = productBacklogRepository.save(productBacklog.get());
+                aggregateVersionService.increment(savedProductBacklog.aggregateRoots());
+                return savedProductBacklog;
+            } else {
+                throw new EntityNotFoundException("ProductBacklog with id " + id + " was not found or is not active.");
+            }
+        });
     }
 
 
@@ -98,12 +120,17 @@ public class ProductBacklogService implements IProductBacklogService {
      */
 	@Override
     public ProductBacklog update(Long id, ProductBacklog productBacklog) {
-        Optional<ProductBacklog> savedProductBacklog = productBacklogRepository.findById(id);
-        if (savedProductBacklog.isPresent() && savedProductBacklog.get().isActive()) {
-            ProductBacklog newItemBacklog = savedProductBacklog.get().update(productBacklog);
-            return productBacklogRepository.save(newItemBacklog);
-        } else {
-            throw new EntityNotFoundException("ProductBacklog with id " + productBacklog.getId() + " was not found.");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<ProductBacklog> savedProductBacklog = productBacklogRepository.findById(id);
+            if (savedProductBacklog.isPresent() && savedProductBacklog.get().isActive()) {
+                List<BaseEntity> roots = new ArrayList<>(savedProductBacklog.get().aggregateRoots());
+                ProductBacklog newItemBacklog = productBacklogRepository.save(savedProductBacklog.get().update(productBacklog));
+                roots.addAll(newItemBacklog.aggregateRoots());
+                aggregateVersionService.increment(roots);
+                return newItemBacklog;
+            } else {
+                throw new EntityNotFoundException("ProductBacklog with id " + productBacklog.getId() + " was not found.");
+            }
+        });
     }
 }
@@ -0,0 +1,216 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.model.view.SearchResultView;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.ISearchService;
+import com.db.scrumtrackerapi.util.AfterCommit;
+import com.db.scrumtrackerapi.util.SearchDocument;
+import com.db.scrumtrackerapi.util.SearchIndex;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ValidationException;
+
+/**
+ * Service class searching the active backlog items and tasks by the words of their names, user histories, criteria
+ * for acceptance, descriptions and comments.
+ *
+ * <p> Searches are answered from a {@link SearchIndex} held in memory, without reading the database. The index is
+ * built once the application is ready, with {@code scrum-tracker.search.rebuild-threads} threads each reading a range
+ * of IDs in pages of {@code scrum-tracker.search.rebuild-page-size} rows. It is then kept current by the
+ * {@link com.db.scrumtrackerapi.config.SearchIndexListener}, whose changes are applied once their transaction commits.
+ * Changes committed during a rebuild are applied to the current index, and again to the new one before it replaces it.
+ */
+@Service
+public class SearchService implements ISearchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchService.class);
+
+    @Autowired
+    private ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    private TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${scrum-tracker.search.rebuild-threads:4}")
+    private int rebuildThreads;
+
+    @Value("${scrum-tracker.search.rebuild-page-size:1000}")
+    private int rebuildPageSize;
+
+    @Value("${scrum-tracker.search.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${scrum-tracker.search.max-limit:100}")
+    private int maxLimit;
+
+    private volatile SearchIndex index;
+
+    /**
+     * The changes applied since the start of the running rebuild, {@code null} when none is running.
+     */
+    private List<Consumer<SearchIndex>> pending;
+
+    /**
+     * Guards the pending changes and the replacement of the index.
+     */
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Starts with an empty index, filled once the application is ready.
+     */
+    @PostConstruct
+    void start() {
+        index = new SearchIndex();
+    }
+
+    /**
+     * Indexes a backlog item or task once the current transaction commits, or at once outside a transaction.
+     *
+     * @param document The document of the entity.
+     */
+    @Override
+    public void index(SearchDocument document) {
+        AfterCommit.run(() -> apply(index -> index.add(document)));
+    }
+
+    /**
+     * Removes a backlog item or task from the index once the current transaction commits, or at once outside a
+     * transaction.
+     *
+     * @param subject The kind of the entity, ITEM_BACKLOG or TASK_SPRINT.
+     * @param id      The ID of the entity.
+     */
+    @Override
+    public void remove(String subject, Long id) {
+        AfterCommit.run(() -> apply(index -> index.remove(subject, id)));
+    }
+
+    /**
+     * Searches the active backlog items and tasks. A query is a list of words, all of which a result must hold:
+     * a word ending with {@code *} matches the words starting with it, and words between double quotes must follow
+     * each other. Accents and case are ignored.
+     *
+     * @param query The query.
+     * @param limit The maximum number of results, {@code null} for the default, clamped between 1 and the maximum.
+     * @return The matching backlog items and tasks, the best first.
+     * @throws ValidationException If the query is blank.
+     */
+    @Override
+    public List<SearchResultView> search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query must not be blank.");
+        }
+        int resolved = limit == null ? defaultLimit : limit;
+        return index.search(query, Math.max(1, Math.min(resolved, maxLimit)));
+    }
+
+    /**
+     * Rebuilds the index from the active backlog items and tasks, then replaces the current index with it.
+     * The current index keeps answering searches meanwhile, and is kept if the rebuild fails. Runs once the
+     * application is ready.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        SearchIndex rebuilt = new SearchIndex();
+        synchronized (rebuildLock) {
+            pending = new ArrayList<>();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads, new CustomizableThreadFactory("search-rebuild-"));
+        try {
+            List<CompletableFuture<Void>> units = new ArrayList<>();
+            units.addAll(submit(executor, rebuilt, itemBacklogRepository.findMaxId(), itemBacklogRepository::findSearchDocuments));
+            units.addAll(submit(executor, rebuilt, taskSprintRepository.findMaxId(), taskSprintRepository::findSearchDocuments));
+            CompletableFuture.allOf(units.toArray(CompletableFuture[]::new)).join();
+            synchronized (rebuildLock) {
+                pending.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+            }
+            LOGGER.info("Indexed {} backlog items and tasks in {} ms.", rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not rebuild the search index.", e);
+        } finally {
+            synchronized (rebuildLock) {
+                pending = null;
+            }
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Reads the search documents of a range of IDs, one slice at a time.
+     */
+    @FunctionalInterface
+    private interface DocumentReader {
+
+        Slice<SearchDocument> read(Long afterId, Long toId, Pageable pageable);
+    }
+
+    /**
+     * Splits the IDs up to the greatest one into a range per thread, each read in its own read-only transaction.
+     */
+    private List<CompletableFuture<Void>> submit(ExecutorService executor, SearchIndex rebuilt, Long maxId, DocumentReader reader) {
+        List<CompletableFuture<Void>> units = new ArrayList<>();
+        if (maxId == null) {
+            return units;
+        }
+        long width = Math.max(rebuildPageSize, (maxId + rebuildThreads - 1) / rebuildThreads);
+        for (long from = 0; from < maxId; from += width) {
+            long afterId = from;
+            long toId = Math.min(from + width, maxId);
+            units.add(CompletableFuture.runAsync(() -> read(rebuilt, afterId, toId, reader), executor));
+        }
+        return units;
+    }
+
+    private void read(SearchIndex rebuilt, long afterId, long toId, DocumentReader reader) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            Long after = afterId;
+            Slice<SearchDocument> slice;
+            do {
+                slice = reader.read(after, toId, PageRequest.ofSize(rebuildPageSize));
+                for (SearchDocument document : slice) {
+                    rebuilt.add(document);
+                    after = document.getId();
+                }
+            } while (slice.hasNext());
+        });
+    }
+
+    private void apply(Consumer<SearchIndex> change) {
+        synchronized (rebuildLock) {
+            change.accept(index);
+            if (pending != null) {
+                pending.add(change);
+            }
+        }
+    }
+}
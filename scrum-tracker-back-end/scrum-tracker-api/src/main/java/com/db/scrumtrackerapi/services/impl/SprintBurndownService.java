@@ -0,0 +1,194 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.SprintEffort;
+import com.db.scrumtrackerapi.model.SprintSnapshot;
+import com.db.scrumtrackerapi.model.TaskEffort;
+import com.db.scrumtrackerapi.model.view.BurndownPointView;
+import com.db.scrumtrackerapi.model.view.BurndownView;
+import com.db.scrumtrackerapi.model.view.SprintVelocityView;
+import com.db.scrumtrackerapi.model.view.VelocityView;
+import com.db.scrumtrackerapi.repositories.SprintEffortRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.SprintSnapshotRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.ISprintBurndownService;
+
+/**
+ * Service class keeping the effort counters of sprints and serving their burndown and velocity.
+ *
+ * <p> Each write to tasks moves the {@link SprintEffort} counters of their sprints by the difference of their
+ * {@link TaskEffort}s, under a lock on the sprint row, and copies the counters into the {@link SprintSnapshot} of
+ * the day. A burndown then reads one row per day and a velocity one row per sprint, whatever the number of tasks.
+ *
+ * <p> The counters of a sprint are seeded when it is created. Sprints written before the counters existed are seeded
+ * from their tasks once the application is ready, and start their burndown on that day. Burndown and velocity only
+ * read: a sprint not seeded yet is counted from its tasks without saving the count.
+ */
+@Service
+public class SprintBurndownService implements ISprintBurndownService {
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    private SprintEffortRepository sprintEffortRepository;
+
+    @Autowired
+    private SprintSnapshotRepository sprintSnapshotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Moves the effort counters of the sprints of a set of tasks by the difference of their contributions, joining
+     * the transaction of the write when there is one. Sprints are locked in ID order, so concurrent writers do not
+     * deadlock.
+     *
+     * @param before The contributions of the tasks before the write, {@link TaskEffort#NONE} for new tasks.
+     * @param after  The contributions of the tasks after the write.
+     */
+    @Override
+    public void record(List<TaskEffort> before, List<TaskEffort> after) {
+        Map<Long, double[]> deltas = new TreeMap<>();
+        before.stream().filter(i -> i.sprintId() != null).forEach(i -> {
+            double[] delta = deltas.computeIfAbsent(i.sprintId(), key -> new double[2]);
+            delta[0] -= i.effort();
+            delta[1] -= i.remaining();
+        });
+        after.stream().filter(i -> i.sprintId() != null).forEach(i -> {
+            double[] delta = deltas.computeIfAbsent(i.sprintId(), key -> new double[2]);
+            delta[0] += i.effort();
+            delta[1] += i.remaining();
+        });
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            deltas.forEach((sprintId, delta) -> sprintRepository.lockById(sprintId).ifPresent(sprint -> {
+                Optional<SprintEffort> sprintEffort = sprintEffortRepository.findById(sprintId);
+                snapshot(sprintEffort.isPresent() ? sprintEffort.get().add(delta[0], delta[1]) : count(sprintId));
+            })));
+    }
+
+    /**
+     * Seeds the effort counters of a sprint from its tasks, with its first snapshot, joining the transaction of the
+     * caller when there is one. Sprints that already have counters are left as they are.
+     *
+     * <p> Tasks written before their effort was stored as a number get it stored first, so the counters can be
+     * summed from the numeric column.
+     *
+     * @param sprintId The ID of the sprint.
+     */
+    @Override
+    public void seed(Long sprintId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            sprintRepository.lockById(sprintId).filter(sprint -> !sprintEffortRepository.existsById(sprintId)).ifPresent(sprint -> {
+                taskSprintRepository.findUnscoredBySprintId(sprintId).forEach(i -> i.setEffortEstimation(i.getEffortEstimation()));
+                snapshot(count(sprintId));
+            }));
+    }
+
+    /**
+     * Seeds the effort counters of the active sprints written before the counters existed, one transaction per
+     * sprint, once the application is ready.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedAll() {
+        sprintEffortRepository.findUnseededSprintIds().forEach(this::seed);
+    }
+
+    /**
+     * Retrieves the burndown of an active sprint: one point per day from its first snapshot until today, a day
+     * without a snapshot keeping the effort of the day before. A sprint not seeded yet has a single point, today.
+     *
+     * @param id The ID of the sprint.
+     * @return The burndown of the sprint.
+     * @throws EntityNotFoundException If the sprint with the given ID is not found or is not active.
+     */
+    @Override
+    public BurndownView findBurndownBySprintId(Long id) {
+        Optional<Sprint> sprint = sprintRepository.findById(id);
+        if (sprint.isEmpty() || !sprint.get().isActive()) {
+            throw new EntityNotFoundException("Sprint with ID " + id + " was not found or is not active.");
+        }
+        List<SprintSnapshot> snapshots = sprintSnapshotRepository.findBySprintId(id);
+        List<BurndownPointView> points = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        if (snapshots.isEmpty()) {
+            SprintEffort sprintEffort = count(id);
+            points.add(new BurndownPointView(today, sprintEffort.getTotalEffort(), sprintEffort.getRemainingEffort()));
+        }
+        for (int i = 0; i < snapshots.size(); i++) {
+            SprintSnapshot snapshot = snapshots.get(i);
+            LocalDate end = i + 1 < snapshots.size() ? snapshots.get(i + 1).getDay() : today.plusDays(1);
+            for (LocalDate day = snapshot.getDay(); day.isBefore(end); day = day.plusDays(1)) {
+                points.add(new BurndownPointView(day, snapshot.getTotalEffort(), snapshot.getRemainingEffort()));
+            }
+        }
+        return new BurndownView(id, points);
+    }
+
+    /**
+     * Retrieves the velocity of a product: the effort committed to and done in each of its active sprints, in ID
+     * order, and the mean effort done per sprint.
+     *
+     * @param productId The ID of the product.
+     * @return The velocity of the product.
+     */
+    @Override
+    public VelocityView findVelocityByProductId(Long productId) {
+        List<Sprint> sprints = sprintRepository.findShallowByProductId(productId);
+        Map<Long, SprintEffort> sprintEfforts = StreamSupport.stream(sprintEffortRepository.findAllById(sprints.stream().map(Sprint::getId).toList()).spliterator(), false)
+            .collect(Collectors.toMap(SprintEffort::getSprintId, Function.identity()));
+        List<SprintVelocityView> velocities = sprints.stream().map(sprint -> {
+            SprintEffort sprintEffort = sprintEfforts.computeIfAbsent(sprint.getId(), this::count);
+            return new SprintVelocityView(sprint.getId(), sprint.getSprintGoals(), sprintEffort.getTotalEffort(),
+                sprintEffort.getTotalEffort() - sprintEffort.getRemainingEffort());
+        }).toList();
+        double averageVelocity = velocities.stream().mapToDouble(SprintVelocityView::getCompletedEffort).average().orElse(0);
+        return new VelocityView(productId, averageVelocity, velocities);
+    }
+
+    /**
+     * Sums the effort counters of a sprint from the numeric effort of its tasks, as they stand in the current
+     * transaction.
+     */
+    private SprintEffort count(Long sprintId) {
+        return taskSprintRepository.sumEffortBySprintId(sprintId).orElseGet(() -> new SprintEffort(sprintId, 0, 0));
+    }
+
+    /**
+     * Saves the effort counters of a sprint and copies them into its snapshot of the day.
+     */
+    private SprintEffort snapshot(SprintEffort sprintEffort) {
+        LocalDate today = LocalDate.now();
+        SprintSnapshot snapshot = sprintSnapshotRepository.findBySprintIdAndDay(sprintEffort.getSprintId(), today)
+            .orElseGet(() -> new SprintSnapshot(sprintEffort.getSprintId(), today));
+        sprintSnapshotRepository.save(snapshot.update(sprintEffort));
+        return sprintEffortRepository.save(sprintEffort);
+    }
+}
@@ -0,0 +1,464 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.enums.SprintEventType;
+import com.db.scrumtrackerapi.model.view.SprintEventView;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.services.ISprintEventService;
+import com.db.scrumtrackerapi.util.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service class pushing the changes of the tasks and backlog items of sprints to their subscribers as Server-Sent Events.
+ *
+ * <p> Each sprint with subscribers or recent changes has a channel holding its subscribers and its last
+ * {@code scrum-tracker.sprint-events.history-size} events. Channels are only changed inside
+ * {@link ConcurrentHashMap#compute}, which serializes the changes of a sprint without a lock of its own.
+ *
+ * <p> Each subscriber has its own queue of pending events, sent {@code scrum-tracker.sprint-events.coalesce-window} after
+ * the first of them was queued. An event replaces the pending event of the same task or item, so a burst of changes is
+ * sent as the last state of each entity. Sends are blocking writes, so they run on a pool that keeps
+ * {@code scrum-tracker.sprint-events.pool-size} threads and grows past them while sends are blocked: a stalled client
+ * holds a single thread and never delays the other streams. The coalescing delays and the heartbeats run on a timer
+ * thread of their own, which never writes to a stream.
+ *
+ * <p> A subscriber with more than {@code scrum-tracker.sprint-events.queue-capacity} pending events, or whose send has
+ * not returned after {@code scrum-tracker.sprint-events.send-timeout}, is too slow and is dropped. A stream dropped
+ * during a blocked send is closed once the send returns. A dropped subscriber reconnects with the {@code Last-Event-ID} of the last event it received and is sent the events it missed, or a
+ * {@link SprintEventType#RESET} when they are no longer in the history. Event IDs start from the boot time, so an ID
+ * from before a restart is also answered with a reset.
+ */
+@Service
+public class SprintEventService implements ISprintEventService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SprintEventService.class);
+
+    private static final SprintEventView RESET = new SprintEventView(SprintEventType.RESET.name(), null, null, null, null, null, null);
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Value("${scrum-tracker.sprint-events.pool-size:2}")
+    private int poolSize;
+
+    @Value("${scrum-tracker.sprint-events.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${scrum-tracker.sprint-events.history-size:256}")
+    private int historySize;
+
+    @Value("${scrum-tracker.sprint-events.coalesce-window:100ms}")
+    private Duration coalesceWindow;
+
+    @Value("${scrum-tracker.sprint-events.heartbeat-interval:15s}")
+    private Duration heartbeatInterval;
+
+    @Value("${scrum-tracker.sprint-events.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${scrum-tracker.sprint-events.retention:10m}")
+    private Duration retention;
+
+    @Value("${scrum-tracker.sprint-events.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    /**
+     * Runs the coalescing delays and the heartbeats.
+     */
+    private ScheduledThreadPoolExecutor timer;
+
+    /**
+     * Runs the sends.
+     */
+    private ThreadPoolExecutor sender;
+
+    private Map<Long, Channel> channels;
+
+    private AtomicLong sequence;
+
+    /**
+     * Starts the timer and the pool the events are sent on, and schedules the heartbeats.
+     */
+    @PostConstruct
+    void start() {
+        channels = new ConcurrentHashMap<>();
+        sequence = new AtomicLong(System.currentTimeMillis() * 1_000);
+        timer = new ScheduledThreadPoolExecutor(1, threadFactory("sprint-events-timer-"));
+        timer.setRemoveOnCancelPolicy(true);
+        sender = new ThreadPoolExecutor(poolSize, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory("sprint-events-"));
+        timer.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval.toNanos(), heartbeatInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the timer and the pool and closes every stream.
+     */
+    @PreDestroy
+    void stop() {
+        timer.shutdownNow();
+        sender.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::close));
+    }
+
+    /**
+     * Pushes a change to the subscribers of sprints once the current transaction commits, or at once outside a
+     * transaction. Nothing is pushed on rollback.
+     *
+     * @param sprintIds The IDs of the sprints touched by the change.
+     * @param event     The change.
+     */
+    @Override
+    public void publish(Collection<Long> sprintIds, SprintEventView event) {
+        List<Long> ids = sprintIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> dispatch(ids, event));
+    }
+
+    /**
+     * Opens a stream of the changes of an active sprint.
+     *
+     * @param sprintId    The ID of the sprint.
+     * @param lastEventId The ID of the last event received on a previous stream, {@code null} for a new subscriber.
+     * @return The stream.
+     * @throws EntityNotFoundException If the sprint is not found or is not active.
+     */
+    @Override
+    public SseEmitter subscribe(Long sprintId, Long lastEventId) {
+        sprintRepository.findById(sprintId).filter(Sprint::isActive)
+            .orElseThrow(() -> new EntityNotFoundException("Sprint with ID " + sprintId + " was not found or is not active."));
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(sprintId, emitter);
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        channels.compute(sprintId, (id, channel) -> {
+            Channel target = channel == null ? new Channel(sequence.get()) : channel;
+            target.subscribe(subscriber, lastEventId);
+            return target;
+        });
+        return emitter;
+    }
+
+    private void dispatch(List<Long> sprintIds, SprintEventView event) {
+        for (Long sprintId : sprintIds) {
+            channels.compute(sprintId, (id, channel) -> {
+                Channel target = channel == null ? new Channel(sequence.get()) : channel;
+                target.publish(new Event(sequence.incrementAndGet(), event));
+                return target;
+            });
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.sprintId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel;
+        });
+    }
+
+    /**
+     * Queues a comment to every subscriber, so idle streams are kept open by proxies and dead ones are noticed, drops
+     * the stalled subscribers and forgets the channels without subscribers or changes for
+     * {@code scrum-tracker.sprint-events.retention}.
+     */
+    private void heartbeat() {
+        try {
+            long idleSince = System.nanoTime() - retention.toNanos();
+            for (Long sprintId : channels.keySet()) {
+                channels.computeIfPresent(sprintId, (id, channel) ->
+                    channel.subscribers.isEmpty() && channel.lastPublished - idleSince < 0 ? null : channel);
+            }
+            for (Channel channel : channels.values()) {
+                for (Subscriber subscriber : channel.subscribers) {
+                    if (!subscriber.ping()) {
+                        unsubscribe(subscriber);
+                        subscriber.close();
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not queue the sprint event heartbeats.", e);
+        }
+    }
+
+    private static CustomizableThreadFactory threadFactory(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * An event and its ID, which orders the events of a sprint.
+     */
+    private record Event(long id, SprintEventView view) {
+
+        /**
+         * The entity the event is about, as a later event about the same entity replaces it.
+         */
+        String key() {
+            return RESET.getType().equals(view.getType()) ? view.getType() : view.getSubject() + ":" + view.getEntityId();
+        }
+
+        SseEventBuilder toSse() {
+            return SseEmitter.event().id(Long.toString(id)).name(view.getType()).data(view, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * The subscribers and recent events of a sprint. Only used inside {@link ConcurrentHashMap#compute} on its sprint,
+     * apart from the subscribers, which the heartbeats read.
+     */
+    private final class Channel {
+
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+
+        private final Deque<Event> history = new ArrayDeque<>();
+
+        /**
+         * The ID up to which the events of the sprint may be missing from the history.
+         */
+        private long knownFrom;
+
+        private long lastPublished = System.nanoTime();
+
+        Channel(long knownFrom) {
+            this.knownFrom = knownFrom;
+        }
+
+        void publish(Event event) {
+            history.addLast(event);
+            while (history.size() > historySize) {
+                knownFrom = history.removeFirst().id();
+            }
+            lastPublished = System.nanoTime();
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(event)) {
+                    subscribers.remove(subscriber);
+                    sender.execute(subscriber::close);
+                }
+            }
+        }
+
+        /**
+         * Adds a subscriber, queueing the events it missed since its last event, or a reset when they are not all in
+         * the history or would not fit in its queue.
+         */
+        void subscribe(Subscriber subscriber, Long lastEventId) {
+            if (lastEventId != null) {
+                List<Event> missed = history.stream().filter(i -> i.id() > lastEventId).toList();
+                if (lastEventId < knownFrom || lastEventId > sequence.get() || missed.size() > queueCapacity) {
+                    subscriber.offer(new Event(sequence.get(), RESET));
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+    }
+
+    /**
+     * A stream and the events waiting to be sent on it.
+     */
+    private final class Subscriber {
+
+        private final Long sprintId;
+
+        private final SseEmitter emitter;
+
+        /**
+         * The pending events by entity, guarded by the subscriber. They are in ID order, as an event replacing another
+         * is moved to the end.
+         */
+        private final Map<String, Event> pending = new LinkedHashMap<>();
+
+        /**
+         * Whether a flush is scheduled or running, so a single thread sends on the stream at a time.
+         */
+        private boolean flushing;
+
+        /**
+         * Whether a flush is sending, since {@link #sendingSince}.
+         */
+        private boolean sending;
+
+        private long sendingSince;
+
+        /**
+         * Whether a heartbeat is pending.
+         */
+        private boolean heartbeat;
+
+        /**
+         * Whether the subscriber was dropped, after which nothing more is sent on the stream.
+         */
+        private boolean closed;
+
+        Subscriber(Long sprintId, SseEmitter emitter) {
+            this.sprintId = sprintId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues an event, replacing the pending event of the same entity.
+         *
+         * @return {@code false} if the queue overflowed or a send is stalled, in which case the subscriber must be dropped.
+         */
+        synchronized boolean offer(Event event) {
+            if (closed || isStalled()) {
+                return false;
+            }
+            pending.remove(event.key());
+            pending.put(event.key(), event);
+            if (pending.size() > queueCapacity) {
+                pending.clear();
+                return false;
+            }
+            if (!flushing) {
+                flushing = true;
+                schedule(coalesceWindow);
+            }
+            return true;
+        }
+
+        /**
+         * Queues a heartbeat, sent at once unless a flush is already due.
+         *
+         * @return {@code false} if a send is stalled, in which case the subscriber must be dropped.
+         */
+        synchronized boolean ping() {
+            if (closed || isStalled()) {
+                return false;
+            }
+            heartbeat = true;
+            if (!flushing) {
+                flushing = true;
+                schedule(Duration.ZERO);
+            }
+            return true;
+        }
+
+        /**
+         * Closes the stream, or lets the running send close it once it returns, as the stream cannot be closed while
+         * a send holds it.
+         */
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+                heartbeat = false;
+                if (sending) {
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+
+        private boolean isStalled() {
+            return sending && System.nanoTime() - sendingSince > sendTimeout.toNanos();
+        }
+
+        private void schedule(Duration delay) {
+            try {
+                timer.schedule(this::submit, delay.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                flushing = false;
+            }
+        }
+
+        private void submit() {
+            try {
+                sender.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    flushing = false;
+                }
+            }
+        }
+
+        private void flush() {
+            List<Event> events;
+            boolean ping;
+            synchronized (this) {
+                if (closed) {
+                    flushing = false;
+                    return;
+                }
+                events = new ArrayList<>(pending.values());
+                pending.clear();
+                ping = heartbeat;
+                heartbeat = false;
+                sending = true;
+                sendingSince = System.nanoTime();
+            }
+            boolean failed = false;
+            try {
+                for (Event event : events) {
+                    emitter.send(event.toSse());
+                }
+                if (ping) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                failed = true;
+            }
+            boolean dropped;
+            synchronized (this) {
+                sending = false;
+                dropped = closed;
+                if (failed || dropped || pending.isEmpty() && !heartbeat) {
+                    flushing = false;
+                } else {
+                    schedule(coalesceWindow);
+                }
+            }
+            if (failed) {
+                unsubscribe(this);
+            } else if (dropped) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -1,18 +1,39 @@
 package com.db.scrumtrackerapi.services.impl;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.exceptions.InvalidCursorException;
+import com.db.scrumtrackerapi.model.BaseEntity;
 import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.enums.PageOrder;
+import com.db.scrumtrackerapi.model.view.BoardColumnView;
+import com.db.scrumtrackerapi.model.view.BoardTaskView;
+import com.db.scrumtrackerapi.model.view.SprintBoardView;
 import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.IAggregateVersionService;
+import com.db.scrumtrackerapi.services.ISprintBurndownService;
 import com.db.scrumtrackerapi.services.ISprintService;
+import com.db.scrumtrackerapi.util.PageCursor;
 
 
 /**
  * Service class for handling business logic related to sprints.
+ *
+ * <p> Writes run in a transaction that also increments the version of the product of the sprint, before and after
+ * the write. A new sprint gets its effort counters seeded in the same transaction.
  */
 @Service
 public class SprintService implements ISprintService {
@@ -20,6 +41,18 @@ public class SprintService implements ISprintService {
     @Autowired
     private SprintRepository sprintRepository;
 
+    @Autowired
+    private TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    private IAggregateVersionService aggregateVersionService;
+
+    @Autowired
+    private ISprintBurndownService sprintBurndownService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Finds a list of {@link Sprint} entities by its associated product ID.
      *
@@ -28,26 +61,64 @@ public class SprintService implements ISprintService {
      */
     @Override
     public List<Sprint> findByProductId(Long productId) {
-        return sprintRepository.findByProductId(productId).stream().filter(i -> i.isActive()).toList();
+        return sprintRepository.findByProductId(productId);
+    }
+
+    /**
+     * Finds a slice of {@link Sprint} entities by its associated product ID, in ID order.
+     *
+     * @param productId The product ID associated with the {@link Sprint} entity.
+     * @param cursor    The position after which the slice starts.
+     * @param pageable  The size of the slice.
+     * @return The slice of {@link Sprint} entity.
+     * @throws InvalidCursorException If the cursor is not ordered by ID.
+     */
+    @Override
+    public Slice<Sprint> findByProductId(Long productId, PageCursor cursor, Pageable pageable) {
+        return sprintRepository.findByProductIdAfter(productId, idOf(cursor), pageable);
     }
 
     /**
-     * Retrieves a list of sprints by item backlog ID, filtering only active sprints.
+     * Retrieves a list of active sprints by item backlog ID.
      *
      * @param id The ID of the item backlog.
      * @return A list of active sprints associated with the specified item backlog.
      */
     public List<Sprint> findByItemBacklogId(Long id) {
-        return sprintRepository.findByItensBacklogId(id).stream().filter(i -> i.isActive()).toList();
+        return sprintRepository.findByItensBacklogId(id);
     }
 
     /**
-     * Retrieves a list of all sprints, filtering only active sprints.
+     * Retrieves a slice of active sprints by item backlog ID, in ID order.
+     *
+     * @param id       The ID of the item backlog.
+     * @param cursor   The position after which the slice starts.
+     * @param pageable The size of the slice.
+     * @return A slice of active sprints associated with the specified item backlog.
+     * @throws InvalidCursorException If the cursor is not ordered by ID.
+     */
+    @Override
+    public Slice<Sprint> findByItemBacklogId(Long id, PageCursor cursor, Pageable pageable) {
+        return sprintRepository.findByItensBacklogIdAfter(id, idOf(cursor), pageable);
+    }
+
+    /**
+     * Sprints have no priority, so their listings can only be ordered by ID.
+     */
+    private Long idOf(PageCursor cursor) {
+        if (cursor.getOrder() != PageOrder.ID) {
+            throw new InvalidCursorException("Sprints can only be ordered by " + PageOrder.ID + ".");
+        }
+        return cursor.getId();
+    }
+
+    /**
+     * Retrieves a list of all active sprints.
      *
      * @return A list of all active sprints.
      */
     public List<Sprint> getAllSprints() {
-        return StreamSupport.stream(sprintRepository.findAll().spliterator(), false).filter(i -> i.isActive()).toList();
+        return StreamSupport.stream(sprintRepository.findAll().spliterator(), false).toList();
     }
 
     /**
@@ -58,7 +129,12 @@ public class SprintService implements ISprintService {
      */
     @Override
     public Sprint save(Sprint sprint) {
-        return sprintRepository.save(sprint);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Sprint savedSprint = sprintRepository.save(sprint);
+            aggregateVersionService.increment(savedSprint.aggregateRoots());
+            sprintBurndownService.seed(savedSprint.getId());
+            return savedSprint;
+        });
     }
 
     /**
@@ -71,13 +147,18 @@ public class SprintService implements ISprintService {
      */
     @Override
     public Sprint update(Long id, Sprint sprint) throws EntityNotFoundException {
-        Optional<Sprint> savedSprintOptional = sprintRepository.findById(id);
-        if (savedSprintOptional.isPresent()) {
-            Sprint savedSprint = savedSprintOptional.get().update(sprint);
-            return sprintRepository.save(savedSprint);
-        } else {
-            throw new EntityNotFoundException("Sprint with ID " + sprint.getId() + " was not found or is not active.");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<Sprint> savedSprintOptional = sprintRepository.findById(id);
+            if (savedSprintOptional.isPresent()) {
+                List<BaseEntity> roots = new ArrayList<>(savedSprintOptional.get().aggregateRoots());
+                Sprint savedSprint = sprintRepository.save(savedSprintOptional.get().update(sprint));
+                roots.addAll(savedSprint.aggregateRoots());
+                aggregateVersionService.increment(roots);
+                return savedSprint;
+            } else {
+                throw new EntityNotFoundException("Sprint with ID " + sprint.getId() + " was not found or is not active.");
+            }
+        });
     }
 
     /**
@@ -89,7 +170,7 @@ public class SprintService implements ISprintService {
      */
     @Override
     public Sprint findById(Long id) {
-        Optional<Sprint> sprint = sprintRepository.findById(id);
+        Optional<Sprint> sprint = sprintRepository.findDetailedById(id);
         if (sprint.isPresent() && sprint.get().isActive()) {
             return sprint.get();
         } else {
@@ -97,6 +178,34 @@ public class SprintService implements ISprintService {
         }
     }
 
+    /**
+     * Retrieves the board of a sprint: one column per task status, in workflow order, each holding its task count
+     * and its tasks in descending priority order. The counts come from a single grouped query and the tasks from a
+     * single projection query, so no entity graph is loaded.
+     *
+     * @param id The ID of the sprint.
+     * @return The board of the sprint.
+     * @throws EntityNotFoundException If the sprint with the given ID is not found or is not active.
+     */
+    @Override
+    public SprintBoardView findBoardById(Long id) {
+        Optional<Sprint> sprint = sprintRepository.findById(id);
+        if (sprint.isEmpty() || !sprint.get().isActive()) {
+            throw new EntityNotFoundException("Sprint with ID " + id + " was not found or is not active.");
+        }
+        Map<Status, BoardColumnView> columns = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            columns.put(status, new BoardColumnView(status, 0));
+        }
+        for (BoardColumnView column : taskSprintRepository.countBySprintIdGroupByStatus(id)) {
+            columns.put(Status.valueOf(column.getStatus()), column);
+        }
+        for (BoardTaskView task : taskSprintRepository.findBoardTasksBySprintId(id)) {
+            columns.get(Status.valueOf(task.getStatus())).getTasks().add(task);
+        }
+        return new SprintBoardView(id, sprint.get().getSprintGoals(), List.copyOf(columns.values()));
+    }
+
     /**
      * Deactivates a sprint by ID.
      *
@@ -106,12 +215,16 @@ public class SprintService implements ISprintService {
      */
     @Override
     public Sprint deactivateById(Long id) {
-        Optional<Sprint> sprint = sprintRepository.findById(id);
-        if (sprint.isPresent() && sprint.get().isActive()) {
-            sprint.get().setActive(false);
-            return sprintRepository.save(sprint.get());
-        } else {
-            throw new EntityNotFoundException("Sprint with ID " + id + " was not found or is not active.");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<Sprint> sprint = sprintRepository.findById(id);
+            if (sprint.isPresent() && sprint.get().isActive()) {
+                sprint.get().setActive(false);
+                Sprint savedSprint = sprintRepository.save(sprint.get());
+                aggregateVersionService.increment(savedSprint.aggregateRoots());
+                return savedSprint;
+            } else {
+                throw new EntityNotFoundException("Sprint with ID " + id + " was not found or is not active.");
+            }
+        });
     }
 }
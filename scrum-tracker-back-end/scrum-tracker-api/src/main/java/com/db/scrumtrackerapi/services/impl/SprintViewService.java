@@ -0,0 +1,327 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.config.PaginationConfig;
+import com.db.scrumtrackerapi.config.SqlStatementInspector;
+import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.exceptions.ViewAssemblyTimeoutException;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.ISprintViewService;
+import com.db.scrumtrackerapi.util.FieldSelection;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service class assembling {@link DetailedSprintView}s concurrently.
+ *
+ * <p> The tasks, the backlog items and the product of a sprint are independent sub-graphs, so each is fetched and
+ * assembled by its own task, in its own read-only transaction, on a pool of {@code scrum-tracker.sprint-views.pool-size}
+ * threads, and the request waits for the slowest one rather than for their sum. The sprints of a product are assembled
+ * the same way, as many sprints at once as the pool has threads, so a product with many sprints does not fill the
+ * queue on its own. A request still waiting after {@code scrum-tracker.sprint-views.timeout}, or whose tasks are
+ * rejected by a full queue, cancels its remaining tasks and fails.
+ *
+ * <p> Each sub-graph is assembled by its own {@link ViewAssembler#below(com.db.scrumtrackerapi.model.BaseEntity)},
+ * so a view reached from two sub-graphs is built once in each of them. A sub-graph left out by the
+ * {@link FieldSelection} of the views is neither fetched nor assembled, and the tasks and backlog items are fetched
+ * without their responsibles and sprints when their views leave those out.
+ */
+@Service
+public class SprintViewService implements ISprintViewService {
+
+    private static final String TASKS = "tasksSprints";
+
+    private static final String ITEMS = "itemBacklogViews";
+
+    private static final String PRODUCT = "productView";
+
+    private static final String RESPONSIBLE = "responsible";
+
+    private static final String SPRINTS = "sprintViews";
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    private ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${scrum-tracker.sprint-views.pool-size:8}")
+    private int poolSize;
+
+    @Value("${scrum-tracker.sprint-views.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${scrum-tracker.sprint-views.timeout:5s}")
+    private Duration timeout;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Starts the pool the sub-graphs are assembled on. The pool is not a bean, so it does not stand in for the
+     * application task executor. Statements run by its tasks are recorded in the recordings of the request.
+     */
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sprint-view-");
+        executor.setTaskDecorator(SqlStatementInspector::propagate);
+        executor.initialize();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Stops the pool, interrupting the tasks still running.
+     */
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Assembles the detailed view of an active sprint.
+     *
+     * @param id       The ID of the sprint.
+     * @param maxDepth The deepest nesting level assembled in full.
+     * @return The detailed view of the sprint.
+     * @throws EntityNotFoundException      If the sprint is not found or is not active.
+     * @throws ViewAssemblyTimeoutException If the view is not assembled in time.
+     */
+    @Override
+    public DetailedSprintView findDetailedById(Long id, int maxDepth) {
+        return findDetailedById(id, maxDepth, FieldSelection.ALL);
+    }
+
+    /**
+     * Assembles the detailed view of an active sprint, only fetching the sub-graphs of a selection.
+     *
+     * @param id        The ID of the sprint.
+     * @param maxDepth  The deepest nesting level assembled in full.
+     * @param selection The selection of the view.
+     * @return The detailed view of the sprint.
+     * @throws EntityNotFoundException      If the sprint is not found or is not active.
+     * @throws ViewAssemblyTimeoutException If the view is not assembled in time.
+     */
+    @Override
+    public DetailedSprintView findDetailedById(Long id, int maxDepth, FieldSelection selection) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<Sprint> sprint = submit(() -> sprintRepository.findById(id).filter(Sprint::isActive)
+            .orElseThrow(() -> new EntityNotFoundException("Sprint with ID " + id + " was not found or is not active.")));
+        await(List.of(sprint), deadline);
+        ViewAssembler views = new ViewAssembler(maxDepth, selection);
+        return assemble(List.of(sprint.resultNow()), views, submitProduct(views, sprint.resultNow()), deadline).get(0);
+    }
+
+    /**
+     * Assembles the detailed views of the active sprints of a product, in ID order.
+     *
+     * @param productId The ID of the product.
+     * @param maxDepth  The deepest nesting level assembled in full.
+     * @return The detailed views of the sprints.
+     * @throws ViewAssemblyTimeoutException If the views are not assembled in time.
+     */
+    @Override
+    public List<DetailedSprintView> findDetailedByProductId(Long productId, int maxDepth) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<List<Sprint>> sprints = submit(() -> sprintRepository.findShallowByProductId(productId));
+        await(List.of(sprints), deadline);
+        List<Sprint> found = sprints.resultNow();
+        if (found.isEmpty()) {
+            return List.of();
+        }
+        ViewAssembler views = new ViewAssembler(maxDepth);
+        Future<ProductView> productView = submitProduct(views, found.get(0));
+        List<DetailedSprintView> detailedViews = new ArrayList<>();
+        for (int i = 0; i < found.size(); i += poolSize) {
+            detailedViews.addAll(assemble(found.subList(i, Math.min(i + poolSize, found.size())), views, productView, deadline));
+        }
+        return detailedViews;
+    }
+
+    /**
+     * Streams the detailed views of the active sprints of a product, in ID order, to a consumer.
+     *
+     * <p> The sprints are read in slices of {@value PaginationConfig#STREAM_FETCH_SIZE}, each in its own short read-only
+     * transaction, so no connection is held by the caller while the pool assembles their views. Each sprint is assembled
+     * as by {@link #findDetailedById(Long, int)}, within its own timeout, then handed to the consumer. The view of the
+     * product is assembled once, for the first sprint, and shared by the others.
+     *
+     * @param productId The ID of the product.
+     * @param maxDepth  The deepest nesting level assembled in full.
+     * @param consumer  The consumer of the views, called once per sprint.
+     * @throws ViewAssemblyTimeoutException If the view of a sprint is not assembled in time.
+     */
+    @Override
+    public void streamDetailedByProductId(Long productId, int maxDepth, Consumer<DetailedSprintView> consumer) {
+        streamDetailedByProductId(productId, maxDepth, FieldSelection.ALL, consumer);
+    }
+
+    /**
+     * Streams the detailed views of the active sprints of a product, in ID order, to a consumer, as by
+     * {@link #streamDetailedByProductId(Long, int, Consumer)}, only fetching the sub-graphs of a selection.
+     *
+     * @param productId The ID of the product.
+     * @param maxDepth  The deepest nesting level assembled in full.
+     * @param selection The selection of the views.
+     * @param consumer  The consumer of the views, called once per sprint.
+     * @throws ViewAssemblyTimeoutException If the view of a sprint is not assembled in time.
+     */
+    @Override
+    public void streamDetailedByProductId(Long productId, int maxDepth, FieldSelection selection, Consumer<DetailedSprintView> consumer) {
+        Pageable slice = PageRequest.of(0, Integer.parseInt(PaginationConfig.STREAM_FETCH_SIZE));
+        ViewAssembler views = new ViewAssembler(maxDepth, selection);
+        Future<ProductView> productView = null;
+        Long afterId = 0L;
+        Slice<Sprint> sprints;
+        do {
+            Long lastId = afterId;
+            sprints = transactionTemplate.execute(status -> sprintRepository.findShallowByProductIdAfter(productId, lastId, slice));
+            for (Sprint sprint : sprints) {
+                if (productView == null) {
+                    productView = submitProduct(views, sprint);
+                }
+                consumer.accept(assemble(List.of(sprint), views, productView, System.nanoTime() + timeout.toNanos()).get(0));
+                afterId = sprint.getId();
+            }
+        } while (sprints.hasNext());
+    }
+
+    /**
+     * Fetches and assembles the tasks and backlog items of every sprint concurrently, then joins them with the view of
+     * their product, assembled by a task already submitted. If a task is rejected, those already submitted are cancelled.
+     */
+    private List<DetailedSprintView> assemble(List<Sprint> sprints, ViewAssembler views, Future<ProductView> productView, long deadline) {
+        List<Future<List<TaskSprintView>>> tasks = new ArrayList<>();
+        List<Future<List<ItemBacklogView>>> items = new ArrayList<>();
+        List<Future<?>> all = new ArrayList<>();
+        if (productView != null) {
+            all.add(productView);
+        }
+        FieldSelection selection = views.getSelection();
+        try {
+            for (Sprint sprint : sprints) {
+                ViewAssembler taskViews = views.below(sprint, TASKS);
+                ViewAssembler itemViews = views.below(sprint, ITEMS);
+                tasks.add(!selection.expands(TASKS) ? null : track(all, submit(() -> (taskViews.getSelection().expands(RESPONSIBLE)
+                    ? taskSprintRepository.findBySprintId(sprint.getId()) : taskSprintRepository.findShallowBySprintId(sprint.getId()))
+                    .stream().map(taskViews::toView).toList())));
+                items.add(!selection.expands(ITEMS) ? null : track(all, submit(() -> (itemViews.getSelection().expands(SPRINTS)
+                    ? itemBacklogRepository.findBySprintId(sprint.getId()) : itemBacklogRepository.findShallowBySprintId(sprint.getId()))
+                    .stream().map(itemViews::toView).toList())));
+            }
+        } catch (RuntimeException e) {
+            cancel(all);
+            throw e;
+        }
+        await(all, deadline);
+
+        List<DetailedSprintView> detailedViews = new ArrayList<>();
+        for (int i = 0; i < sprints.size(); i++) {
+            Sprint sprint = sprints.get(i);
+            detailedViews.add(new DetailedSprintView(sprint.getId(), sprint.getSprintGoals(), resultOf(tasks.get(i)),
+                resultOf(items.get(i)), resultOf(productView)));
+        }
+        return detailedViews;
+    }
+
+    /**
+     * Submits the assembly of the view of the product of a sprint, below the sprint, unless the view leaves it out.
+     */
+    private Future<ProductView> submitProduct(ViewAssembler views, Sprint sprint) {
+        if (!views.getSelection().expands(PRODUCT)) {
+            return null;
+        }
+        Product product = sprint.getProduct();
+        ViewAssembler productViews = views.below(sprint, PRODUCT);
+        return submit(() -> product == null ? null
+            : productRepository.findById(product.getId()).map(productViews::toView).orElse(null));
+    }
+
+    private static <T> Future<T> track(List<Future<?>> all, Future<T> future) {
+        all.add(future);
+        return future;
+    }
+
+    private static <T> T resultOf(Future<T> future) {
+        return future == null ? null : future.resultNow();
+    }
+
+    private <T> Future<T> submit(Supplier<T> work) {
+        return executor.submit(() -> transactionTemplate.execute(status -> work.get()));
+    }
+
+    /**
+     * Waits for every task until the deadline. When a task fails or the deadline passes, the other tasks are
+     * cancelled and the failure is rethrown.
+     */
+    private void await(List<? extends Future<?>> futures, long deadline) {
+        try {
+            for (Future<?> future : futures) {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            cancel(futures);
+            throw new ViewAssemblyTimeoutException("The sprint views were not assembled within " + timeout.toMillis() + " ms.");
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new ViewAssemblyTimeoutException("Interrupted while assembling the sprint views.");
+        }
+    }
+
+    private void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
@@ -1,33 +1,109 @@
 package com.db.scrumtrackerapi.services.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.StreamSupport;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.BaseEntity;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskEffort;
 import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.TransitionState;
+import com.db.scrumtrackerapi.model.enums.PageOrder;
+import com.db.scrumtrackerapi.model.enums.SprintEventType;
 import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.IAggregateVersionService;
+import com.db.scrumtrackerapi.services.ISprintBurndownService;
+import com.db.scrumtrackerapi.services.ISprintEventService;
 import com.db.scrumtrackerapi.services.ITaskSprintService;
+import com.db.scrumtrackerapi.services.ITransitionService;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.db.scrumtrackerapi.util.PageCursor;
 
 /**
  * Service class for handling business logic related to task sprints.
+ *
+ * <p> Each write moves the effort counters of the sprints of the written tasks and increments the versions of the
+ * sprints and their products in the same transaction, the sprints being locked first by the counters. Updates
+ * also record the transitions of the status, priority and responsible of the task. Once committed, each write is
+ * pushed to the subscribers of the sprints it touches.
  */
 @Service
 public class TaskSprintService implements ITaskSprintService {
 
+    /**
+     * The association of the task view fetched by the view fetch plan.
+     */
+    private static final String RESPONSIBLE = "responsible";
+
     @Autowired
     private TaskSprintRepository taskSprintRepository;
 
+    @Autowired
+    private ISprintBurndownService sprintBurndownService;
+
+    @Autowired
+    private ITransitionService transitionService;
+
+    @Autowired
+    private ISprintEventService sprintEventService;
+
+    @Autowired
+    private IAggregateVersionService aggregateVersionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
-     * Retrieves a list of task sprints by sprint ID, filtering only active task sprints.
+     * Retrieves a list of active task sprints by sprint ID.
      *
      * @param id The ID of the sprint.
      * @return A list of active task sprints.
      */
     public List<TaskSprint> findBySprintId(Long id) {
-        return taskSprintRepository.findBySprintId(id).stream().filter(i -> i.isActive()).toList();
+        return taskSprintRepository.findBySprintId(id);
+    }
+
+    /**
+     * Retrieves a list of active task sprints by sprint ID, fetching their responsibles only when their views
+     * include them.
+     *
+     * @param id        The ID of the sprint.
+     * @param selection The selection of the views of the tasks.
+     * @return A list of active task sprints.
+     */
+    @Override
+    public List<TaskSprint> findBySprintId(Long id, FieldSelection selection) {
+        if (selection.expands(RESPONSIBLE)) {
+            return taskSprintRepository.findBySprintId(id);
+        }
+        return taskSprintRepository.findShallowBySprintId(id);
+    }
+
+    /**
+     * Retrieves a slice of active task sprints by sprint ID.
+     *
+     * @param id       The ID of the sprint.
+     * @param cursor   The ordering of the listing and the position after which the slice starts.
+     * @param pageable The size of the slice.
+     * @return A slice of active task sprints.
+     */
+    @Override
+    public Slice<TaskSprint> findBySprintId(Long id, PageCursor cursor, Pageable pageable) {
+        if (cursor.getOrder() == PageOrder.PRIORITY) {
+            return taskSprintRepository.findBySprintIdAfterPriority(id, cursor.getPriority(), cursor.getId(), pageable);
+        }
+        return taskSprintRepository.findBySprintIdAfter(id, cursor.getId(), pageable);
     }
 
     /**
@@ -38,7 +114,30 @@ public class TaskSprintService implements ITaskSprintService {
      */
     @Override
     public TaskSprint save(TaskSprint taskSprint) {
-        return taskSprintRepository.save(taskSprint);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            TaskSprint savedTaskSprint = taskSprintRepository.save(taskSprint);
+            sprintBurndownService.record(List.of(TaskEffort.NONE), List.of(TaskEffort.of(savedTaskSprint)));
+            aggregateVersionService.increment(savedTaskSprint.aggregateRoots());
+            publish(sprintIdOf(savedTaskSprint), savedTaskSprint, SprintEventType.CHANGED);
+            return savedTaskSprint;
+        });
+    }
+
+    /**
+     * Saves a list of new task sprints in a single transaction, so their inserts are sent in JDBC batches.
+     *
+     * @param tasksSprints The task sprints to be saved.
+     * @return The saved task sprints, in the same order.
+     */
+    @Override
+    public List<TaskSprint> saveAll(List<TaskSprint> tasksSprints) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<TaskSprint> savedTasksSprints = StreamSupport.stream(taskSprintRepository.saveAll(tasksSprints).spliterator(), false).toList();
+            sprintBurndownService.record(List.of(), savedTasksSprints.stream().map(TaskEffort::of).toList());
+            aggregateVersionService.increment(savedTasksSprints.stream().flatMap(i -> i.aggregateRoots().stream()).toList());
+            savedTasksSprints.forEach(i -> publish(sprintIdOf(i), i, SprintEventType.CHANGED));
+            return savedTasksSprints;
+        });
     }
 
     /**
@@ -51,13 +150,30 @@ public class TaskSprintService implements ITaskSprintService {
      */
     @Override
     public TaskSprint update(Long id, TaskSprint taskSprint) throws EntityNotFoundException {
-        Optional<TaskSprint> savedTaskSprintOptional = taskSprintRepository.findById(id);
-        if (savedTaskSprintOptional.isPresent()) {
-            TaskSprint savedTaskSprint = savedTaskSprintOptional.get().update(taskSprint);
-            return taskSprintRepository.save(savedTaskSprint);
-        } else {
-            throw new EntityNotFoundException("Task with ID " + taskSprint.getId() + " not found.");
-        }
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<TaskSprint> savedTaskSprintOptional = taskSprintRepository.findById(id);
+            if (savedTaskSprintOptional.isPresent()) {
+                TaskEffort before = TaskEffort.of(savedTaskSprintOptional.get());
+                TransitionState previousState = TransitionState.of(savedTaskSprintOptional.get());
+                Sprint previousSprint = savedTaskSprintOptional.get().getSprint();
+                TaskSprint savedTaskSprint = taskSprintRepository.save(savedTaskSprintOptional.get().update(taskSprint));
+                sprintBurndownService.record(List.of(before), List.of(TaskEffort.of(savedTaskSprint)));
+                List<BaseEntity> roots = new ArrayList<>(savedTaskSprint.aggregateRoots());
+                if (previousSprint != null) {
+                    roots.add(previousSprint);
+                    roots.addAll(previousSprint.aggregateRoots());
+                }
+                aggregateVersionService.increment(roots);
+                transitionService.record(previousState, TransitionState.of(savedTaskSprint));
+                if (!Objects.equals(previousState.sprintId(), sprintIdOf(savedTaskSprint))) {
+                    publish(previousState.sprintId(), savedTaskSprint, SprintEventType.REMOVED);
+                }
+                publish(sprintIdOf(savedTaskSprint), savedTaskSprint, SprintEventType.CHANGED);
+                return savedTaskSprint;
+            } else {
+                throw new EntityNotFoundException("Task with ID " + taskSprint.getId() + " not found.");
+            }
+        });
     }
 
     /**
@@ -69,7 +185,20 @@ public class TaskSprintService implements ITaskSprintService {
      */
     @Override
     public TaskSprint findById(Long id) {
-        Optional<TaskSprint> taskSprint = taskSprintRepository.findById(id);
+        return findById(id, FieldSelection.ALL);
+    }
+
+    /**
+     * Retrieves a task sprint by ID, fetching its responsible only when its view includes it.
+     *
+     * @param id        The ID of the task sprint to retrieve.
+     * @param selection The selection of the view of the task.
+     * @return The retrieved task sprint.
+     * @throws EntityNotFoundException If the task sprint with the given ID is not found or is not active.
+     */
+    @Override
+    public TaskSprint findById(Long id, FieldSelection selection) {
+        Optional<TaskSprint> taskSprint = selection.expands(RESPONSIBLE) ? taskSprintRepository.findViewById(id) : taskSprintRepository.findById(id);
         if (taskSprint.isPresent() && taskSprint.get().isActive()) {
             return taskSprint.get();
         } else {
@@ -86,12 +215,29 @@ public class TaskSprintService implements ITaskSprintService {
      */
     @Override
     public TaskSprint deactivateById(Long id) {
-        Optional<TaskSprint> taskSprint = taskSprintRepository.findById(id);
-        if (taskSprint.isPresent() && taskSprint.get().isActive()) {
-            taskSprint.get().setActive(false);
-            return taskSprintRepository.save(taskSprint.get());
-        } else {
-            throw new EntityNotFoundException("TaskSprint with ID " + id + " was not found.");
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<TaskSprint> taskSprint = taskSprintRepository.findById(id);
+            if (taskSprint.isPresent() && taskSprint.get().isActive()) {
+                TaskEffort before = TaskEffort.of(taskSprint.get());
+                taskSprint.get().setActive(false);
+                TaskSprint savedTaskSprint = taskSprintRepository.save(taskSprint.get());
+                sprintBurndownService.record(List.of(before), List.of(TaskEffort.of(savedTaskSprint)));
+                aggregateVersionService.increment(savedTaskSprint.aggregateRoots());
+                publish(sprintIdOf(savedTaskSprint), savedTaskSprint, SprintEventType.REMOVED);
+                return savedTaskSprint;
+            } else {
+                throw new EntityNotFoundException("TaskSprint with ID " + id + " was not found.");
+            }
+        });
+    }
+
+    private void publish(Long sprintId, TaskSprint taskSprint, SprintEventType type) {
+        if (sprintId != null) {
+            sprintEventService.publish(List.of(sprintId), taskSprint.toEventView(type));
         }
     }
+
+    private static Long sprintIdOf(TaskSprint taskSprint) {
+        return taskSprint.getSprint() == null ? null : taskSprint.getSprint().getId();
+    }
 }
@@ -0,0 +1,267 @@
+package com.db.scrumtrackerapi.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.config.SoftDeleteFilter;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.Transition;
+import com.db.scrumtrackerapi.model.TransitionState;
+import com.db.scrumtrackerapi.repositories.ProductBacklogRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.TransitionRepository;
+import com.db.scrumtrackerapi.services.ITransitionService;
+import com.db.scrumtrackerapi.util.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service class recording the transitions of tasks and backlog items and reading them back.
+ *
+ * <p> Transitions are not written by the update that makes them. Once its transaction commits they are queued, and a
+ * single writer thread inserts them in batches of up to {@code scrum-tracker.transitions.batch-size}, resolving their
+ * products as it goes, deactivated ones included. When the {@code scrum-tracker.transitions.queue-capacity} queue is
+ * full, the update writes its transitions itself rather than dropping them. A batch that cannot be inserted is written
+ * again one transition at a time, so only the transitions that fail on their own are lost, each of them logged.
+ */
+@Service
+public class TransitionService implements ITransitionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransitionService.class);
+
+    /**
+     * Bounds of the time range of a query left open by the caller.
+     */
+    private static final LocalDateTime MIN_TIMESTAMP = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Autowired
+    private TransitionRepository transitionRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private ProductBacklogRepository productBacklogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
+    @Value("${scrum-tracker.transitions.batch-size:100}")
+    private int batchSize;
+
+    @Value("${scrum-tracker.transitions.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${scrum-tracker.transitions.poll-interval:200ms}")
+    private Duration pollInterval;
+
+    private BlockingQueue<Transition> queue;
+
+    private Thread writer;
+
+    /**
+     * Whether the writer thread takes new transitions.
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong queued = new AtomicLong();
+
+    private final AtomicLong processed = new AtomicLong();
+
+    /**
+     * Starts the writer thread.
+     */
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running.set(true);
+        writer = Thread.ofPlatform().name("transition-writer").daemon().start(this::drain);
+    }
+
+    /**
+     * Stops the writer thread once the queued transitions are written.
+     *
+     * @throws InterruptedException If interrupted while waiting for the writer thread.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running.set(false);
+        writer.join(pollInterval.multipliedBy(10).toMillis());
+    }
+
+    /**
+     * Records the transitions between two states of a task or backlog item. The transitions are queued once the
+     * current transaction commits, or at once outside a transaction, and nothing is recorded on rollback.
+     *
+     * @param before The state of the entity before the write.
+     * @param after  The state of the entity after the write.
+     */
+    @Override
+    public void record(TransitionState before, TransitionState after) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String actor = authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+        List<Transition> transitions = before.transitionsTo(after, actor, LocalDateTime.now());
+        if (transitions.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> enqueue(transitions));
+    }
+
+    /**
+     * Retrieves the transitions of the tasks of a sprint in a time range, in time order.
+     *
+     * @param id   The ID of the sprint.
+     * @param from The start of the range, inclusive, {@code null} for no start.
+     * @param to   The end of the range, exclusive, {@code null} for no end.
+     * @return The transitions of the tasks of the sprint.
+     */
+    @Override
+    public List<Transition> findBySprintId(Long id, LocalDateTime from, LocalDateTime to) {
+        return transitionRepository.findBySprintId(id, Objects.requireNonNullElse(from, MIN_TIMESTAMP), Objects.requireNonNullElse(to, MAX_TIMESTAMP));
+    }
+
+    /**
+     * Retrieves the transitions of the tasks and backlog items of a product in a time range, in time order.
+     *
+     * @param id   The ID of the product.
+     * @param from The start of the range, inclusive, {@code null} for no start.
+     * @param to   The end of the range, exclusive, {@code null} for no end.
+     * @return The transitions of the tasks and backlog items of the product.
+     */
+    @Override
+    public List<Transition> findByProductId(Long id, LocalDateTime from, LocalDateTime to) {
+        return transitionRepository.findByProductId(id, Objects.requireNonNullElse(from, MIN_TIMESTAMP), Objects.requireNonNullElse(to, MAX_TIMESTAMP));
+    }
+
+    /**
+     * Waits until every transition queued before the call is written.
+     *
+     * @param timeout The maximum time to wait.
+     * @return {@code true} if the transitions were written in time.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long target = queued.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (processed) {
+            while (processed.get() < target) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(processed, remaining);
+            }
+        }
+        return true;
+    }
+
+    private void enqueue(List<Transition> transitions) {
+        List<Transition> overflow = new ArrayList<>();
+        for (Transition transition : transitions) {
+            queued.incrementAndGet();
+            if (!running.get() || !queue.offer(transition)) {
+                overflow.add(transition);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            write(overflow);
+        }
+    }
+
+    /**
+     * Body of the writer thread: writes the queued transitions in batches until stopped and the queue is empty.
+     */
+    private void drain() {
+        while (running.get() || !queue.isEmpty()) {
+            try {
+                Transition first = queue.poll(pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Transition> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of transitions, or each of its transitions on its own when the batch fails, so a transition that
+     * cannot be written does not take the others of its batch with it.
+     */
+    private void write(List<Transition> batch) {
+        try {
+            insert(batch);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not write a batch of {} transitions, writing them one at a time.", batch.size(), e);
+            for (Transition transition : batch) {
+                try {
+                    insert(List.of(transition));
+                } catch (RuntimeException rowException) {
+                    LOGGER.error("Could not write the {} transition of {} {}.", transition.getField(), transition.getSubject(), transition.getEntityId(), rowException);
+                }
+            }
+        } finally {
+            synchronized (processed) {
+                processed.addAndGet(batch.size());
+                processed.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Resolves the products of transitions, through their sprints or product backlogs whether active or not, and
+     * inserts them in a new transaction, as a synchronous write runs after the commit of the update.
+     */
+    private void insert(List<Transition> transitions) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> {
+            softDeleteFilter.includingInactive(() -> {
+                Map<Long, Long> sprintProducts = StreamSupport.stream(sprintRepository.findAllById(transitions.stream()
+                        .map(Transition::getSprintId).filter(Objects::nonNull).distinct().toList()).spliterator(), false)
+                    .filter(i -> i.getProduct() != null)
+                    .collect(Collectors.toMap(Sprint::getId, i -> i.getProduct().getId()));
+                Map<Long, Long> backlogProducts = StreamSupport.stream(productBacklogRepository.findAllById(transitions.stream()
+                        .map(Transition::getProductBacklogId).filter(Objects::nonNull).distinct().toList()).spliterator(), false)
+                    .filter(i -> i.getProduct() != null)
+                    .collect(Collectors.toMap(ProductBacklog::getId, i -> i.getProduct().getId()));
+                transitions.forEach(i -> i.setProductId(i.getSprintId() != null ? sprintProducts.get(i.getSprintId()) : backlogProducts.get(i.getProductBacklogId())));
+                return null;
+            });
+            transitionRepository.saveAll(transitions);
+        });
+    }
+}
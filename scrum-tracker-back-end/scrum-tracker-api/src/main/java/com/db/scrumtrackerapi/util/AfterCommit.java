@@ -0,0 +1,53 @@
+package com.db.scrumtrackerapi.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects of a write, such as notifications and cache updates, until its transaction is over.
+ *
+ * <p> Outside of a transaction there is nothing to wait for, so the action runs at once.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or at once when there is no transaction. The action
+     * does not run if the transaction rolls back.
+     *
+     * @param action The action to run.
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs an action once the current transaction completes, whether it commits or rolls back, or at once when
+     * there is no transaction.
+     *
+     * @param action The action to run.
+     */
+    public static void runAfterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
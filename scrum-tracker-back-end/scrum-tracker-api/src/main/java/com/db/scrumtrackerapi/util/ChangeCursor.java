@@ -0,0 +1,87 @@
+package com.db.scrumtrackerapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.db.scrumtrackerapi.exceptions.InvalidCursorException;
+
+/**
+ * Position of a change synchronization.
+ *
+ * <p> A cursor holds the last modification time up to which a client has seen the changes of a product, so the
+ * next synchronization only reads the rows written after it. It travels to clients as an opaque URL-safe token.
+ */
+public class ChangeCursor {
+
+    /**
+     * The time before any change, from which a first synchronization reads every row.
+     */
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * The last modification time up to which the changes have been seen.
+     */
+    private final LocalDateTime since;
+
+    private ChangeCursor(LocalDateTime since) {
+        this.since = since;
+    }
+
+    /**
+     * Creates the cursor of a first synchronization.
+     *
+     * @return The cursor pointing before any change.
+     */
+    public static ChangeCursor first() {
+        return new ChangeCursor(ORIGIN);
+    }
+
+    /**
+     * Creates the cursor pointing after the changes made up to the given time.
+     *
+     * @param since The last modification time up to which the changes have been seen.
+     * @return The cursor of the next synchronization.
+     */
+    public static ChangeCursor since(LocalDateTime since) {
+        return new ChangeCursor(since);
+    }
+
+    /**
+     * Resolves the cursor of a request: decodes the token when there is one, or starts a first synchronization
+     * otherwise.
+     *
+     * @param token The token sent by the client, may be {@code null}.
+     * @return The cursor of the requested synchronization.
+     * @throws InvalidCursorException If the token is malformed.
+     */
+    public static ChangeCursor resolve(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+        try {
+            return new ChangeCursor(LocalDateTime.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor " + token + " is malformed.");
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque token.
+     *
+     * @return The token.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the last modification time up to which the changes have been seen.
+     *
+     * @return The last modification time up to which the changes have been seen.
+     */
+    public LocalDateTime getSince() {
+        return this.since;
+    }
+}
@@ -0,0 +1,35 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+
+import com.db.scrumtrackerapi.model.view.CustomerView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming serializer of {@link CustomerView}s.
+ */
+public class CustomerViewSerializer extends ViewSerializer<CustomerView> {
+
+    public static final CustomerViewSerializer INSTANCE = new CustomerViewSerializer();
+
+    private static final SerializedString NAME = new SerializedString("name");
+
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+
+    private static final SerializedString EMAIL = new SerializedString("email");
+
+    private static final SerializedString ROLE = new SerializedString("role");
+
+    public CustomerViewSerializer() {
+        super(CustomerView.class);
+    }
+
+    @Override
+    protected void writeFields(CustomerView value, JsonGenerator gen) throws IOException {
+        writeString(gen, NAME, value.getName());
+        writeString(gen, LAST_NAME, value.getLastName());
+        writeString(gen, EMAIL, value.getEmail());
+        writeString(gen, ROLE, value.getRole());
+    }
+}
@@ -0,0 +1,36 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming serializer of {@link DetailedSprintView}s, with their tasks, backlog items and product.
+ */
+public class DetailedSprintViewSerializer extends ViewSerializer<DetailedSprintView> {
+
+    public static final DetailedSprintViewSerializer INSTANCE = new DetailedSprintViewSerializer();
+
+    private static final SerializedString SPRINT_GOALS = new SerializedString("sprintGoals");
+
+    private static final SerializedString TASKS_SPRINTS = new SerializedString("tasksSprints");
+
+    private static final SerializedString ITEM_BACKLOG_VIEWS = new SerializedString("itemBacklogViews");
+
+    private static final SerializedString PRODUCT_VIEW = new SerializedString("productView");
+
+    public DetailedSprintViewSerializer() {
+        super(DetailedSprintView.class);
+    }
+
+    @Override
+    protected void writeFields(DetailedSprintView value, JsonGenerator gen) throws IOException {
+        writeNumber(gen, ID, value.getId());
+        writeString(gen, SPRINT_GOALS, value.getSprintGoals());
+        writeViews(gen, TASKS_SPRINTS, value.getTasksSprints(), TaskSprintViewSerializer.INSTANCE);
+        writeViews(gen, ITEM_BACKLOG_VIEWS, value.getItemBacklogViews(), ItemBacklogViewSerializer.INSTANCE);
+        writeView(gen, PRODUCT_VIEW, value.getProductView(), ProductViewSerializer.INSTANCE);
+    }
+}
@@ -0,0 +1,36 @@
+package com.db.scrumtrackerapi.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads a numeric effort out of the free-text effort estimations of backlog items and tasks.
+ *
+ * <p> The first number of the text is the effort, whatever unit follows it, so {@code "5"}, {@code "5 pts"} and
+ * {@code "2,5h"} are read as 5, 5 and 2.5. A range such as {@code "3-5"} is read as its lower bound. Text without
+ * a number has no effort.
+ */
+public final class EffortParser {
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:[.,]\\d+)?");
+
+    private EffortParser() {
+    }
+
+    /**
+     * Parses an effort estimation.
+     *
+     * @param effortEstimation The effort estimation, may be {@code null}.
+     * @return The effort, {@code null} when the estimation holds no number.
+     */
+    public static Double parse(String effortEstimation) {
+        if (effortEstimation == null) {
+            return null;
+        }
+        Matcher matcher = NUMBER.matcher(effortEstimation);
+        if (!matcher.find()) {
+            return null;
+        }
+        return Double.valueOf(matcher.group().replace(',', '.'));
+    }
+}
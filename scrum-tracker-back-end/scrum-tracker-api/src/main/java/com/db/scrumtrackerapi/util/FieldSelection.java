@@ -0,0 +1,197 @@
+package com.db.scrumtrackerapi.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ValidationException;
+
+/**
+ * The parts of a view requested by a client with the {@code fields} and {@code expand} query parameters.
+ *
+ * <p> Both parameters are comma-separated lists of property paths, the properties of nested views separated by dots.
+ * {@code expand} names the associations to include, and {@code fields} the properties to include, expanding the
+ * associations on their way. At each level of a view, an association is only included when expanded or named by
+ * {@code fields}, and the other properties are all included unless {@code fields} names some at that level, in which
+ * case only those and the ID are. So {@code fields=sprintGoals} gives the ID and goals of a sprint, and
+ * {@code expand=productView} gives a sprint with its product but without its tasks and items, nor the backlog and
+ * sprints of the product.
+ *
+ * <p> Without either parameter, the whole view is included. Associations left out are neither loaded by the
+ * {@link com.db.scrumtrackerapi.model.view.ViewAssembler} nor serialized.
+ */
+public final class FieldSelection {
+
+    /**
+     * Name of the query parameter listing the properties to include.
+     */
+    public static final String FIELDS = "fields";
+
+    /**
+     * Name of the query parameter listing the associations to include.
+     */
+    public static final String EXPAND = "expand";
+
+    /**
+     * The selection of the whole view, made when the client sends neither parameter.
+     */
+    public static final FieldSelection ALL = new FieldSelection(true);
+
+    /**
+     * The selection of an association named without nested properties: its properties, but none of its associations.
+     */
+    private static final FieldSelection PROPERTIES = new FieldSelection(false);
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z][A-Za-z0-9]*");
+
+    private static final String ID = "id";
+
+    private static final String ATTRIBUTE = FieldSelection.class.getName();
+
+    private final boolean all;
+
+    /**
+     * The properties named by {@code fields} at this level.
+     */
+    private final Set<String> fields = new HashSet<>();
+
+    /**
+     * The selections of the associations expanded at this level.
+     */
+    private final Map<String, FieldSelection> children = new HashMap<>();
+
+    private FieldSelection(boolean all) {
+        this.all = all;
+    }
+
+    /**
+     * Parses the {@code fields} and {@code expand} query parameters of a request.
+     *
+     * @param fields The properties to include, may be {@code null}.
+     * @param expand The associations to include, may be {@code null}.
+     * @return The selection, {@link #ALL} when both parameters are absent.
+     * @throws ValidationException If a path holds anything but property names.
+     */
+    public static FieldSelection parse(String fields, String expand) {
+        List<List<String>> fieldPaths = paths(fields);
+        List<List<String>> expandPaths = paths(expand);
+        if (fieldPaths.isEmpty() && expandPaths.isEmpty()) {
+            return ALL;
+        }
+        FieldSelection root = new FieldSelection(false);
+        for (List<String> path : expandPaths) {
+            root.descend(path, path.size());
+        }
+        for (List<String> path : fieldPaths) {
+            root.descend(path, path.size() - 1).fields.add(path.get(path.size() - 1));
+        }
+        return root;
+    }
+
+    /**
+     * Gets the selection of a request, parsed once and kept as an attribute of the request.
+     *
+     * @param request The request.
+     * @return The selection of the request.
+     * @throws ValidationException If a path holds anything but property names.
+     */
+    public static FieldSelection of(HttpServletRequest request) {
+        FieldSelection selection = resolved(request);
+        if (selection != null) {
+            return selection;
+        }
+        selection = parse(request.getParameter(FIELDS), request.getParameter(EXPAND));
+        request.setAttribute(ATTRIBUTE, selection);
+        return selection;
+    }
+
+    /**
+     * Gets the selection already parsed for a request by {@link #of(HttpServletRequest)}.
+     *
+     * @param request The request.
+     * @return The selection of the request, {@code null} if it was not parsed.
+     */
+    public static FieldSelection resolved(HttpServletRequest request) {
+        return request.getAttribute(ATTRIBUTE) instanceof FieldSelection selection ? selection : null;
+    }
+
+    private static List<List<String>> paths(String parameter) {
+        List<List<String>> paths = new ArrayList<>();
+        if (parameter == null) {
+            return paths;
+        }
+        for (String path : parameter.split(",")) {
+            if (path.isBlank()) {
+                continue;
+            }
+            List<String> names = List.of(path.trim().split("\\.", -1));
+            if (!names.stream().allMatch(i -> NAME.matcher(i).matches())) {
+                throw new ValidationException("Field path " + path.trim() + " is malformed.");
+            }
+            paths.add(names);
+        }
+        return paths;
+    }
+
+    private FieldSelection descend(List<String> path, int length) {
+        FieldSelection selection = this;
+        for (String name : path.subList(0, length)) {
+            selection = selection.children.computeIfAbsent(name, i -> new FieldSelection(false));
+        }
+        return selection;
+    }
+
+    /**
+     * Whether the whole view is selected.
+     *
+     * @return {@code true} if neither parameter was sent.
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    /**
+     * Whether an association of the view is included, and so has to be loaded.
+     *
+     * @param association The name of the association, as serialized.
+     * @return {@code true} if the association is included.
+     */
+    public boolean expands(String association) {
+        return all || children.containsKey(association) || fields.contains(association);
+    }
+
+    /**
+     * Whether a property of the view is serialized.
+     *
+     * @param property    The name of the property, as serialized.
+     * @param association Whether the property holds a view or a list of views.
+     * @return {@code true} if the property is serialized.
+     */
+    public boolean includes(String property, boolean association) {
+        if (all || ID.equals(property)) {
+            return true;
+        }
+        if (association) {
+            return expands(property);
+        }
+        return fields.isEmpty() || fields.contains(property);
+    }
+
+    /**
+     * Gets the selection of the view held by an association.
+     *
+     * @param association The name of the association, as serialized.
+     * @return The selection of the associated view.
+     */
+    public FieldSelection child(String association) {
+        if (all) {
+            return this;
+        }
+        return children.getOrDefault(association, PROPERTIES);
+    }
+}
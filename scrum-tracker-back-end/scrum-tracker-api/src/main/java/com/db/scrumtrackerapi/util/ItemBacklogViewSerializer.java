@@ -0,0 +1,45 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming serializer of {@link ItemBacklogView}s, with their sprints.
+ */
+public class ItemBacklogViewSerializer extends ViewSerializer<ItemBacklogView> {
+
+    public static final ItemBacklogViewSerializer INSTANCE = new ItemBacklogViewSerializer();
+
+    private static final SerializedString STATUS = new SerializedString("status");
+
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+
+    private static final SerializedString NAME = new SerializedString("name");
+
+    private static final SerializedString CRITERIA_ACCEPTANCE = new SerializedString("criteriaAcceptance");
+
+    private static final SerializedString EFFORT_ESTIMATION = new SerializedString("effortEstimation");
+
+    private static final SerializedString SPRINT_VIEWS = new SerializedString("sprintViews");
+
+    private static final SerializedString USER_HISTORY = new SerializedString("userHistory");
+
+    public ItemBacklogViewSerializer() {
+        super(ItemBacklogView.class);
+    }
+
+    @Override
+    protected void writeFields(ItemBacklogView value, JsonGenerator gen) throws IOException {
+        writeNumber(gen, ID, value.getId());
+        writeEnum(gen, STATUS, value.getStatus());
+        writeEnum(gen, PRIORITY, value.getPriority());
+        writeString(gen, NAME, value.getName());
+        writeString(gen, CRITERIA_ACCEPTANCE, value.getCriteriaAcceptance());
+        writeString(gen, EFFORT_ESTIMATION, value.getEffortEstimation());
+        writeViews(gen, SPRINT_VIEWS, value.getSprintViews(), SprintViewSerializer.INSTANCE);
+        writeString(gen, USER_HISTORY, value.getUserHistory());
+    }
+}
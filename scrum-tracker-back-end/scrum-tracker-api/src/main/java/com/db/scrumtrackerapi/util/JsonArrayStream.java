@@ -0,0 +1,70 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+
+/**
+ * Writes a JSON array to a response body as its elements are produced, rather than once they are all held.
+ *
+ * <p> Each element is serialized straight to the response with a {@link JsonGenerator}, and dropped once written.
+ * The output is only flushed when the generator buffer fills, so a compressed response is compressed in large
+ * chunks rather than element by element.
+ *
+ * <p> The array is only closed once the producer returns. When it throws, the exception is propagated with the array
+ * left open, so the response is aborted with invalid JSON rather than ended as a shorter valid array.
+ */
+public final class JsonArrayStream {
+
+    private JsonArrayStream() {
+    }
+
+    /**
+     * Creates the body streaming the elements handed by a producer.
+     *
+     * @param <T>          The type of the elements.
+     * @param objectMapper The mapper serializing the elements.
+     * @param producer     The producer, called once with the consumer of the elements, in order.
+     * @return The streaming response body.
+     */
+    public static <T> StreamingResponseBody of(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        return of(objectMapper, null, producer);
+    }
+
+    /**
+     * Creates the body streaming the elements handed by a producer, serialized with the given filters.
+     *
+     * @param <T>          The type of the elements.
+     * @param objectMapper The mapper serializing the elements.
+     * @param filters      The filters of the elements, {@code null} for those of the mapper.
+     * @param producer     The producer, called once with the consumer of the elements, in order.
+     * @return The streaming response body.
+     */
+    public static <T> StreamingResponseBody of(ObjectMapper objectMapper, FilterProvider filters, Consumer<Consumer<T>> producer) {
+        ObjectWriter plain = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        ObjectWriter writer = filters == null ? plain : plain.with(filters);
+        return output -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                generator.writeStartArray();
+                producer.accept(element -> {
+                    try {
+                        writer.writeValue(generator, element);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
+}
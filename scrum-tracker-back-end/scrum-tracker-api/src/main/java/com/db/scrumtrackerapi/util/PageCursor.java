@@ -0,0 +1,149 @@
+package com.db.scrumtrackerapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.db.scrumtrackerapi.exceptions.InvalidCursorException;
+import com.db.scrumtrackerapi.model.enums.PageOrder;
+import com.db.scrumtrackerapi.model.enums.Priority;
+
+/**
+ * Position of a keyset (seek) paginated listing.
+ *
+ * <p> A cursor holds the ordering of the listing and the sort key of the last row already returned, so the next
+ * page is read with a {@code WHERE key > last} condition instead of an offset. It travels to clients as an opaque
+ * URL-safe token.
+ */
+public class PageCursor {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * The ordering of the listing.
+     */
+    private final PageOrder order;
+
+    /**
+     * The priority of the last row returned, used by {@link PageOrder#PRIORITY}.
+     */
+    private final Priority priority;
+
+    /**
+     * The ID of the last row returned, {@code 0} before the first page.
+     */
+    private final Long id;
+
+    private PageCursor(PageOrder order, Priority priority, Long id) {
+        this.order = order;
+        this.priority = priority;
+        this.id = id;
+    }
+
+    /**
+     * Creates the cursor pointing before the first row of a listing.
+     *
+     * @param order The ordering of the listing.
+     * @return The cursor of the first page.
+     */
+    public static PageCursor first(PageOrder order) {
+        Priority[] priorities = Priority.values();
+        return new PageCursor(order, priorities[priorities.length - 1], 0L);
+    }
+
+    /**
+     * Creates the cursor pointing after the given row.
+     *
+     * @param order    The ordering of the listing.
+     * @param priority The priority of the row, ignored by {@link PageOrder#ID}.
+     * @param id       The ID of the row.
+     * @return The cursor of the following page.
+     */
+    public static PageCursor after(PageOrder order, Priority priority, Long id) {
+        return new PageCursor(order, order == PageOrder.PRIORITY ? priority : first(order).priority, id);
+    }
+
+    /**
+     * Resolves the cursor of a request: decodes the token when there is one, or starts a new listing
+     * with the requested ordering otherwise.
+     *
+     * @param token The continuation token sent by the client, may be {@code null}.
+     * @param order The ordering requested by the client, may be {@code null}.
+     * @return The cursor of the requested page.
+     * @throws InvalidCursorException If the token is malformed or the ordering does not match it.
+     */
+    public static PageCursor resolve(String token, String order) {
+        PageOrder pageOrder = order == null ? null : parseOrder(order);
+        if (token == null || token.isBlank()) {
+            return first(pageOrder == null ? PageOrder.ID : pageOrder);
+        }
+        PageCursor cursor = decode(token);
+        if (pageOrder != null && pageOrder != cursor.order) {
+            throw new InvalidCursorException("Cursor was created for order " + cursor.order + ", not " + pageOrder + ".");
+        }
+        return cursor;
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param token The continuation token.
+     * @return The decoded cursor.
+     * @throws InvalidCursorException If the token is malformed.
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Cursor " + token + " is malformed.");
+            }
+            return new PageCursor(PageOrder.valueOf(parts[0]), Priority.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor " + token + " is malformed.");
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque continuation token.
+     *
+     * @return The continuation token.
+     */
+    public String encode() {
+        String raw = order.name() + SEPARATOR + priority.name() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PageOrder parseOrder(String order) {
+        try {
+            return PageOrder.valueOf(order.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Order " + order + " is not supported.");
+        }
+    }
+
+    /**
+     * Gets the ordering of the listing.
+     *
+     * @return The ordering of the listing.
+     */
+    public PageOrder getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Gets the priority of the last row returned.
+     *
+     * @return The priority of the last row returned.
+     */
+    public Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Gets the ID of the last row returned.
+     *
+     * @return The ID of the last row returned.
+     */
+    public Long getId() {
+        return this.id;
+    }
+}
@@ -0,0 +1,27 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+
+import com.db.scrumtrackerapi.model.view.ProductBacklogView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming serializer of {@link ProductBacklogView}s, with their items.
+ */
+public class ProductBacklogViewSerializer extends ViewSerializer<ProductBacklogView> {
+
+    public static final ProductBacklogViewSerializer INSTANCE = new ProductBacklogViewSerializer();
+
+    private static final SerializedString ITENS_BACKLOG = new SerializedString("itensBacklog");
+
+    public ProductBacklogViewSerializer() {
+        super(ProductBacklogView.class);
+    }
+
+    @Override
+    protected void writeFields(ProductBacklogView value, JsonGenerator gen) throws IOException {
+        writeNumber(gen, ID, value.getId());
+        writeViews(gen, ITENS_BACKLOG, value.getItensBacklog(), ItemBacklogViewSerializer.INSTANCE);
+    }
+}
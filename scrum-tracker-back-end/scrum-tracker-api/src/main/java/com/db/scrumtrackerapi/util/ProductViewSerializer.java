@@ -0,0 +1,48 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming serializer of {@link ProductView}s, with their product backlog and sprints.
+ */
+public class ProductViewSerializer extends ViewSerializer<ProductView> {
+
+    public static final ProductViewSerializer INSTANCE = new ProductViewSerializer();
+
+    private static final SerializedString NAME = new SerializedString("name");
+
+    private static final SerializedString CLIENT = new SerializedString("client");
+
+    private static final SerializedString OBJECTIVES = new SerializedString("objectives");
+
+    private static final SerializedString VISION = new SerializedString("vision");
+
+    private static final SerializedString DEFINITION_OF_DONE = new SerializedString("definitionOfDone");
+
+    private static final SerializedString DEFINITION_OF_READY = new SerializedString("definitionOfReady");
+
+    private static final SerializedString PRODUCT_BACKLOG_VIEW = new SerializedString("productBacklogView");
+
+    private static final SerializedString SPRINT_VIEWS = new SerializedString("sprintViews");
+
+    public ProductViewSerializer() {
+        super(ProductView.class);
+    }
+
+    @Override
+    protected void writeFields(ProductView value, JsonGenerator gen) throws IOException {
+        writeNumber(gen, ID, value.getId());
+        writeString(gen, NAME, value.getName());
+        writeString(gen, CLIENT, value.getClient());
+        writeString(gen, OBJECTIVES, value.getObjectives());
+        writeString(gen, VISION, value.getVision());
+        writeString(gen, DEFINITION_OF_DONE, value.getDefinitionOfDone());
+        writeString(gen, DEFINITION_OF_READY, value.getDefinitionOfReady());
+        writeView(gen, PRODUCT_BACKLOG_VIEW, value.getProductBacklogView(), ProductBacklogViewSerializer.INSTANCE);
+        writeViews(gen, SPRINT_VIEWS, value.getSprintViews(), SprintViewSerializer.INSTANCE);
+    }
+}
@@ -0,0 +1,95 @@
+package com.db.scrumtrackerapi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.view.SearchResultView;
+
+/**
+ * A backlog item or task as held by the {@link SearchIndex}: the fields shown in its search results, and the texts
+ * its terms are read from, the name first.
+ */
+public class SearchDocument {
+
+    /**
+     * The kind of the entity, ITEM_BACKLOG or TASK_SPRINT.
+     */
+    private final String subject;
+
+    /**
+     * The unique identifier of the entity.
+     */
+    private final Long id;
+
+    /**
+     * The fields shown in the search results of the entity, without a score.
+     */
+    private final SearchResultView result;
+
+    /**
+     * The indexed texts of the entity, the name first, absent ones skipped.
+     */
+    private final List<String> texts;
+
+    /**
+     * Creates the document of an entity.
+     *
+     * @param subject  The kind of the entity, ITEM_BACKLOG or TASK_SPRINT.
+     * @param id       The unique identifier of the entity.
+     * @param name     The name of the entity.
+     * @param status   The status of the entity.
+     * @param priority The priority of the entity.
+     * @param parentId The unique identifier of the product backlog of an item, or of the sprint of a task.
+     * @param first    The first indexed text besides the name, may be {@code null}.
+     * @param second   The second indexed text besides the name, may be {@code null}.
+     */
+    public SearchDocument(String subject, Long id, String name, Status status, Priority priority, Long parentId, String first, String second) {
+        this.subject = subject;
+        this.id = id;
+        this.result = new SearchResultView(subject, id, name, status, priority, parentId, 0);
+        List<String> texts = new ArrayList<>(3);
+        texts.add(name == null ? "" : name);
+        texts.add(first == null ? "" : first);
+        texts.add(second == null ? "" : second);
+        this.texts = Collections.unmodifiableList(texts);
+    }
+
+    /**
+     * Gets the kind of the entity.
+     *
+     * @return The kind of the entity.
+     */
+    public String getSubject() {
+        return this.subject;
+    }
+
+    /**
+     * Gets the unique identifier of the entity.
+     *
+     * @return The unique identifier of the entity.
+     */
+    public Long getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the fields shown in the search results of the entity.
+     *
+     * @return The search result of the entity, without a score.
+     */
+    public SearchResultView getResult() {
+        return this.result;
+    }
+
+    /**
+     * Gets the indexed texts of the entity.
+     *
+     * @return The indexed texts, the name first.
+     */
+    public List<String> getTexts() {
+        return this.texts;
+    }
+}
@@ -0,0 +1,258 @@
+package com.db.scrumtrackerapi.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.db.scrumtrackerapi.model.view.SearchResultView;
+
+/**
+ * In-memory inverted index over backlog items and tasks.
+ *
+ * <p> Each term maps to the documents holding it and, for each of them, the sorted positions of the term in the
+ * document. The terms are kept sorted, so a prefix is resolved by a range of the dictionary, and the positions allow
+ * phrases to be matched. The texts of a document are indexed one after the other with a wide gap in between, so a
+ * phrase never spans two texts.
+ *
+ * <p> A query is a list of clauses, all of which a document must match: a term, a prefix ending with {@code *}, or
+ * a phrase between double quotes. Documents score one point per occurrence of a clause, three in their name.
+ *
+ * <p> Reads share a lock, writes hold it exclusively.
+ */
+public class SearchIndex {
+
+    /**
+     * Distance between the first positions of two texts of a document.
+     */
+    private static final int TEXT_GAP = 1 << 20;
+
+    /**
+     * Score of an occurrence in the name of a document, against one in its other texts.
+     */
+    private static final int NAME_WEIGHT = 3;
+
+    private static final Pattern CLAUSES = Pattern.compile("\"([^\"]*)\"?|(\\S+)");
+
+    private record Key(String subject, Long id) {
+    }
+
+    private record Entry(SearchResultView result, Map<String, int[]> terms) {
+    }
+
+    /**
+     * A clause of a query: a single term, possibly a prefix, or a phrase of several terms.
+     */
+    private record Clause(List<String> terms, boolean prefix) {
+    }
+
+    private final Map<Key, Entry> documents = new HashMap<>();
+
+    private final NavigableMap<String, Map<Key, int[]>> postings = new TreeMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes a document, replacing the previous version of the same entity. The document is tokenized before the
+     * lock is taken.
+     *
+     * @param document The document to index.
+     */
+    public void add(SearchDocument document) {
+        Map<String, int[]> terms = termsOf(document);
+        Key key = new Key(document.getSubject(), document.getId());
+        lock.writeLock().lock();
+        try {
+            unindex(key);
+            documents.put(key, new Entry(document.getResult(), terms));
+            terms.forEach((term, positions) -> postings.computeIfAbsent(term, i -> new HashMap<>()).put(key, positions));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an entity from the index, if it is there.
+     *
+     * @param subject The kind of the entity, ITEM_BACKLOG or TASK_SPRINT.
+     * @param id      The unique identifier of the entity.
+     */
+    public void remove(String subject, Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(new Key(subject, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the indexed documents.
+     *
+     * @return The number of indexed documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents matching every clause of a query.
+     *
+     * @param query The query.
+     * @param limit The maximum number of results.
+     * @return The matching documents, by descending score, then kind and ID.
+     */
+    public List<SearchResultView> search(String query, int limit) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Key, Integer> scores = null;
+            for (Clause clause : clauses) {
+                Map<Key, Integer> matches = match(clause);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((key, score) -> score + matches.get(key));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                .sorted(Map.Entry.<Key, Integer>comparingByValue().reversed()
+                    .thenComparing(i -> i.getKey().subject())
+                    .thenComparing(i -> i.getKey().id()))
+                .limit(limit)
+                .map(i -> scored(documents.get(i.getKey()).result(), i.getValue()))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        Matcher matcher = CLAUSES.matcher(query == null ? "" : query);
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                List<String> terms = SearchTokenizer.tokenize(matcher.group(1));
+                if (!terms.isEmpty()) {
+                    clauses.add(new Clause(terms, false));
+                }
+            } else {
+                String word = matcher.group(2);
+                List<String> terms = SearchTokenizer.tokenize(word);
+                if (!terms.isEmpty()) {
+                    clauses.add(new Clause(terms, terms.size() == 1 && word.endsWith("*")));
+                }
+            }
+        }
+        clauses.sort(Comparator.comparing(Clause::prefix));
+        return clauses;
+    }
+
+    private Map<Key, Integer> match(Clause clause) {
+        Map<Key, Integer> matches = new HashMap<>();
+        String first = clause.terms().get(0);
+        if (clause.prefix()) {
+            postings.subMap(first, true, first + Character.MAX_VALUE, false).values().forEach(documents ->
+                documents.forEach((key, positions) -> matches.merge(key, score(positions), Integer::sum)));
+        } else if (clause.terms().size() == 1) {
+            postings.getOrDefault(first, Map.of()).forEach((key, positions) -> matches.put(key, score(positions)));
+        } else {
+            List<Map<Key, int[]>> terms = new ArrayList<>();
+            for (String term : clause.terms()) {
+                Map<Key, int[]> documents = postings.get(term);
+                if (documents == null) {
+                    return matches;
+                }
+                terms.add(documents);
+            }
+            terms.get(0).forEach((key, positions) -> {
+                int score = 0;
+                for (int position : positions) {
+                    if (followedBy(terms, key, position)) {
+                        score += score(position);
+                    }
+                }
+                if (score > 0) {
+                    matches.put(key, score);
+                }
+            });
+        }
+        return matches;
+    }
+
+    private static boolean followedBy(List<Map<Key, int[]>> terms, Key key, int position) {
+        for (int i = 1; i < terms.size(); i++) {
+            int[] positions = terms.get(i).get(key);
+            if (positions == null || Arrays.binarySearch(positions, position + i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int score(int[] positions) {
+        int score = 0;
+        for (int position : positions) {
+            score += score(position);
+        }
+        return score;
+    }
+
+    private static int score(int position) {
+        return position < TEXT_GAP ? NAME_WEIGHT : 1;
+    }
+
+    private static SearchResultView scored(SearchResultView result, int score) {
+        return new SearchResultView(result.getSubject(), result.getId(), result.getName(), result.getStatus(), result.getPriority(), result.getParentId(), score);
+    }
+
+    private static Map<String, int[]> termsOf(SearchDocument document) {
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        int start = 0;
+        for (String text : document.getTexts()) {
+            List<String> terms = SearchTokenizer.tokenize(text);
+            for (int i = 0; i < Math.min(terms.size(), TEXT_GAP); i++) {
+                positions.computeIfAbsent(terms.get(i), term -> new ArrayList<>()).add(start + i);
+            }
+            start += TEXT_GAP;
+        }
+        Map<String, int[]> terms = new HashMap<>();
+        positions.forEach((term, list) -> terms.put(term, list.stream().mapToInt(Integer::intValue).toArray()));
+        return terms;
+    }
+
+    private void unindex(Key key) {
+        Entry entry = documents.remove(key);
+        if (entry == null) {
+            return;
+        }
+        for (String term : entry.terms().keySet()) {
+            Map<Key, int[]> documents = postings.get(term);
+            documents.remove(key);
+            if (documents.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+}
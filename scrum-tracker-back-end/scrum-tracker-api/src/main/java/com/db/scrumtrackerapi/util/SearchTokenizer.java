@@ -0,0 +1,52 @@
+package com.db.scrumtrackerapi.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits texts into the terms of the {@link SearchIndex}.
+ *
+ * <p> Texts are folded before being split: accents are stripped, so {@code "ação"} and {@code "acao"} give the same
+ * term, and letters are lower-cased. Terms are the runs of letters and digits left, in order.
+ */
+public final class SearchTokenizer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * Folds accents and case out of a text.
+     *
+     * @param text The text to fold.
+     * @return The folded text.
+     */
+    public static String fold(String text) {
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits a text into its terms, in order.
+     *
+     * @param text The text to split, may be {@code null}.
+     * @return The folded terms of the text, empty if it has none.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : SEPARATORS.split(fold(text))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
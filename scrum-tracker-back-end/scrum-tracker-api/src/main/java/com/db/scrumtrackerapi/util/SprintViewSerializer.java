@@ -0,0 +1,30 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+
+import com.db.scrumtrackerapi.model.view.SprintView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming serializer of {@link SprintView}s, with their tasks.
+ */
+public class SprintViewSerializer extends ViewSerializer<SprintView> {
+
+    public static final SprintViewSerializer INSTANCE = new SprintViewSerializer();
+
+    private static final SerializedString SPRINT_GOALS = new SerializedString("sprintGoals");
+
+    private static final SerializedString TASKS_SPRINTS = new SerializedString("tasksSprints");
+
+    public SprintViewSerializer() {
+        super(SprintView.class);
+    }
+
+    @Override
+    protected void writeFields(SprintView value, JsonGenerator gen) throws IOException {
+        writeNumber(gen, ID, value.getId());
+        writeString(gen, SPRINT_GOALS, value.getSprintGoals());
+        writeViews(gen, TASKS_SPRINTS, value.getTasksSprints(), TaskSprintViewSerializer.INSTANCE);
+    }
+}
@@ -0,0 +1,45 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+
+import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Streaming serializer of {@link TaskSprintView}s, with their responsible.
+ */
+public class TaskSprintViewSerializer extends ViewSerializer<TaskSprintView> {
+
+    public static final TaskSprintViewSerializer INSTANCE = new TaskSprintViewSerializer();
+
+    private static final SerializedString NAME = new SerializedString("name");
+
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+
+    private static final SerializedString COMMENTS = new SerializedString("comments");
+
+    private static final SerializedString STATUS = new SerializedString("status");
+
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+
+    private static final SerializedString EFFORT_ESTIMATION = new SerializedString("effortEstimation");
+
+    private static final SerializedString RESPONSIBLE = new SerializedString("responsible");
+
+    public TaskSprintViewSerializer() {
+        super(TaskSprintView.class);
+    }
+
+    @Override
+    protected void writeFields(TaskSprintView value, JsonGenerator gen) throws IOException {
+        writeNumber(gen, ID, value.getId());
+        writeString(gen, NAME, value.getName());
+        writeString(gen, DESCRIPTION, value.getDescription());
+        writeString(gen, COMMENTS, value.getComments());
+        writeEnum(gen, STATUS, value.getStatus());
+        writeEnum(gen, PRIORITY, value.getPriority());
+        writeString(gen, EFFORT_ESTIMATION, value.getEffortEstimation());
+        writeView(gen, RESPONSIBLE, value.getResponsible(), CustomerViewSerializer.INSTANCE);
+    }
+}
@@ -0,0 +1,117 @@
+package com.db.scrumtrackerapi.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the serializers writing the views straight to a {@link JsonGenerator}, without the reflective bean
+ * serializer.
+ *
+ * <p> The property names are encoded once, as {@link SerializedString}s, and so are the names of the statuses and
+ * priorities, which the views hold as strings. Nested views are written by their own serializers directly, rather
+ * than looked up through the {@link SerializerProvider}. The output is the same as the bean serializer's: properties
+ * in declaration order, {@code null}s included.
+ *
+ * @param <T> The type of the view.
+ */
+public abstract class ViewSerializer<T> extends StdSerializer<T> {
+
+    protected static final SerializedString ID = new SerializedString("id");
+
+    private static final Map<String, SerializedString> ENUM_VALUES = Stream.of(Status.values(), Priority.values())
+        .flatMap(Arrays::stream)
+        .map(Enum::toString)
+        .collect(Collectors.toUnmodifiableMap(Function.identity(), SerializedString::new));
+
+    protected ViewSerializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(value, gen);
+    }
+
+    /**
+     * Writes the properties of a view, between the braces written by {@link #write}.
+     *
+     * @param value The view.
+     * @param gen   The generator to write to.
+     * @throws IOException If the view cannot be written.
+     */
+    protected abstract void writeFields(T value, JsonGenerator gen) throws IOException;
+
+    /**
+     * Writes a view with this serializer, or {@code null}.
+     *
+     * @param value The view, may be {@code null}.
+     * @param gen   The generator to write to.
+     * @throws IOException If the view cannot be written.
+     */
+    public void write(T value, JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject(value);
+        writeFields(value, gen);
+        gen.writeEndObject();
+    }
+
+    protected static void writeNumber(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    protected static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    /**
+     * Writes the name of a status or priority, from its encoded form when it is one.
+     */
+    protected static void writeEnum(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        SerializedString encoded = value == null ? null : ENUM_VALUES.get(value);
+        if (encoded != null) {
+            gen.writeString(encoded);
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    protected static <V> void writeView(JsonGenerator gen, SerializedString name, V value, ViewSerializer<V> serializer) throws IOException {
+        gen.writeFieldName(name);
+        serializer.write(value, gen);
+    }
+
+    protected static <V> void writeViews(JsonGenerator gen, SerializedString name, List<V> values, ViewSerializer<V> serializer) throws IOException {
+        gen.writeFieldName(name);
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(values, values.size());
+        for (V value : values) {
+            serializer.write(value, gen);
+        }
+        gen.writeEndArray();
+    }
+}
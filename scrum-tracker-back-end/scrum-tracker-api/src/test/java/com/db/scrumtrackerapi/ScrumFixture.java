@@ -0,0 +1,100 @@
+package com.db.scrumtrackerapi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.repositories.CustomerRepository;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductBacklogRepository;
+import com.db.scrumtrackerapi.repositories.ProductRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+
+/**
+ * Saves the product, product backlog, backlog items, sprints, tasks and customers the tests run against.
+ *
+ * <p> Tests {@code @Import} it, which also gives them a context of their own: the default context is shared with the
+ * service and controller tests that inject Mockito mocks into its beans.
+ */
+@TestComponent
+public class ScrumFixture {
+
+    private static final AtomicInteger customers = new AtomicInteger();
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductBacklogRepository productBacklogRepository;
+
+    @Autowired
+    private ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    public Product product() {
+        return productRepository.save(new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>()));
+    }
+
+    public ProductBacklog productBacklog(Product product) {
+        return productBacklogRepository.save(new ProductBacklog(new ArrayList<>(), product));
+    }
+
+    /**
+     * Saves a product, its product backlog and a backlog item named "Item".
+     *
+     * @return The backlog item, whose product backlog and product are saved as well.
+     */
+    public ItemBacklog itemBacklog() {
+        return itemBacklog(productBacklog(product()), "Item");
+    }
+
+    public ItemBacklog itemBacklog(ProductBacklog productBacklog, String name) {
+        return itemBacklogRepository.save(newItemBacklog(name, productBacklog));
+    }
+
+    public Sprint sprint(Product product, ItemBacklog... itensBacklog) {
+        return sprintRepository.save(new Sprint("Goal", new ArrayList<>(List.of(itensBacklog)), new ArrayList<>(), product));
+    }
+
+    public TaskSprint task(String name, ItemBacklog itemBacklog, Sprint sprint, Status status, Priority priority, Customer responsible) {
+        return taskSprintRepository.save(newTask(name, itemBacklog, sprint, status, priority, responsible));
+    }
+
+    /**
+     * Saves a developer with an email no other customer of the run has.
+     *
+     * @return The customer.
+     */
+    public Customer customer() {
+        return customerRepository.save(new Customer("Name", "LastName", "customer" + customers.incrementAndGet() + "@fixture.com", "Pass@2023", Role.DEV));
+    }
+
+    public static ItemBacklog newItemBacklog(String name, ProductBacklog productBacklog) {
+        return new ItemBacklog(Status.A_FAZER, Priority.MEDIA, name, "Criteria", "Effort", new ArrayList<>(), "History", productBacklog);
+    }
+
+    public static TaskSprint newTask(String name, ItemBacklog itemBacklog, Sprint sprint, Status status, Priority priority, Customer responsible) {
+        return new TaskSprint(name, itemBacklog, "Description", "Comments", status, priority, "Effort", responsible, sprint);
+    }
+}
@@ -0,0 +1,106 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.config.SoftDeleteFilter;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
+import com.db.scrumtrackerapi.services.impl.SprintBurndownService;
+import com.db.scrumtrackerapi.services.impl.SprintEventService;
+import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+import com.db.scrumtrackerapi.services.impl.TransitionService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compares creating tasks one request at a time with creating them through the batch endpoint path,
+ * against the embedded H2 database. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskSprintService.class, SprintBurndownService.class, TransitionService.class, SprintEventService.class, AggregateVersionService.class, SoftDeleteFilter.class, ScrumFixture.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BatchInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TaskSprintService taskSprintService;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    private Sprint sprint;
+
+    @BeforeEach
+    void setup() {
+        sprint = fixture.sprint(fixture.product());
+    }
+
+    private List<TaskSprint> tasks() {
+        List<TaskSprint> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            tasks.add(ScrumFixture.newTask("Task " + i, null, sprint, Status.A_FAZER, Priority.MEDIA, null));
+        }
+        return tasks;
+    }
+
+    /**
+     * Runs the given strategy through the warmup and measured rounds and returns the best throughput, in rows per second,
+     * along with the JDBC statements prepared by the last round.
+     */
+    private long[] measure(String name, Consumer<List<TaskSprint>> strategy) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            strategy.accept(tasks());
+        }
+        long bestNanos = Long.MAX_VALUE;
+        long statements = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            List<TaskSprint> tasks = tasks();
+            statistics.clear();
+            long start = System.nanoTime();
+            strategy.accept(tasks);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            statements = statistics.getPrepareStatementCount();
+        }
+        long throughput = ROWS * 1_000_000_000L / bestNanos;
+        System.out.printf("%-8s %6d rows  %8d rows/s  %5d statements  %4d transactions%n", name, ROWS, throughput, statements, statistics.getTransactionCount());
+        return new long[] { throughput, statements };
+    }
+
+    @Test
+    @DisplayName("Assert Batched Inserts Use Fewer Statements Than Per-Row Inserts")
+    void testPerRowVersusBatched() {
+        long[] perRow = measure("per-row", tasks -> tasks.forEach(taskSprintService::save));
+        long[] batched = measure("batched", taskSprintService::saveAll);
+
+        System.out.printf("speedup  %.1fx%n", (double) batched[0] / perRow[0]);
+        assertTrue(batched[1] * 10 < perRow[1], "Expected batched inserts to prepare far fewer statements than per-row inserts");
+    }
+}
@@ -0,0 +1,139 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.repositories.CustomerRepository;
+import com.db.scrumtrackerapi.security.config.FilterToken;
+import com.db.scrumtrackerapi.security.service.PrincipalCache;
+import com.db.scrumtrackerapi.security.service.TokenService;
+
+/**
+ * Compares the latency of the token filter with and without the principal cache, with concurrent clients
+ * authenticating against the embedded H2 database. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "scrum-tracker.principal-cache.max-size=1000")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PrincipalCacheBenchmark {
+
+    private static final int CLIENTS = 16;
+    private static final int CUSTOMERS = 64;
+    private static final int REQUESTS_PER_CLIENT = 2_000;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 500;
+
+    @Autowired
+    FilterToken filterToken;
+
+    @Autowired
+    PrincipalCache principalCache;
+
+    @Autowired
+    TokenService tokenService;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    private final List<Customer> customers = new ArrayList<>();
+
+    private final List<String> tokens = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customer customer = customerRepository.save(new Customer("Joao", "Ninguem", "principal" + i + "@email.com", "l3tMe!nI23", Role.DEV));
+            customers.add(customer);
+            tokens.add(tokenService.generateToken(customer.toUserDetail()));
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        customerRepository.deleteAll(customers);
+    }
+
+    private void filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product");
+        request.addHeader("Authorization", "Bearer " + token);
+        filterToken.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Runs the clients concurrently and returns the sorted latencies of the measured requests, in nanoseconds.
+     */
+    private long[] measure(String name, boolean cached) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Callable<long[]>> clients = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                clients.add(() -> {
+                    long[] latencies = new long[REQUESTS_PER_CLIENT];
+                    for (int i = 0; i < WARMUP_REQUESTS_PER_CLIENT + REQUESTS_PER_CLIENT; i++) {
+                        String email = customers.get((client + i) % CUSTOMERS).getEmail();
+                        if (!cached) {
+                            principalCache.invalidate(email);
+                        }
+                        long start = System.nanoTime();
+                        filter(tokens.get((client + i) % CUSTOMERS));
+                        if (i >= WARMUP_REQUESTS_PER_CLIENT) {
+                            latencies[i - WARMUP_REQUESTS_PER_CLIENT] = System.nanoTime() - start;
+                        }
+                    }
+                    return latencies;
+                });
+            }
+            long[] all = new long[0];
+            for (Future<long[]> latencies : executor.invokeAll(clients)) {
+                long[] part = latencies.get();
+                long[] merged = Arrays.copyOf(all, all.length + part.length);
+                System.arraycopy(part, 0, merged, all.length, part.length);
+                all = merged;
+            }
+            Arrays.sort(all);
+            System.out.printf("%-9s %3d clients  p50 %7.1f us  p99 %7.1f us  max %8.1f us%n", name, CLIENTS,
+                percentile(all, 0.50) / 1_000.0, percentile(all, 0.99) / 1_000.0, all[all.length - 1] / 1_000.0);
+            return all;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    @Test
+    @DisplayName("Assert Cached Principals Lower The Filter Latency Under Concurrent Load")
+    void testUncachedVersusCached() throws Exception {
+        long[] uncached = measure("uncached", false);
+        long[] cached = measure("cached", true);
+
+        System.out.printf("p50 speedup  %.1fx%n", (double) percentile(uncached, 0.50) / percentile(cached, 0.50));
+        assertTrue(percentile(cached, 0.50) < percentile(uncached, 0.50), "Expected cached principals to lower the median filter latency");
+    }
+}
@@ -0,0 +1,160 @@
+package com.db.scrumtrackerapi.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.db.scrumtrackerapi.ScrumTrackerApiApplication;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.repositories.ProductRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+
+/**
+ * Compares Tomcat's platform thread pool with virtual threads, with a thousand concurrent clients listing the sprints
+ * of a product through blocking JPA calls against the embedded H2 database. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+public class VirtualThreadBenchmark {
+
+    private static final int CLIENTS = 1_000;
+    private static final int SPRINTS = 20;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 2;
+
+    /**
+     * Outcome of a run.
+     *
+     * @param latencies   The sorted latencies of the measured requests, in nanoseconds.
+     * @param errors      The number of requests that failed.
+     * @param nanos       How long the measured requests took.
+     * @param peakThreads The peak number of platform threads while measuring.
+     */
+    private record Run(long[] latencies, long errors, long nanos, int peakThreads) {
+
+        double throughput() {
+            return latencies.length / (nanos / 1e9);
+        }
+    }
+
+    private Run measure(String name, boolean virtualThreads) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ScrumTrackerApiApplication.class).run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driverClassName=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--scrum-tracker.virtual-threads.enabled=" + virtualThreads);
+        try {
+            Product product = context.getBean(ProductRepository.class)
+                .save(new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>()));
+            for (int i = 0; i < SPRINTS; i++) {
+                context.getBean(SprintRepository.class).save(new Sprint("Goal " + i, new ArrayList<>(), new ArrayList<>(), product));
+            }
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/sprint/product/" + product.getId());
+            return load(uri);
+        } finally {
+            context.close();
+        }
+    }
+
+    private Run load(URI uri) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicLong errors = new AtomicLong();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .build();
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(1)).GET().build();
+            for (Future<long[]> warmup : clients.invokeAll(clients(httpClient, request, WARMUP_REQUESTS_PER_CLIENT, errors))) {
+                warmup.get();
+            }
+            errors.set(0);
+            threads.resetPeakThreadCount();
+
+            long start = System.nanoTime();
+            long[] all = new long[0];
+            for (Future<long[]> latencies : clients.invokeAll(clients(httpClient, request, REQUESTS_PER_CLIENT, errors))) {
+                long[] part = latencies.get();
+                long[] merged = Arrays.copyOf(all, all.length + part.length);
+                System.arraycopy(part, 0, merged, all.length, part.length);
+                all = merged;
+            }
+            long nanos = System.nanoTime() - start;
+            Arrays.sort(all);
+            return new Run(all, errors.get(), nanos, threads.getPeakThreadCount());
+        }
+    }
+
+    private List<Callable<long[]>> clients(HttpClient httpClient, HttpRequest request, int requests, AtomicLong errors) {
+        List<Callable<long[]>> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.add(() -> {
+                long[] latencies = new long[requests];
+                for (int i = 0; i < requests; i++) {
+                    long start = System.nanoTime();
+                    try {
+                        if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            });
+        }
+        return clients;
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private void print(String name, Run run) {
+        System.out.printf("%-8s %5d clients  %7.0f req/s  p50 %7.1f ms  p99 %7.1f ms  errors %d  peak platform threads %d%n",
+            name, CLIENTS, run.throughput(), percentile(run.latencies(), 0.50) / 1e6, percentile(run.latencies(), 0.99) / 1e6,
+            run.errors(), run.peakThreads());
+    }
+
+    @Test
+    @DisplayName("Assert Virtual Threads Serve A Thousand Clients With Fewer Platform Threads")
+    void testPlatformVersusVirtualThreads() throws Exception {
+        Run platform = measure("platform", false);
+        Run virtual = measure("virtual", true);
+        print("platform", platform);
+        print("virtual", virtual);
+
+        assertEquals(0, virtual.errors(), "Expected the connection guard to keep every request within its wait");
+        assertTrue(virtual.peakThreads() < platform.peakThreads(), "Expected virtual threads to need fewer platform threads");
+    }
+}
@@ -0,0 +1,137 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.services.impl.ItemBacklogService;
+import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Runs without an overlap window, so a synchronization only returns the rows written after the previous one.
+ */
+@SpringBootTest(properties = "scrum-tracker.changes.overlap=0s")
+@AutoConfigureMockMvc
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ChangesControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    TaskSprintService taskSprintService;
+
+    @Autowired
+    ItemBacklogService itemBacklogService;
+
+    private Product product;
+
+    private List<ItemBacklog> itensBacklog = new ArrayList<>();
+
+    private Sprint sprint;
+
+    private List<TaskSprint> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        product = fixture.product();
+        ProductBacklog productBacklog = fixture.productBacklog(product);
+        for (String name : List.of("First", "Second")) {
+            itensBacklog.add(fixture.itemBacklog(productBacklog, name));
+        }
+        sprint = fixture.sprint(product, itensBacklog.toArray(ItemBacklog[]::new));
+        for (ItemBacklog itemBacklog : itensBacklog) {
+            tasks.add(fixture.task(itemBacklog.getName(), itemBacklog, sprint, Status.A_FAZER, Priority.BAIXA, null));
+        }
+    }
+
+    private String changes(String cursor) throws Exception {
+        var request = get("/product/" + product.getId() + "/changes");
+        if (cursor != null) {
+            request.param("since", cursor);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    @DisplayName("Assert A First Synchronization Returns Every Row Of The Product As Created")
+    void testFirstSynchronization() throws Exception {
+        mockMvc.perform(get("/product/" + product.getId() + "/changes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sprints.length()").value(1))
+            .andExpect(jsonPath("$.sprints[0].id").value(sprint.getId()))
+            .andExpect(jsonPath("$.sprints[0].name").value("Goal"))
+            .andExpect(jsonPath("$.sprints[0].status").doesNotExist())
+            .andExpect(jsonPath("$.itensBacklog.length()").value(2))
+            .andExpect(jsonPath("$.itensBacklog[1].id").value(itensBacklog.get(1).getId()))
+            .andExpect(jsonPath("$.tasksSprints.length()").value(2))
+            .andExpect(jsonPath("$.tasksSprints[0].id").value(tasks.get(0).getId()))
+            .andExpect(jsonPath("$.tasksSprints[0].sprintId").value(sprint.getId()))
+            .andExpect(jsonPath("$.tasksSprints[0].itemBacklogId").value(itensBacklog.get(0).getId()))
+            .andExpect(jsonPath("$.tasksSprints[0].responsibleId").doesNotExist())
+            .andExpect(jsonPath("$.tasksSprints[1].change").value("CREATED"))
+            .andExpect(jsonPath("$.cursor").isString());
+    }
+
+    @Test
+    @DisplayName("Assert A Synchronization Returns Only The Rows Written Since The Cursor")
+    void testChangesSinceCursor() throws Exception {
+        String cursor = JsonPath.read(changes(null), "$.cursor");
+
+        taskSprintService.update(tasks.get(0).getId(), ScrumFixture.newTask("First", itensBacklog.get(0), sprint, Status.CONCLUIDO, Priority.ALTA, null));
+        itemBacklogService.deactivateById(itensBacklog.get(1).getId());
+        Sprint created = fixture.sprint(product);
+
+        String changes = changes(cursor);
+        mockMvc.perform(get("/product/" + product.getId() + "/changes").param("since", cursor))
+            .andExpect(jsonPath("$.sprints.length()").value(1))
+            .andExpect(jsonPath("$.sprints[0].id").value(created.getId()))
+            .andExpect(jsonPath("$.sprints[0].change").value("CREATED"))
+            .andExpect(jsonPath("$.itensBacklog.length()").value(1))
+            .andExpect(jsonPath("$.itensBacklog[0].id").value(itensBacklog.get(1).getId()))
+            .andExpect(jsonPath("$.itensBacklog[0].change").value("DEACTIVATED"))
+            .andExpect(jsonPath("$.tasksSprints.length()").value(1))
+            .andExpect(jsonPath("$.tasksSprints[0].id").value(tasks.get(0).getId()))
+            .andExpect(jsonPath("$.tasksSprints[0].change").value("UPDATED"))
+            .andExpect(jsonPath("$.tasksSprints[0].status").value("CONCLUIDO"));
+
+        mockMvc.perform(get("/product/" + product.getId() + "/changes").param("since", (String) JsonPath.read(changes, "$.cursor")))
+            .andExpect(jsonPath("$.sprints").isEmpty())
+            .andExpect(jsonPath("$.itensBacklog").isEmpty())
+            .andExpect(jsonPath("$.tasksSprints").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Assert A Malformed Cursor Is Rejected")
+    void testMalformedCursor() throws Exception {
+        mockMvc.perform(get("/product/" + product.getId() + "/changes").param("since", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,152 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.config.SqlStatementFilter;
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.services.impl.CustomerService;
+import com.db.scrumtrackerapi.services.impl.ItemBacklogService;
+import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+
+@SpringBootTest(properties = "scrum-tracker.sql-statements.headers=true")
+@AutoConfigureMockMvc
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ETagControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    TaskSprintService taskSprintService;
+
+    @Autowired
+    ItemBacklogService itemBacklogService;
+
+    @Autowired
+    CustomerService customerService;
+
+    private Product product;
+
+    private ItemBacklog itemBacklog;
+
+    private Sprint sprint;
+
+    private TaskSprint task;
+
+    private Customer responsible;
+
+    @BeforeEach
+    void setup() {
+        itemBacklog = fixture.itemBacklog();
+        product = itemBacklog.getProductBacklog().getProduct();
+        sprint = fixture.sprint(product, itemBacklog);
+        responsible = fixture.customer();
+        task = fixture.task("Task", itemBacklog, sprint, Status.A_FAZER, Priority.BAIXA, responsible);
+    }
+
+    private String eTag(String url) throws Exception {
+        String eTag = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag, "Expected an ETag on " + url);
+        return eTag;
+    }
+
+    @Test
+    @DisplayName("Assert A Matching If-None-Match Is Answered With 304 After A Single Statement")
+    void testNotModified() throws Exception {
+        for (String url : List.of("/sprint/" + sprint.getId(), "/sprint/" + sprint.getId() + "/board", "/product/" + product.getId(),
+                "/product-backlog/product/" + product.getId(), "/product-backlog/" + itemBacklog.getProductBacklog().getId(),
+                "/item-backlog/" + itemBacklog.getId(), "/task-sprint/" + task.getId())) {
+            String eTag = eTag(url);
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(SqlStatementFilter.COUNT_HEADER, "1"))
+                .andExpect(content().string(""));
+        }
+    }
+
+    @Test
+    @DisplayName("Assert A Task Update Changes The ETags Of Its Sprint And Product")
+    void testTaskUpdate() throws Exception {
+        String sprintETag = eTag("/sprint/" + sprint.getId());
+        String productETag = eTag("/product/" + product.getId());
+
+        taskSprintService.update(task.getId(), ScrumFixture.newTask("Task", itemBacklog, sprint, Status.CONCLUIDO, Priority.BAIXA, responsible));
+
+        assertNotEquals(sprintETag, eTag("/sprint/" + sprint.getId()));
+        assertNotEquals(productETag, eTag("/product/" + product.getId()));
+        mockMvc.perform(get("/sprint/" + sprint.getId()).header(HttpHeaders.IF_NONE_MATCH, sprintETag)).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Assert A Backlog Item Update Changes The ETag Of Its Product Backlog")
+    void testItemUpdate() throws Exception {
+        String url = "/product-backlog/product/" + product.getId();
+        String eTag = eTag(url);
+        assertEquals(eTag, eTag(url));
+
+        itemBacklogService.update(itemBacklog.getId(), new ItemBacklog(Status.CONCLUIDO, Priority.ALTA, "Item", "Criteria", "Effort", new ArrayList<>(), "History", itemBacklog.getProductBacklog()));
+
+        assertNotEquals(eTag, eTag(url));
+    }
+
+    @Test
+    @DisplayName("Assert The Last Product Is Tagged Like The Product Itself")
+    void testLastProduct() throws Exception {
+        String eTag = eTag("/product/");
+
+        mockMvc.perform(get("/product/").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Assert A Customer Update Changes The ETags Of The Views Showing It As Responsible")
+    void testCustomerUpdate() throws Exception {
+        List<String> urls = List.of("/sprint/" + sprint.getId(), "/product/" + product.getId(), "/item-backlog/" + itemBacklog.getId(), "/task-sprint/" + task.getId());
+        List<String> eTags = new ArrayList<>();
+        for (String url : urls) {
+            eTags.add(eTag(url));
+        }
+
+        customerService.update(new Customer("Renamed", "LastName", responsible.getEmail(), "Pass@2023", Role.DEV));
+
+        for (int i = 0; i < urls.size(); i++) {
+            assertNotEquals(eTags.get(i), eTag(urls.get(i)), urls.get(i));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.config.SqlStatementFilter;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+
+/**
+ * Compares the statements of the requests in the {@value SqlStatementFilter#COUNT_HEADER} header, which buffers the
+ * responses, so the streamed lists are checked by {@link StreamingListControllerTest}.
+ */
+@SpringBootTest(properties = "scrum-tracker.sql-statements.headers=true")
+@AutoConfigureMockMvc
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class FieldSelectionControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    private Product product;
+
+    private Sprint sprint;
+
+    private TaskSprint taskSprint;
+
+    @BeforeEach
+    void setup() {
+        ItemBacklog itemBacklog = fixture.itemBacklog();
+        product = itemBacklog.getProductBacklog().getProduct();
+        sprint = fixture.sprint(product, itemBacklog);
+        taskSprint = fixture.task("Task", itemBacklog, sprint, Status.A_FAZER, Priority.BAIXA, fixture.customer());
+    }
+
+    @Test
+    @DisplayName("Assert A Sprint Without Parameters Is Returned Whole")
+    void testWholeView() throws Exception {
+        mockMvc.perform(get("/sprint/" + sprint.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sprintGoals").value("Goal"))
+            .andExpect(jsonPath("$.tasksSprints[0].responsible.name").value("Name"))
+            .andExpect(jsonPath("$.itemBacklogViews[0].sprintViews[0].id").value(sprint.getId()))
+            .andExpect(jsonPath("$.productView.name").value("Name"));
+    }
+
+    @Test
+    @DisplayName("Assert Only The Selected Fields Of A Sprint Are Returned, With Fewer Statements")
+    void testFields() throws Exception {
+        int whole = statements(get("/sprint/" + sprint.getId()));
+        int selected = statements(get("/sprint/" + sprint.getId()).param("fields", "sprintGoals"));
+        mockMvc.perform(get("/sprint/" + sprint.getId()).param("fields", "sprintGoals"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(sprint.getId()))
+            .andExpect(jsonPath("$.sprintGoals").value("Goal"))
+            .andExpect(jsonPath("$.tasksSprints").doesNotExist())
+            .andExpect(jsonPath("$.itemBacklogViews").doesNotExist())
+            .andExpect(jsonPath("$.productView").doesNotExist());
+        assertTrue(selected < whole, selected + " statements with a selection, " + whole + " without");
+    }
+
+    @Test
+    @DisplayName("Assert Nested Fields And Expansions Select The Nested Views")
+    void testNestedSelection() throws Exception {
+        mockMvc.perform(get("/sprint/" + sprint.getId()).param("fields", "productView.name").param("expand", "tasksSprints"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sprintGoals").value("Goal"))
+            .andExpect(jsonPath("$.productView.id").value(product.getId()))
+            .andExpect(jsonPath("$.productView.name").value("Name"))
+            .andExpect(jsonPath("$.productView.client").doesNotExist())
+            .andExpect(jsonPath("$.productView.sprintViews").doesNotExist())
+            .andExpect(jsonPath("$.tasksSprints[0].name").value("Task"))
+            .andExpect(jsonPath("$.tasksSprints[0].responsible").doesNotExist())
+            .andExpect(jsonPath("$.itemBacklogViews").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Assert A Selection Applies To The Elements Of A List")
+    void testListSelection() throws Exception {
+        mockMvc.perform(get("/task-sprint/sprint/" + sprint.getId()).param("fields", "name,responsible.email"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(taskSprint.getId()))
+            .andExpect(jsonPath("$[0].name").value("Task"))
+            .andExpect(jsonPath("$[0].description").doesNotExist())
+            .andExpect(jsonPath("$[0].responsible.email").value(taskSprint.getResponsible().getEmail()))
+            .andExpect(jsonPath("$[0].responsible.name").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Assert A Malformed Field Path Is Rejected")
+    void testMalformedPath() throws Exception {
+        mockMvc.perform(get("/sprint/" + sprint.getId()).param("fields", "productView..name"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private int statements(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        return Integer.parseInt(result.getResponse().getHeader(SqlStatementFilter.COUNT_HEADER));
+    }
+}
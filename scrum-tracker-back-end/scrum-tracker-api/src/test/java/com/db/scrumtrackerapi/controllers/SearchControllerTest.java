@@ -0,0 +1,142 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.config.SqlStatementFilter;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.impl.ItemBacklogService;
+import com.db.scrumtrackerapi.services.impl.SearchService;
+
+/**
+ * Each test tags its texts with a word of its own, so the rows written by the other tests are not found.
+ */
+@SpringBootTest(properties = "scrum-tracker.sql-statements.headers=true")
+@AutoConfigureMockMvc
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SearchControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    ItemBacklogService itemBacklogService;
+
+    @Autowired
+    SearchService searchService;
+
+    private String tag;
+
+    private ItemBacklog itemBacklog;
+
+    private TaskSprint taskSprint;
+
+    @BeforeEach
+    void setup() {
+        tag = "tag" + System.nanoTime();
+        Product product = fixture.product();
+        itemBacklog = itemBacklogRepository.save(new ItemBacklog(Status.A_FAZER, Priority.MEDIA, "Cadastro de usuários " + tag,
+            "O usuário recebe uma confirmação", "Effort", new ArrayList<>(), "Como administrador quero cadastrar usuários", fixture.productBacklog(product)));
+        taskSprint = taskSprintRepository.save(new TaskSprint("Validar formulário " + tag, itemBacklog,
+            "Conferir a história do usuário", "Revisão pendente", Status.A_FAZER, Priority.ALTA, "Effort", null, fixture.sprint(product)));
+    }
+
+    @Test
+    @DisplayName("Assert Words Are Found Regardless Of Accents And Case")
+    void testAccentFolding() throws Exception {
+        mockMvc.perform(get("/search").param("q", tag + " HISTORIA"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].subject").value("TASK_SPRINT"))
+            .andExpect(jsonPath("$[0].id").value(taskSprint.getId()))
+            .andExpect(jsonPath("$[0].parentId").value(taskSprint.getSprint().getId()));
+    }
+
+    @Test
+    @DisplayName("Assert Prefixes Match Every Word Starting With Them, Names Scoring Higher")
+    void testPrefixQuery() throws Exception {
+        mockMvc.perform(get("/search").param("q", tag + " usu*"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value(itemBacklog.getId()))
+            .andExpect(jsonPath("$[0].subject").value("ITEM_BACKLOG"))
+            .andExpect(jsonPath("$[1].id").value(taskSprint.getId()));
+    }
+
+    @Test
+    @DisplayName("Assert Phrases Only Match Words Following Each Other")
+    void testPhraseQuery() throws Exception {
+        mockMvc.perform(get("/search").param("q", tag + " \"cadastrar usuarios\""))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(itemBacklog.getId()));
+        mockMvc.perform(get("/search").param("q", tag + " \"usuarios cadastrar\""))
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Assert Searches Do Not Query The Database")
+    void testNoStatements() throws Exception {
+        mockMvc.perform(get("/search").param("q", tag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(header().string(SqlStatementFilter.COUNT_HEADER, "0"));
+    }
+
+    @Test
+    @DisplayName("Assert Deactivated Items Are No Longer Found")
+    void testDeactivation() throws Exception {
+        itemBacklogService.deactivateById(itemBacklog.getId());
+        mockMvc.perform(get("/search").param("q", tag))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(taskSprint.getId()));
+    }
+
+    @Test
+    @DisplayName("Assert A Rebuilt Index Finds The Same Rows")
+    void testRebuild() throws Exception {
+        searchService.rebuild();
+        mockMvc.perform(get("/search").param("q", tag + " confirmacao"))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(itemBacklog.getId()))
+            .andExpect(jsonPath("$[0].name").value("Cadastro de usuários " + tag));
+    }
+
+    @Test
+    @DisplayName("Assert A Blank Query Is Rejected")
+    void testBlankQuery() throws Exception {
+        mockMvc.perform(get("/search").param("q", " "))
+            .andExpect(status().isBadRequest());
+    }
+}
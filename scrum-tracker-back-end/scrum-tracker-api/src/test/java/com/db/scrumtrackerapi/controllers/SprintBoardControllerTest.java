@@ -0,0 +1,84 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+
+@SpringBootTest(properties = "scrum-tracker.sql-statements.headers=true")
+@AutoConfigureMockMvc
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SprintBoardControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    SprintRepository sprintRepository;
+
+    private Sprint sprint;
+
+    private final List<TaskSprint> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        ItemBacklog itemBacklog = fixture.itemBacklog();
+        sprint = fixture.sprint(itemBacklog.getProductBacklog().getProduct(), itemBacklog);
+        tasks.add(fixture.task("Low", itemBacklog, sprint, Status.A_FAZER, Priority.BAIXA, fixture.customer()));
+        tasks.add(fixture.task("High", itemBacklog, sprint, Status.A_FAZER, Priority.ALTA, fixture.customer()));
+        tasks.add(fixture.task("Medium", itemBacklog, sprint, Status.A_FAZER, Priority.MEDIA, null));
+        tasks.add(fixture.task("Done", itemBacklog, sprint, Status.CONCLUIDO, Priority.ALTA, fixture.customer()));
+    }
+
+    @Test
+    @StatementBudget(3)
+    @DisplayName("Assert Board Groups Tasks By Status And Sorts Them By Priority")
+    void testBoard() throws Exception {
+        mockMvc.perform(get("/sprint/" + sprint.getId() + "/board"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sprintGoals").value("Goal"))
+            .andExpect(jsonPath("$.columns[*].status").value(Matchers.contains("A_FAZER", "EM_DESENVOLVIMENTO", "CONCLUIDO")))
+            .andExpect(jsonPath("$.columns[*].count").value(Matchers.contains(3, 0, 1)))
+            .andExpect(jsonPath("$.columns[0].tasks[*].name").value(Matchers.contains("High", "Medium", "Low")))
+            .andExpect(jsonPath("$.columns[0].tasks[0].responsible").value("Name LastName"))
+            .andExpect(jsonPath("$.columns[0].tasks[0].itemBacklogId").value(tasks.get(0).getItemBacklog().getId()))
+            .andExpect(jsonPath("$.columns[0].tasks[1].responsible").doesNotExist())
+            .andExpect(jsonPath("$.columns[1].tasks").isEmpty())
+            .andExpect(jsonPath("$.columns[2].tasks[0].name").value("Done"));
+    }
+
+    @Test
+    @DisplayName("Assert Board Of A Deactivated Sprint Is Reported As Not Found")
+    void testDeactivatedSprint() throws Exception {
+        sprint.setActive(false);
+        sprintRepository.save(sprint);
+
+        mockMvc.perform(get("/sprint/" + sprint.getId() + "/board")).andExpect(status().isConflict());
+    }
+}
@@ -0,0 +1,251 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Runs against its own context, with a small queue per subscriber and a wide coalescing window, so a burst of
+ * changes made by the test reliably lands in a single flush, and with a single sender thread and a short send
+ * timeout, so a stalled stream shows at once.
+ */
+@SpringBootTest(properties = {"scrum-tracker.sprint-events.queue-capacity=2", "scrum-tracker.sprint-events.coalesce-window=500ms",
+    "scrum-tracker.sprint-events.pool-size=1", "scrum-tracker.sprint-events.send-timeout=200ms"})
+@AutoConfigureMockMvc
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SprintEventsControllerTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    /**
+     * Marks a request whose stream blocks the sender threads writing to it until {@link #release} is counted down.
+     */
+    private static final String STALL_HEADER = "X-Stall";
+
+    private static volatile CountDownLatch release = new CountDownLatch(0);
+
+    @TestConfiguration
+    static class StallConfig {
+
+        @Bean
+        Filter stallFilter() {
+            return (request, response, chain) -> chain.doFilter(request,
+                ((HttpServletRequest) request).getHeader(STALL_HEADER) == null ? response : new StalledResponse((HttpServletResponse) response));
+        }
+    }
+
+    /**
+     * A response whose writes from the sender threads block like those of a client that stopped reading.
+     */
+    private static class StalledResponse extends HttpServletResponseWrapper {
+
+        StalledResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            ServletOutputStream delegate = super.getOutputStream();
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    stall();
+                    delegate.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    stall();
+                    delegate.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+            };
+        }
+
+        private static void stall() {
+            if (Thread.currentThread().getName().startsWith("sprint-events-")) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    SprintRepository sprintRepository;
+
+    @Autowired
+    TaskSprintService taskSprintService;
+
+    private Sprint sprint;
+
+    private ItemBacklog itemBacklog;
+
+    private final List<TaskSprint> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        itemBacklog = fixture.itemBacklog();
+        sprint = fixture.sprint(itemBacklog.getProductBacklog().getProduct(), itemBacklog);
+        for (String name : List.of("First", "Second", "Third")) {
+            tasks.add(fixture.task(name, itemBacklog, sprint, Status.A_FAZER, Priority.BAIXA, null));
+        }
+    }
+
+    private void move(TaskSprint task, Status status) {
+        taskSprintService.update(task.getId(), ScrumFixture.newTask(task.getName(), itemBacklog, sprint, status, Priority.BAIXA, null));
+    }
+
+    private MvcResult subscribe(Long lastEventId) throws Exception {
+        var builder = get("/sprint/" + sprint.getId() + "/events");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private String await(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Expected " + expected + " in " + content);
+        return content;
+    }
+
+    private int count(String content, String text) {
+        return content.split(Pattern.quote(text), -1).length - 1;
+    }
+
+    @Test
+    @DisplayName("Assert A Burst Of Changes To A Task Is Pushed As Its Last State")
+    void testCoalescedChanges() throws Exception {
+        MvcResult result = subscribe(null);
+        move(tasks.get(0), Status.EM_DESENVOLVIMENTO);
+        move(tasks.get(0), Status.CONCLUIDO);
+
+        String content = await(result, "CONCLUIDO");
+        assertEquals(1, count(content, "event:CHANGED"));
+        assertFalse(content.contains("EM_DESENVOLVIMENTO"));
+        assertTrue(content.contains("\"entityId\":" + tasks.get(0).getId()));
+    }
+
+    @Test
+    @DisplayName("Assert A Resumed Stream Is Sent The Missed Events Or A Reset")
+    void testResume() throws Exception {
+        MvcResult first = subscribe(null);
+        move(tasks.get(0), Status.CONCLUIDO);
+        Matcher id = Pattern.compile("id:(\\d+)").matcher(await(first, "event:CHANGED"));
+        assertTrue(id.find());
+        move(tasks.get(1), Status.CONCLUIDO);
+
+        String resumed = await(subscribe(Long.valueOf(id.group(1))), "event:CHANGED");
+        assertEquals(1, count(resumed, "event:CHANGED"));
+        assertTrue(resumed.contains("\"entityId\":" + tasks.get(1).getId()));
+
+        await(subscribe(1L), "event:RESET");
+    }
+
+    @Test
+    @DisplayName("Assert A Subscriber Whose Queue Overflows Is Dropped")
+    void testSlowConsumer() throws Exception {
+        MvcResult result = subscribe(null);
+        for (TaskSprint task : tasks) {
+            move(task, Status.CONCLUIDO);
+        }
+
+        result.getAsyncResult(TIMEOUT_MILLIS);
+        assertEquals(0, count(result.getResponse().getContentAsString(), "event:"));
+    }
+
+    @Test
+    @DisplayName("Assert Events Of A Deactivated Sprint Are Reported As Not Found")
+    void testDeactivatedSprint() throws Exception {
+        sprint.setActive(false);
+        sprintRepository.save(sprint);
+
+        mockMvc.perform(get("/sprint/" + sprint.getId() + "/events")).andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Assert A Subscriber Whose Send Blocks Is Dropped Without Holding Up The Others")
+    void testStalledConsumer() throws Exception {
+        release = new CountDownLatch(1);
+        try {
+            MvcResult stalled = mockMvc.perform(get("/sprint/" + sprint.getId() + "/events").header(STALL_HEADER, true))
+                .andExpect(request().asyncStarted()).andReturn();
+            MvcResult other = subscribe(null);
+            move(tasks.get(0), Status.CONCLUIDO);
+            await(other, "\"entityId\":" + tasks.get(0).getId());
+
+            Thread.sleep(400);
+            move(tasks.get(1), Status.CONCLUIDO);
+            await(other, "\"entityId\":" + tasks.get(1).getId());
+
+            release.countDown();
+            stalled.getAsyncResult(TIMEOUT_MILLIS);
+            assertFalse(stalled.getResponse().getContentAsString().contains("\"entityId\":" + tasks.get(1).getId()));
+        } finally {
+            release.countDown();
+        }
+    }
+}
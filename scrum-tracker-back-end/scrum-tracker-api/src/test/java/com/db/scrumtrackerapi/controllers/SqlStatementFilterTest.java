@@ -0,0 +1,131 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import com.db.scrumtrackerapi.config.SqlStatementFilter;
+import com.db.scrumtrackerapi.config.SqlStatementInspector;
+import com.db.scrumtrackerapi.config.SqlStatistics;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.services.impl.ProductService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "scrum-tracker.sql-statements.headers=true")
+@AutoConfigureMockMvc
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SqlStatementFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    DataSource dataSource;
+
+    private Long productId;
+
+    @BeforeEach
+    void setup() {
+        productId = productService.save(new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>())).getId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Assert Statement Count And Time Are Written To The Response Headers")
+    void testHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/product/" + productId))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(SqlStatementFilter.TIME_HEADER))
+            .andReturn();
+
+        assertTrue(Long.parseLong(result.getResponse().getHeader(SqlStatementFilter.COUNT_HEADER)) > 0);
+        assertTrue(result.getResponse().getContentAsString().contains("\"Name\""));
+    }
+
+    @Test
+    @DisplayName("Assert Statements Are Published As Metrics Tagged By Handler Method")
+    void testMetrics() throws Exception {
+        mockMvc.perform(get("/product/" + productId)).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("sql.statements").tag("handler", "ProductController.getById").summary();
+        assertNotNull(statements);
+        assertTrue(statements.totalAmount() > 0);
+        assertNotNull(meterRegistry.find("sql.time").tag("handler", "ProductController.getById").timer());
+    }
+
+    @Test
+    @StatementBudget(5)
+    @DisplayName("Assert Product Lookup Stays Within Its Statement Budget")
+    void testBudget() throws Exception {
+        mockMvc.perform(get("/product/" + productId)).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Assert Nested Recordings Count Statements And Rows")
+    void testNestedRecordings() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        SqlStatistics outer = SqlStatementInspector.start();
+        jdbcTemplate.queryForList("select id from products");
+        SqlStatistics inner = SqlStatementInspector.start();
+        jdbcTemplate.queryForObject("select count(*) from products", Long.class);
+        SqlStatementInspector.stop(inner);
+        SqlStatementInspector.stop(outer);
+
+        assertEquals(1, inner.getStatements());
+        assertEquals(1, inner.getRows());
+        assertEquals(2, outer.getStatements());
+        assertTrue(outer.getRows() > 1);
+    }
+
+    @Test
+    @DisplayName("Assert A Streamed Response Is Written Through Rather Than Buffered")
+    void testStreamingNotBuffered() throws Exception {
+        SqlStatementFilter filter = new SqlStatementFilter(true, List.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/events"), response, (request, wrapped) -> {
+            ShallowEtagHeaderFilter.disableContentCaching(request);
+            wrapped.getOutputStream().write("data: first\n\n".getBytes());
+            wrapped.flushBuffer();
+            assertEquals("data: first\n\n", response.getContentAsString());
+        });
+
+        assertNull(response.getHeader(SqlStatementFilter.COUNT_HEADER));
+    }
+}
@@ -0,0 +1,28 @@
+package com.db.scrumtrackerapi.controllers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails a test when one of the controller calls it makes executes more SQL statements than the budget.
+ *
+ * <p> Applies to a test method or to every test of a class, the method budget taking precedence. The test must
+ * run in a Spring context where requests go through the {@link com.db.scrumtrackerapi.config.SqlStatementFilter},
+ * e.g. with {@code @AutoConfigureMockMvc}.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    /**
+     * The maximum number of statements a single controller call may execute.
+     *
+     * @return The budget.
+     */
+    long value();
+}
@@ -0,0 +1,76 @@
+package com.db.scrumtrackerapi.controllers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.db.scrumtrackerapi.config.SqlStatementFilter;
+import com.db.scrumtrackerapi.config.SqlStatementListener;
+import com.db.scrumtrackerapi.config.SqlStatistics;
+
+/**
+ * Enforces the {@link StatementBudget} of a test by listening to the {@link SqlStatementFilter} of its
+ * application context, and fails the test listing every controller call over budget.
+ */
+public class StatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+    /**
+     * Collects the calls of a test exceeding the budget.
+     */
+    private static final class BudgetListener implements SqlStatementListener {
+
+        private final long budget;
+
+        private final List<String> violations = new CopyOnWriteArrayList<>();
+
+        BudgetListener(long budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        public void requestCompleted(String handler, SqlStatistics statistics) {
+            if (statistics.getStatements() > budget) {
+                violations.add(handler + " executed " + statistics.getStatements() + " statements");
+            }
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        budget(context).ifPresent(budget -> {
+            BudgetListener listener = new BudgetListener(budget.value());
+            filter(context).addListener(listener);
+            context.getStore(NAMESPACE).put(BudgetListener.class, listener);
+        });
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        BudgetListener listener = context.getStore(NAMESPACE).remove(BudgetListener.class, BudgetListener.class);
+        if (listener == null) {
+            return;
+        }
+        filter(context).removeListener(listener);
+        if (!listener.violations.isEmpty()) {
+            throw new AssertionFailedError("Statement budget of " + listener.budget + " exceeded: " + String.join(", ", listener.violations));
+        }
+    }
+
+    private static Optional<StatementBudget> budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), StatementBudget.class)
+            .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), StatementBudget.class));
+    }
+
+    private static SqlStatementFilter filter(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(SqlStatementFilter.class);
+    }
+}
@@ -0,0 +1,221 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.config.PaginationConfig;
+import com.db.scrumtrackerapi.config.SqlStatementInspector;
+import com.db.scrumtrackerapi.config.SqlStatistics;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.services.IItemBacklogService;
+import com.db.scrumtrackerapi.util.JsonArrayStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Runs on a server, so the compression of the streamed lists by Tomcat can be checked along with their content.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class StreamingListControllerTest {
+
+    /**
+     * More items than a fetch, so the listing is read in more than one slice.
+     */
+    private static final int ITEMS = Integer.parseInt(PaginationConfig.STREAM_FETCH_SIZE) + 10;
+
+    private static final int FETCHES = 2;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    SprintRepository sprintRepository;
+
+    @Autowired
+    IItemBacklogService itemBacklogService;
+
+    private Product product;
+
+    private ProductBacklog productBacklog;
+
+    private List<ItemBacklog> itensBacklog = new ArrayList<>();
+
+    private List<Sprint> sprints = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        product = fixture.product();
+        productBacklog = fixture.productBacklog(product);
+        List<ItemBacklog> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(ScrumFixture.newItemBacklog("Item " + i, productBacklog));
+        }
+        itemBacklogRepository.saveAll(items).forEach(itensBacklog::add);
+        for (int i = 0; i < 2; i++) {
+            Sprint sprint = sprintRepository.save(new Sprint("Goal " + i, new ArrayList<>(List.of(itensBacklog.get(i), itensBacklog.get(ITEMS - 1 - i))), new ArrayList<>(), product));
+            fixture.task("Task " + i, itensBacklog.get(i), sprint, Status.A_FAZER, Priority.BAIXA, null);
+            sprints.add(sprint);
+        }
+    }
+
+    @Test
+    @DisplayName("Assert The Item Backlogs Of A Product Backlog Are Streamed In ID Order With Their Sprints")
+    void testStreamItemBacklogs() throws Exception {
+        MvcResult result = mockMvc.perform(get("/item-backlog/product-backlog/" + productBacklog.getId()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ITEMS))
+            .andExpect(jsonPath("$[0].id").value(itensBacklog.get(0).getId()))
+            .andExpect(jsonPath("$[0].sprintViews.length()").value(1))
+            .andExpect(jsonPath("$[0].sprintViews[0].tasksSprints[0].name").value("Task 0"))
+            .andExpect(jsonPath("$[" + (ITEMS - 1) + "].id").value(itensBacklog.get(ITEMS - 1).getId()))
+            .andExpect(jsonPath("$[" + (ITEMS - 1) + "].sprintViews[0].sprintGoals").value("Goal 0"));
+    }
+
+    @Test
+    @DisplayName("Assert The Item Backlogs Are Streamed With A Few Statements Per Fetch Rather Than Per Item")
+    void testStreamStatements() {
+        List<ItemBacklogView> views = new ArrayList<>();
+        SqlStatistics statistics = SqlStatementInspector.start();
+        try {
+            itemBacklogService.streamByProductBacklogId(productBacklog.getId(), ViewAssembler.UNLIMITED_DEPTH, views::add);
+        } finally {
+            SqlStatementInspector.stop(statistics);
+        }
+        assertEquals(ITEMS, views.size());
+        assertTrue(statistics.getStatements() <= 3 * FETCHES, statistics.getStatements() + " statements: " + statistics.getExecutions());
+    }
+
+    @Test
+    @DisplayName("Assert Streamed Item Backlogs Are Handed Over Without A Transaction Held By The Caller")
+    void testStreamOutsideTransaction() {
+        List<ItemBacklogView> views = new ArrayList<>();
+        List<Boolean> inTransaction = new ArrayList<>();
+
+        itemBacklogService.streamByProductBacklogId(productBacklog.getId(), ViewAssembler.UNLIMITED_DEPTH, view -> {
+            views.add(view);
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+        });
+
+        assertEquals(itensBacklog.stream().map(ItemBacklog::getId).toList(), views.stream().map(ItemBacklogView::getId).toList());
+        assertFalse(inTransaction.contains(true));
+    }
+
+    @Test
+    @DisplayName("Assert The Detailed Sprints Of A Product Are Streamed With Their Shared Product")
+    void testStreamSprints() throws Exception {
+        MvcResult result = mockMvc.perform(get("/sprint/product/" + product.getId()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value(sprints.get(0).getId()))
+            .andExpect(jsonPath("$[0].tasksSprints.length()").value(1))
+            .andExpect(jsonPath("$[0].itemBacklogViews.length()").value(2))
+            .andExpect(jsonPath("$[1].id").value(sprints.get(1).getId()))
+            .andExpect(jsonPath("$[1].tasksSprints[0].name").value("Task 1"))
+            .andExpect(jsonPath("$[0].productView.id").value(product.getId()))
+            .andExpect(jsonPath("$[1].productView.name").value("Name"));
+    }
+
+    @Test
+    @DisplayName("Assert A Streamed List Only Holds The Selected Fields")
+    void testStreamSelection() throws Exception {
+        MvcResult result = mockMvc.perform(get("/sprint/product/" + product.getId()).param("expand", "productView"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].sprintGoals").value("Goal 0"))
+            .andExpect(jsonPath("$[0].productView.vision").value("Vision"))
+            .andExpect(jsonPath("$[0].productView.productBacklogView").doesNotExist())
+            .andExpect(jsonPath("$[0].tasksSprints").doesNotExist())
+            .andExpect(jsonPath("$[1].itemBacklogViews").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Assert A Streamed List Is Compressed When The Client Accepts It")
+    void testCompressedStream() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/item-backlog/product-backlog/" + productBacklog.getId()))
+            .header("Accept-Encoding", "gzip")
+            .build();
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        String body = new String(new GZIPInputStream(new ByteArrayInputStream(response.body())).readAllBytes());
+        assertEquals(ITEMS, (int) JsonPath.read(body, "$.length()"));
+    }
+
+    @Test
+    @DisplayName("Assert A Stream Failing Midway Leaves The Array Open")
+    void testFailedStream() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        IllegalStateException failure = new IllegalStateException("Failed midway");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> JsonArrayStream.<String>of(new ObjectMapper(), elements -> {
+            elements.accept("first");
+            throw failure;
+        }).writeTo(output));
+
+        assertEquals(failure, thrown);
+        assertEquals("[\"first\"", output.toString());
+    }
+}
@@ -0,0 +1,83 @@
+package com.db.scrumtrackerapi.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.config.ConnectionGuard;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "scrum-tracker.virtual-threads.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class VirtualThreadTest {
+
+    @Autowired
+    ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    @DisplayName("Assert Requests And Async Tasks Run On Virtual Threads")
+    void testVirtualThreads() throws Exception {
+        Executor tomcatExecutor = ((TomcatWebServer) applicationContext.getWebServer()).getTomcat()
+            .getConnector().getProtocolHandler().getExecutor();
+        CompletableFuture<Boolean> request = new CompletableFuture<>();
+        tomcatExecutor.execute(() -> request.complete(Thread.currentThread().isVirtual()));
+
+        assertTrue(request.get());
+        assertTrue(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+    }
+
+    @Test
+    @DisplayName("Assert The Pool Is Guarded With As Many Permits As Connections")
+    void testGuardInstalled() throws Exception {
+        DataSource target = dataSource;
+        while (!(target instanceof ConnectionGuard) && target instanceof DelegatingDataSource delegating) {
+            target = delegating.getTargetDataSource();
+        }
+        ConnectionGuard guard = assertInstanceOf(ConnectionGuard.class, target);
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(0, guard.getWaiting());
+        }
+    }
+
+    @Test
+    @DisplayName("Assert Threads Waiting Longer Than Allowed For A Connection Are Rejected")
+    void testGuardTimeout() throws Exception {
+        ConnectionGuard guard = new ConnectionGuard(new DriverManagerDataSource("jdbc:h2:mem:guard", "sa", ""), 1, Duration.ofMillis(50));
+
+        Connection held = guard.getConnection();
+        assertThrows(SQLTransientConnectionException.class, guard::getConnection);
+        held.close();
+        held.close();
+        try (Connection connection = assertDoesNotThrow(() -> guard.getConnection())) {
+            assertThrows(SQLTransientConnectionException.class, guard::getConnection);
+        }
+    }
+}
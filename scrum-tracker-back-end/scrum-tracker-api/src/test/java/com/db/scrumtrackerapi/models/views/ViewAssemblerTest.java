@@ -0,0 +1,122 @@
+package com.db.scrumtrackerapi.models.views;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.SprintView;
+import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+
+public class ViewAssemblerTest {
+
+    private Product product;
+    private ItemBacklog itemBacklog;
+    private Sprint firstSprint;
+    private Sprint secondSprint;
+    private TaskSprint inactiveResponsibleTask;
+
+    @BeforeEach
+    void setup() {
+        product = new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>());
+        product.setId(1L);
+        ProductBacklog productBacklog = new ProductBacklog(new ArrayList<>(), product);
+        productBacklog.setId(2L);
+        product.setProductBacklog(productBacklog);
+
+        itemBacklog = new ItemBacklog(Status.A_FAZER, Priority.MEDIA, "Item", "Criteria", "Effort", new ArrayList<>(), "History", productBacklog);
+        itemBacklog.setId(3L);
+        productBacklog.getItensBacklog().add(itemBacklog);
+
+        firstSprint = new Sprint("First", List.of(itemBacklog), new ArrayList<>(), product);
+        firstSprint.setId(4L);
+        secondSprint = new Sprint("Second", List.of(itemBacklog), new ArrayList<>(), product);
+        secondSprint.setId(5L);
+        itemBacklog.getSprints().addAll(List.of(firstSprint, secondSprint));
+        product.getSprints().addAll(List.of(firstSprint, secondSprint));
+
+        Customer inactiveCustomer = new Customer("Joao", "Ninguem", "joao@email.com", "l3tMe!nI23", Role.DEV);
+        inactiveCustomer.setId(6L);
+        inactiveCustomer.setActive(false);
+        inactiveResponsibleTask = new TaskSprint("Task", itemBacklog, "Description", "Comments", Status.A_FAZER, Priority.BAIXA, "Effort", inactiveCustomer, firstSprint);
+        inactiveResponsibleTask.setId(7L);
+        firstSprint.getTasksSprints().add(inactiveResponsibleTask);
+    }
+
+    @Test
+    @DisplayName("Assert Shared Entities Are Converted Once")
+    void testMemoization() {
+        DetailedSprintView view = new ViewAssembler().toDetailedView(firstSprint);
+
+        SprintView fromItem = view.getItemBacklogViews().get(0).getSprintViews().get(1);
+        SprintView fromProduct = view.getProductView().getSprintViews().get(1);
+        assertEquals("Second", fromItem.getSprintGoals());
+        assertSame(fromItem, fromProduct);
+    }
+
+    @Test
+    @DisplayName("Assert Cycles Are Replaced By References")
+    void testCycleReference() {
+        ProductView view = new ViewAssembler().toView(product);
+
+        SprintView firstSprintView = view.getSprintViews().get(0);
+        ItemBacklogView itemBacklogView = view.getProductBacklogView().getItensBacklog().get(0);
+        assertEquals("First", firstSprintView.getSprintGoals());
+        assertSame(firstSprintView, itemBacklogView.getSprintViews().get(0));
+
+        SprintView backReference = new ViewAssembler().toDetailedView(firstSprint).getProductView().getSprintViews().get(0);
+        assertEquals(firstSprint.getId(), backReference.getId());
+        assertNull(backReference.getSprintGoals());
+    }
+
+    @Test
+    @DisplayName("Assert Views Below Max Depth Are Replaced By References")
+    void testMaxDepth() {
+        ProductView view = new ViewAssembler(1).toView(product);
+
+        ItemBacklogView itemBacklogView = view.getProductBacklogView().getItensBacklog().get(0);
+        assertEquals(itemBacklog.getId(), itemBacklogView.getId());
+        assertNull(itemBacklogView.getName());
+        assertNull(itemBacklogView.getSprintViews());
+        assertNull(view.getSprintViews().get(0).getTasksSprints().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Assert A View Truncated Deep Down Is Not Reused Higher Up")
+    void testMemoizedDepth() {
+        ProductView view = new ViewAssembler(3).toView(product);
+
+        SprintView fromItem = view.getProductBacklogView().getItensBacklog().get(0).getSprintViews().get(0);
+        SprintView fromProduct = view.getSprintViews().get(0);
+        assertNull(fromItem.getTasksSprints().get(0).getName());
+        assertEquals("Task", fromProduct.getTasksSprints().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Assert Inactive Responsible Is Omitted")
+    void testInactiveResponsible() {
+        TaskSprintView view = new ViewAssembler().toView(inactiveResponsibleTask);
+
+        assertEquals("Task", view.getName());
+        assertNull(view.getResponsible());
+    }
+}
@@ -0,0 +1,109 @@
+package com.db.scrumtrackerapi.models.views;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.db.scrumtrackerapi.config.FieldSelectionConfig;
+import com.db.scrumtrackerapi.config.ViewSerializerModule;
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ItemBacklogView;
+import com.db.scrumtrackerapi.model.view.ProductView;
+import com.db.scrumtrackerapi.model.view.SprintView;
+import com.db.scrumtrackerapi.model.view.TaskSprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.util.FieldSelection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ViewSerializerTest {
+
+    private final ObjectMapper beanMapper = new ObjectMapper();
+
+    private final ObjectMapper viewMapper = new ObjectMapper().registerModule(new ViewSerializerModule());
+
+    private Product product;
+
+    private Sprint sprint;
+
+    @BeforeEach
+    void setup() {
+        product = new Product("Name \"quoted\"", "Cliente São João", null, "Vision\nwith a new line", "Ready", "Done ✓", null, new ArrayList<>());
+        product.setId(1L);
+        ProductBacklog productBacklog = new ProductBacklog(new ArrayList<>(), product);
+        productBacklog.setId(2L);
+        product.setProductBacklog(productBacklog);
+
+        ItemBacklog itemBacklog = new ItemBacklog(Status.EM_DESENVOLVIMENTO, Priority.ALTA, "Item", null, "Effort", new ArrayList<>(), "História", productBacklog);
+        itemBacklog.setId(3L);
+        productBacklog.getItensBacklog().add(itemBacklog);
+
+        sprint = new Sprint("Goal", List.of(itemBacklog), new ArrayList<>(), product);
+        sprint.setId(4L);
+        itemBacklog.getSprints().add(sprint);
+        product.getSprints().add(sprint);
+
+        Customer customer = new Customer("Joao", "Ninguem", "joao@email.com", "l3tMe!nI23", Role.DEV);
+        customer.setId(5L);
+        customer.setActive(false);
+        TaskSprint task = new TaskSprint("Task", itemBacklog, "Description", null, Status.CONCLUIDO, Priority.BAIXA, "Effort", customer, sprint);
+        task.setId(6L);
+        TaskSprint unassigned = new TaskSprint("Unassigned", itemBacklog, "Description", "Comments", Status.A_FAZER, Priority.MEDIA, null, null, sprint);
+        unassigned.setId(7L);
+        sprint.getTasksSprints().addAll(List.of(task, unassigned));
+    }
+
+    @Test
+    @DisplayName("Assert Views Are Written Byte For Byte As By The Bean Serializers")
+    void testSameOutput() throws Exception {
+        DetailedSprintView detailedView = new ViewAssembler().toDetailedView(sprint);
+        ProductView productView = new ViewAssembler().toView(product);
+        ProductView truncatedView = new ViewAssembler(1).toView(product);
+
+        for (Object view : List.of(detailedView, productView, truncatedView, List.of(detailedView, detailedView))) {
+            assertArrayEquals(beanMapper.writeValueAsBytes(view), viewMapper.writeValueAsBytes(view), beanMapper.writeValueAsString(view));
+        }
+    }
+
+    @Test
+    @DisplayName("Assert Null Properties, Elements And Unknown Enum Values Are Written As By The Bean Serializers")
+    void testNulls() throws Exception {
+        List<Object> views = Arrays.asList(
+            new ItemBacklogView(null, "UNKNOWN", null, null, null, null, Arrays.asList((SprintView) null), null),
+            new TaskSprintView(8L, null, null, null, null, "MEDIA", null, null),
+            null);
+
+        assertEquals(beanMapper.writeValueAsString(views), viewMapper.writeValueAsString(views));
+    }
+
+    @Test
+    @DisplayName("Assert A Field Selection Still Filters The Views")
+    void testSelection() throws Exception {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder().modules(new ViewSerializerModule());
+        new FieldSelectionConfig().fieldSelectionCustomizer().customize(builder);
+        ObjectMapper selectingMapper = builder.build();
+        FieldSelection selection = FieldSelection.parse("sprintGoals", null);
+        DetailedSprintView view = new ViewAssembler(ViewAssembler.UNLIMITED_DEPTH, selection).toDetailedView(sprint);
+
+        String json = selectingMapper.writer(FieldSelectionConfig.filters(selection)).writeValueAsString(view);
+
+        assertEquals("{\"id\":4,\"sprintGoals\":\"Goal\"}", json);
+        assertEquals(beanMapper.writeValueAsString(view), builder.build().writeValueAsString(view));
+    }
+}
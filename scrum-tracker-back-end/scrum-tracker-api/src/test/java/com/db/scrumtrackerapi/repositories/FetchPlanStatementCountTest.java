@@ -0,0 +1,180 @@
+package com.db.scrumtrackerapi.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.model.enums.Status;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class FetchPlanStatementCountTest {
+
+    private static final long STATEMENT_BUDGET = 10;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    SprintRepository sprintRepository;
+
+    @Autowired
+    ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    TaskSprintRepository taskSprintRepository;
+
+    private int customers = 0;
+
+    /**
+     * Persists a product with the given number of sprints, each sprint holding the given number
+     * of backlog items and tasks, and returns the first sprint.
+     */
+    private Sprint seed(int sprints, int perSprint) {
+        Product product = new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>());
+        entityManager.persist(product);
+        ProductBacklog productBacklog = new ProductBacklog(new ArrayList<>(), product);
+        entityManager.persist(productBacklog);
+
+        Sprint first = null;
+        for (int s = 0; s < sprints; s++) {
+            List<ItemBacklog> itensBacklog = new ArrayList<>();
+            for (int i = 0; i < perSprint; i++) {
+                ItemBacklog itemBacklog = new ItemBacklog(Status.A_FAZER, Priority.MEDIA, "Item", "Criteria", "Effort", new ArrayList<>(), "History", productBacklog);
+                entityManager.persist(itemBacklog);
+                itensBacklog.add(itemBacklog);
+            }
+            Sprint sprint = new Sprint("Goal", itensBacklog, new ArrayList<>(), product);
+            entityManager.persist(sprint);
+            for (int t = 0; t < perSprint; t++) {
+                Customer responsible = new Customer("Name", "LastName", "customer" + (customers++) + "@email.com", "Pass@2023", Role.DEV);
+                entityManager.persist(responsible);
+                entityManager.persist(new TaskSprint("Task", itensBacklog.get(t), "Description", "Comments", Status.A_FAZER, Priority.BAIXA, "Effort", responsible, sprint));
+            }
+            if (first == null) {
+                first = sprint;
+            }
+        }
+        entityManager.flush();
+        return first;
+    }
+
+    private long countStatements(Runnable work) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void assertBounded(long small, long large) {
+        assertEquals(small, large);
+        assertTrue(large <= STATEMENT_BUDGET, "Expected at most " + STATEMENT_BUDGET + " statements but got " + large);
+    }
+
+    @Test
+    @DisplayName("Assert Detailed Sprints By Product Id Run A Fixed Number Of Statements")
+    void testSprintsByProductId() {
+        Long small = seed(2, 2).getProduct().getId();
+        Long large = seed(6, 6).getProduct().getId();
+
+        assertBounded(
+            countStatements(() -> sprintRepository.findByProductId(small).forEach(Sprint::toDetailedView)),
+            countStatements(() -> sprintRepository.findByProductId(large).forEach(Sprint::toDetailedView)));
+    }
+
+    @Test
+    @DisplayName("Assert Detailed Sprint By Id Runs A Fixed Number Of Statements")
+    void testSprintById() {
+        Long small = seed(2, 2).getId();
+        Long large = seed(6, 6).getId();
+
+        assertBounded(
+            countStatements(() -> sprintRepository.findDetailedById(small).get().toDetailedView()),
+            countStatements(() -> sprintRepository.findDetailedById(large).get().toDetailedView()));
+    }
+
+    @Test
+    @DisplayName("Assert Detailed Sprints By Item Backlog Id Run A Fixed Number Of Statements")
+    void testSprintsByItemBacklogId() {
+        Long small = seed(2, 2).getItensBacklog().get(0).getId();
+        Long large = seed(6, 6).getItensBacklog().get(0).getId();
+
+        assertBounded(
+            countStatements(() -> sprintRepository.findByItensBacklogId(small).forEach(Sprint::toDetailedView)),
+            countStatements(() -> sprintRepository.findByItensBacklogId(large).forEach(Sprint::toDetailedView)));
+    }
+
+    @Test
+    @DisplayName("Assert Item Backlogs By Product Backlog Id Run A Fixed Number Of Statements")
+    void testItemBacklogsByProductBacklogId() {
+        Long small = seed(2, 2).getItensBacklog().get(0).getProductBacklog().getId();
+        Long large = seed(6, 6).getItensBacklog().get(0).getProductBacklog().getId();
+
+        assertBounded(
+            countStatements(() -> itemBacklogRepository.findByProductBacklogId(small).forEach(ItemBacklog::toView)),
+            countStatements(() -> itemBacklogRepository.findByProductBacklogId(large).forEach(ItemBacklog::toView)));
+    }
+
+    @Test
+    @DisplayName("Assert Item Backlogs By Sprint Id Run A Fixed Number Of Statements")
+    void testItemBacklogsBySprintId() {
+        Long small = seed(2, 2).getId();
+        Long large = seed(6, 6).getId();
+
+        assertBounded(
+            countStatements(() -> itemBacklogRepository.findBySprintId(small).forEach(ItemBacklog::toView)),
+            countStatements(() -> itemBacklogRepository.findBySprintId(large).forEach(ItemBacklog::toView)));
+    }
+
+    @Test
+    @DisplayName("Assert Item Backlog By Id Runs A Fixed Number Of Statements")
+    void testItemBacklogById() {
+        Long small = seed(2, 2).getItensBacklog().get(0).getId();
+        Long large = seed(6, 6).getItensBacklog().get(0).getId();
+
+        assertBounded(
+            countStatements(() -> itemBacklogRepository.findViewById(small).get().toView()),
+            countStatements(() -> itemBacklogRepository.findViewById(large).get().toView()));
+    }
+
+    @Test
+    @DisplayName("Assert Task Sprints By Sprint Id Run A Fixed Number Of Statements")
+    void testTaskSprintsBySprintId() {
+        Long small = seed(2, 2).getId();
+        Long large = seed(6, 6).getId();
+
+        assertBounded(
+            countStatements(() -> taskSprintRepository.findBySprintId(small).forEach(TaskSprint::toView)),
+            countStatements(() -> taskSprintRepository.findBySprintId(large).forEach(TaskSprint::toView)));
+    }
+
+    @Test
+    @DisplayName("Assert Task Sprint By Id Runs A Single Statement")
+    void testTaskSprintById() {
+        Sprint sprint = seed(2, 2);
+        entityManager.refresh(sprint);
+        Long id = sprint.getTasksSprints().get(0).getId();
+
+        assertEquals(1, countStatements(() -> taskSprintRepository.findViewById(id).get().toView()));
+    }
+}
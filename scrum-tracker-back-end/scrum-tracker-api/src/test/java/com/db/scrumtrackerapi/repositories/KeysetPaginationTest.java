@@ -0,0 +1,169 @@
+package com.db.scrumtrackerapi.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.db.scrumtrackerapi.config.SoftDeleteFilter;
+import com.db.scrumtrackerapi.exceptions.InvalidCursorException;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.PageOrder;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.view.PageView;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
+import com.db.scrumtrackerapi.services.impl.ItemBacklogService;
+import com.db.scrumtrackerapi.services.impl.SprintBurndownService;
+import com.db.scrumtrackerapi.services.impl.SprintEventService;
+import com.db.scrumtrackerapi.services.impl.SprintService;
+import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+import com.db.scrumtrackerapi.services.impl.TransitionService;
+import com.db.scrumtrackerapi.util.PageCursor;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import({ItemBacklogService.class, SprintService.class, TaskSprintService.class, SprintBurndownService.class, TransitionService.class, SprintEventService.class, AggregateVersionService.class, SoftDeleteFilter.class})
+public class KeysetPaginationTest {
+
+    private static final int ROWS = 11;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ItemBacklogService itemBacklogService;
+
+    @Autowired
+    SprintService sprintService;
+
+    @Autowired
+    TaskSprintService taskSprintService;
+
+    private Product product;
+    private ProductBacklog productBacklog;
+    private Sprint sprint;
+    private List<ItemBacklog> itensBacklog = new ArrayList<>();
+    private List<TaskSprint> tasksSprints = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        product = new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>());
+        entityManager.persist(product);
+        productBacklog = new ProductBacklog(new ArrayList<>(), product);
+        entityManager.persist(productBacklog);
+
+        Priority[] priorities = Priority.values();
+        for (int i = 0; i < ROWS; i++) {
+            ItemBacklog itemBacklog = new ItemBacklog(Status.A_FAZER, priorities[i % priorities.length], "Item " + i, "Criteria", "Effort", new ArrayList<>(), "History", productBacklog);
+            entityManager.persist(itemBacklog);
+            itensBacklog.add(itemBacklog);
+        }
+        sprint = new Sprint("Goal", itensBacklog, new ArrayList<>(), product);
+        entityManager.persist(sprint);
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(new Sprint("Goal " + i, new ArrayList<>(), new ArrayList<>(), product));
+            TaskSprint taskSprint = new TaskSprint("Task " + i, itensBacklog.get(i), "Description", "Comments", Status.A_FAZER, priorities[(i + 1) % priorities.length], "Effort", null, sprint);
+            entityManager.persist(taskSprint);
+            tasksSprints.add(taskSprint);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Walks a listing page by page, following the continuation tokens, and returns the IDs in listing order.
+     */
+    private <E> List<Long> walk(PageOrder order, Function<PageCursor, Slice<E>> query, Function<E, Long> id, Function<E, Priority> priority) {
+        List<Long> ids = new ArrayList<>();
+        PageCursor cursor = PageCursor.first(order);
+        while (true) {
+            Slice<E> slice = query.apply(cursor);
+            PageView<Long> page = PageView.of(slice, id, i -> PageCursor.after(order, priority.apply(i), id.apply(i)));
+            ids.addAll(page.getItems());
+            if (page.getNext() == null) {
+                return ids;
+            }
+            cursor = PageCursor.decode(page.getNext());
+        }
+    }
+
+    private static final Comparator<ItemBacklog> ITEM_BY_PRIORITY = Comparator.comparing(ItemBacklog::getPriority).reversed().thenComparing(ItemBacklog::getId);
+    private static final Comparator<TaskSprint> TASK_BY_PRIORITY = Comparator.comparing(TaskSprint::getPriority).reversed().thenComparing(TaskSprint::getId);
+
+    @Test
+    @DisplayName("Assert Item Backlogs By Product Backlog Id Are Paginated In Id Order")
+    void testItemBacklogsByProductBacklogIdInIdOrder() {
+        List<Long> ids = walk(PageOrder.ID, c -> itemBacklogService.findByProductBacklogId(productBacklog.getId(), c, PageRequest.ofSize(PAGE_SIZE)), ItemBacklog::getId, ItemBacklog::getPriority);
+        assertEquals(itensBacklog.stream().map(ItemBacklog::getId).sorted().toList(), ids);
+    }
+
+    @Test
+    @DisplayName("Assert Item Backlogs By Product Backlog Id Are Paginated In Priority Order")
+    void testItemBacklogsByProductBacklogIdInPriorityOrder() {
+        List<Long> ids = walk(PageOrder.PRIORITY, c -> itemBacklogService.findByProductBacklogId(productBacklog.getId(), c, PageRequest.ofSize(PAGE_SIZE)), ItemBacklog::getId, ItemBacklog::getPriority);
+        assertEquals(itensBacklog.stream().sorted(ITEM_BY_PRIORITY).map(ItemBacklog::getId).toList(), ids);
+    }
+
+    @Test
+    @DisplayName("Assert Item Backlogs By Sprint Id Are Paginated In Priority Order")
+    void testItemBacklogsBySprintIdInPriorityOrder() {
+        List<Long> ids = walk(PageOrder.PRIORITY, c -> itemBacklogService.findBySprintId(sprint.getId(), c, PageRequest.ofSize(PAGE_SIZE)), ItemBacklog::getId, ItemBacklog::getPriority);
+        assertEquals(itensBacklog.stream().sorted(ITEM_BY_PRIORITY).map(ItemBacklog::getId).toList(), ids);
+    }
+
+    @Test
+    @DisplayName("Assert Task Sprints By Sprint Id Are Paginated In Both Orders")
+    void testTaskSprintsBySprintId() {
+        assertEquals(tasksSprints.stream().map(TaskSprint::getId).sorted().toList(),
+            walk(PageOrder.ID, c -> taskSprintService.findBySprintId(sprint.getId(), c, PageRequest.ofSize(PAGE_SIZE)), TaskSprint::getId, TaskSprint::getPriority));
+        assertEquals(tasksSprints.stream().sorted(TASK_BY_PRIORITY).map(TaskSprint::getId).toList(),
+            walk(PageOrder.PRIORITY, c -> taskSprintService.findBySprintId(sprint.getId(), c, PageRequest.ofSize(PAGE_SIZE)), TaskSprint::getId, TaskSprint::getPriority));
+    }
+
+    @Test
+    @DisplayName("Assert Sprints By Product Id Are Paginated In Id Order")
+    void testSprintsByProductId() {
+        List<Long> ids = walk(PageOrder.ID, c -> sprintService.findByProductId(product.getId(), c, PageRequest.ofSize(PAGE_SIZE)), Sprint::getId, s -> null);
+        assertEquals(ROWS + 1, ids.size());
+        assertEquals(ids.stream().sorted().distinct().toList(), ids);
+    }
+
+    @Test
+    @DisplayName("Assert Last Page Has No Continuation Token")
+    void testLastPage() {
+        Slice<ItemBacklog> slice = itemBacklogService.findByProductBacklogId(productBacklog.getId(), PageCursor.first(PageOrder.ID), PageRequest.ofSize(ROWS));
+        assertFalse(slice.hasNext());
+        assertNull(PageView.of(slice, ItemBacklog::getId, i -> PageCursor.after(PageOrder.ID, null, i.getId())).getNext());
+    }
+
+    @Test
+    @DisplayName("Assert Malformed Cursors Are Rejected")
+    void testMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> PageCursor.resolve("not-a-cursor", null));
+        assertThrows(InvalidCursorException.class, () -> PageCursor.resolve(null, "name"));
+        assertThrows(InvalidCursorException.class, () -> PageCursor.resolve(PageCursor.first(PageOrder.ID).encode(), "priority"));
+        assertThrows(InvalidCursorException.class, () -> PageCursor.resolve(PageCursor.first(PageOrder.PRIORITY).encode(), PageOrder.ID.name()));
+        assertThrows(InvalidCursorException.class, () -> sprintService.findByProductId(product.getId(), PageCursor.first(PageOrder.PRIORITY), PageRequest.ofSize(PAGE_SIZE)));
+    }
+}
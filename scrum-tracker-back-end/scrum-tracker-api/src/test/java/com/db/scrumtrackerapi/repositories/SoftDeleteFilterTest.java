@@ -0,0 +1,124 @@
+package com.db.scrumtrackerapi.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.db.scrumtrackerapi.config.SoftDeleteFilter;
+import com.db.scrumtrackerapi.config.SoftDeleteFilterConfig;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Import({SoftDeleteFilterConfig.class, SoftDeleteFilter.class})
+public class SoftDeleteFilterTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    SoftDeleteFilter softDeleteFilter;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductBacklogRepository productBacklogRepository;
+
+    @Autowired
+    ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    SprintRepository sprintRepository;
+
+    @Autowired
+    TaskSprintRepository taskSprintRepository;
+
+    private Product product;
+    private ProductBacklog productBacklog;
+    private Sprint activeSprint;
+    private Sprint inactiveSprint;
+
+    @BeforeEach
+    void setup() {
+        product = new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>());
+        entityManager.persist(product);
+        productBacklog = new ProductBacklog(new ArrayList<>(), product);
+        entityManager.persist(productBacklog);
+
+        ItemBacklog activeItem = new ItemBacklog(Status.A_FAZER, Priority.MEDIA, "Active", "Criteria", "Effort", new ArrayList<>(), "History", productBacklog);
+        ItemBacklog inactiveItem = new ItemBacklog(Status.A_FAZER, Priority.MEDIA, "Inactive", "Criteria", "Effort", new ArrayList<>(), "History", productBacklog);
+        inactiveItem.setActive(false);
+        entityManager.persist(activeItem);
+        entityManager.persist(inactiveItem);
+
+        activeSprint = new Sprint("Active", List.of(activeItem, inactiveItem), new ArrayList<>(), product);
+        inactiveSprint = new Sprint("Inactive", List.of(activeItem), new ArrayList<>(), product);
+        inactiveSprint.setActive(false);
+        entityManager.persist(activeSprint);
+        entityManager.persist(inactiveSprint);
+
+        TaskSprint activeTask = new TaskSprint("Active", activeItem, "Description", "Comments", Status.A_FAZER, Priority.BAIXA, "Effort", null, activeSprint);
+        TaskSprint inactiveTask = new TaskSprint("Inactive", activeItem, "Description", "Comments", Status.A_FAZER, Priority.BAIXA, "Effort", null, activeSprint);
+        inactiveTask.setActive(false);
+        entityManager.persist(activeTask);
+        entityManager.persist(inactiveTask);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Assert Queries Only Return Active Rows")
+    void testQueriesOnlyReturnActiveRows() {
+        assertEquals(List.of("Active"), sprintRepository.findByProductId(product.getId()).stream().map(Sprint::getSprintGoals).toList());
+        assertEquals(List.of("Active"), itemBacklogRepository.findByProductBacklogId(productBacklog.getId()).stream().map(ItemBacklog::getName).toList());
+        assertEquals(List.of("Active"), taskSprintRepository.findBySprintId(activeSprint.getId()).stream().map(TaskSprint::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Assert Collections Only Contain Active Rows")
+    void testCollectionsOnlyContainActiveRows() {
+        Sprint sprint = sprintRepository.findById(activeSprint.getId()).get();
+        assertEquals(List.of("Active"), sprint.getItensBacklog().stream().map(ItemBacklog::getName).toList());
+        assertEquals(List.of("Active"), sprint.getTasksSprints().stream().map(TaskSprint::getName).toList());
+        assertEquals(List.of("Active"), sprint.getProduct().getSprints().stream().map(Sprint::getSprintGoals).toList());
+    }
+
+    @Test
+    @DisplayName("Assert Deactivated Rows Are Visible When Explicitly Included")
+    void testIncludingInactive() {
+        assertEquals(2, softDeleteFilter.includingInactive(() -> sprintRepository.findByProductId(product.getId())).size());
+        assertEquals(1, sprintRepository.findByProductId(product.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Assert Last Product Ignores Deactivated Products")
+    void testGetLastIgnoresInactiveProducts() {
+        Product inactiveProduct = new Product("Inactive", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>());
+        inactiveProduct.setActive(false);
+        entityManager.persist(inactiveProduct);
+        entityManager.persist(new ProductBacklog(new ArrayList<>(), inactiveProduct));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(product.getId(), productRepository.getLast().getId());
+        assertNull(productBacklogRepository.findByProductId(inactiveProduct.getId()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.db.scrumtrackerapi.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.db.scrumtrackerapi.security.service.PrincipalCache;
+
+public class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+
+    private AtomicInteger loads;
+
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setup() {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return new User(email, "password", List.of(new SimpleGrantedAuthority("ADMIN")));
+        };
+    }
+
+    @Test
+    @DisplayName("Assert Principal Is Loaded Once Per Subject")
+    void testCachedPrincipal() {
+        Instant expiry = Instant.now().plusSeconds(3600);
+        UserDetails first = principalCache.get("joao@email.com", expiry, loader);
+        UserDetails second = principalCache.get("joao@email.com", expiry, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Assert Invalidated Principal Is Reloaded")
+    void testInvalidate() {
+        Instant expiry = Instant.now().plusSeconds(3600);
+        principalCache.get("joao@email.com", expiry, loader);
+        principalCache.invalidate("joao@email.com");
+        principalCache.get("joao@email.com", expiry, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Assert Principal Does Not Outlive The Token Expiry")
+    void testTokenExpiry() throws InterruptedException {
+        Instant expiry = Instant.now().plusMillis(50);
+        principalCache.get("joao@email.com", expiry, loader);
+        Thread.sleep(100);
+        principalCache.get("joao@email.com", Instant.now().plusSeconds(3600), loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Assert Unknown Subject Is Not Cached")
+    void testUnknownSubject() {
+        Function<String, UserDetails> failing = email -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException("User details not found for the user:" + email);
+        };
+        Instant expiry = Instant.now().plusSeconds(3600);
+
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("unknown@email.com", expiry, failing));
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("unknown@email.com", expiry, failing));
+        assertEquals(2, loads.get());
+    }
+}
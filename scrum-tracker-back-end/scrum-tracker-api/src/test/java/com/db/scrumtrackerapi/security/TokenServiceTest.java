@@ -0,0 +1,74 @@
+package com.db.scrumtrackerapi.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.db.scrumtrackerapi.security.service.TokenService;
+
+public class TokenServiceTest {
+
+    private TokenService tokenService;
+
+    private String token;
+
+    @BeforeEach
+    void setup() {
+        tokenService = new TokenService(100, Duration.ofMinutes(5));
+        token = tokenService.generateToken(new User("joao@email.com", "password", List.of(new SimpleGrantedAuthority("ADMIN"))));
+    }
+
+    @Test
+    @DisplayName("Assert Repeated Token Is Verified Once")
+    void testVerifiedTokenIsCached() {
+        assertEquals("joao@email.com", tokenService.getSubject(token));
+        assertSame(tokenService.verify(token), tokenService.verify(token));
+    }
+
+    @Test
+    @DisplayName("Assert Verified Token Does Not Outlive The Cache Time To Live")
+    void testTimeToLive() throws InterruptedException {
+        TokenService shortLived = new TokenService(100, Duration.ofMillis(50));
+        DecodedJWT first = shortLived.verify(token);
+        Thread.sleep(100);
+
+        assertNotSame(first, shortLived.verify(token));
+    }
+
+    @Test
+    @DisplayName("Assert Tampered Token Is Rejected After The Genuine One Was Cached")
+    void testTamperedToken() {
+        tokenService.verify(token);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        assertThrows(JWTVerificationException.class, () -> tokenService.verify(tampered));
+    }
+
+    @Test
+    @DisplayName("Assert Token Signed With Another Secret Is Rejected")
+    void testForeignToken() {
+        String foreign = JWT.create()
+                .withIssuer("Scrum Tracker")
+                .withSubject("joao@email.com")
+                .withExpiresAt(Instant.now().plusSeconds(3600))
+                .sign(Algorithm.HMAC256("another secret"));
+
+        assertThrows(JWTVerificationException.class, () -> tokenService.verify(foreign));
+    }
+}
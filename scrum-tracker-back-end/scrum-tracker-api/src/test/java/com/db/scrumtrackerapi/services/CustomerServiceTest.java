@@ -2,6 +2,7 @@ package com.db.scrumtrackerapi.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,10 +17,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.db.scrumtrackerapi.model.Customer;
 import com.db.scrumtrackerapi.model.enums.Role;
 import com.db.scrumtrackerapi.repositories.CustomerRepository;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.security.service.PrincipalCache;
 import com.db.scrumtrackerapi.services.impl.CustomerService;
 
 @SpringBootTest
@@ -33,6 +39,18 @@ public class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private SprintRepository sprintRepository;
+
+    @Mock
+    private IAggregateVersionService aggregateVersionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private Customer expectedCustomer;
 
     private String email;
@@ -63,4 +81,21 @@ public class CustomerServiceTest {
         assertEquals(expectedCustomer, actualCustomer);
     }
 
+    @Test
+    @DisplayName("Assert A Deactivated Customer Is Evicted From The Principal Cache Again After Commit")
+    public void testDeactivateInvalidatesAfterCommit() {
+        when(customerRepository.findByEmail(eq(email))).thenReturn(List.of(expectedCustomer));
+        when(customerRepository.save(expectedCustomer)).thenReturn(expectedCustomer);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            customerService.deactivateByEmail(email);
+            verify(principalCache).invalidate(email);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(principalCache, times(2)).invalidate(email);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
 }
@@ -0,0 +1,78 @@
+package com.db.scrumtrackerapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.model.view.ImportErrorView;
+import com.db.scrumtrackerapi.model.view.ImportProgressView;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.services.impl.AggregateVersionService;
+import com.db.scrumtrackerapi.services.impl.ItemBacklogImportService;
+
+@DataJpaTest(properties = "scrum-tracker.import.chunk-size=3")
+@Import({ItemBacklogImportService.class, AggregateVersionService.class, ScrumFixture.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ItemBacklogImportServiceTest {
+
+    @Autowired
+    ItemBacklogImportService itemBacklogImportService;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    ItemBacklogRepository itemBacklogRepository;
+
+    private String record(String name, Long productBacklogId) {
+        return "{\"status\":\"A_FAZER\",\"priority\":\"MEDIA\",\"name\":" + (name == null ? "null" : "\"" + name + "\"")
+            + ",\"criteriaAcceptance\":\"Criteria\",\"effortEstimation\":\"Effort\",\"sprints\":[],\"userHistory\":\"History\",\"productBacklog\":{\"id\":" + productBacklogId + "}}";
+    }
+
+    @Test
+    @DisplayName("Assert Import Commits Chunks And Reports Row Errors Without Aborting")
+    void testImport() throws IOException {
+        Long id = fixture.productBacklog(fixture.product()).getId();
+
+        String ndjson = String.join("\n",
+            record("First", id),
+            record("Second", id),
+            "{not json",
+            "",
+            record(null, id),
+            record("Unknown product backlog", 999_999L),
+            record("Third", id),
+            record("Fourth", id));
+
+        List<ImportProgressView> progress = new ArrayList<>();
+        ImportProgressView summary = itemBacklogImportService.importItems(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), progress::add);
+
+        assertEquals(3, progress.size());
+        assertEquals(List.of(2, 1, 1), progress.stream().map(ImportProgressView::getImported).toList());
+        assertEquals(List.of(3L, 7L, 8L), progress.stream().map(ImportProgressView::getLastLine).toList());
+        assertEquals(List.of(3L, 5L, 6L), progress.stream().flatMap(i -> i.getErrors().stream()).map(ImportErrorView::getLine).toList());
+        assertTrue(progress.get(1).getErrors().get(0).getMessage().startsWith("name: "));
+
+        assertEquals(4, summary.getTotalImported());
+        assertEquals(3, summary.getTotalFailed());
+        assertEquals(List.of("First", "Second", "Third", "Fourth"), itemBacklogRepository.findByProductBacklogId(id).stream().map(i -> i.getName()).toList());
+    }
+}
@@ -0,0 +1,124 @@
+package com.db.scrumtrackerapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.enums.Role;
+import com.db.scrumtrackerapi.repositories.CustomerRepository;
+import com.db.scrumtrackerapi.services.impl.CustomerService;
+import com.db.scrumtrackerapi.services.impl.ProductBacklogService;
+import com.db.scrumtrackerapi.services.impl.ProductService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    ProductBacklogService productBacklogService;
+
+    @Autowired
+    CustomerService customerService;
+
+    @Autowired
+    CustomerRepository customerRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Product newProduct(String name) {
+        return new Product(name, "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("Assert Product Reads Are Served From Cache And Updated After A Write")
+    void testProductUpdate() {
+        Long id = productService.save(newProduct("Cached")).getId();
+
+        assertEquals("Cached", productService.findById(id).getName());
+        assertTrue(statistics.getDomainDataRegionStatistics("products").getHitCount() > 0);
+
+        productService.update(id, newProduct("Updated"));
+        assertEquals("Updated", productService.findById(id).getName());
+    }
+
+    @Test
+    @DisplayName("Assert Last Product Query Does Not Outlive A Deactivation")
+    void testGetLastAfterDeactivation() {
+        Product previous = productService.save(newProduct("Previous"));
+        Product last = productService.save(newProduct("Last"));
+
+        assertEquals(last.getId(), productService.getLast().getId());
+        assertEquals(last.getId(), productService.getLast().getId());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        productService.deactivateById(last.getId());
+        assertEquals(previous.getId(), productService.getLast().getId());
+    }
+
+    @Test
+    @DisplayName("Assert Product Backlog Query Does Not Outlive A New Product Backlog")
+    void testFindByProductIdAfterSave() {
+        Product product = productService.save(newProduct("Backlog"));
+
+        assertThrows(EntityNotFoundException.class, () -> productBacklogService.findByProductId(product.getId()));
+        ProductBacklog productBacklog = productBacklogService.save(new ProductBacklog(new ArrayList<>(), product));
+        assertEquals(productBacklog.getId(), productBacklogService.findByProductId(product.getId()).getId());
+    }
+
+    @Test
+    @DisplayName("Assert Customer Query Does Not Outlive A Deactivation")
+    void testFindByEmailAfterDeactivation() {
+        Customer customer = customerService.save(new Customer("Joao", "Ninguem", "cached@email.com", "l3tMe!nI23", Role.DEV));
+
+        assertTrue(customerService.findByEmail("cached@email.com").isPresent());
+        assertTrue(customerService.findByEmail("cached@email.com").isPresent());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        customer.setActive(false);
+        customerRepository.save(customer);
+        assertTrue(customerService.findByEmail("cached@email.com").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Assert Region Metrics Are Published")
+    void testMetrics() {
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "products").tag("result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "customers").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", "products").functionCounter());
+    }
+}
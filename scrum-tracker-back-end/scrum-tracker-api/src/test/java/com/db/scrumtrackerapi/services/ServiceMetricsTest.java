@@ -0,0 +1,111 @@
+package com.db.scrumtrackerapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import com.db.scrumtrackerapi.config.ServiceTimer;
+import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.services.impl.ProductService;
+import com.db.scrumtrackerapi.services.impl.SprintService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+@SpringBootTest(properties = "management.metrics.distribution.percentiles-histogram.service.calls=true")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ServiceMetricsTest {
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    SprintService sprintService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Assert Service Calls Are Timed With Size Tags And Percentiles")
+    void testSizeTags() {
+        Product product = productService.save(new Product("Name", "Client", "Objectives", "Vision", "Ready", "Done", null, new ArrayList<>()));
+        for (int i = 0; i < 3; i++) {
+            sprintService.save(new Sprint("Goal", new ArrayList<>(), new ArrayList<>(), product));
+        }
+
+        assertEquals(3, sprintService.findByProductId(product.getId()).size());
+
+        Timer timer = meterRegistry.find(ServiceTimer.METER)
+            .tag("class", "SprintService")
+            .tag("method", "findByProductId")
+            .tag("exception", "none")
+            .tag("size", "2-10")
+            .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertTrue(Arrays.stream(timer.takeSnapshot().percentileValues()).map(ValueAtPercentile::percentile).toList().contains(0.99));
+        assertNotNull(meterRegistry.find(ServiceTimer.METER).tag("class", "ProductService").tag("method", "save").tag("size", "1").timer());
+    }
+
+    @Test
+    @DisplayName("Assert Failed Service Calls Are Tagged With The Exception")
+    void testExceptionTag() {
+        assertThrows(jakarta.persistence.EntityNotFoundException.class, () -> productService.findById(-1L));
+
+        assertNotNull(meterRegistry.find(ServiceTimer.METER)
+            .tag("class", "ProductService")
+            .tag("method", "findById")
+            .tag("exception", "EntityNotFoundException")
+            .timer());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Assert Service Timers Are Exported In Prometheus Format")
+    void testPrometheus() throws Exception {
+        assertThrows(EntityNotFoundException.class, () -> sprintService.findById(-1L));
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertTrue(scrape.contains("service_calls_seconds_bucket{"));
+        assertTrue(scrape.contains("quantile=\"0.95\""));
+    }
+
+    @Test
+    @DisplayName("Assert Services Are Timed Without A Proxy In Front Of The Bean")
+    void testNoProxy() {
+        assertFalse(AopUtils.isAopProxy(productService));
+        assertEquals(ProductService.class, ClassUtils.getUserClass(productService));
+
+        productService.getLast();
+
+        assertNotNull(meterRegistry.find(ServiceTimer.METER).tag("class", "ProductService").tag("method", "getLast").timer());
+    }
+}
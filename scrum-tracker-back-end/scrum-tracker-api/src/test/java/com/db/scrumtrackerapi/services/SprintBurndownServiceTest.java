@@ -0,0 +1,200 @@
+package com.db.scrumtrackerapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.SprintEffort;
+import com.db.scrumtrackerapi.model.SprintSnapshot;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.view.BurndownPointView;
+import com.db.scrumtrackerapi.model.view.BurndownView;
+import com.db.scrumtrackerapi.model.view.SprintVelocityView;
+import com.db.scrumtrackerapi.model.view.VelocityView;
+import com.db.scrumtrackerapi.repositories.ItemBacklogRepository;
+import com.db.scrumtrackerapi.repositories.SprintSnapshotRepository;
+import com.db.scrumtrackerapi.repositories.TaskSprintRepository;
+import com.db.scrumtrackerapi.services.impl.SprintBurndownService;
+import com.db.scrumtrackerapi.services.impl.SprintService;
+import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+import com.db.scrumtrackerapi.util.EffortParser;
+
+@SpringBootTest
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SprintBurndownServiceTest {
+
+    @Autowired
+    SprintBurndownService sprintBurndownService;
+
+    @Autowired
+    TaskSprintService taskSprintService;
+
+    @Autowired
+    SprintService sprintService;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    ItemBacklogRepository itemBacklogRepository;
+
+    @Autowired
+    TaskSprintRepository taskSprintRepository;
+
+    @Autowired
+    SprintSnapshotRepository sprintSnapshotRepository;
+
+    private Product product;
+
+    private ItemBacklog itemBacklog;
+
+    @BeforeEach
+    void setup() {
+        product = fixture.product();
+        ItemBacklog estimated = ScrumFixture.newItemBacklog("Item", fixture.productBacklog(product));
+        estimated.setEffortEstimation("8 pts");
+        itemBacklog = itemBacklogRepository.save(estimated);
+    }
+
+    private Sprint sprint() {
+        return fixture.sprint(product, itemBacklog);
+    }
+
+    private TaskSprint task(String effortEstimation, Sprint sprint) {
+        TaskSprint task = ScrumFixture.newTask("Task", itemBacklog, sprint, Status.A_FAZER, Priority.MEDIA, null);
+        task.setEffortEstimation(effortEstimation);
+        return task;
+    }
+
+    private BurndownPointView today(Long sprintId) {
+        List<BurndownPointView> points = sprintBurndownService.findBurndownBySprintId(sprintId).getPoints();
+        return points.get(points.size() - 1);
+    }
+
+    @Test
+    @DisplayName("Assert Effort Estimations Are Read As Numbers")
+    void testEffortParser() {
+        assertEquals(5.0, EffortParser.parse("5"));
+        assertEquals(5.0, EffortParser.parse("5 pts"));
+        assertEquals(2.5, EffortParser.parse("2,5h"));
+        assertEquals(3.0, EffortParser.parse("3-5"));
+        assertNull(EffortParser.parse("Effort"));
+        assertNull(EffortParser.parse(null));
+        assertEquals(8.0, itemBacklog.getEffortPoints());
+    }
+
+    @Test
+    @DisplayName("Assert Task Writes Move The Counters Of Their Sprint")
+    void testCounters() {
+        Sprint sprint = sprint();
+        TaskSprint first = taskSprintService.save(task("5 pts", sprint));
+        TaskSprint second = taskSprintService.save(task("3", sprint));
+        taskSprintService.save(task("To be estimated", sprint));
+        assertEquals(new BurndownPointView(LocalDate.now(), 8, 8), today(sprint.getId()));
+
+        TaskSprint done = task("5 pts", sprint);
+        done.setStatus(Status.CONCLUIDO);
+        taskSprintService.update(first.getId(), done);
+        assertEquals(new BurndownPointView(LocalDate.now(), 8, 3), today(sprint.getId()));
+
+        taskSprintService.deactivateById(second.getId());
+        assertEquals(new BurndownPointView(LocalDate.now(), 5, 0), today(sprint.getId()));
+
+        Sprint other = sprint();
+        taskSprintService.update(first.getId(), task("5 pts", other));
+        assertEquals(new BurndownPointView(LocalDate.now(), 0, 0), today(sprint.getId()));
+        assertEquals(new BurndownPointView(LocalDate.now(), 5, 5), today(other.getId()));
+        assertEquals(1, sprintSnapshotRepository.findBySprintId(sprint.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Assert Counters Of Sprints Written Before Them Are Counted From Their Tasks")
+    void testUntrackedSprint() {
+        Sprint sprint = sprint();
+        taskSprintRepository.save(task("2", sprint));
+        taskSprintRepository.save(task("4", sprint));
+
+        assertEquals(new BurndownPointView(LocalDate.now(), 6, 6), today(sprint.getId()));
+        taskSprintService.save(task("1", sprint));
+        assertEquals(new BurndownPointView(LocalDate.now(), 7, 7), today(sprint.getId()));
+    }
+
+    @Test
+    @DisplayName("Assert Burndown And Velocity Do Not Write The Counters Of A Sprint Not Seeded Yet")
+    void testReadOnly() {
+        Sprint sprint = sprint();
+        taskSprintRepository.save(task("2", sprint));
+
+        assertEquals(new BurndownPointView(LocalDate.now(), 2, 2), today(sprint.getId()));
+        assertEquals(2, sprintBurndownService.findVelocityByProductId(product.getId()).getSprints().get(0).getCommittedEffort());
+        assertTrue(sprintSnapshotRepository.findBySprintId(sprint.getId()).isEmpty());
+
+        sprintBurndownService.seedAll();
+        assertEquals(1, sprintSnapshotRepository.findBySprintId(sprint.getId()).size());
+        assertEquals(new BurndownPointView(LocalDate.now(), 2, 2), today(sprint.getId()));
+    }
+
+    @Test
+    @DisplayName("Assert A Sprint Created By The Service Starts With Seeded Counters")
+    void testSeededOnCreation() {
+        Sprint sprint = sprintService.save(new Sprint("Goal", new ArrayList<>(List.of(itemBacklog)), new ArrayList<>(), product));
+
+        assertEquals(1, sprintSnapshotRepository.findBySprintId(sprint.getId()).size());
+        assertEquals(new BurndownPointView(LocalDate.now(), 0, 0), today(sprint.getId()));
+    }
+
+    @Test
+    @DisplayName("Assert Days Without Snapshot Keep The Effort Of The Day Before")
+    void testBurndownGaps() {
+        Sprint sprint = sprint();
+        LocalDate today = LocalDate.now();
+        sprintSnapshotRepository.save(new SprintSnapshot(sprint.getId(), today.minusDays(3)).update(new SprintEffort(sprint.getId(), 10, 10)));
+        sprintSnapshotRepository.save(new SprintSnapshot(sprint.getId(), today.minusDays(1)).update(new SprintEffort(sprint.getId(), 10, 4)));
+        taskSprintService.save(task("10", sprint));
+
+        BurndownView burndown = sprintBurndownService.findBurndownBySprintId(sprint.getId());
+
+        assertEquals(List.of(
+            new BurndownPointView(today.minusDays(3), 10, 10),
+            new BurndownPointView(today.minusDays(2), 10, 10),
+            new BurndownPointView(today.minusDays(1), 10, 4),
+            new BurndownPointView(today, 10, 10)), burndown.getPoints());
+    }
+
+    @Test
+    @DisplayName("Assert Velocity Sums The Effort Done In Each Sprint Of A Product")
+    void testVelocity() {
+        Sprint first = sprint();
+        Sprint second = sprint();
+        TaskSprint done = task("5", first);
+        done.setStatus(Status.CONCLUIDO);
+        taskSprintService.saveAll(List.of(done, task("3", first), task("2", second)));
+
+        VelocityView velocity = sprintBurndownService.findVelocityByProductId(product.getId());
+
+        assertEquals(List.of(
+            new SprintVelocityView(first.getId(), "Goal", 8, 5),
+            new SprintVelocityView(second.getId(), "Goal", 2, 0)), velocity.getSprints());
+        assertEquals(2.5, velocity.getAverageVelocity());
+    }
+}
@@ -0,0 +1,181 @@
+package com.db.scrumtrackerapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.config.SqlStatementInspector;
+import com.db.scrumtrackerapi.config.SqlStatistics;
+import com.db.scrumtrackerapi.exceptions.EntityNotFoundException;
+import com.db.scrumtrackerapi.exceptions.ViewAssemblyTimeoutException;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.view.DetailedSprintView;
+import com.db.scrumtrackerapi.model.view.ViewAssembler;
+import com.db.scrumtrackerapi.services.impl.SprintService;
+import com.db.scrumtrackerapi.services.impl.SprintViewService;
+
+@SpringBootTest(properties = "scrum-tracker.sprint-views.pool-size=4")
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SprintViewServiceTest {
+
+    private static final int VIEW_DEPTH = 4;
+
+    @Autowired
+    SprintViewService sprintViewService;
+
+    @Autowired
+    SprintService sprintService;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Product product;
+
+    private final List<Sprint> sprints = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        product = fixture.product();
+        ProductBacklog productBacklog = fixture.productBacklog(product);
+        for (int s = 0; s < 3; s++) {
+            ItemBacklog[] itensBacklog = new ItemBacklog[3];
+            for (int i = 0; i < itensBacklog.length; i++) {
+                itensBacklog[i] = fixture.itemBacklog(productBacklog, "Item");
+            }
+            Sprint sprint = fixture.sprint(product, itensBacklog);
+            for (ItemBacklog itemBacklog : itensBacklog) {
+                fixture.task("Task", itemBacklog, sprint, Status.A_FAZER, Priority.BAIXA, fixture.customer());
+            }
+            sprints.add(sprint);
+        }
+    }
+
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    @Test
+    @DisplayName("Assert Concurrent Assembly Matches The Sequential Detailed Sprint View")
+    void testFindDetailedById() {
+        Long id = sprints.get(0).getId();
+        DetailedSprintView sequential = readOnly(() -> new ViewAssembler(VIEW_DEPTH).toDetailedView(sprintService.findById(id)));
+
+        DetailedSprintView concurrent = sprintViewService.findDetailedById(id, VIEW_DEPTH);
+
+        assertEquals(sequential, concurrent);
+        assertEquals(3, concurrent.getTasksSprints().size());
+        assertEquals(3, concurrent.getItemBacklogViews().size());
+        assertEquals("Name", concurrent.getProductView().getName());
+    }
+
+    @Test
+    @DisplayName("Assert Concurrent Assembly Covers Every Sprint Of A Product")
+    void testFindDetailedByProductId() {
+        List<DetailedSprintView> views = sprintViewService.findDetailedByProductId(product.getId(), VIEW_DEPTH);
+
+        assertEquals(sprints.stream().map(Sprint::getId).toList(), views.stream().map(DetailedSprintView::getId).toList());
+        assertTrue(views.stream().allMatch(i -> i.getTasksSprints().size() == 3 && i.getItemBacklogViews().size() == 3));
+        assertTrue(views.stream().allMatch(i -> i.getProductView() == views.get(0).getProductView()));
+    }
+
+    @Test
+    @DisplayName("Assert Streamed Sprints Are Handed Over Without A Transaction Held By The Caller")
+    void testStreamDetailedByProductId() {
+        List<DetailedSprintView> views = new ArrayList<>();
+        List<Boolean> inTransaction = new ArrayList<>();
+
+        sprintViewService.streamDetailedByProductId(product.getId(), VIEW_DEPTH, view -> {
+            views.add(view);
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+        });
+
+        assertEquals(sprints.stream().map(Sprint::getId).toList(), views.stream().map(DetailedSprintView::getId).toList());
+        assertTrue(views.stream().allMatch(i -> i.getTasksSprints().size() == 3 && i.getProductView() == views.get(0).getProductView()));
+        assertFalse(inTransaction.contains(true));
+    }
+
+    @Test
+    @DisplayName("Assert A Product With More Sprints Than The Queue Holds Is Assembled In Batches")
+    void testManySprints() {
+        for (int s = 3; s < 10; s++) {
+            sprints.add(fixture.sprint(product));
+        }
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(sprintViewService, "executor");
+        ThreadPoolTaskExecutor small = new ThreadPoolTaskExecutor();
+        small.setCorePoolSize(4);
+        small.setMaxPoolSize(4);
+        small.setQueueCapacity(8);
+        small.initialize();
+        ReflectionTestUtils.setField(sprintViewService, "executor", small);
+        try {
+            List<DetailedSprintView> views = sprintViewService.findDetailedByProductId(product.getId(), VIEW_DEPTH);
+
+            assertEquals(sprints.stream().map(Sprint::getId).toList(), views.stream().map(DetailedSprintView::getId).toList());
+        } finally {
+            ReflectionTestUtils.setField(sprintViewService, "executor", executor);
+            small.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Assert Missing Sprints Are Reported As Not Found")
+    void testNotFound() {
+        assertThrows(EntityNotFoundException.class, () -> sprintViewService.findDetailedById(-1L, VIEW_DEPTH));
+    }
+
+    @Test
+    @DisplayName("Assert Assembly Gives Up Once The Timeout Expires")
+    void testTimeout() {
+        Duration timeout = (Duration) ReflectionTestUtils.getField(sprintViewService, "timeout");
+        ReflectionTestUtils.setField(sprintViewService, "timeout", Duration.ZERO);
+        try {
+            assertThrows(ViewAssemblyTimeoutException.class, () -> sprintViewService.findDetailedByProductId(product.getId(), VIEW_DEPTH));
+        } finally {
+            ReflectionTestUtils.setField(sprintViewService, "timeout", timeout);
+        }
+    }
+
+    @Test
+    @DisplayName("Assert Statements Run By The Pool Are Recorded For The Caller")
+    void testStatementsPropagated() {
+        SqlStatistics statistics = SqlStatementInspector.start();
+        try {
+            sprintViewService.findDetailedByProductId(product.getId(), VIEW_DEPTH);
+        } finally {
+            SqlStatementInspector.stop(statistics);
+        }
+        assertTrue(statistics.getStatements() >= 7);
+    }
+}
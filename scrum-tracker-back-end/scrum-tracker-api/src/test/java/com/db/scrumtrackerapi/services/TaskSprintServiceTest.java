@@ -62,4 +62,17 @@ public class TaskSprintServiceTest {
         assertEquals(expectedTaskSprint, actualTaskSprint);
     }
 
+    @Test
+    @DisplayName("Assert saveAll returns the saved TaskSprints in order")
+    public void testSaveAll(){
+        Sprint sprint = new Sprint("ExampleGoal", List.of(), new ArrayList<>(), null);
+
+        List<TaskSprint> taskSprints = List.of(
+            new TaskSprint("FirstExampleName", null, "FirstExampleDescription", "FirstExampleComments", Status.A_FAZER, Priority.BAIXA, "FirstExampleEffortEstimation", null, sprint),
+            new TaskSprint("SecondExampleName", null, "SecondExampleDescription", "SecondExampleComments", Status.A_FAZER, Priority.ALTA, "SecondExampleEffortEstimation", null, sprint));
+
+        when(taskSprintRepository.saveAll(eq(taskSprints))).thenReturn(taskSprints);
+
+        assertEquals(taskSprints, taskSprintService.saveAll(taskSprints));
+    }
 }
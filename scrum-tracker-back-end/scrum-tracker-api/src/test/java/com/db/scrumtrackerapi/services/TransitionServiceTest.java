@@ -0,0 +1,182 @@
+package com.db.scrumtrackerapi.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.db.scrumtrackerapi.ScrumFixture;
+import com.db.scrumtrackerapi.model.Customer;
+import com.db.scrumtrackerapi.model.ItemBacklog;
+import com.db.scrumtrackerapi.model.Product;
+import com.db.scrumtrackerapi.model.ProductBacklog;
+import com.db.scrumtrackerapi.model.Sprint;
+import com.db.scrumtrackerapi.model.TaskSprint;
+import com.db.scrumtrackerapi.model.Transition;
+import com.db.scrumtrackerapi.model.TransitionState;
+import com.db.scrumtrackerapi.model.enums.Priority;
+import com.db.scrumtrackerapi.model.enums.Status;
+import com.db.scrumtrackerapi.model.enums.TransitionField;
+import com.db.scrumtrackerapi.model.enums.TransitionSubject;
+import com.db.scrumtrackerapi.model.view.TransitionView;
+import com.db.scrumtrackerapi.repositories.SprintRepository;
+import com.db.scrumtrackerapi.services.impl.ItemBacklogService;
+import com.db.scrumtrackerapi.services.impl.TaskSprintService;
+import com.db.scrumtrackerapi.services.impl.TransitionService;
+
+@SpringBootTest
+@Import(ScrumFixture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TransitionServiceTest {
+
+    @Autowired
+    TransitionService transitionService;
+
+    @Autowired
+    TaskSprintService taskSprintService;
+
+    @Autowired
+    ItemBacklogService itemBacklogService;
+
+    @Autowired
+    ScrumFixture fixture;
+
+    @Autowired
+    SprintRepository sprintRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Product product;
+
+    private ProductBacklog productBacklog;
+
+    private ItemBacklog itemBacklog;
+
+    private Sprint sprint;
+
+    @BeforeEach
+    void setup() {
+        product = fixture.product();
+        productBacklog = fixture.productBacklog(product);
+        itemBacklog = fixture.itemBacklog(productBacklog, "Item");
+        sprint = fixture.sprint(product, itemBacklog);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("sm@email.com", null, List.of()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private TaskSprint task(Status status, Priority priority, Customer responsible) {
+        return ScrumFixture.newTask("Task", itemBacklog, sprint, status, priority, responsible);
+    }
+
+    private Transition transition(Long entityId, String actor) {
+        return new Transition(new TransitionState(TransitionSubject.TASK_SPRINT, entityId, sprint.getId(), null, Status.CONCLUIDO, Priority.BAIXA, null),
+            TransitionField.STATUS, Status.A_FAZER.name(), Status.CONCLUIDO.name(), actor, LocalDateTime.now());
+    }
+
+    /**
+     * Hands a batch straight to the writer, counting it as queued so {@link TransitionService#flush} keeps waiting for
+     * the transitions queued afterwards.
+     */
+    private void write(List<Transition> batch) {
+        TransitionService target = AopTestUtils.getUltimateTargetObject(transitionService);
+        ((AtomicLong) ReflectionTestUtils.getField(target, "queued")).addAndGet(batch.size());
+        ReflectionTestUtils.invokeMethod(target, "write", batch);
+    }
+
+    private List<TransitionView> bySprint(LocalDateTime from, LocalDateTime to) throws InterruptedException {
+        assertTrue(transitionService.flush(Duration.ofSeconds(5)));
+        return transitionService.findBySprintId(sprint.getId(), from, to).stream().map(Transition::toView).toList();
+    }
+
+    @Test
+    @DisplayName("Assert Task Updates Record One Transition Per Changed Field")
+    void testTaskTransitions() throws InterruptedException {
+        Customer first = fixture.customer();
+        Customer second = fixture.customer();
+        TaskSprint taskSprint = taskSprintService.save(task(Status.A_FAZER, Priority.BAIXA, first));
+        LocalDateTime before = LocalDateTime.now();
+
+        taskSprintService.update(taskSprint.getId(), task(Status.CONCLUIDO, Priority.ALTA, second));
+        taskSprintService.update(taskSprint.getId(), task(Status.CONCLUIDO, Priority.ALTA, second));
+
+        List<TransitionView> transitions = bySprint(null, null);
+        assertEquals(List.of("STATUS", "PRIORITY", "RESPONSIBLE"), transitions.stream().map(TransitionView::getField).toList());
+        assertEquals(List.of("A_FAZER", "BAIXA", first.getId().toString()), transitions.stream().map(TransitionView::getFrom).toList());
+        assertEquals(List.of("CONCLUIDO", "ALTA", second.getId().toString()), transitions.stream().map(TransitionView::getTo).toList());
+        assertTrue(transitions.stream().allMatch(i -> "sm@email.com".equals(i.getActor()) && "TASK_SPRINT".equals(i.getSubject())
+            && taskSprint.getId().equals(i.getEntityId()) && !i.getTimestamp().isBefore(before)));
+        assertEquals(0, bySprint(null, before).size());
+        assertEquals(3, bySprint(before, null).size());
+    }
+
+    @Test
+    @DisplayName("Assert Transitions Of Tasks And Backlog Items Are Found By Product")
+    void testProductTransitions() throws InterruptedException {
+        TaskSprint taskSprint = taskSprintService.save(task(Status.A_FAZER, Priority.BAIXA, null));
+        taskSprintService.update(taskSprint.getId(), task(Status.EM_DESENVOLVIMENTO, Priority.BAIXA, null));
+        itemBacklogService.update(itemBacklog.getId(), new ItemBacklog(Status.EM_DESENVOLVIMENTO, Priority.MEDIA, "Item", "Criteria", "Effort", new ArrayList<>(), "History", productBacklog));
+        assertTrue(transitionService.flush(Duration.ofSeconds(5)));
+
+        List<TransitionView> transitions = transitionService.findByProductId(product.getId(), null, null).stream().map(Transition::toView).toList();
+
+        assertEquals(List.of("TASK_SPRINT", "ITEM_BACKLOG"), transitions.stream().map(TransitionView::getSubject).toList());
+        assertEquals(List.of(taskSprint.getId(), itemBacklog.getId()), transitions.stream().map(TransitionView::getEntityId).toList());
+    }
+
+    @Test
+    @DisplayName("Assert Rolled Back Updates Record No Transition")
+    void testRollback() throws InterruptedException {
+        TaskSprint taskSprint = taskSprintService.save(task(Status.A_FAZER, Priority.BAIXA, null));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskSprintService.update(taskSprint.getId(), task(Status.CONCLUIDO, Priority.BAIXA, null));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, bySprint(null, null).size());
+    }
+
+    @Test
+    @DisplayName("Assert A Transition That Cannot Be Written Does Not Discard The Rest Of Its Batch")
+    void testFailedTransition() throws InterruptedException {
+        write(List.of(transition(1L, "sm@email.com"), transition(2L, "x".repeat(300)), transition(3L, null)));
+
+        assertEquals(List.of(1L, 3L), bySprint(null, null).stream().map(TransitionView::getEntityId).toList());
+    }
+
+    @Test
+    @DisplayName("Assert Transitions Of A Deactivated Sprint Are Written With Its Product")
+    void testDeactivatedSprint() {
+        sprint.setActive(false);
+        sprintRepository.save(sprint);
+
+        write(List.of(transition(1L, null)));
+
+        assertEquals(1, transitionService.findByProductId(product.getId(), null, null).size());
+    }
+}